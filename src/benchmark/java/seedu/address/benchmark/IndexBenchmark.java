@@ -0,0 +1,66 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.NameCategory;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.attraction.UniqueAttractionList;
+import seedu.address.testutil.AttractionBuilder;
+import seedu.address.testutil.MapletBuilder;
+
+/**
+ * Times the indexes of Maplet on a large number of attractions. Run it with {@code gradlew benchmark}.
+ *
+ * The unit tests check how much of each index an operation reads, which does not depend on the machine running them.
+ * This reports how long the operations take, for comparing changes on the same machine.
+ */
+public class IndexBenchmark {
+
+    private static final int ATTRACTION_COUNT = 100_000;
+    private static final int WARM_UP_RUNS = 5;
+    private static final int MEASURED_RUNS = 21;
+
+    public static void main(String[] args) {
+        List<Attraction> attractions = createAttractions();
+        MapletBuilder mapletBuilder = new MapletBuilder();
+        attractions.forEach(mapletBuilder::withAttraction);
+        ModelManager model = new ModelManager(mapletBuilder.build(), new UserPrefs());
+
+        report("Complete attraction names", () -> model.getNameCompletions(NameCategory.ATTRACTION_NAME, "a", 10));
+
+        UniqueAttractionList attractionList = new UniqueAttractionList();
+        report("Replace all attractions", () -> attractionList.setAttractions(attractions));
+        report("Find names similar to a query", () -> attractionList.findNamesSimilarTo("marnia bay", 20));
+    }
+
+    private static List<Attraction> createAttractions() {
+        List<Attraction> attractions = new ArrayList<>();
+        for (int i = 0; i < ATTRACTION_COUNT; i++) {
+            attractions.add(new AttractionBuilder().withName("Attraction " + i).build());
+        }
+        attractions.add(new AttractionBuilder().withName("Marina Bay").build());
+        return attractions;
+    }
+
+    /**
+     * Prints the median time that {@code operation} takes, after running it a few times to warm up.
+     */
+    private static void report(String description, Runnable operation) {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            operation.run();
+        }
+        long[] nanos = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            operation.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("%s (%,d attractions): %.3f ms%n", description, ATTRACTION_COUNT,
+                nanos[MEASURED_RUNS / 2] / 1e6);
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValidationUtil;
+import seedu.address.model.attraction.Name;
+import seedu.address.model.attraction.OpeningHours;
+import seedu.address.model.attraction.Priority;
+
+/**
+ * Times the validators of names, priorities and HHMM times. Run it with {@code gradlew benchmarkValidators}.
+ *
+ * Each format is checked three ways on the same inputs: with {@link String#matches(String)}, which compiles the regex
+ * on every call, with a precompiled {@link Pattern}, and with the scanner in {@link ValidationUtil} that the model
+ * classes use. The inputs are generated the same way on every run, and the three ways must accept the same number of
+ * them, so the times are comparable across changes on the same machine.
+ */
+public class ValidatorBenchmark {
+
+    private static final int INPUT_COUNT = 100_000;
+    private static final int WARM_UP_RUNS = 5;
+    private static final int MEASURED_RUNS = 21;
+
+    public static void main(String[] args) {
+        compare("Names", createNames(), Name.VALIDATION_REGEX, ValidationUtil::isAlphanumericWords);
+        compare("Priorities", createPriorities(), Priority.VALIDATION_REGEX, priority ->
+                ValidationUtil.isIntegerInRange(priority, 1, 10));
+        compare("HHMM times", createTimes(), OpeningHours.TIME_VALIDATION_REGEX,
+                ValidationUtil::isTwentyFourHourTime);
+    }
+
+    /**
+     * Names of attractions, one in eight of which has a character that is not allowed.
+     */
+    private static List<String> createNames() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            names.add(i % 8 == 0 ? "Attraction #" + i : "Attraction " + i);
+        }
+        return names;
+    }
+
+    /**
+     * Priorities from 0 to 11, of which 0 and 11 are out of range.
+     */
+    private static List<String> createPriorities() {
+        List<String> priorities = new ArrayList<>();
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            priorities.add(Integer.toString(i % 12));
+        }
+        return priorities;
+    }
+
+    /**
+     * Four-digit times from 0000 to 2499, of which those past 2359 or with minutes past 59 are not times of day.
+     */
+    private static List<String> createTimes() {
+        List<String> times = new ArrayList<>();
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            times.add(String.format("%04d", i % 2500));
+        }
+        return times;
+    }
+
+    private static void compare(String description, List<String> inputs, String regex, Predicate<String> scanner) {
+        Pattern pattern = Pattern.compile(regex);
+        int expectedCount = countValid(inputs, input -> input.matches(regex));
+        report(description + " with String#matches", inputs, input -> input.matches(regex), expectedCount);
+        report(description + " with a precompiled pattern", inputs, input -> pattern.matcher(input).matches(),
+                expectedCount);
+        report(description + " with the scanner", inputs, scanner, expectedCount);
+    }
+
+    private static int countValid(List<String> inputs, Predicate<String> validator) {
+        int count = 0;
+        for (String input : inputs) {
+            if (validator.test(input)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Prints the median time that {@code validator} takes to check all of {@code inputs}, after checking them a few
+     * times to warm up.
+     *
+     * @throws IllegalStateException if {@code validator} does not accept {@code expectedCount} of the inputs.
+     */
+    private static void report(String description, List<String> inputs, Predicate<String> validator,
+                               int expectedCount) {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            countValid(inputs, validator);
+        }
+        long[] nanos = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            int count = countValid(inputs, validator);
+            nanos[i] = System.nanoTime() - start;
+            // using the count also keeps the validation from being optimised away
+            if (count != expectedCount) {
+                throw new IllegalStateException(description + " accepted " + count + " inputs, not "
+                        + expectedCount);
+            }
+        }
+        Arrays.sort(nanos);
+        System.out.printf("%s (%,d inputs, %,d valid): %.3f ms%n", description, inputs.size(), expectedCount,
+                nanos[MEASURED_RUNS / 2] / 1e6);
+    }
+}
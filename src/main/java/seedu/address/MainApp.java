@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -58,7 +59,7 @@ public class MainApp extends Application {
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         MapletStorage mapletStorage = new JsonMapletStorage(userPrefs.getMapletFilePath());
-        storage = new StorageManager(mapletStorage, userPrefsStorage);
+        storage = new StorageManager(mapletStorage, userPrefsStorage, StorageManager.createBackgroundSaveExecutor());
 
         model = initModelManager(storage, userPrefs);
 
@@ -69,8 +70,9 @@ public class MainApp extends Application {
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s Maplet and {@code userPrefs}. <br>
-     * The data from the sample Maplet will be used instead if {@code storage}'s Maplet is not found,
-     * or an empty Maplet will be used instead if errors occur when reading {@code storage}'s Maplet.
+     * The data from the sample Maplet will be used instead if {@code storage}'s Maplet is not found.
+     * If errors occur when reading {@code storage}'s Maplet, the newest of its backups that can be read will be used
+     * instead, or an empty Maplet if there is none.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getMapletFilePath());
@@ -85,12 +87,34 @@ public class MainApp extends Application {
             }
             initialData = mapletOptional.orElseGet(SampleDataUtil::getSampleMaplet);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getMapletFilePath() + " could not be loaded."
-                    + " Will be starting with an empty Maplet.");
-            initialData = new Maplet();
+            logger.warning("Data file at " + storage.getMapletFilePath() + " could not be loaded.");
+            initialData = readMapletBackup(storage).orElseGet(() -> {
+                logger.warning("Will be starting with an empty Maplet.");
+                return new Maplet();
+            });
         }
 
-        return new ModelManager(initialData, userPrefs);
+        // large attraction lists are sorted in the background and shown on the JavaFX application thread
+        return new ModelManager(initialData, userPrefs, ModelManager.createAttractionListExecutor(),
+                Platform::runLater);
+    }
+
+    /**
+     * Returns the data from the newest backup of {@code storage}'s Maplet that can be read, if any.
+     */
+    private Optional<ReadOnlyMaplet> readMapletBackup(Storage storage) {
+        for (Path backupFilePath : storage.getMapletBackupFilePaths()) {
+            try {
+                Optional<ReadOnlyMaplet> backup = storage.readMaplet(backupFilePath);
+                if (backup.isPresent()) {
+                    logger.warning("Will be starting with the backup at " + backupFilePath);
+                    return backup;
+                }
+            } catch (DataLoadingException e) {
+                logger.warning("Backup at " + backupFilePath + " could not be loaded.");
+            }
+        }
+        return Optional.empty();
     }
 
     private void initLogging(Config config) {
@@ -182,5 +206,19 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+
+        // the saver writes the data in the background, so a failure is reported by the flush below
+        try {
+            storage.saveMaplet(model.getMaplet());
+        } catch (IOException e) {
+            logger.warning("Failed to save data " + StringUtil.getDetails(e));
+        }
+        // the saver thread does not keep the application running, so the data must be written before returning
+        try {
+            storage.flushMaplet();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+        logger.info("Data saves: " + storage.getSaveMetrics());
     }
 }
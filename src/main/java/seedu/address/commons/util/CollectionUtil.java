@@ -4,7 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +36,22 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns every key produced by {@code keyExtractor} that occurs more than once in {@code items}, in the order in
+     * which the repeats are first encountered. Runs in a single pass over {@code items}.
+     */
+    public static <T, K> Set<K> findDuplicateKeys(Collection<? extends T> items,
+                                                  Function<? super T, ? extends K> keyExtractor) {
+        requireAllNonNull(items, keyExtractor);
+        Set<K> seenKeys = new HashSet<>(items.size() * 2);
+        Set<K> duplicateKeys = new LinkedHashSet<>();
+        for (T item : items) {
+            K key = keyExtractor.apply(item);
+            if (!seenKeys.add(key)) {
+                duplicateKeys.add(key);
+            }
+        }
+        return duplicateKeys;
+    }
 }
@@ -1,10 +1,23 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
 
 /**
  * Writes and reads files
@@ -12,6 +25,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +89,128 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The string is written to a temporary file in the same directory, which is flushed to the disk and then moved
+     * over the file, so the file holds either its old or its new contents even if the write is cut short. The file
+     * keeps its permissions where the file system has POSIX permissions, and the move is flushed to the disk where
+     * the platform can flush a directory.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, String)}, but the contents are written by {@code contentWriter} to a
+     * buffered stream, so they need not be held in memory whole.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        writeToFile(file, contentWriter, UnaryOperator.identity());
+    }
+
+    /**
+     * Similar to {@link #writeToFile(Path, ContentWriter)}, but writes the temporary file through the channel that
+     * {@code channelWrapper} wraps around it, so that tests can make the write fail part way.
+     */
+    static void writeToFile(Path file, ContentWriter contentWriter, UnaryOperator<WritableByteChannel> channelWrapper)
+            throws IOException {
+        Path parentDir = file.toAbsolutePath().getParent();
+        // unlike Files.createTempFile, which makes the file readable by its owner only, this honours the umask
+        Path temporaryFile = Files.createFile(parentDir.resolve(
+                file.getFileName().toString() + "." + UUID.randomUUID() + TEMPORARY_FILE_SUFFIX));
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channelWrapper.apply(channel)));
+                contentWriter.write(out);
+                out.flush();
+                channel.force(true);
+            }
+            copyPermissions(file, temporaryFile);
+            moveAtomically(temporaryFile, file);
+        } catch (IOException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+        forceDirectory(parentDir);
+    }
+
+    /**
+     * Deletes the temporary files that {@link #writeToFile(Path, String)} leaves next to {@code file} if the process
+     * is killed while writing it. No write to {@code file} may be in progress.
+     */
+    public static void deleteTemporaryFiles(Path file) throws IOException {
+        Path parentDir = file.toAbsolutePath().getParent();
+        if (!Files.isDirectory(parentDir)) {
+            return;
+        }
+        String fileName = file.getFileName().toString();
+        try (DirectoryStream<Path> siblings = Files.newDirectoryStream(parentDir, sibling -> {
+            String name = sibling.getFileName().toString();
+            return !name.equals(fileName) && name.startsWith(fileName) && name.endsWith(TEMPORARY_FILE_SUFFIX);
+        })) {
+            for (Path temporaryFile : siblings) {
+                Files.deleteIfExists(temporaryFile);
+            }
+        }
+    }
+
+    /**
+     * Gives {@code target} the POSIX permissions of {@code source}, if {@code source} exists and the file system has
+     * POSIX permissions.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        PosixFileAttributeView targetView = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+        if (targetView == null || !Files.exists(source)) {
+            return;
+        }
+        targetView.setPermissions(Files.getPosixFilePermissions(source));
+    }
+
+    /**
+     * Flushes the entries of {@code directory} to the disk, so that a file moved into it stays there after a power
+     * loss. Platforms that cannot open a directory, such as Windows, are left to flush it themselves.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // the file has been replaced already, and only how soon the replacement is durable is at stake
+        }
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target} in a single step where the file system supports it.
+     */
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Appends given string to a file, and flushes it to the disk.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            writeFully(channel, ByteBuffer.wrap(content.getBytes(CHARSET)));
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Writes the contents of a file to the given stream, which it must not close.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
     }
 
 }
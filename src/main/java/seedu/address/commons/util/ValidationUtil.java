@@ -0,0 +1,101 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Hand-written validators for the simple formats used by the model classes.
+ * Each is equivalent to the regex noted in its description, but does not need a regex engine.
+ */
+public class ValidationUtil {
+
+    // a non-negative int has at most 10 digits
+    private static final int MAX_INT_DIGITS = 10;
+
+    /**
+     * Returns true if {@code s} is a non-empty string of ASCII letters and digits.
+     * Equivalent to the regex {@code \p{Alnum}+}.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isAlphanumeric(String s) {
+        requireNonNull(s);
+        if (s.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (!isAsciiAlphanumeric(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code s} starts with an ASCII letter or digit, and every following character is an ASCII
+     * letter, digit or space.
+     * Equivalent to the regex {@code [\p{Alnum}][\p{Alnum} ]*}.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isAlphanumericWords(String s) {
+        requireNonNull(s);
+        if (s.isEmpty() || !isAsciiAlphanumeric(s.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code s} is the decimal form of an integer from {@code min} to {@code max} inclusive,
+     * without a sign, leading zeros or whitespace.
+     * e.g. {@code isIntegerInRange(s, 1, 10)} is equivalent to the regex {@code [1-9]|10}.
+     * @throws NullPointerException if {@code s} is null.
+     * @throws IllegalArgumentException if {@code min} is negative or greater than {@code max}.
+     */
+    public static boolean isIntegerInRange(String s, int min, int max) {
+        requireNonNull(s);
+        checkArgument(0 <= min && min <= max, "Range should be non-negative and non-empty");
+        int length = s.length();
+        if (length == 0 || length > MAX_INT_DIGITS || (length > 1 && s.charAt(0) == '0')) {
+            return false;
+        }
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return min <= value && value <= max;
+    }
+
+    /**
+     * Returns true if {@code s} is a time of day in the HHMM 24-hour format, from 0000 to 2359.
+     * Equivalent to the regex {@code ([0-1][0-9]|2[0-3])[0-5][0-9]}.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isTwentyFourHourTime(String s) {
+        requireNonNull(s);
+        if (s.length() != 4) {
+            return false;
+        }
+        for (int i = 0; i < 4; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        int hours = (s.charAt(0) - '0') * 10 + (s.charAt(1) - '0');
+        return hours <= 23 && s.charAt(2) <= '5';
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -27,6 +29,14 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns completions of the name being typed at the end of {@code commandText}, each of which is the whole
+     * command text with the partial name completed.
+     *
+     * @see seedu.address.logic.parser.CommandCompleter#getCompletions(String)
+     */
+    List<String> getCompletions(String commandText);
+
     /**
      * Returns the Maplet.
      *
@@ -52,6 +62,12 @@ public interface Logic {
      */
     Path getMapletFilePath();
 
+    /**
+     * Sets the handler that is given a message for each save of the Maplet that fails after its command has returned.
+     * The handler may be called on any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /**
      * Returns the user prefs' GUI settings.
      */
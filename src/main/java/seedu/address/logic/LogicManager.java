@@ -1,8 +1,12 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -11,6 +15,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CommandCompleter;
 import seedu.address.logic.parser.MapletParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -37,6 +42,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final MapletParser mapletParser;
+    private final CommandCompleter commandCompleter;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and
@@ -46,6 +52,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         mapletParser = new MapletParser();
+        commandCompleter = new CommandCompleter(model);
     }
 
     @Override
@@ -58,15 +65,24 @@ public class LogicManager implements Logic {
 
         try {
             storage.saveMaplet(model.getMaplet());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    private static String getSaveFailureMessage(IOException e) {
+        return e instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        return commandCompleter.getCompletions(commandText);
+    }
+
     @Override
     public ReadOnlyMaplet getMaplet() {
         return model.getMaplet();
@@ -92,6 +108,12 @@ public class LogicManager implements Logic {
         return model.getMapletFilePath();
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        storage.setSaveFailureHandler(failure -> saveFailureHandler.accept(getSaveFailureMessage(failure)));
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
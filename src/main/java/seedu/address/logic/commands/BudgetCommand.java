@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.attraction.PriceRangePredicate;
+
+/**
+ * Lists all attractions in Maplet that are priced within a range, or among the cheapest given percent of attractions.
+ */
+public class BudgetCommand extends Command {
+
+    public static final String COMMAND_WORD = "budget";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all attractions priced at most the specified "
+            + "price, within the specified range of prices, or among the cheapest specified percent of attractions, "
+            + "and displays them as a list with index numbers. "
+            + "If a price has a currency, or a currency follows the percent, only attractions priced in that currency "
+            + "are found. Without a currency, prices in different currencies are compared by amount alone.\n"
+            + "Parameters: MAX_PRICE or MIN_PRICE - MAX_PRICE or PERCENT% [CURRENCY]\n"
+            + "Example: " + COMMAND_WORD + " SGD 20, " + COMMAND_WORD + " 10 - 20, " + COMMAND_WORD + " 25% SGD";
+
+    public static final String MESSAGE_INVALID_PERCENT = "Percent should be a whole number from 1 to 100";
+
+    private final PriceRangePredicate predicate;
+    private final Integer percent;
+    private final String currencyCode;
+
+    /**
+     * Creates a BudgetCommand to list the attractions matching {@code predicate}.
+     */
+    public BudgetCommand(PriceRangePredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        this.percent = null;
+        this.currencyCode = null;
+    }
+
+    /**
+     * Creates a BudgetCommand to list the attractions priced at or below the {@code percent}-th percentile of the
+     * prices of all attractions.
+     */
+    public BudgetCommand(int percent) {
+        this(percent, "");
+    }
+
+    /**
+     * Creates a BudgetCommand to list the attractions priced in {@code currencyCode} at or below the
+     * {@code percent}-th percentile of their prices, or of the prices of all attractions if {@code currencyCode} is
+     * empty.
+     */
+    public BudgetCommand(int percent, String currencyCode) {
+        requireNonNull(currencyCode);
+        checkArgument(percent > 0 && percent <= 100, MESSAGE_INVALID_PERCENT);
+        this.predicate = null;
+        this.percent = percent;
+        this.currencyCode = currencyCode;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        if (predicate != null) {
+            model.findAttractionsPricedWithin(predicate);
+        } else {
+            model.findAttractionsInCheapestPercent(currencyCode, percent);
+        }
+        return new CommandResult(
+                String.format(Messages.MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, model.getFilteredAttractionList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BudgetCommand)) {
+            return false;
+        }
+
+        BudgetCommand otherBudgetCommand = (BudgetCommand) other;
+        return Objects.equals(predicate, otherBudgetCommand.predicate)
+                && Objects.equals(percent, otherBudgetCommand.percent)
+                && Objects.equals(currencyCode, otherBudgetCommand.currencyCode);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .add("percent", percent)
+                .add("currencyCode", currencyCode)
+                .toString();
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+
+/**
+ * Lists the cheapest attractions in Maplet, cheapest first.
+ */
+public class CheapestCommand extends Command {
+
+    public static final String COMMAND_WORD = "cheapest";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the specified number of cheapest attractions "
+            + "and displays them as a list with index numbers, cheapest first. "
+            + "If a currency is given, only attractions priced in that currency are found. "
+            + "Without a currency, prices in different currencies are compared by amount alone.\n"
+            + "Parameters: COUNT [CURRENCY]\n"
+            + "Examples: " + COMMAND_WORD + " 5, " + COMMAND_WORD + " 10 SGD";
+
+    public static final String MESSAGE_INVALID_COUNT = "The number of attractions should be a positive whole number";
+
+    private final int count;
+    private final String currencyCode;
+
+    /**
+     * Creates a CheapestCommand to list the {@code count} cheapest attractions priced in {@code currencyCode}, or in
+     * any currency if {@code currencyCode} is empty.
+     */
+    public CheapestCommand(int count, String currencyCode) {
+        requireNonNull(currencyCode);
+        checkArgument(count > 0, MESSAGE_INVALID_COUNT);
+        this.count = count;
+        this.currencyCode = currencyCode;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.findCheapestAttractions(currencyCode, count);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, model.getFilteredAttractionList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CheapestCommand)) {
+            return false;
+        }
+
+        CheapestCommand otherCheapestCommand = (CheapestCommand) other;
+        return count == otherCheapestCommand.count && currencyCode.equals(otherCheapestCommand.currencyCode);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("currencyCode", currencyCode)
+                .toString();
+    }
+}
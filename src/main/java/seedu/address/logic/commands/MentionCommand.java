@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+
+/**
+ * Lists the attractions in Maplet whose activities or comments mention some words, most relevant first.
+ */
+public class MentionCommand extends Command {
+
+    public static final String COMMAND_WORD = "mention";
+
+    public static final int MAX_RESULTS = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the attractions whose activities or comments "
+            + "mention any of the specified keywords (case-insensitive) and displays up to " + MAX_RESULTS
+            + " of them as a list with index numbers, most relevant first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " sunset views";
+
+    private final String query;
+
+    public MentionCommand(String query) {
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.findAttractionsMentioning(query, MAX_RESULTS);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, model.getFilteredAttractionList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MentionCommand)) {
+            return false;
+        }
+
+        MentionCommand otherMentionCommand = (MentionCommand) other;
+        return query.equals(otherMentionCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
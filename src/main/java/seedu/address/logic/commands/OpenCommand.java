@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.attraction.OpenDuringPredicate;
+
+/**
+ * Lists all attractions in Maplet that are open at a given time, or throughout a given span of the day.
+ */
+public class OpenCommand extends Command {
+
+    public static final String COMMAND_WORD = "open";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all attractions that are open at the "
+            + "specified time, or for the whole of the specified span of the day, and displays them as a list with "
+            + "index numbers. Spans may wrap past midnight.\n"
+            + "Parameters: HHMM or HHMM - HHMM\n"
+            + "Example: " + COMMAND_WORD + " 1930 or " + COMMAND_WORD + " 1400 - 1700";
+
+    private final OpenDuringPredicate predicate;
+
+    public OpenCommand(OpenDuringPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.findAttractionsOpen(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, model.getFilteredAttractionList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OpenCommand)) {
+            return false;
+        }
+
+        OpenCommand otherOpenCommand = (OpenCommand) other;
+        return predicate.equals(otherOpenCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.attraction.AttractionQuery;
+
+/**
+ * Lists all attractions in Maplet that match every condition of a query.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all attractions that match all of the "
+            + "specified conditions and displays them as a list with index numbers.\n"
+            + "Conditions: tag:TAG, price<PRICE, priority<PRIORITY_NUMBER, open:HHMM, address:TEXT, comment:TEXT. "
+            + "tag:TAG,MORE_TAGS matches any of the tags, and -tag:TAG excludes attractions with the tag. "
+            + "Price and priority can also be compared with <=, =, >= and >. "
+            + "Address and comment matching is case-insensitive, and TEXT containing spaces must be quoted.\n"
+            + "Parameters: CONDITION [MORE_CONDITIONS]...\n"
+            + "Example: " + COMMAND_WORD + " tag:museum,gallery -tag:closed price<20 priority>=7 open:1900 "
+            + "address:\"Marina Bay\"";
+
+    private final AttractionQuery query;
+
+    public QueryCommand(AttractionQuery query) {
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.queryAttractions(query);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, model.getFilteredAttractionList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return query.equals(otherQueryCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -22,15 +22,17 @@ public class SortCommand extends Command {
     public static final String COMMAND_WORD = "sort";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Sorts all attractions in the Maplet by PREFIX, specifically Name(n/), Priority(p/) or Price(pr/). "
+            + ": Sorts all attractions in the Maplet by one or more fields, specifically Name(n/), Priority(p/) "
+            + "or Price(pr/). Each field after the first breaks ties left by the fields before it. "
+            + "A field is sorted A to Z, high to low priority or cheapest first, unless followed by asc or desc.\n"
             + "Parameters: "
-            + "PREFIX\n"
+            + "PREFIX[DIRECTION] [MORE_PREFIXES[DIRECTION]]...\n"
             + "Examples: " + COMMAND_WORD + " "
             + PREFIX_NAME + ", "
             + COMMAND_WORD + " "
-            + PREFIX_PRIORITY + ", "
+            + PREFIX_PRIORITY + " " + PREFIX_PRICE + " " + PREFIX_NAME + ", "
             + COMMAND_WORD + " "
-            + PREFIX_PRICE;
+            + PREFIX_PRICE + "desc " + PREFIX_NAME;
 
     public static final String MESSAGE_SUCCESS = "Sorted all Attractions and Itineraries";
 
@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.attraction.AttractionComparator;
+
+/**
+ * Lists the first few of the attractions currently listed, in the order of one or more fields.
+ */
+public class TopCommand extends Command {
+
+    public static final String COMMAND_WORD = "top";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Keeps only the specified number of attractions "
+            + "that come first among the attractions currently listed when sorted by Name(n/), Priority(p/) or "
+            + "Price(pr/), and displays them in that order. Fields are given as for the sort command.\n"
+            + "Parameters: COUNT PREFIX[DIRECTION] [MORE_PREFIXES[DIRECTION]]...\n"
+            + "Examples: " + COMMAND_WORD + " 20 " + PREFIX_PRIORITY + ", "
+            + COMMAND_WORD + " 10 " + PREFIX_PRICE + " " + PREFIX_NAME;
+
+    public static final String MESSAGE_INVALID_COUNT = "The number of attractions should be a positive whole number";
+
+    private final int count;
+    private final AttractionComparator comparator;
+
+    /**
+     * Creates a TopCommand to list the first {@code count} attractions in the order of {@code comparator}.
+     */
+    public TopCommand(int count, AttractionComparator comparator) {
+        requireNonNull(comparator);
+        checkArgument(count > 0, MESSAGE_INVALID_COUNT);
+        this.count = count;
+        this.comparator = comparator;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.findFirstAttractions(comparator, count);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, model.getFilteredAttractionList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TopCommand)) {
+            return false;
+        }
+
+        TopCommand otherTopCommand = (TopCommand) other;
+        return count == otherTopCommand.count && comparator.equals(otherTopCommand.comparator);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("comparator", comparator)
+                .toString();
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.util.ValidationUtil.isIntegerInRange;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.BudgetCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.attraction.Price;
+import seedu.address.model.attraction.PriceRangePredicate;
+
+/**
+ * Parses input arguments and creates a new BudgetCommand object
+ */
+public class BudgetCommandParser implements Parser<BudgetCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BudgetCommand
+     * and returns a BudgetCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BudgetCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BudgetCommand.MESSAGE_USAGE));
+        }
+
+        int percentSignIndex = trimmedArgs.indexOf('%');
+        if (percentSignIndex != -1) {
+            String percent = trimmedArgs.substring(0, percentSignIndex).trim();
+            if (!isIntegerInRange(percent, 1, 100)) {
+                throw new ParseException(BudgetCommand.MESSAGE_INVALID_PERCENT);
+            }
+            String currencyCode = trimmedArgs.substring(percentSignIndex + 1).trim();
+            return new BudgetCommand(Integer.parseInt(percent),
+                    currencyCode.isEmpty() ? "" : ParserUtil.parseCurrencyCode(currencyCode));
+        }
+
+        String[] prices = trimmedArgs.split("-", -1);
+        if (prices.length == 1) {
+            return new BudgetCommand(PriceRangePredicate.atMost(ParserUtil.parsePrice(prices[0])));
+        }
+        if (prices.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BudgetCommand.MESSAGE_USAGE));
+        }
+        Price lowest = ParserUtil.parsePrice(prices[0]);
+        Price highest = ParserUtil.parsePrice(prices[1]);
+        if (!PriceRangePredicate.isValidRange(lowest, highest)) {
+            throw new ParseException(PriceRangePredicate.MESSAGE_CONSTRAINTS);
+        }
+        return new BudgetCommand(new PriceRangePredicate(lowest, highest));
+    }
+
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.util.ValidationUtil.isIntegerInRange;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.CheapestCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new CheapestCommand object
+ */
+public class CheapestCommandParser implements Parser<CheapestCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CheapestCommand
+     * and returns a CheapestCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CheapestCommand parse(String args) throws ParseException {
+        String[] words = args.trim().split("\\s+", 2);
+        if (words[0].isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CheapestCommand.MESSAGE_USAGE));
+        }
+        if (!isIntegerInRange(words[0], 1, Integer.MAX_VALUE)) {
+            throw new ParseException(CheapestCommand.MESSAGE_INVALID_COUNT);
+        }
+
+        String currencyCode = words.length == 1 ? "" : ParserUtil.parseCurrencyCode(words[1]);
+        return new CheapestCommand(Integer.parseInt(words[0]), currencyCode);
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ACTIVITIES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COMMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTACT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ITINERARY_ATTRACTION_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION_ACTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION_ATTRACTION_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_OPENING_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.AddItineraryCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.model.Model;
+import seedu.address.model.NameCategory;
+
+/**
+ * Completes the name being typed at the end of a command, such as the location name after {@code ln/}, from the
+ * names in the model.
+ */
+public class CommandCompleter {
+
+    public static final int MAX_COMPLETIONS = 10;
+
+    private static final List<Prefix> PREFIXES = List.of(PREFIX_NAME, PREFIX_PRIORITY, PREFIX_CONTACT, PREFIX_ADDRESS,
+            PREFIX_ACTIVITIES, PREFIX_OPENING_HOURS, PREFIX_PRICE, PREFIX_TAG, PREFIX_COMMENT,
+            PREFIX_ITINERARY_ATTRACTION_INDEX, PREFIX_LOCATION_NAME, PREFIX_LOCATION_ATTRACTION_INDEX,
+            PREFIX_LOCATION_ACTION);
+
+    private final Model model;
+
+    public CommandCompleter(Model model) {
+        requireNonNull(model);
+        this.model = model;
+    }
+
+    /**
+     * Returns up to {@link #MAX_COMPLETIONS} completions of {@code commandText}, in alphabetical order of the names
+     * they complete. Each completion is {@code commandText} with the partial name at its end replaced by a full name.
+     * Returns an empty list if the end of {@code commandText} is not a name that can be completed.
+     */
+    public List<String> getCompletions(String commandText) {
+        requireNonNull(commandText);
+        String trimmedText = commandText.stripLeading();
+        int commandWordEnd = indexOfWhitespace(trimmedText);
+        if (commandWordEnd == -1) {
+            return List.of();
+        }
+        String commandWord = trimmedText.substring(0, commandWordEnd);
+
+        int argumentStart;
+        NameCategory category;
+        Optional<Prefix> lastPrefix = findLastPrefix(trimmedText);
+        if (lastPrefix.isPresent()) {
+            argumentStart = trimmedText.lastIndexOf(" " + lastPrefix.get()) + 1
+                    + lastPrefix.get().getPrefix().length();
+            Optional<NameCategory> prefixCategory = getCategory(commandWord, lastPrefix.get());
+            if (prefixCategory.isEmpty()) {
+                return List.of();
+            }
+            category = prefixCategory.get();
+        } else if (commandWord.equals(FindCommand.COMMAND_WORD) || commandWord.equals(SearchCommand.COMMAND_WORD)) {
+            argumentStart = commandWordEnd;
+            category = NameCategory.ATTRACTION_NAME;
+        } else {
+            return List.of();
+        }
+
+        while (argumentStart < trimmedText.length() && Character.isWhitespace(trimmedText.charAt(argumentStart))) {
+            argumentStart++;
+        }
+        String textBeforeArgument = commandText.substring(0,
+                commandText.length() - trimmedText.length() + argumentStart);
+        List<String> completions = new ArrayList<>();
+        for (String name : model.getNameCompletions(category, trimmedText.substring(argumentStart),
+                MAX_COMPLETIONS)) {
+            completions.add(textBeforeArgument + name);
+        }
+        return completions;
+    }
+
+    private static Optional<NameCategory> getCategory(String commandWord, Prefix prefix) {
+        if (prefix.equals(PREFIX_NAME)) {
+            return Optional.of(commandWord.equals(AddItineraryCommand.COMMAND_WORD)
+                    ? NameCategory.ITINERARY_NAME
+                    : NameCategory.ATTRACTION_NAME);
+        } else if (prefix.equals(PREFIX_LOCATION_NAME)) {
+            return Optional.of(NameCategory.LOCATION_NAME);
+        } else if (prefix.equals(PREFIX_TAG)) {
+            return Optional.of(NameCategory.TAG);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the prefix that occurs last in {@code text}, counting only occurrences preceded by a space as
+     * {@link ArgumentTokenizer} does.
+     */
+    private static Optional<Prefix> findLastPrefix(String text) {
+        Prefix lastPrefix = null;
+        int lastPosition = -1;
+        for (Prefix prefix : PREFIXES) {
+            int position = text.lastIndexOf(" " + prefix.getPrefix());
+            if (position > lastPosition) {
+                lastPrefix = prefix;
+                lastPosition = position;
+            }
+        }
+        return Optional.ofNullable(lastPrefix);
+    }
+
+    private static int indexOfWhitespace(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
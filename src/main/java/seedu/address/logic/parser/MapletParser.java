@@ -11,6 +11,8 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddCommentCommand;
 import seedu.address.logic.commands.AddItineraryCommand;
+import seedu.address.logic.commands.BudgetCommand;
+import seedu.address.logic.commands.CheapestCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
@@ -21,7 +23,12 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MentionCommand;
+import seedu.address.logic.commands.OpenCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.TopCommand;
 import seedu.address.logic.commands.location.AddLocationCommand;
 import seedu.address.logic.commands.location.DeleteLocationCommand;
 import seedu.address.logic.commands.location.EditLocationCommand;
@@ -97,6 +104,27 @@ public class MapletParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case QueryCommand.COMMAND_WORD:
+            return new QueryCommandParser().parse(arguments);
+
+        case OpenCommand.COMMAND_WORD:
+            return new OpenCommandParser().parse(arguments);
+
+        case BudgetCommand.COMMAND_WORD:
+            return new BudgetCommandParser().parse(arguments);
+
+        case CheapestCommand.COMMAND_WORD:
+            return new CheapestCommandParser().parse(arguments);
+
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
+        case MentionCommand.COMMAND_WORD:
+            return new MentionCommandParser().parse(arguments);
+
+        case TopCommand.COMMAND_WORD:
+            return new TopCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.MentionCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MentionCommand object
+ */
+public class MentionCommandParser implements Parser<MentionCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MentionCommand
+     * and returns a MentionCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MentionCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MentionCommand.MESSAGE_USAGE));
+        }
+        return new MentionCommand(trimmedArgs.replaceAll("\\s+", " "));
+    }
+
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.OpenCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.attraction.OpenDuringPredicate;
+import seedu.address.model.attraction.OpeningHours;
+
+/**
+ * Parses input arguments and creates a new OpenCommand object
+ */
+public class OpenCommandParser implements Parser<OpenCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the OpenCommand
+     * and returns an OpenCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public OpenCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (OpeningHours.isValidTime(trimmedArgs)) {
+            return new OpenCommand(OpenDuringPredicate.at(trimmedArgs));
+        }
+        if (trimmedArgs.isEmpty() || !OpeningHours.isValidOpeningHours(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, OpenCommand.MESSAGE_USAGE));
+        }
+        return new OpenCommand(new OpenDuringPredicate(ParserUtil.parseOpeningHours(trimmedArgs)));
+    }
+
+}
@@ -132,11 +132,26 @@ public class ParserUtil {
         return new OpeningHours(trimmedOpeningHours);
     }
 
+    /**
+     * Parses a {@code String time} in the HHMM 24-hour format.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code time} is invalid.
+     */
+    public static String parseTime(String time) throws ParseException {
+        requireNonNull(time);
+        String trimmedTime = time.trim();
+        if (!OpeningHours.isValidTime(trimmedTime)) {
+            throw new ParseException(OpeningHours.TIME_CONSTRAINTS);
+        }
+        return trimmedTime;
+    }
+
     /**
      * Parses a {@code String price} into a {@code Price}.
      * Leading and trailing whitespaces will be trimmed.
      *
-     * @throws ParseException if the given {@code price} is invalid.
+     * @throws ParseException if the given {@code price} is invalid or oversized.
      */
     public static Price parsePrice(String price) throws ParseException {
         requireNonNull(price);
@@ -144,7 +159,26 @@ public class ParserUtil {
         if (!Price.isValidPrice(trimmedPrice)) {
             throw new ParseException(Price.MESSAGE_CONSTRAINTS);
         }
-        return new Price(trimmedPrice);
+        Price parsedPrice = new Price(trimmedPrice);
+        if (parsedPrice.isOversized()) {
+            throw new ParseException(Price.MESSAGE_TOO_LARGE);
+        }
+        return parsedPrice;
+    }
+
+    /**
+     * Parses a {@code String currencyCode} into the currency code of a {@code Price}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code currencyCode} is invalid.
+     */
+    public static String parseCurrencyCode(String currencyCode) throws ParseException {
+        requireNonNull(currencyCode);
+        String trimmedCurrencyCode = currencyCode.trim();
+        if (!Price.isValidCurrencyCode(trimmedCurrencyCode)) {
+            throw new ParseException(Price.MESSAGE_CURRENCY_CONSTRAINTS);
+        }
+        return trimmedCurrencyCode;
     }
 
     /**
@@ -0,0 +1,147 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.attraction.AttractionQuery;
+import seedu.address.model.attraction.QueryTerm;
+import seedu.address.model.attraction.QueryTerm.Comparison;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "Quoted text should end with a closing quote (\")";
+
+    private static final Pattern TERM_FORMAT =
+            Pattern.compile("(?<negation>-?)(?<field>[a-z]+)(?<operator><=|>=|<|>|=|:)(?<value>.+)", Pattern.DOTALL);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        List<String> tokens = tokenize(args);
+        if (tokens.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+
+        List<QueryTerm> terms = new ArrayList<>();
+        for (String token : tokens) {
+            terms.add(parseTerm(token));
+        }
+        return new QueryCommand(new AttractionQuery(terms));
+    }
+
+    private static QueryTerm parseTerm(String token) throws ParseException {
+        Matcher matcher = TERM_FORMAT.matcher(token);
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+
+        String field = matcher.group("field");
+        String operator = matcher.group("operator");
+        String value = matcher.group("value");
+        boolean isContainment = operator.equals(":");
+        boolean isNegated = !matcher.group("negation").isEmpty();
+        if (isNegated && !field.equals("tag")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+
+        switch (field) {
+        case "tag":
+            requireContainment(isContainment);
+            List<Set<Tag>> clause = Collections.singletonList(parseTagClause(value));
+            return QueryTerm.matchesTags(isNegated
+                    ? new TagQuery(Collections.emptyList(), clause)
+                    : new TagQuery(clause, Collections.emptyList()));
+        case "open":
+            requireContainment(isContainment);
+            return QueryTerm.isOpenAt(ParserUtil.parseTime(value));
+        case "address":
+            requireContainment(isContainment);
+            return QueryTerm.addressContains(ParserUtil.parseAddress(value).value);
+        case "comment":
+            requireContainment(isContainment);
+            return QueryTerm.commentContains(ParserUtil.parseComment(value).comment);
+        case "price":
+            return QueryTerm.comparePrice(parseComparison(operator), ParserUtil.parsePrice(value));
+        case "priority":
+            return QueryTerm.comparePriority(parseComparison(operator), ParserUtil.parsePriority(value));
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+    }
+
+    /**
+     * Parses a comma-separated list of tags, such as {@code free,cheap}.
+     */
+    private static Set<Tag> parseTagClause(String value) throws ParseException {
+        Set<Tag> tags = new LinkedHashSet<>();
+        for (String tagName : value.split(",", -1)) {
+            tags.add(ParserUtil.parseTag(tagName));
+        }
+        return tags;
+    }
+
+    private static void requireContainment(boolean isContainment) throws ParseException {
+        if (!isContainment) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+    }
+
+    private static Comparison parseComparison(String operator) throws ParseException {
+        for (Comparison comparison : Comparison.values()) {
+            if (comparison.symbol.equals(operator)) {
+                return comparison;
+            }
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Splits {@code args} into whitespace-separated tokens. Whitespace between double quotes does not separate
+     * tokens, and the quotes themselves are removed.
+     */
+    private static List<String> tokenize(String args) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder currentToken = new StringBuilder();
+        boolean isQuoted = false;
+        boolean hasToken = false;
+        for (char c : args.toCharArray()) {
+            if (c == '"') {
+                isQuoted = !isQuoted;
+                hasToken = true;
+            } else if (Character.isWhitespace(c) && !isQuoted) {
+                if (hasToken) {
+                    tokens.add(currentToken.toString());
+                    currentToken.setLength(0);
+                    hasToken = false;
+                }
+            } else {
+                currentToken.append(c);
+                hasToken = true;
+            }
+        }
+        if (isQuoted) {
+            throw new ParseException(MESSAGE_UNCLOSED_QUOTE);
+        }
+        if (hasToken) {
+            tokens.add(currentToken.toString());
+        }
+        return tokens;
+    }
+}
@@ -8,15 +8,16 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static seedu.address.model.Model.COMPARATOR_SORT_BY_CUMULATIVE_ITINERARY_PRICE_ASCENDING;
 import static seedu.address.model.Model.COMPARATOR_SORT_BY_CUMULATIVE_ITINERARY_PRIORITY_DESCENDING;
 import static seedu.address.model.Model.COMPARATOR_SORT_BY_ITINERARY_NAME_ASCENDING;
-import static seedu.address.model.Model.COMPARATOR_SORT_BY_NAME_ASCENDING;
-import static seedu.address.model.Model.COMPARATOR_SORT_BY_PRICE_ASCENDING;
-import static seedu.address.model.Model.COMPARATOR_SORT_BY_PRIORITY_DESCENDING;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
 
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.attraction.Attraction;
+import seedu.address.model.SortCriterion;
+import seedu.address.model.attraction.AttractionComparator;
 import seedu.address.model.itinerary.Itinerary;
 
 /**
@@ -24,6 +25,9 @@ import seedu.address.model.itinerary.Itinerary;
  */
 public class SortCommandParser implements Parser<SortCommand> {
 
+    public static final String DIRECTION_ASCENDING = "asc";
+    public static final String DIRECTION_DESCENDING = "desc";
+
     /**
      * Parses the given {@code String} of arguments in the context of the SortCommand
      * and returns a SortCommand object for execution.
@@ -33,80 +37,98 @@ public class SortCommandParser implements Parser<SortCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PRIORITY, PREFIX_PRICE);
-        if (!hasOneSortablePrefix(argMultimap)) {
+        if (!argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
         }
 
-        Prefix prefix = getSortFieldPrefix(argMultimap);
-        Comparator<Attraction> attractionComparator = getAttractionComparatorFromPrefix(prefix);
-        Comparator<Itinerary> itineraryComparator = getItineraryComparatorFromPrefix(prefix);
-        return new SortCommand(attractionComparator, itineraryComparator);
+        List<SortCriterion> criteria = parseSortCriteria(argMultimap, SortCommand.MESSAGE_USAGE);
+        return new SortCommand(new AttractionComparator(criteria), getItineraryComparator(criteria));
     }
 
     /**
-     * Returns true if exactly one prefix which is sortable is present in the given {@code ArgumentMultimap}.
+     * Parses the sort prefixes in {@code argMultimap}, each followed by an optional direction, into sort criteria in
+     * the order the prefixes were given. {@code messageUsage} is the usage message of the command being parsed.
+     * @throws ParseException if there are no sort prefixes, a prefix is repeated or a direction is invalid.
      */
-    private static boolean hasOneSortablePrefix(ArgumentMultimap argumentMultimap) {
-        int count = 0;
-        if (argumentMultimap.getValue(PREFIX_NAME).isPresent()) {
-            count++;
-        }
-        if (argumentMultimap.getValue(PREFIX_PRIORITY).isPresent()) {
-            count++;
+    static List<SortCriterion> parseSortCriteria(ArgumentMultimap argMultimap, String messageUsage)
+            throws ParseException {
+        if (argMultimap.getPrefixes().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
         }
-        if (argumentMultimap.getValue(PREFIX_PRICE).isPresent()) {
-            count++;
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PRIORITY, PREFIX_PRICE);
+
+        List<SortCriterion> criteria = new ArrayList<>();
+        for (Prefix prefix : argMultimap.getPrefixes()) {
+            criteria.add(parseSortCriterion(prefix, argMultimap.getValue(prefix).get(), messageUsage));
         }
-        return count == 1;
+        return criteria;
     }
 
     /**
-     * Returns the prefix that is present in the given {@code ArgumentMultimap}.
-     * @throws ParseException if no valid prefix is found.
+     * Parses the direction given after {@code prefix}, which is empty for the default direction of its field.
+     * @throws ParseException if the direction is neither empty, {@code asc} nor {@code desc}.
      */
-    private static Prefix getSortFieldPrefix(ArgumentMultimap argumentMultimap) throws ParseException {
-        if (argumentMultimap.getValue(PREFIX_NAME).isPresent()) {
-            return PREFIX_NAME;
-        }
-        if (argumentMultimap.getValue(PREFIX_PRIORITY).isPresent()) {
-            return PREFIX_PRIORITY;
+    private static SortCriterion parseSortCriterion(Prefix prefix, String direction, String messageUsage)
+            throws ParseException {
+        SortCriterion.Field field = getSortField(prefix, messageUsage);
+        switch (direction.toLowerCase(Locale.ROOT)) {
+        case "":
+            return new SortCriterion(field);
+        case DIRECTION_ASCENDING:
+            return new SortCriterion(field, true);
+        case DIRECTION_DESCENDING:
+            return new SortCriterion(field, false);
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
         }
-        if (argumentMultimap.getValue(PREFIX_PRICE).isPresent()) {
-            return PREFIX_PRICE;
-        }
-        // Code coverage cannot reach this line, defensive programming
-        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
     }
 
     /**
-     * Returns the attraction comparator corresponding to the given prefix.
-     * @throws ParseException if no valid comparator is found.
+     * Returns the field sorted by the given prefix.
+     * @throws ParseException if the prefix does not sort by any field.
      */
-    private static Comparator<Attraction> getAttractionComparatorFromPrefix(Prefix prefix) throws ParseException {
+    private static SortCriterion.Field getSortField(Prefix prefix, String messageUsage) throws ParseException {
         if (prefix.equals(PREFIX_NAME)) {
-            return COMPARATOR_SORT_BY_NAME_ASCENDING;
+            return SortCriterion.Field.NAME;
         } else if (prefix.equals(PREFIX_PRIORITY)) {
-            return COMPARATOR_SORT_BY_PRIORITY_DESCENDING;
+            return SortCriterion.Field.PRIORITY;
         } else if (prefix.equals(PREFIX_PRICE)) {
-            return COMPARATOR_SORT_BY_PRICE_ASCENDING;
+            return SortCriterion.Field.PRICE;
         }
         // Code coverage cannot reach this line, defensive programming
-        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
     }
 
     /**
-     * Returns the itinerary comparator corresponding to the given prefix.
-     * @throws ParseException if no valid comparator is found.
+     * Returns the itinerary comparator that sorts by each of {@code criteria} in turn.
      */
-    private static Comparator<Itinerary> getItineraryComparatorFromPrefix(Prefix prefix) throws ParseException {
-        if (prefix.equals(PREFIX_NAME)) {
+    private static Comparator<Itinerary> getItineraryComparator(List<SortCriterion> criteria) {
+        Comparator<Itinerary> itineraryComparator = null;
+        for (SortCriterion criterion : criteria) {
+            Comparator<Itinerary> fieldComparator = getItineraryComparator(criterion.getField());
+            if (criterion.isReversed()) {
+                fieldComparator = fieldComparator.reversed();
+            }
+            itineraryComparator = itineraryComparator == null
+                    ? fieldComparator
+                    : itineraryComparator.thenComparing(fieldComparator);
+        }
+        return itineraryComparator;
+    }
+
+    /**
+     * Returns the itinerary comparator that sorts by {@code field} in its default direction.
+     */
+    private static Comparator<Itinerary> getItineraryComparator(SortCriterion.Field field) {
+        switch (field) {
+        case NAME:
             return COMPARATOR_SORT_BY_ITINERARY_NAME_ASCENDING;
-        } else if (prefix.equals(PREFIX_PRIORITY)) {
+        case PRIORITY:
             return COMPARATOR_SORT_BY_CUMULATIVE_ITINERARY_PRIORITY_DESCENDING;
-        } else if (prefix.equals(PREFIX_PRICE)) {
+        case PRICE:
             return COMPARATOR_SORT_BY_CUMULATIVE_ITINERARY_PRICE_ASCENDING;
+        default:
+            throw new AssertionError(field);
         }
-        // Code coverage cannot reach this line, defensive programming
-        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
     }
 }
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.util.ValidationUtil.isIntegerInRange;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.attraction.AttractionComparator;
+
+/**
+ * Parses input arguments and creates a new TopCommand object
+ */
+public class TopCommandParser implements Parser<TopCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TopCommand
+     * and returns a TopCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public TopCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PRIORITY, PREFIX_PRICE);
+        String count = argMultimap.getPreamble();
+        if (count.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE));
+        }
+        if (!isIntegerInRange(count, 1, Integer.MAX_VALUE)) {
+            throw new ParseException(TopCommand.MESSAGE_INVALID_COUNT);
+        }
+
+        AttractionComparator comparator = new AttractionComparator(
+                SortCommandParser.parseSortCriteria(argMultimap, TopCommand.MESSAGE_USAGE));
+        return new TopCommand(Integer.parseInt(count), comparator);
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.attraction.Name;
+import seedu.address.model.itinerary.Itinerary;
+import seedu.address.model.itinerary.ItineraryName;
+import seedu.address.model.location.Location;
+import seedu.address.model.location.LocationName;
+
+/**
+ * Tracks which itineraries and locations refer to each attraction, keyed by the attraction's {@code Name}.
+ * Attractions are matched by name, consistent with {@link Attraction#isSameAttraction(Attraction)}.
+ *
+ * The index does not observe the itineraries and locations it tracks. The owner must report every itinerary and
+ * location that is added, removed or replaced.
+ */
+class AttractionReferenceIndex {
+
+    private final Map<Name, Set<ItineraryName>> itinerariesByAttraction = new HashMap<>();
+    private final Map<Name, Set<LocationName>> locationsByAttraction = new HashMap<>();
+
+    /**
+     * Records the references made by {@code itinerary}.
+     */
+    void addItinerary(Itinerary itinerary) {
+        requireNonNull(itinerary);
+        for (Attraction attraction : itinerary.getAttractions()) {
+            addReference(itinerariesByAttraction, attraction.getName(), itinerary.getName());
+        }
+    }
+
+    /**
+     * Forgets the references made by {@code itinerary}.
+     */
+    void removeItinerary(Itinerary itinerary) {
+        requireNonNull(itinerary);
+        for (Attraction attraction : itinerary.getAttractions()) {
+            removeReference(itinerariesByAttraction, attraction.getName(), itinerary.getName());
+        }
+    }
+
+    /**
+     * Replaces all itinerary references with those made by {@code itineraries}.
+     */
+    void setItineraries(List<Itinerary> itineraries) {
+        requireNonNull(itineraries);
+        itinerariesByAttraction.clear();
+        itineraries.forEach(this::addItinerary);
+    }
+
+    /**
+     * Records the references made by {@code location}.
+     */
+    void addLocation(Location location) {
+        requireNonNull(location);
+        for (Name attractionName : location.getAttractionNames()) {
+            addReference(locationsByAttraction, attractionName, location.getName());
+        }
+    }
+
+    /**
+     * Forgets the references made by {@code location}.
+     */
+    void removeLocation(Location location) {
+        requireNonNull(location);
+        for (Name attractionName : location.getAttractionNames()) {
+            removeReference(locationsByAttraction, attractionName, location.getName());
+        }
+    }
+
+    /**
+     * Replaces all location references with those made by {@code locations}.
+     */
+    void setLocations(List<Location> locations) {
+        requireNonNull(locations);
+        locationsByAttraction.clear();
+        locations.forEach(this::addLocation);
+    }
+
+    /**
+     * Moves every reference to the attraction named {@code oldName} over to {@code newName}.
+     */
+    void renameAttraction(Name oldName, Name newName) {
+        requireNonNull(oldName);
+        requireNonNull(newName);
+        if (oldName.equals(newName)) {
+            return;
+        }
+        moveReferences(itinerariesByAttraction, oldName, newName);
+        moveReferences(locationsByAttraction, oldName, newName);
+    }
+
+    /**
+     * Returns true if any itinerary refers to the attraction named {@code attractionName}.
+     */
+    boolean isInAnyItinerary(Name attractionName) {
+        requireNonNull(attractionName);
+        return itinerariesByAttraction.containsKey(attractionName);
+    }
+
+    /**
+     * Returns true if any location refers to the attraction named {@code attractionName}.
+     */
+    boolean isInAnyLocation(Name attractionName) {
+        requireNonNull(attractionName);
+        return locationsByAttraction.containsKey(attractionName);
+    }
+
+    /**
+     * Returns an immutable set of the names of the itineraries that refer to the attraction named
+     * {@code attractionName}.
+     */
+    Set<ItineraryName> getItinerariesReferencing(Name attractionName) {
+        requireNonNull(attractionName);
+        return Set.copyOf(itinerariesByAttraction.getOrDefault(attractionName, Collections.emptySet()));
+    }
+
+    /**
+     * Returns an immutable set of the names of the locations that refer to the attraction named
+     * {@code attractionName}.
+     */
+    Set<LocationName> getLocationsReferencing(Name attractionName) {
+        requireNonNull(attractionName);
+        return Set.copyOf(locationsByAttraction.getOrDefault(attractionName, Collections.emptySet()));
+    }
+
+    private static <T> void addReference(Map<Name, Set<T>> references, Name attractionName, T referrer) {
+        references.computeIfAbsent(attractionName, unused -> new HashSet<>()).add(referrer);
+    }
+
+    private static <T> void moveReferences(Map<Name, Set<T>> references, Name oldName, Name newName) {
+        Set<T> referrers = references.remove(oldName);
+        if (referrers == null) {
+            return;
+        }
+        references.merge(newName, referrers, (existing, moved) -> {
+            existing.addAll(moved);
+            return existing;
+        });
+    }
+
+    private static <T> void removeReference(Map<Name, Set<T>> references, Name attractionName, T referrer) {
+        Set<T> referrers = references.get(attractionName);
+        if (referrers == null) {
+            return;
+        }
+        referrers.remove(referrer);
+        if (referrers.isEmpty()) {
+            references.remove(attractionName);
+        }
+    }
+}
@@ -2,27 +2,45 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.attraction.Attraction;
+import seedu.address.model.attraction.Name;
+import seedu.address.model.attraction.OpeningHours;
+import seedu.address.model.attraction.PriceRangePredicate;
 import seedu.address.model.attraction.UniqueAttractionList;
 import seedu.address.model.itinerary.Itinerary;
+import seedu.address.model.itinerary.ItineraryName;
 import seedu.address.model.itinerary.UniqueItineraryList;
 import seedu.address.model.location.Location;
 import seedu.address.model.location.LocationName;
 import seedu.address.model.location.UniqueLocationList;
+import seedu.address.model.tag.TagQuery;
 
 /**
  * Wraps all data at the Maplet level. Duplicates are not allowed (by
  * .isSameAttraction comparison)
+ *
+ * Itineraries and locations must only be changed through this class, which keeps an index of the attractions they
+ * refer to. Itineraries held by the Maplet should not be modified in place.
  */
 public class Maplet implements ReadOnlyMaplet {
 
     private final UniqueAttractionList attractions;
     private final UniqueItineraryList itineraries;
     private final UniqueLocationList locations;
+    private final AttractionReferenceIndex references;
+
+    // bumped by every change to any of the lists, including the changes an edit cascades to
+    private long version = 0;
+    private final ListChangeListener<Object> versionListener = change -> version++;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -35,7 +53,10 @@ public class Maplet implements ReadOnlyMaplet {
         attractions = new UniqueAttractionList();
         itineraries = new UniqueItineraryList();
         locations = new UniqueLocationList();
-
+        references = new AttractionReferenceIndex();
+        attractions.asUnmodifiableObservableList().addListener(versionListener);
+        itineraries.asUnmodifiableObservableList().addListener(versionListener);
+        locations.asUnmodifiableObservableList().addListener(versionListener);
     }
 
     public Maplet() {
@@ -64,6 +85,7 @@ public class Maplet implements ReadOnlyMaplet {
      */
     public void setLocations(List<Location> locations) {
         this.locations.setLocations(locations);
+        references.setLocations(locations);
     }
     /**
      * Resets the existing data of this {@code Maplet} with {@code newData}.
@@ -86,6 +108,73 @@ public class Maplet implements ReadOnlyMaplet {
         return attractions.contains(attraction);
     }
 
+    /**
+     * Returns the names of the attractions whose names contain any of {@code words}, ignoring case.
+     */
+    public Set<Name> findAttractionNamesContainingAnyWord(Collection<String> words) {
+        return attractions.findNamesContainingAnyWord(words);
+    }
+
+    /**
+     * Returns the names of the attractions whose tags satisfy {@code query}.
+     */
+    public Set<Name> findAttractionNamesMatchingTags(TagQuery query) {
+        return attractions.findNamesMatchingTags(query);
+    }
+
+    /**
+     * Returns the names of the attractions that are open at every minute of {@code span}.
+     */
+    public Set<Name> findAttractionNamesOpenThroughout(OpeningHours span) {
+        return attractions.findNamesOpenThroughout(span);
+    }
+
+    /**
+     * Returns the names of the attractions whose prices match {@code range}.
+     */
+    public Set<Name> findAttractionNamesPricedWithin(PriceRangePredicate range) {
+        return attractions.findNamesPricedWithin(range);
+    }
+
+    /**
+     * Returns the names of the attractions priced in {@code currencyCode} at or below the {@code percent}-th
+     * percentile of their prices, or of the prices of all attractions if {@code currencyCode} is empty.
+     */
+    public Set<Name> findAttractionNamesInCheapestPercent(String currencyCode, int percent) {
+        return attractions.findNamesInCheapestPercent(currencyCode, percent);
+    }
+
+    /**
+     * Returns the names of the {@code count} cheapest attractions priced in {@code currencyCode}, or in any currency if
+     * {@code currencyCode} is empty, cheapest first.
+     */
+    public List<Name> findCheapestAttractionNames(String currencyCode, int count) {
+        return attractions.findCheapestNames(currencyCode, count);
+    }
+
+    /**
+     * Returns the names of all the attractions in the order of the amounts of their prices.
+     */
+    public List<Name> findAttractionNamesInPriceOrder(boolean isAscending) {
+        return attractions.findNamesInPriceOrder(isAscending);
+    }
+
+    /**
+     * Returns the names of at most {@code limit} attractions whose names or addresses approximately match
+     * {@code query}, most similar first.
+     */
+    public List<Name> findAttractionNamesSimilarTo(String query, int limit) {
+        return attractions.findNamesSimilarTo(query, limit);
+    }
+
+    /**
+     * Returns the names of at most {@code limit} attractions whose activities or comments mention any term of
+     * {@code query}, most relevant first.
+     */
+    public List<Name> findAttractionNamesMentioning(String query, int limit) {
+        return attractions.findNamesMentioning(query, limit);
+    }
+
     /**
      * Adds an attraction to the Maplet. The attraction must not already exist in
      * the Maplet.
@@ -96,14 +185,58 @@ public class Maplet implements ReadOnlyMaplet {
 
     /**
      * Replaces the given attraction {@code target} in the list with
-     * {@code editedAttraction}. {@code target} must exist in the Maplet. The
-     * attraction identity of {@code editedAttraction} must not be the same as
-     * another existing attraction in the Maplet.
+     * {@code editedAttraction}, and updates every itinerary and location that
+     * refers to {@code target} to refer to {@code editedAttraction} instead.
+     * {@code target} must exist in the Maplet. The attraction identity of
+     * {@code editedAttraction} must not be the same as another existing
+     * attraction in the Maplet.
      */
     public void setAttraction(Attraction target, Attraction editedAttraction) {
         requireNonNull(editedAttraction);
 
         attractions.setAttraction(target, editedAttraction);
+        cascadeAttractionEdit(target, editedAttraction);
+    }
+
+    /**
+     * Updates the itineraries and locations that refer to {@code target} so that they refer to
+     * {@code editedAttraction}. Only the referring itineraries and locations are replaced, and the replacements to
+     * each list are reported as a single change.
+     */
+    private void cascadeAttractionEdit(Attraction target, Attraction editedAttraction) {
+        Name targetName = target.getName();
+        Name editedName = editedAttraction.getName();
+
+        // itineraries hold the attraction itself, so they are refreshed even if the name is unchanged
+        Set<ItineraryName> affectedItineraries = references.getItinerariesReferencing(targetName);
+        if (!affectedItineraries.isEmpty()) {
+            itineraries.updateItineraries(affectedItineraries, itinerary ->
+                    replaceAttractionInItinerary(itinerary, target, editedAttraction));
+        }
+
+        // locations hold only the attraction's name
+        Set<LocationName> affectedLocations = references.getLocationsReferencing(targetName);
+        if (!targetName.equals(editedName) && !affectedLocations.isEmpty()) {
+            locations.updateLocations(affectedLocations, location ->
+                    renameAttractionInLocation(location, targetName, editedName));
+        }
+
+        references.renameAttraction(targetName, editedName);
+    }
+
+    private static Itinerary replaceAttractionInItinerary(Itinerary itinerary, Attraction target,
+                                                          Attraction editedAttraction) {
+        List<Attraction> updatedAttractions = new ArrayList<>(itinerary.getAttractions());
+        updatedAttractions.replaceAll(attraction ->
+                attraction.isSameAttraction(target) ? editedAttraction : attraction);
+        return new Itinerary(itinerary.getName(), itinerary.getCreatedAt(), updatedAttractions);
+    }
+
+    private static Location renameAttractionInLocation(Location location, Name oldName, Name newName) {
+        Set<Name> updatedAttractionNames = new HashSet<>(location.getAttractionNames());
+        updatedAttractionNames.remove(oldName);
+        updatedAttractionNames.add(newName);
+        return new Location(location.getName(), updatedAttractionNames);
     }
 
     /**
@@ -122,6 +255,7 @@ public class Maplet implements ReadOnlyMaplet {
      */
     public void setItineraries(List<Itinerary> itineraries) {
         this.itineraries.setItineraries(itineraries);
+        references.setItineraries(itineraries);
     }
 
     /**
@@ -139,6 +273,7 @@ public class Maplet implements ReadOnlyMaplet {
      */
     public void addItinerary(Itinerary itinerary) {
         itineraries.add(itinerary);
+        references.addItinerary(itinerary);
     }
 
     /**
@@ -150,6 +285,8 @@ public class Maplet implements ReadOnlyMaplet {
     public void setItinerary(Itinerary target, Itinerary editedItinerary) {
         requireNonNull(editedItinerary);
         itineraries.setItinerary(target, editedItinerary);
+        references.removeItinerary(target);
+        references.addItinerary(editedItinerary);
     }
 
     /**
@@ -158,6 +295,7 @@ public class Maplet implements ReadOnlyMaplet {
      */
     public void removeItinerary(Itinerary itinerary) {
         itineraries.remove(itinerary);
+        references.removeItinerary(itinerary);
     }
 
     /**
@@ -165,8 +303,14 @@ public class Maplet implements ReadOnlyMaplet {
      */
     public boolean isAttractionInAnyItinerary(Attraction attraction) {
         requireNonNull(attraction);
-        return itineraries.asUnmodifiableObservableList().stream()
-                .anyMatch(itinerary -> itinerary.hasAttraction(attraction));
+        return references.isInAnyItinerary(attraction.getName());
+    }
+
+    /**
+     * Returns the names of the itineraries that reference the attraction named {@code attractionName}.
+     */
+    public Set<ItineraryName> getItinerariesReferencing(Name attractionName) {
+        return references.getItinerariesReferencing(attractionName);
     }
 
     //// location-level operations
@@ -176,8 +320,14 @@ public class Maplet implements ReadOnlyMaplet {
      */
     public boolean isAttractionInAnyLocation(Attraction attraction) {
         requireNonNull(attraction);
-        return locations.asUnmodifiableObservableList().stream()
-                .anyMatch(location -> location.getAttractionNames().contains(attraction.getName()));
+        return references.isInAnyLocation(attraction.getName());
+    }
+
+    /**
+     * Returns the names of the locations that reference the attraction named {@code attractionName}.
+     */
+    public Set<LocationName> getLocationsReferencing(Name attractionName) {
+        return references.getLocationsReferencing(attractionName);
     }
 
     /**
@@ -202,6 +352,7 @@ public class Maplet implements ReadOnlyMaplet {
      */
     public void addLocation(Location location) {
         locations.add(location);
+        references.addLocation(location);
     }
 
     /**
@@ -209,7 +360,8 @@ public class Maplet implements ReadOnlyMaplet {
      * {@code locationName} must exist in the Maplet.
      */
     public void removeLocation(LocationName locationName) {
-        locations.remove(locationName);
+        Location removedLocation = locations.remove(locationName);
+        references.removeLocation(removedLocation);
     }
 
     /**
@@ -220,6 +372,8 @@ public class Maplet implements ReadOnlyMaplet {
         requireNonNull(target);
         requireNonNull(editedLocation);
         locations.setLocation(target, editedLocation);
+        references.removeLocation(target);
+        references.addLocation(editedLocation);
     }
 
     //// util methods
@@ -248,6 +402,11 @@ public class Maplet implements ReadOnlyMaplet {
         return locations.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -2,11 +2,17 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.attraction.Attraction;
+import seedu.address.model.attraction.AttractionComparator;
+import seedu.address.model.attraction.AttractionQuery;
+import seedu.address.model.attraction.NameContainsKeywordsPredicate;
+import seedu.address.model.attraction.OpenDuringPredicate;
+import seedu.address.model.attraction.PriceRangePredicate;
 import seedu.address.model.itinerary.Itinerary;
 import seedu.address.model.location.Location;
 import seedu.address.model.location.LocationName;
@@ -20,12 +26,12 @@ public interface Model {
     Predicate<Itinerary> PREDICATE_SHOW_ALL_ITINERARIES = unused -> true;
 
     /** {@code Comparator} that sorts attractions based on Prefix */
-    Comparator<Attraction> COMPARATOR_SORT_BY_NAME_ASCENDING = (attr1, attr2) ->
-            attr1.getName().fullName.compareToIgnoreCase(attr2.getName().fullName);
-    Comparator<Attraction> COMPARATOR_SORT_BY_PRIORITY_DESCENDING = (attr1, attr2) ->
-            Integer.compare(Integer.parseInt(attr2.getPriority().value), Integer.parseInt(attr1.getPriority().value));
-    Comparator<Attraction> COMPARATOR_SORT_BY_PRICE_ASCENDING = (attr1, attr2) ->
-            Double.compare(attr1.getPrice().getPriceValue(), attr2.getPrice().getPriceValue());
+    Comparator<Attraction> COMPARATOR_SORT_BY_NAME_ASCENDING =
+            new AttractionComparator(List.of(new SortCriterion(SortCriterion.Field.NAME)));
+    Comparator<Attraction> COMPARATOR_SORT_BY_PRIORITY_DESCENDING =
+            new AttractionComparator(List.of(new SortCriterion(SortCriterion.Field.PRIORITY)));
+    Comparator<Attraction> COMPARATOR_SORT_BY_PRICE_ASCENDING =
+            new AttractionComparator(List.of(new SortCriterion(SortCriterion.Field.PRICE)));
 
     /** {@code Comparator} that sorts itineraries based on Prefix */
     Comparator<Itinerary> COMPARATOR_SORT_BY_ITINERARY_NAME_ASCENDING = (itinerary1, itinerary2) ->
@@ -136,7 +142,7 @@ public interface Model {
      */
     void setAttraction(Attraction target, Attraction editedAttraction);
 
-    /** Returns an unmodifiable view of the filtered attraction list */
+    /** Returns an unmodifiable view of the filtered attraction list, in the order last set */
     ObservableList<Attraction> getFilteredAttractionList();
 
     /** Returns an unmodifiable view of the locations list */
@@ -148,6 +154,77 @@ public interface Model {
      */
     void updateFilteredAttractionList(Predicate<Attraction> predicate);
 
+    /**
+     * Updates the filter of the filtered attraction list to show the attractions matched by {@code predicate}.
+     * The matching attractions are looked up by the keywords of {@code predicate}, instead of testing every attraction.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findAttractionsByName(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered attraction list to show the attractions matching {@code query}.
+     * Tag conditions are answered by the tag index, and the remaining conditions are evaluated from the most selective
+     * to the least.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void queryAttractions(AttractionQuery query);
+
+    /**
+     * Updates the filter of the filtered attraction list to show the attractions matching {@code predicate}.
+     * The attractions are looked up in an index of their opening hours, rather than by testing each attraction.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findAttractionsOpen(OpenDuringPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered attraction list to show the attractions matching {@code predicate}.
+     * The attractions are looked up in a sorted index of their prices, rather than by testing each attraction.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findAttractionsPricedWithin(PriceRangePredicate predicate);
+
+    /**
+     * Updates the filter of the filtered attraction list to show the attractions priced in {@code currencyCode} at or
+     * below the {@code percent}-th percentile of their prices. If {@code currencyCode} is empty, the prices of all
+     * attractions are compared by amount, whatever their currencies.
+     * @throws IllegalArgumentException if {@code percent} is not from 1 to 100.
+     */
+    void findAttractionsInCheapestPercent(String currencyCode, int percent);
+
+    /**
+     * Updates the filtered attraction list to show the {@code count} cheapest attractions priced in
+     * {@code currencyCode}, cheapest first. If {@code currencyCode} is empty, the prices of all attractions are
+     * compared by amount, whatever their currencies. The attractions are read from a sorted index of their prices.
+     * The order last set by {@link #updateSortedAttractionList(Comparator)} is restored the next time the filter is
+     * updated.
+     * @throws IllegalArgumentException if {@code count} is negative.
+     */
+    void findCheapestAttractions(String currencyCode, int count);
+
+    /**
+     * Updates the filtered attraction list to show at most {@code limit} attractions whose names or addresses
+     * approximately match {@code query}, most similar first. The order last set by
+     * {@link #updateSortedAttractionList(Comparator)} is restored the next time the filter is updated.
+     * @throws IllegalArgumentException if {@code limit} is negative.
+     */
+    void findAttractionsSimilarTo(String query, int limit);
+
+    /**
+     * Updates the filtered attraction list to show at most {@code limit} attractions whose activities or comments
+     * mention any term of {@code query}, most relevant first. The order last set by
+     * {@link #updateSortedAttractionList(Comparator)} is restored the next time the filter is updated.
+     * @throws IllegalArgumentException if {@code limit} is negative.
+     */
+    void findAttractionsMentioning(String query, int limit);
+
+    /**
+     * Updates the filtered attraction list to show only the {@code count} attractions that come first in the order of
+     * {@code comparator} among the attractions it currently shows, in that order. The order last set by
+     * {@link #updateSortedAttractionList(Comparator)} is restored the next time the filter is updated.
+     * @throws IllegalArgumentException if {@code count} is negative.
+     */
+    void findFirstAttractions(Comparator<Attraction> comparator, int count);
+
     /**
      * Updates the sorted attraction list using the given {@code comparator}.
      * @throws NullPointerException if {@code comparator} is null.
@@ -167,4 +244,11 @@ public interface Model {
     void updateFilteredItineraryList(Predicate<Itinerary> predicate);
 
     void updateSortedItineraryList(Comparator<Itinerary> comparator);
+
+    /**
+     * Returns up to {@code limit} names of the given {@code category} that start with {@code prefix}, ignoring case,
+     * in alphabetical order.
+     * @throws IllegalArgumentException if {@code limit} is negative.
+     */
+    List<String> getNameCompletions(NameCategory category, String prefix, int limit);
 }
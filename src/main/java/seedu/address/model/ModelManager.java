@@ -6,8 +6,11 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -17,10 +20,17 @@ import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.attraction.Attraction;
+import seedu.address.model.attraction.AttractionComparator;
+import seedu.address.model.attraction.AttractionQuery;
 import seedu.address.model.attraction.Name;
+import seedu.address.model.attraction.NameContainsKeywordsPredicate;
+import seedu.address.model.attraction.OpenDuringPredicate;
+import seedu.address.model.attraction.PriceRangePredicate;
 import seedu.address.model.itinerary.Itinerary;
 import seedu.address.model.location.Location;
 import seedu.address.model.location.LocationName;
+import seedu.address.model.util.SortedFilteredList;
+import seedu.address.model.util.TopSelector;
 
 /**
  * Represents the in-memory model of the Maplet data.
@@ -31,31 +41,56 @@ public class ModelManager implements Model {
 
     private final Maplet maplet;
     private final UserPrefs userPrefs;
-    private final FilteredList<Attraction> filteredAttractions;
-    private final SortedList<Attraction> sortedAttractions;
+    private final SortedFilteredList<Attraction> filteredAttractions;
     private final FilteredList<Itinerary> filteredItineraries;
     private final SortedList<Itinerary> sortedItineraries;
+    private final NameCompletionIndex nameCompletions;
 
     /**
-     * Initializes a ModelManager with the given Maplet and userPrefs.
+     * Initializes a ModelManager with the given Maplet and userPrefs, which sorts and rebuilds its attraction list on
+     * the calling thread.
      */
     public ModelManager(ReadOnlyMaplet maplet, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(maplet, userPrefs);
+        this(maplet, userPrefs, Runnable::run, Runnable::run);
+    }
+
+    /**
+     * Initializes a ModelManager with the given Maplet and userPrefs, which sorts and rebuilds a large attraction list
+     * on {@code attractionListExecutor}. The rebuilt list is shown by passing the replacement to
+     * {@code attractionListPublisher}, which must run it on the thread that uses the model.
+     */
+    public ModelManager(ReadOnlyMaplet maplet, ReadOnlyUserPrefs userPrefs, Executor attractionListExecutor,
+                        Consumer<Runnable> attractionListPublisher) {
+        requireAllNonNull(maplet, userPrefs, attractionListExecutor, attractionListPublisher);
 
         logger.fine("Initializing with Maplet: " + maplet + " and user prefs " + userPrefs);
 
         this.maplet = new Maplet(maplet);
         this.userPrefs = new UserPrefs(userPrefs);
-        sortedAttractions = new SortedList<>(this.maplet.getAttractionList());
+        filteredAttractions = new SortedFilteredList<>(this.maplet.getAttractionList(), Attraction::getName,
+                attractionListExecutor, attractionListPublisher);
         sortedItineraries = new SortedList<>(this.maplet.getItineraryList());
-        filteredAttractions = new FilteredList<>(sortedAttractions);
         filteredItineraries = new FilteredList<>(sortedItineraries);
+        nameCompletions = new NameCompletionIndex(this.maplet.getAttractionList(), this.maplet.getLocationList(),
+                this.maplet.getItineraryList());
     }
 
     public ModelManager() {
         this(new Maplet(), new UserPrefs());
     }
 
+    /**
+     * Returns an executor that sorts and rebuilds large attraction lists on a background thread, away from the JavaFX
+     * application thread. The thread does not keep the application running.
+     */
+    public static Executor createAttractionListExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "maplet-attraction-list");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     //=========== UserPrefs ==================================================================================
     @Override
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
@@ -158,28 +193,6 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedAttraction);
 
         maplet.setAttraction(target, editedAttraction);
-
-        if (!target.getName().equals(editedAttraction.getName())) {
-            for (Location location : new ArrayList<>(maplet.getLocationList())) {
-                if (!location.getAttractionNames().contains(target.getName())) {
-                    continue;
-                }
-
-                Set<Name> updatedAttractionNames = new HashSet<>(location.getAttractionNames());
-                updatedAttractionNames.remove(target.getName());
-                updatedAttractionNames.add(editedAttraction.getName());
-                Location updatedLocation = new Location(location.getName(), updatedAttractionNames);
-                maplet.setLocation(location, updatedLocation);
-            }
-        }
-
-        for (Itinerary itinerary : maplet.getItineraryList()) {
-            if (itinerary.hasAttraction(target)) {
-                itinerary.removeAttraction(target);
-                itinerary.addAttraction(editedAttraction);
-            }
-        }
-
     }
 
     @Override
@@ -214,10 +227,12 @@ public class ModelManager implements Model {
     //=========== Filtered Attraction List Accessors =============================================================
     /**
      * Returns an unmodifiable view of the list of {@code Attraction} backed by
-     * the internal list of {@code versionedMaplet}
+     * the internal list of {@code versionedMaplet}.
+     * A sort still running in the background is finished first, so that indexes refer to the order last set.
      */
     @Override
     public ObservableList<Attraction> getFilteredAttractionList() {
+        filteredAttractions.finishPendingRebuild();
         return filteredAttractions;
     }
 
@@ -229,13 +244,123 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredAttractionList(Predicate<Attraction> predicate) {
         requireNonNull(predicate);
-        filteredAttractions.setPredicate(predicate);
+        showAttractions(predicate);
+    }
+
+    @Override
+    public void findAttractionsByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        showAttractionsNamed(predicate, maplet.findAttractionNamesContainingAnyWord(predicate.getKeywords()));
+    }
+
+    @Override
+    public void queryAttractions(AttractionQuery query) {
+        requireNonNull(query);
+        AttractionQuery orderedQuery = query.withTagTermsResolved(maplet::findAttractionNamesMatchingTags)
+                .orderedBySelectivity(maplet.getAttractionList());
+        showAttractions(query, orderedQuery);
+    }
+
+    @Override
+    public void findAttractionsOpen(OpenDuringPredicate predicate) {
+        requireNonNull(predicate);
+        showAttractionsNamed(predicate, maplet.findAttractionNamesOpenThroughout(predicate.getSpan()));
+    }
+
+    @Override
+    public void findAttractionsPricedWithin(PriceRangePredicate predicate) {
+        requireNonNull(predicate);
+        showAttractionsNamed(predicate, maplet.findAttractionNamesPricedWithin(predicate));
+    }
+
+    @Override
+    public void findAttractionsInCheapestPercent(String currencyCode, int percent) {
+        requireNonNull(currencyCode);
+        Set<Name> matchingNames = maplet.findAttractionNamesInCheapestPercent(currencyCode, percent);
+        showAttractionsNamed(attraction -> matchingNames.contains(attraction.getName()), matchingNames);
+    }
+
+    @Override
+    public void findCheapestAttractions(String currencyCode, int count) {
+        requireNonNull(currencyCode);
+        showRankedAttractions(maplet.findCheapestAttractionNames(currencyCode, count));
+    }
+
+    @Override
+    public void findAttractionsSimilarTo(String query, int limit) {
+        requireNonNull(query);
+        showRankedAttractions(maplet.findAttractionNamesSimilarTo(query, limit));
+    }
+
+    @Override
+    public void findAttractionsMentioning(String query, int limit) {
+        requireNonNull(query);
+        showRankedAttractions(maplet.findAttractionNamesMentioning(query, limit));
+    }
+
+    @Override
+    public void findFirstAttractions(Comparator<Attraction> comparator, int count) {
+        requireNonNull(comparator);
+        Predicate<? super Attraction> shownAttractions = filteredAttractions.getPredicate();
+        List<Attraction> firstAttractions = TopSelector.selectFirst(maplet.getAttractionList(),
+                shownAttractions == null ? PREDICATE_SHOW_ALL_ATTRACTIONS : shownAttractions, comparator, count);
+        List<Name> rankedNames = new ArrayList<>();
+        for (Attraction attraction : firstAttractions) {
+            rankedNames.add(attraction.getName());
+        }
+        showRankedAttractions(rankedNames);
+    }
+
+    /**
+     * Shows only the attractions named in {@code rankedNames}, in that order, until the filter is next updated.
+     * No attraction is sorted, and the order last chosen by the user returns when the filter is next updated.
+     */
+    private void showRankedAttractions(List<Name> rankedNames) {
+        filteredAttractions.showRanked(rankedNames);
+    }
+
+    /**
+     * Shows the attractions that match {@code predicate}, in the order last chosen by the user.
+     */
+    private void showAttractions(Predicate<Attraction> predicate) {
+        showAttractions(predicate, predicate);
+    }
+
+    /**
+     * Shows the attractions that match {@code predicate}, in the order last chosen by the user. Attractions whose
+     * results for {@code predicate} are not cached are tested with {@code equivalentPredicate}, which must match the
+     * same attractions in the current maplet, such as a lookup of the names found with an index.
+     */
+    private void showAttractions(Predicate<Attraction> predicate, Predicate<Attraction> equivalentPredicate) {
+        filteredAttractions.setPredicate(predicate, equivalentPredicate);
+    }
+
+    /**
+     * Shows the attractions named in {@code matchingNames}, which must be exactly the attractions that match
+     * {@code predicate}, in the order last chosen by the user. Only the named attractions are looked up, and none of
+     * them are tested.
+     */
+    private void showAttractionsNamed(Predicate<Attraction> predicate, Set<Name> matchingNames) {
+        filteredAttractions.setPredicate(predicate, matchingNames);
     }
 
     //=========== Sorted Attraction List Accessors =============================================================
+    /**
+     * {@inheritDoc}
+     * If the attractions are sorted by price first, they are put in the order of the price index before they are
+     * sorted, so that the sort only has to order attractions with equal prices.
+     */
     @Override
     public void updateSortedAttractionList(Comparator<Attraction> comparator) {
-        sortedAttractions.setComparator(comparator);
+        if (comparator instanceof AttractionComparator) {
+            SortCriterion firstCriterion = ((AttractionComparator) comparator).getCriteria().get(0);
+            if (firstCriterion.getField() == SortCriterion.Field.PRICE) {
+                filteredAttractions.setComparator(comparator,
+                        maplet.findAttractionNamesInPriceOrder(firstCriterion.isAscending()));
+                return;
+            }
+        }
+        filteredAttractions.setComparator(comparator);
     }
 
     //=========== Filtered Itinerary List Accessors =============================================================
@@ -256,6 +381,12 @@ public class ModelManager implements Model {
         sortedItineraries.setComparator(comparator);
     }
 
+    //=========== Name Completions =============================================================================
+    @Override
+    public List<String> getNameCompletions(NameCategory category, String prefix, int limit) {
+        return nameCompletions.getCompletions(category, prefix, limit);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
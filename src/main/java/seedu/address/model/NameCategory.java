@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * The kinds of names in Maplet that can be completed from a prefix.
+ */
+public enum NameCategory {
+    ATTRACTION_NAME,
+    LOCATION_NAME,
+    ITINERARY_NAME,
+    TAG
+}
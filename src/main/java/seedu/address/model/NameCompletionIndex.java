@@ -0,0 +1,104 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.itinerary.Itinerary;
+import seedu.address.model.location.Location;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Completes the names of attractions, locations and itineraries, and the tags of attractions, from a prefix.
+ *
+ * The index observes the lists it completes names from, so it is always in sync with them. Its tries are only built
+ * the first time they are searched after one of the lists is replaced as a whole, so that loading a large Maplet is
+ * not slowed down by completions that are never asked for. Once built, they are kept up to date one change at a time.
+ */
+class NameCompletionIndex {
+
+    private final ObservableList<Attraction> attractions;
+    private final ObservableList<Location> locations;
+    private final ObservableList<Itinerary> itineraries;
+    private final Map<NameCategory, PrefixTrie> tries = new EnumMap<>(NameCategory.class);
+    private boolean areTriesBuilt = false;
+
+    /**
+     * Constructs a {@code NameCompletionIndex} that completes names from the given lists.
+     */
+    NameCompletionIndex(ObservableList<Attraction> attractions, ObservableList<Location> locations,
+                        ObservableList<Itinerary> itineraries) {
+        requireAllNonNull(attractions, locations, itineraries);
+        this.attractions = attractions;
+        this.locations = locations;
+        this.itineraries = itineraries;
+        for (NameCategory category : NameCategory.values()) {
+            tries.put(category, new PrefixTrie());
+        }
+
+        attractions.addListener(createListener(this::indexAttraction));
+        locations.addListener(createListener((location, action) ->
+                action.accept(NameCategory.LOCATION_NAME, location.getName().value)));
+        itineraries.addListener(createListener((itinerary, action) ->
+                action.accept(NameCategory.ITINERARY_NAME, itinerary.getName().fullName)));
+    }
+
+    /**
+     * Returns up to {@code limit} names of the given {@code category} that start with {@code prefix}, ignoring case,
+     * in alphabetical order.
+     */
+    List<String> getCompletions(NameCategory category, String prefix, int limit) {
+        requireAllNonNull(category, prefix);
+        if (!areTriesBuilt) {
+            attractions.forEach(attraction -> indexAttraction(attraction, this::addName));
+            locations.forEach(location -> addName(NameCategory.LOCATION_NAME, location.getName().value));
+            itineraries.forEach(itinerary -> addName(NameCategory.ITINERARY_NAME, itinerary.getName().fullName));
+            areTriesBuilt = true;
+        }
+        return tries.get(category).getCompletions(prefix, limit);
+    }
+
+    private void indexAttraction(Attraction attraction, BiConsumer<NameCategory, String> action) {
+        action.accept(NameCategory.ATTRACTION_NAME, attraction.getName().fullName);
+        for (Tag tag : attraction.getTags()) {
+            action.accept(NameCategory.TAG, tag.tagName);
+        }
+    }
+
+    private void addName(NameCategory category, String name) {
+        tries.get(category).add(name);
+    }
+
+    private void removeName(NameCategory category, String name) {
+        tries.get(category).remove(name);
+    }
+
+    /**
+     * Returns a listener that reports the names of the elements added to and removed from a list to
+     * {@code indexElement}, which passes each name of an element to the {@code BiConsumer} it is given.
+     */
+    private <T> ListChangeListener<T> createListener(BiConsumer<T, BiConsumer<NameCategory, String>> indexElement) {
+        requireNonNull(indexElement);
+        return change -> {
+            if (!areTriesBuilt) {
+                return;
+            }
+            while (change.next()) {
+                if (change.wasReplaced() && change.getFrom() == 0 && change.getTo() == change.getList().size()) {
+                    tries.values().forEach(PrefixTrie::clear);
+                    areTriesBuilt = false;
+                    return;
+                }
+                change.getRemoved().forEach(element -> indexElement.accept(element, this::removeName));
+                change.getAddedSubList().forEach(element -> indexElement.accept(element, this::addName));
+            }
+        };
+    }
+}
@@ -0,0 +1,206 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+
+/**
+ * A radix tree of strings that finds the strings starting with a given prefix, ignoring case.
+ *
+ * Each edge is labelled with a run of characters rather than a single character, so a tree of n strings has fewer than
+ * 2n nodes however long the strings are. Strings are kept in alphabetical order, and the same string may be added
+ * more than once, in which case it must be removed as many times before it is no longer found.
+ */
+class PrefixTrie {
+
+    private final Node root = new Node("");
+    // the number of nodes below the prefix that the last search for completions visited
+    private int lastVisitedNodeCount = 0;
+
+    /**
+     * Adds {@code entry} to the tree.
+     */
+    void add(String entry) {
+        requireNonNull(entry);
+        String key = toKey(entry);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.getChild(key.charAt(i));
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.putChild(child);
+                node = child;
+                break;
+            }
+            int commonLength = getCommonPrefixLength(child.label, key, i);
+            if (commonLength < child.label.length()) {
+                child = child.splitAt(commonLength);
+                node.putChild(child);
+            }
+            node = child;
+            i += commonLength;
+        }
+        if (node.entries == null) {
+            node.entries = new TreeMap<>();
+        }
+        node.entries.merge(entry, 1, Integer::sum);
+    }
+
+    /**
+     * Removes one occurrence of {@code entry} from the tree, if it is in the tree.
+     */
+    void remove(String entry) {
+        requireNonNull(entry);
+        String key = toKey(entry);
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            node = node.getChild(key.charAt(i));
+            if (node == null || !key.startsWith(node.label, i)) {
+                return;
+            }
+            path.add(node);
+            i += node.label.length();
+        }
+        if (node.entries == null || !node.entries.containsKey(entry)) {
+            return;
+        }
+
+        node.entries.computeIfPresent(entry, (unused, count) -> count == 1 ? null : count - 1);
+        if (!node.entries.isEmpty()) {
+            return;
+        }
+        node.entries = null;
+        if (node == root) {
+            return;
+        }
+        Node parent = path.get(path.size() - 2);
+        if (node.children.isEmpty()) {
+            parent.children.remove(node.label.charAt(0));
+            node = parent;
+        }
+        // a node without entries only needs to exist where paths branch
+        if (node != root && node.entries == null && node.children.size() == 1) {
+            node.mergeWithOnlyChild();
+        }
+    }
+
+    void clear() {
+        root.children.clear();
+        root.entries = null;
+    }
+
+    /**
+     * Returns up to {@code limit} strings in the tree that start with {@code prefix}, ignoring case, in alphabetical
+     * order. Only the part of the tree that holds the returned strings is visited.
+     */
+    List<String> getCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit >= 0, "The number of completions should not be negative");
+        String key = toKey(prefix);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            node = node.getChild(key.charAt(i));
+            if (node == null) {
+                return List.of();
+            }
+            int commonLength = getCommonPrefixLength(node.label, key, i);
+            if (commonLength < node.label.length() && i + commonLength < key.length()) {
+                return List.of();
+            }
+            i += commonLength;
+        }
+
+        List<String> completions = new ArrayList<>();
+        lastVisitedNodeCount = 0;
+        collect(node, completions, limit);
+        return completions;
+    }
+
+    /**
+     * Returns the number of nodes that the last call to {@link #getCompletions(String, int)} visited below the node
+     * of its prefix, including that node.
+     */
+    int getLastVisitedNodeCount() {
+        return lastVisitedNodeCount;
+    }
+
+    private void collect(Node node, List<String> completions, int limit) {
+        lastVisitedNodeCount++;
+        if (node.entries != null) {
+            for (String entry : node.entries.keySet()) {
+                if (completions.size() == limit) {
+                    return;
+                }
+                completions.add(entry);
+            }
+        }
+        for (Node child : node.children.values()) {
+            if (completions.size() == limit) {
+                return;
+            }
+            collect(child, completions, limit);
+        }
+    }
+
+    private static String toKey(String entry) {
+        return entry.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the length of the longest common prefix of {@code label} and the part of {@code key} from {@code from}.
+     */
+    private static int getCommonPrefixLength(String label, String key, int from) {
+        int length = 0;
+        while (length < label.length() && from + length < key.length()
+                && label.charAt(length) == key.charAt(from + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static class Node {
+        private String label;
+        private TreeMap<Character, Node> children = new TreeMap<>();
+        // the strings ending at this node, with the number of times each was added, or null if there are none
+        private TreeMap<String, Integer> entries = null;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node getChild(char firstCharacter) {
+            return children.get(firstCharacter);
+        }
+
+        private void putChild(Node child) {
+            children.put(child.label.charAt(0), child);
+        }
+
+        /**
+         * Splits the edge into this node after its first {@code length} characters, and returns the new node that
+         * ends the first part of the edge.
+         */
+        private Node splitAt(int length) {
+            Node head = new Node(label.substring(0, length));
+            label = label.substring(length);
+            head.putChild(this);
+            return head;
+        }
+
+        private void mergeWithOnlyChild() {
+            Node child = children.firstEntry().getValue();
+            label = label + child.label;
+            children = child.children;
+            entries = child.entries;
+        }
+    }
+}
@@ -28,4 +28,10 @@ public interface ReadOnlyMaplet {
      */
     ObservableList<Location> getLocationList();
 
+    /**
+     * Returns the version of the data, which changes whenever any of the lists changes.
+     * Two calls that return the same version saw the same data.
+     */
+    long getVersion();
+
 }
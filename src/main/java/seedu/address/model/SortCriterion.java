@@ -0,0 +1,99 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A field to sort attractions and itineraries by, and the direction to sort it in.
+ */
+public class SortCriterion {
+
+    /**
+     * The fields that attractions and itineraries can be sorted by.
+     */
+    public enum Field {
+        NAME(true),
+        PRIORITY(false),
+        PRICE(true);
+
+        private final boolean isAscendingByDefault;
+
+        Field(boolean isAscendingByDefault) {
+            this.isAscendingByDefault = isAscendingByDefault;
+        }
+
+        /**
+         * Returns true if the field is sorted in ascending order unless another direction is given, so that names
+         * are sorted from A to Z, priorities from highest to lowest and prices from cheapest to most expensive.
+         */
+        public boolean isAscendingByDefault() {
+            return isAscendingByDefault;
+        }
+    }
+
+    private final Field field;
+    private final boolean isAscending;
+
+    /**
+     * Creates a criterion that sorts by {@code field} in ascending order if {@code isAscending} is true, or in
+     * descending order otherwise.
+     */
+    public SortCriterion(Field field, boolean isAscending) {
+        requireNonNull(field);
+        this.field = field;
+        this.isAscending = isAscending;
+    }
+
+    /**
+     * Creates a criterion that sorts by {@code field} in its default direction.
+     */
+    public SortCriterion(Field field) {
+        this(field, requireNonNull(field).isAscendingByDefault());
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public boolean isAscending() {
+        return isAscending;
+    }
+
+    /**
+     * Returns true if this criterion sorts in the opposite direction to the default direction of its field.
+     */
+    public boolean isReversed() {
+        return isAscending != field.isAscendingByDefault();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCriterion)) {
+            return false;
+        }
+
+        SortCriterion otherSortCriterion = (SortCriterion) other;
+        return field == otherSortCriterion.field && isAscending == otherSortCriterion.isAscending;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, isAscending);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .add("isAscending", isAscending)
+                .toString();
+    }
+}
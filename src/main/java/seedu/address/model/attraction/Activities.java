@@ -3,6 +3,8 @@ package seedu.address.model.attraction;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an attraction's description in the Maplet.
  * Guarantees: immutable; is always valid.
@@ -17,6 +19,8 @@ public class Activities {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String activities;
 
     /**
@@ -34,7 +38,7 @@ public class Activities {
      * Returns true if a given string is a valid Activities.
      */
     public static boolean isValidActivities(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -0,0 +1,121 @@
+package seedu.address.model.attraction;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.SortCriterion;
+import seedu.address.model.util.SortKeyComparator;
+
+/**
+ * Orders attractions by one or more {@code SortCriterion}, each breaking the ties left by the ones before it.
+ *
+ * The fields compared are extracted into a {@link SortKey} once for each attraction. Priorities and prices are kept as
+ * primitive longs, and names are case-folded in advance, so comparing two keys neither boxes values nor folds case.
+ */
+public class AttractionComparator implements SortKeyComparator<Attraction, AttractionComparator.SortKey> {
+
+    private final SortCriterion[] criteria;
+
+    /**
+     * Creates a comparator that orders attractions by {@code criteria}, in order of precedence.
+     */
+    public AttractionComparator(List<SortCriterion> criteria) {
+        requireNonNull(criteria);
+        checkArgument(!criteria.isEmpty(), "There should be at least one sort criterion");
+        this.criteria = criteria.toArray(new SortCriterion[0]);
+    }
+
+    public List<SortCriterion> getCriteria() {
+        return List.of(criteria);
+    }
+
+    @Override
+    public SortKey getSortKey(Attraction attraction) {
+        SortKey key = new SortKey(criteria.length);
+        for (int i = 0; i < criteria.length; i++) {
+            switch (criteria[i].getField()) {
+            case NAME:
+                key.names[i] = foldCase(attraction.getName().fullName);
+                break;
+            case PRIORITY:
+                key.numbers[i] = attraction.getPriority().getLevel();
+                break;
+            case PRICE:
+                key.numbers[i] = attraction.getPrice().getAmountInMinorUnits();
+                break;
+            default:
+                throw new AssertionError(criteria[i].getField());
+            }
+        }
+        return key;
+    }
+
+    @Override
+    public int compareSortKeys(SortKey first, SortKey second) {
+        for (int i = 0; i < criteria.length; i++) {
+            int result = criteria[i].getField() == SortCriterion.Field.NAME
+                    ? first.names[i].compareTo(second.names[i])
+                    : Long.compare(first.numbers[i], second.numbers[i]);
+            if (result != 0) {
+                return criteria[i].isAscending() ? result : -result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Folds the case of each character of {@code name} as {@link String#compareToIgnoreCase(String)} does, so that
+     * folded names compare in the same order.
+     */
+    private static String foldCase(String name) {
+        char[] characters = name.toCharArray();
+        for (int i = 0; i < characters.length; i++) {
+            characters[i] = Character.toLowerCase(Character.toUpperCase(characters[i]));
+        }
+        return new String(characters);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttractionComparator)) {
+            return false;
+        }
+
+        AttractionComparator otherAttractionComparator = (AttractionComparator) other;
+        return getCriteria().equals(otherAttractionComparator.getCriteria());
+    }
+
+    @Override
+    public int hashCode() {
+        return getCriteria().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("criteria", getCriteria())
+                .toString();
+    }
+
+    /**
+     * The fields of an attraction that an {@code AttractionComparator} compares, one slot for each criterion.
+     * A slot holds a case-folded name if its criterion sorts by name, and a number otherwise.
+     */
+    public static class SortKey {
+        private final String[] names;
+        private final long[] numbers;
+
+        private SortKey(int size) {
+            names = new String[size];
+            numbers = new long[size];
+        }
+    }
+}
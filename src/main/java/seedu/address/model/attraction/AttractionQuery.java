@@ -0,0 +1,134 @@
+package seedu.address.model.attraction;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.TagQuery;
+
+/**
+ * Tests that an {@code Attraction} matches every term of a query.
+ * Terms are evaluated in order, and evaluation stops at the first term that does not match. Use
+ * {@link #orderedBySelectivity(List)} to evaluate the terms that reject the most attractions first.
+ */
+public class AttractionQuery implements Predicate<Attraction> {
+
+    // number of attractions tested against each term to estimate its selectivity
+    static final int SAMPLE_SIZE = 64;
+
+    private final List<QueryTerm> terms;
+
+    /**
+     * Constructs an {@code AttractionQuery} that matches attractions matching all of {@code terms}.
+     */
+    public AttractionQuery(List<QueryTerm> terms) {
+        requireAllNonNull(terms);
+        checkArgument(!terms.isEmpty(), "A query should have at least one term");
+        this.terms = List.copyOf(terms);
+    }
+
+    public List<QueryTerm> getTerms() {
+        return terms;
+    }
+
+    /**
+     * Returns a query in which all terms that only test tags are combined into a single term, whose matches are
+     * looked up with {@code tagIndex} up front. Returns this query if it has no such terms.
+     *
+     * @param tagIndex Returns the names of the attractions whose tags satisfy a given {@code TagQuery}.
+     */
+    public AttractionQuery withTagTermsResolved(Function<TagQuery, Set<Name>> tagIndex) {
+        requireNonNull(tagIndex);
+        TagQuery combinedTagQuery = null;
+        List<QueryTerm> otherTerms = new ArrayList<>();
+        for (QueryTerm term : terms) {
+            Optional<TagQuery> tagQuery = term.getTagQuery();
+            if (tagQuery.isEmpty()) {
+                otherTerms.add(term);
+            } else {
+                combinedTagQuery = combinedTagQuery == null ? tagQuery.get() : combinedTagQuery.and(tagQuery.get());
+            }
+        }
+        if (combinedTagQuery == null) {
+            return this;
+        }
+
+        List<QueryTerm> resolvedTerms = new ArrayList<>();
+        resolvedTerms.add(QueryTerm.isNamedIn(combinedTagQuery.toString(), tagIndex.apply(combinedTagQuery)));
+        resolvedTerms.addAll(otherTerms);
+        return new AttractionQuery(resolvedTerms);
+    }
+
+    /**
+     * Returns a query with the same terms, ordered from the one expected to match the fewest of {@code attractions}
+     * to the one expected to match the most.
+     * The number of matches is estimated by testing each term against an evenly spaced sample of
+     * {@code attractions}. Terms with the same estimate keep their relative order.
+     */
+    public AttractionQuery orderedBySelectivity(List<Attraction> attractions) {
+        requireNonNull(attractions);
+        if (terms.size() == 1 || attractions.isEmpty()) {
+            return this;
+        }
+
+        List<Attraction> sample = new ArrayList<>();
+        int step = Math.max(1, attractions.size() / SAMPLE_SIZE);
+        for (int i = 0; i < attractions.size() && sample.size() < SAMPLE_SIZE; i += step) {
+            sample.add(attractions.get(i));
+        }
+
+        Map<QueryTerm, Long> estimatedMatches = new HashMap<>();
+        for (QueryTerm term : terms) {
+            estimatedMatches.put(term, sample.stream().filter(term).count());
+        }
+        List<QueryTerm> orderedTerms = new ArrayList<>(terms);
+        orderedTerms.sort(Comparator.comparing(estimatedMatches::get));
+        return new AttractionQuery(orderedTerms);
+    }
+
+    @Override
+    public boolean test(Attraction attraction) {
+        for (QueryTerm term : terms) {
+            if (!term.test(attraction)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttractionQuery)) {
+            return false;
+        }
+
+        AttractionQuery otherAttractionQuery = (AttractionQuery) other;
+        return terms.equals(otherAttractionQuery.terms);
+    }
+
+    @Override
+    public int hashCode() {
+        return terms.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("terms", terms).toString();
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.attraction;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a comment given to an attraction
  * Guarantees: immutable; is valid as declared in {@link #isValidComment(String)}
@@ -16,6 +18,8 @@ public class Comment {
      */
     public static final String VALIDATION_REGEX = ".*\\S.*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String comment;
 
     /**
@@ -33,7 +37,7 @@ public class Comment {
      * Returns true if a given string is a valid Activities.
      */
     public static boolean isValidComment(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.attraction;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Attraction's contact in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidContact(String)}
@@ -23,6 +25,9 @@ public class Contact {
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String EMAIL_VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
+    private static final Pattern PHONE_VALIDATION_PATTERN = Pattern.compile(PHONE_VALIDATION_REGEX);
+    private static final Pattern EMAIL_VALIDATION_PATTERN = Pattern.compile(EMAIL_VALIDATION_REGEX);
+
 
 
 
@@ -45,7 +50,7 @@ public class Contact {
      */
     public static boolean isValidContact(String test) {
         requireNonNull(test);
-        return test.matches(EMAIL_VALIDATION_REGEX) || test.matches(PHONE_VALIDATION_REGEX);
+        return EMAIL_VALIDATION_PATTERN.matcher(test).matches() || PHONE_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
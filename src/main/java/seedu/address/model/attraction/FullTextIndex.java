@@ -0,0 +1,139 @@
+package seedu.address.model.attraction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A full-text index over the activities and comments of attractions, ranking them against a query with BM25.
+ *
+ * The activities and comments of an attraction are indexed together as one document. A document is split into terms at
+ * every character that is not a letter or a digit, and the terms are case-folded, with common English stopwords left
+ * out. For each term, the index keeps the number of times it occurs in each document, so a query is scored from the
+ * documents that contain its terms alone.
+ */
+class FullTextIndex {
+
+    // the usual BM25 parameters, controlling how quickly repeated terms saturate and how much long documents are
+    // penalised
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Set<String> STOPWORDS = Set.of("a", "an", "and", "are", "as", "at", "be", "but", "by", "for",
+            "from", "had", "has", "have", "i", "if", "in", "into", "is", "it", "its", "me", "my", "no", "not", "of",
+            "on", "or", "so", "such", "that", "the", "their", "then", "there", "these", "they", "this", "to", "was",
+            "we", "were", "will", "with", "you");
+
+    private final Map<String, Map<Name, Integer>> termCountsByTerm = new HashMap<>();
+    private final Map<Name, Integer> documentLengths = new HashMap<>();
+    private long totalDocumentLength = 0;
+
+    /**
+     * Indexes the activities and comments of {@code attraction}.
+     */
+    void add(Attraction attraction) {
+        requireNonNull(attraction);
+        List<String> terms = tokenize(attraction);
+        for (String term : terms) {
+            termCountsByTerm.computeIfAbsent(term, unused -> new HashMap<>())
+                    .merge(attraction.getName(), 1, Integer::sum);
+        }
+        documentLengths.put(attraction.getName(), terms.size());
+        totalDocumentLength += terms.size();
+    }
+
+    /**
+     * Removes the activities and comments of {@code attraction}, which must be indexed, from the index.
+     */
+    void remove(Attraction attraction) {
+        requireNonNull(attraction);
+        for (String term : new LinkedHashSet<>(tokenize(attraction))) {
+            Map<Name, Integer> termCounts = termCountsByTerm.get(term);
+            termCounts.remove(attraction.getName());
+            if (termCounts.isEmpty()) {
+                termCountsByTerm.remove(term);
+            }
+        }
+        totalDocumentLength -= documentLengths.remove(attraction.getName());
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code replacement}.
+     */
+    void setAll(FullTextIndex replacement) {
+        requireNonNull(replacement);
+        clear();
+        replacement.termCountsByTerm.forEach((term, termCounts) ->
+                termCountsByTerm.put(term, new HashMap<>(termCounts)));
+        documentLengths.putAll(replacement.documentLengths);
+        totalDocumentLength = replacement.totalDocumentLength;
+    }
+
+    void clear() {
+        termCountsByTerm.clear();
+        documentLengths.clear();
+        totalDocumentLength = 0;
+    }
+
+    /**
+     * Returns the BM25 score of each indexed attraction whose activities or comments contain any term of
+     * {@code query}, keyed by its name. Attractions that contain none of the terms are left out.
+     */
+    Map<Name, Double> getScores(String query) {
+        requireNonNull(query);
+        Map<Name, Double> scores = new HashMap<>();
+        if (documentLengths.isEmpty()) {
+            return scores;
+        }
+        double averageDocumentLength = (double) totalDocumentLength / documentLengths.size();
+        for (String term : new LinkedHashSet<>(tokenize(query))) {
+            Map<Name, Integer> termCounts = termCountsByTerm.get(term);
+            if (termCounts == null) {
+                continue;
+            }
+            double inverseDocumentFrequency = Math.log(1
+                    + (documentLengths.size() - termCounts.size() + 0.5) / (termCounts.size() + 0.5));
+            termCounts.forEach((name, termCount) -> {
+                double lengthNormalisation = 1 - B + B * documentLengths.get(name) / averageDocumentLength;
+                double score = inverseDocumentFrequency * termCount * (K1 + 1)
+                        / (termCount + K1 * lengthNormalisation);
+                scores.merge(name, score, Double::sum);
+            });
+        }
+        return scores;
+    }
+
+    private static List<String> tokenize(Attraction attraction) {
+        List<String> terms = tokenize(attraction.getActivities().activities);
+        for (Comment comment : attraction.getComments()) {
+            terms.addAll(tokenize(comment.comment));
+        }
+        return terms;
+    }
+
+    /**
+     * Returns the terms of {@code text} in order, case-folded and without stopwords.
+     */
+    private static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= text.length(); i++) {
+            if (i == text.length() || !Character.isLetterOrDigit(text.charAt(i))) {
+                if (i > start) {
+                    String term = text.substring(start, i).toLowerCase(Locale.ROOT);
+                    if (!STOPWORDS.contains(term)) {
+                        terms.add(term);
+                    }
+                }
+                start = i + 1;
+            }
+        }
+        return terms;
+    }
+}
@@ -16,6 +16,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Attraction> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Attraction attraction) {
         return keywords.stream()
@@ -37,6 +41,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Attraction> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -0,0 +1,95 @@
+package seedu.address.model.attraction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the case-folded words of attraction names to the names containing them.
+ * A word is a maximal run of non-space characters, so a name such as "Gardens by the Bay" contains the words
+ * "gardens", "by", "the" and "bay".
+ */
+class NameTokenIndex {
+
+    private final Map<String, Set<Name>> namesByToken = new HashMap<>();
+
+    /**
+     * Indexes the words of {@code name}.
+     */
+    void add(Name name) {
+        requireNonNull(name);
+        for (String token : tokenize(name)) {
+            namesByToken.computeIfAbsent(token, unused -> new HashSet<>()).add(name);
+        }
+    }
+
+    /**
+     * Removes the words of {@code name} from the index.
+     */
+    void remove(Name name) {
+        requireNonNull(name);
+        for (String token : tokenize(name)) {
+            Set<Name> names = namesByToken.get(token);
+            if (names == null) {
+                continue;
+            }
+            names.remove(name);
+            if (names.isEmpty()) {
+                namesByToken.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code replacement}.
+     */
+    void setAll(NameTokenIndex replacement) {
+        requireNonNull(replacement);
+        namesByToken.clear();
+        replacement.namesByToken.forEach((token, names) -> namesByToken.put(token, new HashSet<>(names)));
+    }
+
+    void clear() {
+        namesByToken.clear();
+    }
+
+    /**
+     * Returns the names that contain any of {@code words}, ignoring case.
+     * This takes time proportional to the number of names returned, rather than the number of names indexed.
+     */
+    Set<Name> getNamesContainingAnyWord(Collection<String> words) {
+        requireNonNull(words);
+        Set<Name> names = new HashSet<>();
+        for (String word : words) {
+            names.addAll(namesByToken.getOrDefault(fold(word.trim()), Collections.emptySet()));
+        }
+        return names;
+    }
+
+    private static List<String> tokenize(Name name) {
+        String fullName = name.fullName;
+        List<String> tokens = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= fullName.length(); i++) {
+            if (i == fullName.length() || fullName.charAt(i) == ' ') {
+                if (i > start) {
+                    tokens.add(fold(fullName.substring(start, i)));
+                }
+                start = i + 1;
+            }
+        }
+        return tokens;
+    }
+
+    private static String fold(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.attraction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that an {@code Attraction} is open throughout a span of the day, such as {@code 1400 - 1700}.
+ */
+public class OpenDuringPredicate implements Predicate<Attraction> {
+    private final OpeningHours span;
+
+    /**
+     * Constructs a predicate for attractions that are open at every minute of {@code span}.
+     */
+    public OpenDuringPredicate(OpeningHours span) {
+        requireNonNull(span);
+        this.span = span;
+    }
+
+    /**
+     * Returns a predicate for attractions that are open at {@code time}, in the HHMM 24-hour format.
+     */
+    public static OpenDuringPredicate at(String time) {
+        requireNonNull(time);
+        // opening hours that open and close at the same time only cover the minute they open at
+        return new OpenDuringPredicate(new OpeningHours(time + " - " + time));
+    }
+
+    public OpeningHours getSpan() {
+        return span;
+    }
+
+    @Override
+    public boolean test(Attraction attraction) {
+        return attraction.getOpeningHours().isOpenThroughout(span);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OpenDuringPredicate)) {
+            return false;
+        }
+
+        OpenDuringPredicate otherOpenDuringPredicate = (OpenDuringPredicate) other;
+        return span.equals(otherOpenDuringPredicate.span);
+    }
+
+    @Override
+    public int hashCode() {
+        return span.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("span", span).toString();
+    }
+}
@@ -2,9 +2,11 @@ package seedu.address.model.attraction;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isTwentyFourHourTime;
 
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -26,10 +28,16 @@ public class OpeningHours {
     public static final String TIME_VALIDATION_REGEX = "^([0-1][0-9]|2[0-3])[0-5][0-9]$";
     public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
     public static final String FULL_DAY_OPENING_HOURS = "24-Hour";
+    public static final int MINUTES_PER_DAY = 24 * 60;
     public static final OpeningHours NON_SPECIFIED_HOURS = new OpeningHours();
+
+    private static final Pattern OPENING_HOURS_VALIDATION_PATTERN = Pattern.compile(OPENING_HOURS_VALIDATION_REGEX);
+
     public final LocalTime opensAt;
     public final LocalTime closesAt;
-    private final boolean pastMidnight;
+    private final int opensAtMinute;
+    // the number of minutes in the day that the attraction is open, counting from opensAt
+    private final int lengthInMinutes;
 
     /**
      * Constructs an {@code OpeningHours}.
@@ -39,18 +47,23 @@ public class OpeningHours {
     public OpeningHours(String openingHours) {
         requireNonNull(openingHours);
         checkArgument(isValidOpeningHours(openingHours), MESSAGE_CONSTRAINTS);
-        final Pattern p = Pattern.compile(OPENING_HOURS_VALIDATION_REGEX);
-        final Matcher matcher = p.matcher(openingHours);
+        final Matcher matcher = OPENING_HOURS_VALIDATION_PATTERN.matcher(openingHours);
         matcher.matches();
         opensAt = LocalTime.parse(matcher.group("opensAt"), TIME_FORMATTER);
         closesAt = LocalTime.parse(matcher.group("closesAt"), TIME_FORMATTER);
-        pastMidnight = opensAt.isAfter(closesAt);
+        opensAtMinute = toMinuteOfDay(opensAt);
+        int closesAtMinute = toMinuteOfDay(closesAt);
+        // opening hours that open and close at the same time are only open for the minute they open at
+        lengthInMinutes = opensAtMinute == closesAtMinute
+                ? 1
+                : Math.floorMod(closesAtMinute - opensAtMinute, MINUTES_PER_DAY);
     }
 
     private OpeningHours() {
         this.opensAt = null;
         this.closesAt = null;
-        this.pastMidnight = false;
+        this.opensAtMinute = 0;
+        this.lengthInMinutes = MINUTES_PER_DAY;
     }
 
     /**
@@ -58,7 +71,7 @@ public class OpeningHours {
      */
     public static boolean isValidOpeningHours(String test) {
         requireNonNull(test);
-        return test.matches(OPENING_HOURS_VALIDATION_REGEX) || test.equals("24-Hour");
+        return OPENING_HOURS_VALIDATION_PATTERN.matcher(test).matches() || test.equals(FULL_DAY_OPENING_HOURS);
     }
 
     /**
@@ -66,7 +79,22 @@ public class OpeningHours {
      */
     public static boolean isValidTime(String test) {
         requireNonNull(test);
-        return test.matches(TIME_VALIDATION_REGEX);
+        return isTwentyFourHourTime(test);
+    }
+
+    /**
+     * Returns the minute of the day of a valid time in the HHMM 24-hour format, e.g. 90 for 0130.
+     */
+    public static int toMinuteOfDay(String time) {
+        requireNonNull(time);
+        checkArgument(isValidTime(time), TIME_CONSTRAINTS);
+        int hours = (time.charAt(0) - '0') * 10 + (time.charAt(1) - '0');
+        int minutes = (time.charAt(2) - '0') * 10 + (time.charAt(3) - '0');
+        return hours * 60 + minutes;
+    }
+
+    private static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
     }
 
     /**
@@ -74,17 +102,52 @@ public class OpeningHours {
      * Supports the scenario where opening hours span past midnight.
      */
     public boolean isOpen(String time) {
-        requireNonNull(time);
-        checkArgument(isValidTime(time), TIME_CONSTRAINTS);
-        LocalTime timeQuery = LocalTime.parse(time, TIME_FORMATTER);
-        if (this.equals(NON_SPECIFIED_HOURS)) {
-            return true;
-        }
-        if (pastMidnight) {
-            return opensAt.isBefore(timeQuery) || closesAt.isAfter(timeQuery) || opensAt.equals(timeQuery);
-        } else {
-            return opensAt.equals(timeQuery) || (opensAt.isBefore(timeQuery) && closesAt.isAfter(timeQuery));
+        return isOpenAt(toMinuteOfDay(time));
+    }
+
+    /**
+     * Returns true if the given minute of the day is within the opening hours.
+     */
+    public boolean isOpenAt(int minuteOfDay) {
+        return getOpenMinutesFrom(minuteOfDay) > 0;
+    }
+
+    /**
+     * Returns the number of consecutive minutes that the attraction is open for, starting at the given minute of the
+     * day, or 0 if it is closed at that minute. Attractions without specified opening hours are open for the whole
+     * day.
+     */
+    public int getOpenMinutesFrom(int minuteOfDay) {
+        checkArgument(minuteOfDay >= 0 && minuteOfDay < MINUTES_PER_DAY, TIME_CONSTRAINTS);
+        if (lengthInMinutes == MINUTES_PER_DAY) {
+            return MINUTES_PER_DAY;
         }
+        int minutesSinceOpening = Math.floorMod(minuteOfDay - opensAtMinute, MINUTES_PER_DAY);
+        return minutesSinceOpening < lengthInMinutes ? lengthInMinutes - minutesSinceOpening : 0;
+    }
+
+    /**
+     * Returns true if the attraction is open at every minute of {@code span}, where {@code span} is read in the same
+     * way as opening hours. For example, opening hours of {@code 1200 - 1800} are open throughout
+     * {@code 1400 - 1800}, but not throughout {@code 1400 - 1801} or {@code 24-Hour}.
+     */
+    public boolean isOpenThroughout(OpeningHours span) {
+        requireNonNull(span);
+        return getOpenMinutesFrom(span.opensAtMinute) >= span.lengthInMinutes;
+    }
+
+    /**
+     * Returns the minute of the day that the opening hours start at. This is 0 for unspecified opening hours.
+     */
+    int getOpensAtMinute() {
+        return opensAtMinute;
+    }
+
+    /**
+     * Returns the number of minutes in the day that the attraction is open for.
+     */
+    int getLengthInMinutes() {
+        return lengthInMinutes;
     }
 
     @Override
@@ -112,4 +175,9 @@ public class OpeningHours {
         OpeningHours otherOpeningHours = (OpeningHours) other;
         return opensAt.equals(otherOpeningHours.opensAt) && closesAt.equals(otherOpeningHours.closesAt);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(opensAt, closesAt);
+    }
 }
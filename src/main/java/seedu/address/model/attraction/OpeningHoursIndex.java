@@ -0,0 +1,105 @@
+package seedu.address.model.attraction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * An interval index from the minutes of the day to the attractions that are open at them.
+ *
+ * Attractions are grouped by their opening hours, and every distinct set of opening hours is registered under each
+ * minute of the day that it is open at, including the minutes past midnight of opening hours that wrap around it.
+ * Catalogues usually have far fewer distinct opening hours than attractions, so a lookup only checks the opening hours
+ * registered under a single minute, rather than every attraction.
+ */
+class OpeningHoursIndex {
+
+    private final Map<OpeningHours, Set<Name>> namesByOpeningHours = new HashMap<>();
+    // absent for the minutes that no indexed opening hours are open at
+    private final Map<Integer, Set<OpeningHours>> openingHoursByMinute = new HashMap<>();
+
+    /**
+     * Indexes the opening hours of {@code attraction}.
+     */
+    void add(Attraction attraction) {
+        requireNonNull(attraction);
+        OpeningHours openingHours = attraction.getOpeningHours();
+        Set<Name> names = namesByOpeningHours.get(openingHours);
+        if (names == null) {
+            names = new HashSet<>();
+            namesByOpeningHours.put(openingHours, names);
+            forEachOpenMinute(openingHours, minute ->
+                    openingHoursByMinute.computeIfAbsent(minute, unused -> new HashSet<>()).add(openingHours));
+        }
+        names.add(attraction.getName());
+    }
+
+    /**
+     * Removes the opening hours of {@code attraction} from the index.
+     */
+    void remove(Attraction attraction) {
+        requireNonNull(attraction);
+        OpeningHours openingHours = attraction.getOpeningHours();
+        Set<Name> names = namesByOpeningHours.get(openingHours);
+        if (names == null) {
+            return;
+        }
+        names.remove(attraction.getName());
+        if (!names.isEmpty()) {
+            return;
+        }
+        namesByOpeningHours.remove(openingHours);
+        forEachOpenMinute(openingHours, minute -> {
+            Set<OpeningHours> openingHoursAtMinute = openingHoursByMinute.get(minute);
+            openingHoursAtMinute.remove(openingHours);
+            if (openingHoursAtMinute.isEmpty()) {
+                openingHoursByMinute.remove(minute);
+            }
+        });
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code replacement}.
+     */
+    void setAll(OpeningHoursIndex replacement) {
+        requireNonNull(replacement);
+        clear();
+        replacement.namesByOpeningHours.forEach((openingHours, names) ->
+                namesByOpeningHours.put(openingHours, new HashSet<>(names)));
+        replacement.openingHoursByMinute.forEach((minute, openingHours) ->
+                openingHoursByMinute.put(minute, new HashSet<>(openingHours)));
+    }
+
+    void clear() {
+        namesByOpeningHours.clear();
+        openingHoursByMinute.clear();
+    }
+
+    /**
+     * Returns the names of the indexed attractions that are open at every minute of {@code span}.
+     *
+     * @see OpeningHours#isOpenThroughout(OpeningHours)
+     */
+    Set<Name> getNamesOpenThroughout(OpeningHours span) {
+        requireNonNull(span);
+        Set<Name> names = new HashSet<>();
+        for (OpeningHours openingHours : openingHoursByMinute.getOrDefault(span.getOpensAtMinute(),
+                Collections.emptySet())) {
+            if (openingHours.isOpenThroughout(span)) {
+                names.addAll(namesByOpeningHours.get(openingHours));
+            }
+        }
+        return names;
+    }
+
+    private static void forEachOpenMinute(OpeningHours openingHours, IntConsumer action) {
+        for (int i = 0; i < openingHours.getLengthInMinutes(); i++) {
+            action.accept((openingHours.getOpensAtMinute() + i) % OpeningHours.MINUTES_PER_DAY);
+        }
+    }
+}
@@ -3,7 +3,7 @@ package seedu.address.model.attraction;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.util.HashSet;
+import java.math.BigDecimal;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -14,17 +14,46 @@ import java.util.regex.Pattern;
 public class Price {
     public static final String MESSAGE_CONSTRAINTS = "Price should be a numerical value, with 0 to 3 decimal places. "
             + "It can have a 3-letter or a 2-letter and symbol prefix and / or suffix to indicate its currency.";
+    public static final String MESSAGE_TOO_LARGE = "Price should have at most 9 digits before the decimal point.";
+    public static final String MESSAGE_CURRENCY_CONSTRAINTS = "Currency should be a 3-letter code, a symbol, "
+            + "or 2 letters and a symbol, as given in a price.";
+
+    /*
+     * Accepts the 3-letter ISO code (USD, SGD), a currency symbol ($), or 2 letters and a currency symbol (US$)
+     */
+    public static final String CURRENCY_VALIDATION_REGEX = "[A-Za-z]{3}|\\p{Sc}|[A-Za-z]{2}\\p{Sc}";
 
     /*
      * Accepts the 3-letter ISO code (USD, SGD), both before or after a numerical value (decimals allowed)
      */
-    public static final String VALIDATION_REGEX = "^(?<units1>[A-Za-z]{3}|\\p{Sc}|[A-Za-z]{2}\\p{Sc})?"
+    public static final String VALIDATION_REGEX = "^(?<units1>" + CURRENCY_VALIDATION_REGEX + ")?"
             + "\\s*(?<value>\\d+(\\.\\d{1,3})?)\\s*"
-            + "(?<units2>[A-Za-z]{3}|\\p{Sc}|[A-Za-z]{2}\\p{Sc})?$";
+            + "(?<units2>" + CURRENCY_VALIDATION_REGEX + ")?$";
+
+    /** Number of minor units in one unit of any currency. Prices have at most 3 decimal places. */
+    public static final int MINOR_UNITS_PER_UNIT = 1000;
+
+    /**
+     * Most digits before the decimal point of a price that is not oversized. Prices entered by the user must not be
+     * oversized, but data files written before the limit may hold oversized prices, which are still read.
+     */
+    public static final int MAX_UNIT_DIGITS = 9;
+
+    /**
+     * Amount in minor units of every oversized price, which is larger than that of any other price. The sum of the
+     * amounts of millions of prices then still fits in a long.
+     */
+    public static final long OVERSIZED_AMOUNT_IN_MINOR_UNITS = 1_000_000_000_000L;
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Pattern CURRENCY_VALIDATION_PATTERN = Pattern.compile(CURRENCY_VALIDATION_REGEX);
 
     public final String value;
-    private final HashSet<String> units;
-    private final Double priceValue;
+    // the distinct currency units in alphabetical order, joined by a space, or "" if none are given. Interned.
+    private final String currencyCode;
+    private final long amountInMinorUnits;
+    // the exact amount of an oversized price, or null if the price is not oversized
+    private final BigDecimal oversizedAmount;
 
     /**
      * Constructs a {@code Price}.
@@ -33,26 +62,103 @@ public class Price {
      */
     public Price(String price) {
         requireNonNull(price);
-        checkArgument(isValidPrice(price), MESSAGE_CONSTRAINTS);
-        final Pattern p = Pattern.compile(VALIDATION_REGEX);
-        final Matcher matcher = p.matcher(price);
-        matcher.matches();
-        units = new HashSet<>();
-        units.add(matcher.group("units1"));
-        units.add(matcher.group("units2"));
-        priceValue = Double.valueOf(matcher.group("value"));
+        final Matcher matcher = VALIDATION_PATTERN.matcher(price);
+        checkArgument(matcher.matches(), MESSAGE_CONSTRAINTS);
+        currencyCode = toCurrencyCode(matcher.group("units1"), matcher.group("units2"));
+        String amount = matcher.group("value");
+        if (isOversized(amount)) {
+            amountInMinorUnits = OVERSIZED_AMOUNT_IN_MINOR_UNITS;
+            oversizedAmount = new BigDecimal(amount);
+        } else {
+            amountInMinorUnits = toMinorUnits(amount);
+            oversizedAmount = null;
+        }
         value = price;
     }
 
+    /**
+     * Returns the currency code of a price with the given units, which does not depend on whether a unit is given
+     * before or after the amount.
+     */
+    private static String toCurrencyCode(String prefixUnits, String suffixUnits) {
+        if (prefixUnits == null && suffixUnits == null) {
+            return "";
+        } else if (prefixUnits == null || suffixUnits == null || prefixUnits.equals(suffixUnits)) {
+            return (prefixUnits == null ? suffixUnits : prefixUnits).intern();
+        } else if (prefixUnits.compareTo(suffixUnits) > 0) {
+            return (suffixUnits + " " + prefixUnits).intern();
+        }
+        return (prefixUnits + " " + suffixUnits).intern();
+    }
+
+    private static boolean isOversized(String amount) {
+        int unitsEnd = amount.indexOf('.') == -1 ? amount.length() : amount.indexOf('.');
+        int unitsStart = 0;
+        while (unitsStart < unitsEnd - 1 && amount.charAt(unitsStart) == '0') {
+            unitsStart++;
+        }
+        return unitsEnd - unitsStart > MAX_UNIT_DIGITS;
+    }
+
+    /**
+     * Converts a non-negative decimal with at most 3 decimal places into minor units.
+     */
+    private static long toMinorUnits(String amount) {
+        int decimalPointIndex = amount.indexOf('.');
+        if (decimalPointIndex == -1) {
+            return Long.parseLong(amount) * MINOR_UNITS_PER_UNIT;
+        }
+        long units = Long.parseLong(amount.substring(0, decimalPointIndex));
+        long minorUnits = 0;
+        int scale = MINOR_UNITS_PER_UNIT;
+        for (int i = decimalPointIndex + 1; i < amount.length(); i++) {
+            scale /= 10;
+            minorUnits += (amount.charAt(i) - '0') * scale;
+        }
+        return units * MINOR_UNITS_PER_UNIT + minorUnits;
+    }
+
     /**
      * Returns true if a given string is a valid price.
      */
     public static boolean isValidPrice(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns true if a given string is a valid currency unit of a price.
+     */
+    public static boolean isValidCurrencyCode(String test) {
+        return CURRENCY_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public double getPriceValue() {
-        return priceValue;
+        return oversizedAmount != null
+                ? oversizedAmount.doubleValue()
+                : (double) amountInMinorUnits / MINOR_UNITS_PER_UNIT;
+    }
+
+    /**
+     * Returns true if this price has more than {@link #MAX_UNIT_DIGITS} digits before the decimal point.
+     */
+    public boolean isOversized() {
+        return oversizedAmount != null;
+    }
+
+    /**
+     * Returns the amount of this price in minor units, i.e. thousandths of a unit of its currency, or
+     * {@link #OVERSIZED_AMOUNT_IN_MINOR_UNITS} if this price is oversized.
+     */
+    public long getAmountInMinorUnits() {
+        return amountInMinorUnits;
+    }
+
+    /**
+     * Returns the currency units given with this price in alphabetical order, joined by a space, or an empty string
+     * if there are none. The returned string is interned.
+     */
+    public String getCurrencyCode() {
+        return currencyCode;
     }
 
     @Override
@@ -72,12 +178,17 @@ public class Price {
         }
 
         Price otherPrice = (Price) other;
-        return units.equals(otherPrice.units) && priceValue.equals(otherPrice.priceValue);
+        if (oversizedAmount != null) {
+            return currencyCode.equals(otherPrice.currencyCode) && otherPrice.oversizedAmount != null
+                    && oversizedAmount.compareTo(otherPrice.oversizedAmount) == 0;
+        }
+        return currencyCode.equals(otherPrice.currencyCode) && amountInMinorUnits == otherPrice.amountInMinorUnits
+                && otherPrice.oversizedAmount == null;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return 31 * currencyCode.hashCode() + Long.hashCode(amountInMinorUnits);
     }
 
 }
@@ -0,0 +1,175 @@
+package seedu.address.model.attraction;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A sorted index from the prices of attractions to their names.
+ *
+ * Amounts are kept in one sorted map across all currencies, and in a sorted map for each currency, so ranges of prices
+ * and the cheapest attractions are found in time logarithmic in the number of distinct amounts, plus the number of
+ * names returned. Percentiles are read from a sorted array of the amounts in each currency, which is rebuilt from the
+ * sorted map the first time it is needed after the index changes.
+ *
+ * Wherever a currency code is taken, an empty code stands for prices in any currency, which are then compared by
+ * their amounts alone.
+ */
+class PriceIndex {
+
+    private final NavigableMap<Long, Set<Name>> namesByAmount = new TreeMap<>();
+    private final Map<String, NavigableMap<Long, Set<Name>>> namesByAmountByCurrency = new HashMap<>();
+    // the amounts of the indexed attractions in ascending order, by currency code, built since the index last changed
+    private final Map<String, long[]> sortedAmountsByCurrency = new HashMap<>();
+
+    /**
+     * Indexes the price of {@code attraction}.
+     */
+    void add(Attraction attraction) {
+        requireNonNull(attraction);
+        Price price = attraction.getPrice();
+        addTo(namesByAmount, price.getAmountInMinorUnits(), attraction.getName());
+        addTo(namesByAmountByCurrency.computeIfAbsent(price.getCurrencyCode(), unused -> new TreeMap<>()),
+                price.getAmountInMinorUnits(), attraction.getName());
+        sortedAmountsByCurrency.clear();
+    }
+
+    /**
+     * Removes the price of {@code attraction}, which must be indexed, from the index.
+     */
+    void remove(Attraction attraction) {
+        requireNonNull(attraction);
+        Price price = attraction.getPrice();
+        removeFrom(namesByAmount, price.getAmountInMinorUnits(), attraction.getName());
+        NavigableMap<Long, Set<Name>> currencyNamesByAmount = namesByAmountByCurrency.get(price.getCurrencyCode());
+        removeFrom(currencyNamesByAmount, price.getAmountInMinorUnits(), attraction.getName());
+        if (currencyNamesByAmount.isEmpty()) {
+            namesByAmountByCurrency.remove(price.getCurrencyCode());
+        }
+        sortedAmountsByCurrency.clear();
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code replacement}.
+     */
+    void setAll(PriceIndex replacement) {
+        requireNonNull(replacement);
+        clear();
+        copyInto(replacement.namesByAmount, namesByAmount);
+        replacement.namesByAmountByCurrency.forEach((currencyCode, currencyNamesByAmount) ->
+                copyInto(currencyNamesByAmount, namesByAmountByCurrency.computeIfAbsent(currencyCode, unused ->
+                        new TreeMap<>())));
+    }
+
+    void clear() {
+        namesByAmount.clear();
+        namesByAmountByCurrency.clear();
+        sortedAmountsByCurrency.clear();
+    }
+
+    /**
+     * Returns the names of the indexed attractions priced in {@code currencyCode} from {@code lowestAmount} to
+     * {@code highestAmount} minor units inclusive.
+     */
+    Set<Name> getNamesInRange(String currencyCode, long lowestAmount, long highestAmount) {
+        checkArgument(lowestAmount <= highestAmount, "The lowest amount should not exceed the highest amount");
+        Set<Name> names = new HashSet<>();
+        getNamesByAmount(currencyCode).subMap(lowestAmount, true, highestAmount, true).values().forEach(names::addAll);
+        return names;
+    }
+
+    /**
+     * Returns the names of the {@code count} cheapest indexed attractions priced in {@code currencyCode}, cheapest
+     * first. Attractions with the same amount are returned in the order they were indexed.
+     */
+    List<Name> getCheapest(String currencyCode, int count) {
+        checkArgument(count >= 0, "The number of attractions should not be negative");
+        List<Name> names = new ArrayList<>();
+        for (Set<Name> namesAtAmount : getNamesByAmount(currencyCode).values()) {
+            for (Name name : namesAtAmount) {
+                if (names.size() == count) {
+                    return names;
+                }
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Returns the names of all the indexed attractions in the order of their amounts, in any currency. Attractions
+     * with the same amount are returned in the order they were indexed, whichever the direction.
+     */
+    List<Name> getNamesInOrder(boolean isAscending) {
+        List<Name> names = new ArrayList<>();
+        (isAscending ? namesByAmount : namesByAmount.descendingMap()).values().forEach(names::addAll);
+        return names;
+    }
+
+    /**
+     * Returns the amount, in minor units, that {@code percent} percent of the indexed attractions priced in
+     * {@code currencyCode} are priced at or below, using the nearest-rank method. Returns an empty
+     * {@code OptionalLong} if no indexed attraction is priced in {@code currencyCode}.
+     */
+    OptionalLong getAmountAtPercentile(String currencyCode, int percent) {
+        checkArgument(percent > 0 && percent <= 100, "A percentile should be from 1 to 100");
+        long[] sortedAmounts = sortedAmountsByCurrency.computeIfAbsent(currencyCode, this::toSortedAmounts);
+        if (sortedAmounts.length == 0) {
+            return OptionalLong.empty();
+        }
+        // the smallest rank that is at least percent / 100 of the size
+        int rank = (int) (((long) percent * sortedAmounts.length + 99) / 100);
+        return OptionalLong.of(sortedAmounts[rank - 1]);
+    }
+
+    private long[] toSortedAmounts(String currencyCode) {
+        NavigableMap<Long, Set<Name>> source = getNamesByAmount(currencyCode);
+        int size = 0;
+        for (Set<Name> names : source.values()) {
+            size += names.size();
+        }
+        long[] sortedAmounts = new long[size];
+        int i = 0;
+        for (Map.Entry<Long, Set<Name>> entry : source.entrySet()) {
+            for (int j = 0; j < entry.getValue().size(); j++) {
+                sortedAmounts[i++] = entry.getKey();
+            }
+        }
+        return sortedAmounts;
+    }
+
+    private NavigableMap<Long, Set<Name>> getNamesByAmount(String currencyCode) {
+        requireNonNull(currencyCode);
+        return currencyCode.isEmpty()
+                ? namesByAmount
+                : namesByAmountByCurrency.getOrDefault(currencyCode, Collections.emptyNavigableMap());
+    }
+
+    private static void addTo(NavigableMap<Long, Set<Name>> namesByAmount, long amount, Name name) {
+        namesByAmount.computeIfAbsent(amount, unused -> new LinkedHashSet<>()).add(name);
+    }
+
+    private static void removeFrom(NavigableMap<Long, Set<Name>> namesByAmount, long amount, Name name) {
+        Set<Name> names = namesByAmount.get(amount);
+        assert names != null && names.contains(name);
+        names.remove(name);
+        if (names.isEmpty()) {
+            namesByAmount.remove(amount);
+        }
+    }
+
+    private static void copyInto(NavigableMap<Long, Set<Name>> source, NavigableMap<Long, Set<Name>> target) {
+        source.forEach((amount, names) -> target.put(amount, new LinkedHashSet<>(names)));
+    }
+}
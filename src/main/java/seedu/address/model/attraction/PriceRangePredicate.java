@@ -0,0 +1,102 @@
+package seedu.address.model.attraction;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that an {@code Attraction}'s {@code Price} is within a range, inclusive of both ends.
+ * If either end of the range has a currency, only attractions priced in that currency match. Otherwise, prices in any
+ * currency are compared by amount.
+ */
+public class PriceRangePredicate implements Predicate<Attraction> {
+
+    public static final String MESSAGE_CONSTRAINTS = "The lowest price should not be more than the highest price, "
+            + "and both prices should be in the same currency";
+
+    private final Price lowest;
+    private final Price highest;
+    private final String currencyCode;
+
+    /**
+     * Constructs a predicate for attractions priced from {@code lowest} to {@code highest}.
+     * The prices must form a valid range as declared in {@link #isValidRange(Price, Price)}.
+     */
+    public PriceRangePredicate(Price lowest, Price highest) {
+        requireAllNonNull(lowest, highest);
+        checkArgument(isValidRange(lowest, highest), MESSAGE_CONSTRAINTS);
+        this.lowest = lowest;
+        this.highest = highest;
+        this.currencyCode = lowest.getCurrencyCode().isEmpty() ? highest.getCurrencyCode() : lowest.getCurrencyCode();
+    }
+
+    /**
+     * Returns a predicate for attractions priced at most {@code highest}.
+     */
+    public static PriceRangePredicate atMost(Price highest) {
+        return new PriceRangePredicate(new Price("0"), highest);
+    }
+
+    /**
+     * Returns true if {@code lowest} is not more than {@code highest}, and the prices do not have different
+     * currencies.
+     */
+    public static boolean isValidRange(Price lowest, Price highest) {
+        requireAllNonNull(lowest, highest);
+        boolean hasSameCurrency = lowest.getCurrencyCode().isEmpty() || highest.getCurrencyCode().isEmpty()
+                || lowest.getCurrencyCode().equals(highest.getCurrencyCode());
+        return hasSameCurrency && lowest.getAmountInMinorUnits() <= highest.getAmountInMinorUnits();
+    }
+
+    /**
+     * Returns the currency of the range, or an empty string if prices in any currency match.
+     */
+    public String getCurrencyCode() {
+        return currencyCode;
+    }
+
+    public long getLowestAmountInMinorUnits() {
+        return lowest.getAmountInMinorUnits();
+    }
+
+    public long getHighestAmountInMinorUnits() {
+        return highest.getAmountInMinorUnits();
+    }
+
+    @Override
+    public boolean test(Attraction attraction) {
+        Price price = attraction.getPrice();
+        return (currencyCode.isEmpty() || currencyCode.equals(price.getCurrencyCode()))
+                && lowest.getAmountInMinorUnits() <= price.getAmountInMinorUnits()
+                && price.getAmountInMinorUnits() <= highest.getAmountInMinorUnits();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PriceRangePredicate)) {
+            return false;
+        }
+
+        PriceRangePredicate otherPriceRangePredicate = (PriceRangePredicate) other;
+        return lowest.equals(otherPriceRangePredicate.lowest) && highest.equals(otherPriceRangePredicate.highest);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lowest, highest);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("lowest", lowest).add("highest", highest).toString();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.attraction;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isIntegerInRange;
 
 /**
  * Represents an attraction's priority number in the Maplet.
@@ -12,8 +13,11 @@ public class Priority {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Priority level should be from a number from 1 - 10";
+    public static final int MIN_LEVEL = 1;
+    public static final int MAX_LEVEL = 10;
     public static final String VALIDATION_REGEX = "\\b([1-9]|10)\\b";
     public final String value;
+    private final int level;
 
     /**
      * Constructs a {@code Priority}.
@@ -24,13 +28,21 @@ public class Priority {
         requireNonNull(priority);
         checkArgument(isValidPriority(priority), MESSAGE_CONSTRAINTS);
         value = priority;
+        level = Integer.parseInt(priority);
     }
 
     /**
      * Returns true if a given string is a valid priority number.
      */
     public static boolean isValidPriority(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isIntegerInRange(test, MIN_LEVEL, MAX_LEVEL);
+    }
+
+    /**
+     * Returns the priority level, from 1 to 10.
+     */
+    public int getLevel() {
+        return level;
     }
 
     @Override
@@ -50,12 +62,12 @@ public class Priority {
         }
 
         Priority otherPriority = (Priority) other;
-        return value.equals(otherPriority.value);
+        return level == otherPriority.level;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(level);
     }
 
 }
@@ -0,0 +1,183 @@
+package seedu.address.model.attraction;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.TagQuery;
+
+/**
+ * A single condition of an {@code AttractionQuery}, such as {@code price<20}.
+ * Terms are compared by their description, which is the condition as the user would type it.
+ */
+public class QueryTerm implements Predicate<Attraction> {
+
+    /**
+     * A comparison between an attraction's value and the value given in a term.
+     */
+    public enum Comparison {
+        LESS_THAN("<"),
+        AT_MOST("<="),
+        EQUAL_TO("="),
+        AT_LEAST(">="),
+        GREATER_THAN(">");
+
+        public final String symbol;
+
+        Comparison(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * Returns true if the comparison holds, given the result of comparing the attraction's value to the term's.
+         */
+        boolean holds(int comparisonResult) {
+            switch (this) {
+            case LESS_THAN:
+                return comparisonResult < 0;
+            case AT_MOST:
+                return comparisonResult <= 0;
+            case EQUAL_TO:
+                return comparisonResult == 0;
+            case AT_LEAST:
+                return comparisonResult >= 0;
+            default:
+                return comparisonResult > 0;
+            }
+        }
+    }
+
+    private final String description;
+    private final Predicate<Attraction> condition;
+    // the condition of a term that only tests tags, which can be answered by a tag index instead
+    private final TagQuery tagQuery;
+
+    private QueryTerm(String description, Predicate<Attraction> condition, TagQuery tagQuery) {
+        this.description = description;
+        this.condition = condition;
+        this.tagQuery = tagQuery;
+    }
+
+    private QueryTerm(String description, Predicate<Attraction> condition) {
+        this(description, condition, null);
+    }
+
+    /**
+     * Returns a term that matches attractions whose tags satisfy {@code tagQuery}.
+     */
+    public static QueryTerm matchesTags(TagQuery tagQuery) {
+        requireNonNull(tagQuery);
+        return new QueryTerm(tagQuery.toString(), attraction -> tagQuery.test(attraction.getTags()), tagQuery);
+    }
+
+    /**
+     * Returns a term that matches the attractions named in {@code names}, described as {@code description}.
+     */
+    static QueryTerm isNamedIn(String description, Set<Name> names) {
+        requireAllNonNull(description, names);
+        return new QueryTerm(description, attraction -> names.contains(attraction.getName()));
+    }
+
+    /**
+     * Returns a term that matches attractions whose price compares to {@code price} as given.
+     * If {@code price} has a currency, only attractions priced in the same currency match.
+     */
+    public static QueryTerm comparePrice(Comparison comparison, Price price) {
+        requireAllNonNull(comparison, price);
+        String currencyCode = price.getCurrencyCode();
+        long amount = price.getAmountInMinorUnits();
+        return new QueryTerm("price" + comparison.symbol + price.value, attraction -> {
+            Price attractionPrice = attraction.getPrice();
+            return (currencyCode.isEmpty() || currencyCode.equals(attractionPrice.getCurrencyCode()))
+                    && comparison.holds(Long.compare(attractionPrice.getAmountInMinorUnits(), amount));
+        });
+    }
+
+    /**
+     * Returns a term that matches attractions whose priority compares to {@code priority} as given.
+     */
+    public static QueryTerm comparePriority(Comparison comparison, Priority priority) {
+        requireAllNonNull(comparison, priority);
+        int level = priority.getLevel();
+        return new QueryTerm("priority" + comparison.symbol + priority.value, attraction ->
+                comparison.holds(Integer.compare(attraction.getPriority().getLevel(), level)));
+    }
+
+    /**
+     * Returns a term that matches attractions that are open at {@code time}, in the HHMM 24-hour format.
+     */
+    public static QueryTerm isOpenAt(String time) {
+        requireNonNull(time);
+        int minuteOfDay = OpeningHours.toMinuteOfDay(time);
+        return new QueryTerm("open:" + time, attraction -> attraction.getOpeningHours().isOpenAt(minuteOfDay));
+    }
+
+    /**
+     * Returns a term that matches attractions whose address contains {@code text}, ignoring case.
+     */
+    public static QueryTerm addressContains(String text) {
+        requireNonNull(text);
+        String foldedText = fold(text);
+        return new QueryTerm("address:" + quoteIfNeeded(text), attraction ->
+                fold(attraction.getAddress().value).contains(foldedText));
+    }
+
+    /**
+     * Returns a term that matches attractions with a comment that contains {@code text}, ignoring case.
+     */
+    public static QueryTerm commentContains(String text) {
+        requireNonNull(text);
+        String foldedText = fold(text);
+        return new QueryTerm("comment:" + quoteIfNeeded(text), attraction -> attraction.getComments().stream()
+                .anyMatch(comment -> fold(comment.comment).contains(foldedText)));
+    }
+
+    /**
+     * Returns the condition of this term if it only tests the tags of attractions.
+     */
+    public Optional<TagQuery> getTagQuery() {
+        return Optional.ofNullable(tagQuery);
+    }
+
+    @Override
+    public boolean test(Attraction attraction) {
+        return condition.test(attraction);
+    }
+
+    private static String fold(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static String quoteIfNeeded(String text) {
+        return text.chars().anyMatch(Character::isWhitespace) ? "\"" + text + "\"" : text;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryTerm)) {
+            return false;
+        }
+
+        QueryTerm otherQueryTerm = (QueryTerm) other;
+        return description.equals(otherQueryTerm.description);
+    }
+
+    @Override
+    public int hashCode() {
+        return description.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
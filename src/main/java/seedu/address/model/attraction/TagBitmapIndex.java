@@ -0,0 +1,155 @@
+package seedu.address.model.attraction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
+
+/**
+ * An index from tags to the attractions that have them, which answers {@code TagQuery}s with bitmap operations.
+ *
+ * Every attraction is given a small ordinal, which is reused once the attraction is removed, and every tag is given a
+ * dense id the first time it is seen. The attractions with each tag are kept as a bitmap of ordinals, indexed by tag
+ * id. Tag ids are never reclaimed, so the bitmap of a tag that is no longer used is simply empty.
+ */
+class TagBitmapIndex {
+
+    private final Map<Tag, Integer> tagIds = new HashMap<>();
+    private final List<BitSet> bitmapsByTagId = new ArrayList<>();
+    private final Map<Name, Integer> ordinalsByName = new HashMap<>();
+    private final List<Name> namesByOrdinal = new ArrayList<>();
+    private final BitSet usedOrdinals = new BitSet();
+    // every ordinal below this one is in use
+    private int lowestFreeOrdinal = 0;
+
+    /**
+     * Indexes the tags of {@code attraction}, which must not already be indexed.
+     */
+    void add(Attraction attraction) {
+        requireNonNull(attraction);
+        assert !ordinalsByName.containsKey(attraction.getName());
+
+        int ordinal = usedOrdinals.nextClearBit(lowestFreeOrdinal);
+        usedOrdinals.set(ordinal);
+        lowestFreeOrdinal = ordinal + 1;
+        if (ordinal == namesByOrdinal.size()) {
+            namesByOrdinal.add(attraction.getName());
+        } else {
+            namesByOrdinal.set(ordinal, attraction.getName());
+        }
+        ordinalsByName.put(attraction.getName(), ordinal);
+        for (Tag tag : attraction.getTags()) {
+            getOrCreateBitmap(tag).set(ordinal);
+        }
+    }
+
+    /**
+     * Removes the tags of {@code attraction}, which must be indexed, from the index.
+     */
+    void remove(Attraction attraction) {
+        requireNonNull(attraction);
+        Integer ordinal = ordinalsByName.remove(attraction.getName());
+        assert ordinal != null;
+
+        for (Tag tag : attraction.getTags()) {
+            getOrCreateBitmap(tag).clear(ordinal);
+        }
+        namesByOrdinal.set(ordinal, null);
+        usedOrdinals.clear(ordinal);
+        lowestFreeOrdinal = Math.min(lowestFreeOrdinal, ordinal);
+    }
+
+    /**
+     * Replaces the indexed {@code target} with {@code editedAttraction}, keeping the ordinal of {@code target} and
+     * updating only the bitmaps of the tags that were added or removed.
+     */
+    void replace(Attraction target, Attraction editedAttraction) {
+        requireNonNull(target);
+        requireNonNull(editedAttraction);
+        Integer ordinal = ordinalsByName.remove(target.getName());
+        assert ordinal != null;
+
+        ordinalsByName.put(editedAttraction.getName(), ordinal);
+        namesByOrdinal.set(ordinal, editedAttraction.getName());
+        for (Tag tag : target.getTags()) {
+            if (!editedAttraction.getTags().contains(tag)) {
+                getOrCreateBitmap(tag).clear(ordinal);
+            }
+        }
+        for (Tag tag : editedAttraction.getTags()) {
+            getOrCreateBitmap(tag).set(ordinal);
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code replacement}.
+     */
+    void setAll(TagBitmapIndex replacement) {
+        requireNonNull(replacement);
+        clear();
+        tagIds.putAll(replacement.tagIds);
+        replacement.bitmapsByTagId.forEach(bitmap -> bitmapsByTagId.add((BitSet) bitmap.clone()));
+        ordinalsByName.putAll(replacement.ordinalsByName);
+        namesByOrdinal.addAll(replacement.namesByOrdinal);
+        usedOrdinals.or(replacement.usedOrdinals);
+        lowestFreeOrdinal = replacement.lowestFreeOrdinal;
+    }
+
+    void clear() {
+        tagIds.clear();
+        bitmapsByTagId.clear();
+        ordinalsByName.clear();
+        namesByOrdinal.clear();
+        usedOrdinals.clear();
+        lowestFreeOrdinal = 0;
+    }
+
+    /**
+     * Returns the names of the indexed attractions whose tags satisfy {@code query}.
+     */
+    Set<Name> getNamesMatching(TagQuery query) {
+        requireNonNull(query);
+        BitSet matches = (BitSet) usedOrdinals.clone();
+        for (Set<Tag> clause : query.getInclusions()) {
+            matches.and(union(clause));
+        }
+        for (Set<Tag> clause : query.getExclusions()) {
+            matches.andNot(union(clause));
+        }
+
+        Set<Name> names = new HashSet<>();
+        for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+            names.add(namesByOrdinal.get(ordinal));
+        }
+        return names;
+    }
+
+    private BitSet union(Set<Tag> tags) {
+        BitSet union = new BitSet();
+        for (Tag tag : tags) {
+            Integer tagId = tagIds.get(tag);
+            if (tagId != null) {
+                union.or(bitmapsByTagId.get(tagId));
+            }
+        }
+        return union;
+    }
+
+    private BitSet getOrCreateBitmap(Tag tag) {
+        Integer tagId = tagIds.get(tag);
+        if (tagId == null) {
+            tagId = bitmapsByTagId.size();
+            tagIds.put(tag, tagId);
+            bitmapsByTagId.add(new BitSet());
+        }
+        return bitmapsByTagId.get(tagId);
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.model.attraction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from the trigrams of a text field of attractions, such as their names, to the attractions that contain them.
+ *
+ * The trigrams of a text are the three-character substrings of each of its words, case-folded and padded with two
+ * spaces in front and one behind, so "Bay" has the trigrams "  b", " ba", "bay" and "ay ". Texts that differ by a typo
+ * still share most of their trigrams, which makes the index suitable for finding approximate matches.
+ */
+class TrigramIndex {
+
+    private final Map<String, Set<Name>> namesByTrigram = new HashMap<>();
+    private final Map<Name, Integer> trigramCounts = new HashMap<>();
+
+    /**
+     * Indexes the trigrams of {@code text}, the indexed field of the attraction named {@code name}.
+     */
+    void add(Name name, String text) {
+        requireNonNull(name);
+        Set<String> trigrams = toTrigrams(text);
+        for (String trigram : trigrams) {
+            namesByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(name);
+        }
+        trigramCounts.put(name, trigrams.size());
+    }
+
+    /**
+     * Removes the trigrams of {@code text}, the indexed field of the attraction named {@code name}, from the index.
+     */
+    void remove(Name name, String text) {
+        requireNonNull(name);
+        for (String trigram : toTrigrams(text)) {
+            Set<Name> names = namesByTrigram.get(trigram);
+            if (names == null) {
+                continue;
+            }
+            names.remove(name);
+            if (names.isEmpty()) {
+                namesByTrigram.remove(trigram);
+            }
+        }
+        trigramCounts.remove(name);
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code replacement}.
+     */
+    void setAll(TrigramIndex replacement) {
+        requireNonNull(replacement);
+        clear();
+        replacement.namesByTrigram.forEach((trigram, names) -> namesByTrigram.put(trigram, new HashSet<>(names)));
+        trigramCounts.putAll(replacement.trigramCounts);
+    }
+
+    void clear() {
+        namesByTrigram.clear();
+        trigramCounts.clear();
+    }
+
+    /**
+     * Returns the similarity of each indexed text that contains at least {@code minContainment} of the trigrams of
+     * {@code query}, keyed by the name of its attraction. The similarity is the Jaccard index of the trigrams of the
+     * text and the query, from 0 exclusive to 1 inclusive.
+     *
+     * Only the postings of the rarest trigrams of the query are read in full. A text that shares enough trigrams with
+     * the query must share at least one of the rarest of them, so every other trigram is only checked against the
+     * texts found that way.
+     */
+    Map<Name, Double> getSimilarities(String query, double minContainment) {
+        requireNonNull(query);
+        List<String> queryTrigrams = new ArrayList<>(toTrigrams(query));
+        if (queryTrigrams.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        int minSharedTrigrams = getMinSharedTrigrams(queryTrigrams, minContainment);
+        Map<Name, Double> similarities = new HashMap<>();
+        for (Name candidate : getCandidates(queryTrigrams, minContainment)) {
+            int sharedTrigrams = 0;
+            for (String trigram : queryTrigrams) {
+                if (getNames(trigram).contains(candidate)) {
+                    sharedTrigrams++;
+                }
+            }
+            if (sharedTrigrams >= minSharedTrigrams) {
+                int unionSize = queryTrigrams.size() + trigramCounts.get(candidate) - sharedTrigrams;
+                similarities.put(candidate, (double) sharedTrigrams / unionSize);
+            }
+        }
+        return similarities;
+    }
+
+    /**
+     * Returns the names of the texts that may contain at least {@code minContainment} of the trigrams of
+     * {@code query}: those that contain any of its rarest trigrams. Only these texts are compared to the query.
+     */
+    Set<Name> getCandidates(String query, double minContainment) {
+        requireNonNull(query);
+        return getCandidates(new ArrayList<>(toTrigrams(query)), minContainment);
+    }
+
+    /**
+     * Returns the candidates for {@code queryTrigrams}, as {@link #getCandidates(String, double)} does, and sorts
+     * {@code queryTrigrams} from the rarest to the most common.
+     */
+    private Set<Name> getCandidates(List<String> queryTrigrams, double minContainment) {
+        queryTrigrams.sort(Comparator.comparingInt(trigram -> getNames(trigram).size()));
+        int rarestTrigramCount = queryTrigrams.size() - getMinSharedTrigrams(queryTrigrams, minContainment) + 1;
+        Set<Name> candidates = new HashSet<>();
+        for (String trigram : queryTrigrams.subList(0, Math.max(0, rarestTrigramCount))) {
+            candidates.addAll(getNames(trigram));
+        }
+        return candidates;
+    }
+
+    private static int getMinSharedTrigrams(List<String> queryTrigrams, double minContainment) {
+        return Math.max(1, (int) Math.ceil(minContainment * queryTrigrams.size()));
+    }
+
+    private Set<Name> getNames(String trigram) {
+        return namesByTrigram.getOrDefault(trigram, Collections.emptySet());
+    }
+
+    /**
+     * Returns the distinct trigrams of the words of {@code text}.
+     */
+    static Set<String> toTrigrams(String text) {
+        requireNonNull(text);
+        Set<String> trigrams = new HashSet<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String paddedWord = "  " + word + " ";
+            for (int i = 0; i + 3 <= paddedWord.length(); i++) {
+                trigrams.add(paddedWord.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+}
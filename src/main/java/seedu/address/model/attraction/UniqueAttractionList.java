@@ -1,15 +1,27 @@
 package seedu.address.model.attraction;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.findDuplicateKeys;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.attraction.exceptions.AttractionNotFoundException;
 import seedu.address.model.attraction.exceptions.DuplicateAttractionException;
+import seedu.address.model.tag.TagQuery;
 
 /**
  * A list of attractions that enforces uniqueness between its elements and does not allow nulls.
@@ -19,22 +31,50 @@ import seedu.address.model.attraction.exceptions.DuplicateAttractionException;
  * a attraction uses Attraction#equals(Object) so as to ensure that the attraction with exactly the same fields will be
  * removed.
  *
+ * The position of each attraction is additionally indexed by {@code Name}, so identity lookups, replacements and
+ * removals do not need to scan the list. The index is updated before the backing list is modified, so listeners of
+ * the backing list always observe a consistent index.
+ * The cumulative price and priority of the attractions are maintained in the same way.
+ *
+ * The words and trigrams in the names, the trigrams in the addresses, the tags, the opening hours, the prices and the
+ * activities and comments of the attractions are indexed too, so that searches do not need to test every attraction.
+ * These indexes are only built the first time they are searched after the contents of the list are replaced, so that
+ * loading a large list is not slowed down by indexes that are never searched. Once built, they are kept up to date in
+ * the same way as the index by {@code Name}.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Attraction#isSameAttraction(Attraction)
  */
 public class UniqueAttractionList implements Iterable<Attraction> {
 
+    // the fraction of the trigrams of a fuzzy search that an approximate match must contain
+    private static final double MIN_TRIGRAM_CONTAINMENT = 0.5;
+
     private final ObservableList<Attraction> internalList = FXCollections.observableArrayList();
     private final ObservableList<Attraction> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // the position of each attraction in the backing list, by name
+    private final Map<Name, Integer> indexesByName = new HashMap<>();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    private final TagBitmapIndex tagBitmapIndex = new TagBitmapIndex();
+    private final OpeningHoursIndex openingHoursIndex = new OpeningHoursIndex();
+    private final PriceIndex priceIndex = new PriceIndex();
+    private final TrigramIndex nameTrigramIndex = new TrigramIndex();
+    private final TrigramIndex addressTrigramIndex = new TrigramIndex();
+    private final FullTextIndex fullTextIndex = new FullTextIndex();
+    private boolean areIndexesBuilt = true;
+
+    // summing prices in minor units avoids floating point drift
+    private long cumulativePriceInMinorUnits = 0;
+    private int cumulativePriority = 0;
 
     /**
      * Returns true if the list contains an equivalent attraction as the given argument.
      */
     public boolean contains(Attraction toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAttraction);
+        return indexesByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -46,6 +86,11 @@ public class UniqueAttractionList implements Iterable<Attraction> {
         if (contains(toAdd)) {
             throw new DuplicateAttractionException();
         }
+        indexesByName.put(toAdd.getName(), internalList.size());
+        if (areIndexesBuilt) {
+            addToIndexes(toAdd);
+        }
+        addToAggregates(toAdd);
         internalList.add(toAdd);
     }
 
@@ -58,15 +103,30 @@ public class UniqueAttractionList implements Iterable<Attraction> {
     public void setAttraction(Attraction target, Attraction editedAttraction) {
         requireAllNonNull(target, editedAttraction);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new AttractionNotFoundException();
-        }
-
+        int index = indexOf(target);
         if (!target.isSameAttraction(editedAttraction) && contains(editedAttraction)) {
             throw new DuplicateAttractionException();
         }
 
+        indexesByName.remove(target.getName());
+        indexesByName.put(editedAttraction.getName(), index);
+        if (areIndexesBuilt) {
+            nameTokenIndex.remove(target.getName());
+            nameTokenIndex.add(editedAttraction.getName());
+            tagBitmapIndex.replace(target, editedAttraction);
+            openingHoursIndex.remove(target);
+            openingHoursIndex.add(editedAttraction);
+            priceIndex.remove(target);
+            priceIndex.add(editedAttraction);
+            nameTrigramIndex.remove(target.getName(), target.getName().fullName);
+            nameTrigramIndex.add(editedAttraction.getName(), editedAttraction.getName().fullName);
+            addressTrigramIndex.remove(target.getName(), target.getAddress().value);
+            addressTrigramIndex.add(editedAttraction.getName(), editedAttraction.getAddress().value);
+            fullTextIndex.remove(target);
+            fullTextIndex.add(editedAttraction);
+        }
+        removeFromAggregates(target);
+        addToAggregates(editedAttraction);
         internalList.set(index, editedAttraction);
     }
 
@@ -76,13 +136,56 @@ public class UniqueAttractionList implements Iterable<Attraction> {
      */
     public void remove(Attraction toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        // the attractions after the removed one each move up by one
+        for (int i = index + 1; i < internalList.size(); i++) {
+            indexesByName.put(internalList.get(i).getName(), i - 1);
+        }
+        indexesByName.remove(toRemove.getName());
+        if (areIndexesBuilt) {
+            nameTokenIndex.remove(toRemove.getName());
+            tagBitmapIndex.remove(toRemove);
+            openingHoursIndex.remove(toRemove);
+            priceIndex.remove(toRemove);
+            nameTrigramIndex.remove(toRemove.getName(), toRemove.getName().fullName);
+            addressTrigramIndex.remove(toRemove.getName(), toRemove.getAddress().value);
+            fullTextIndex.remove(toRemove);
+        }
+        removeFromAggregates(toRemove);
+        internalList.remove(index);
+    }
+
+    /**
+     * Returns the position of {@code attraction} in the list.
+     *
+     * @throws AttractionNotFoundException if the list does not contain {@code attraction}.
+     */
+    private int indexOf(Attraction attraction) {
+        Integer index = indexesByName.get(attraction.getName());
+        if (index == null || !internalList.get(index).equals(attraction)) {
             throw new AttractionNotFoundException();
         }
+        return index;
     }
 
     public void setAttractions(UniqueAttractionList replacement) {
         requireNonNull(replacement);
+        indexesByName.clear();
+        indexesByName.putAll(replacement.indexesByName);
+        if (replacement.areIndexesBuilt) {
+            nameTokenIndex.setAll(replacement.nameTokenIndex);
+            tagBitmapIndex.setAll(replacement.tagBitmapIndex);
+            openingHoursIndex.setAll(replacement.openingHoursIndex);
+            priceIndex.setAll(replacement.priceIndex);
+            nameTrigramIndex.setAll(replacement.nameTrigramIndex);
+            addressTrigramIndex.setAll(replacement.addressTrigramIndex);
+            fullTextIndex.setAll(replacement.fullTextIndex);
+        } else {
+            clearIndexes();
+        }
+        areIndexesBuilt = replacement.areIndexesBuilt;
+        cumulativePriceInMinorUnits = replacement.cumulativePriceInMinorUnits;
+        cumulativePriority = replacement.cumulativePriority;
         internalList.setAll(replacement.internalList);
     }
 
@@ -92,29 +195,206 @@ public class UniqueAttractionList implements Iterable<Attraction> {
      */
     public void setAttractions(List<Attraction> attractions) {
         requireAllNonNull(attractions);
-        if (!attractionsAreUnique(attractions)) {
-            throw new DuplicateAttractionException();
+        Set<Name> duplicateNames = findDuplicateKeys(attractions, Attraction::getName);
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicateAttractionException(duplicateNames);
         }
 
+        indexesByName.clear();
+        for (int i = 0; i < attractions.size(); i++) {
+            indexesByName.put(attractions.get(i).getName(), i);
+        }
+        clearIndexes();
+        areIndexesBuilt = false;
+        cumulativePriceInMinorUnits = 0;
+        cumulativePriority = 0;
+        attractions.forEach(this::addToAggregates);
         internalList.setAll(attractions);
     }
 
+    /**
+     * Returns the names of the attractions in the list whose names contain any of {@code words}, ignoring case.
+     * The words are looked up in an index of attraction names, so this takes time proportional to the number of
+     * matches rather than the size of the list.
+     */
+    public Set<Name> findNamesContainingAnyWord(Collection<String> words) {
+        requireAllNonNull(words);
+        buildIndexesIfNeeded();
+        return nameTokenIndex.getNamesContainingAnyWord(words);
+    }
+
+    /**
+     * Returns the names of the attractions in the list whose tags satisfy {@code query}.
+     * The query is answered with operations on per-tag bitmaps of the attractions, rather than by checking the tags of
+     * every attraction.
+     */
+    public Set<Name> findNamesMatchingTags(TagQuery query) {
+        requireNonNull(query);
+        buildIndexesIfNeeded();
+        return tagBitmapIndex.getNamesMatching(query);
+    }
+
+    /**
+     * Returns the names of the attractions in the list that are open at every minute of {@code span}.
+     * Only the distinct opening hours that are open when {@code span} starts are checked, rather than every attraction.
+     *
+     * @see OpeningHours#isOpenThroughout(OpeningHours)
+     */
+    public Set<Name> findNamesOpenThroughout(OpeningHours span) {
+        requireNonNull(span);
+        buildIndexesIfNeeded();
+        return openingHoursIndex.getNamesOpenThroughout(span);
+    }
+
+    /**
+     * Returns the names of the attractions in the list whose prices match {@code range}.
+     * The range is looked up in a sorted index of prices, rather than by checking the price of every attraction.
+     */
+    public Set<Name> findNamesPricedWithin(PriceRangePredicate range) {
+        requireNonNull(range);
+        buildIndexesIfNeeded();
+        return priceIndex.getNamesInRange(range.getCurrencyCode(), range.getLowestAmountInMinorUnits(),
+                range.getHighestAmountInMinorUnits());
+    }
+
+    /**
+     * Returns the names of the attractions in the list priced in {@code currencyCode} at or below the
+     * {@code percent}-th percentile of their prices. If {@code currencyCode} is empty, the prices of all attractions
+     * are compared by amount, whatever their currencies.
+     */
+    public Set<Name> findNamesInCheapestPercent(String currencyCode, int percent) {
+        requireNonNull(currencyCode);
+        buildIndexesIfNeeded();
+        OptionalLong highestAmount = priceIndex.getAmountAtPercentile(currencyCode, percent);
+        if (highestAmount.isEmpty()) {
+            return new HashSet<>();
+        }
+        return priceIndex.getNamesInRange(currencyCode, 0, highestAmount.getAsLong());
+    }
+
+    /**
+     * Returns the names of the {@code count} cheapest attractions in the list priced in {@code currencyCode}, cheapest
+     * first. If {@code currencyCode} is empty, the prices of all attractions are compared by amount, whatever their
+     * currencies.
+     */
+    public List<Name> findCheapestNames(String currencyCode, int count) {
+        requireNonNull(currencyCode);
+        buildIndexesIfNeeded();
+        return priceIndex.getCheapest(currencyCode, count);
+    }
+
+    /**
+     * Returns the names of all the attractions in the list in the order of the amounts of their prices, whatever
+     * their currencies. The names are read from the price index in order, rather than sorted.
+     */
+    public List<Name> findNamesInPriceOrder(boolean isAscending) {
+        buildIndexesIfNeeded();
+        return priceIndex.getNamesInOrder(isAscending);
+    }
+
+    /**
+     * Returns the names of at most {@code limit} attractions whose names or addresses approximately match
+     * {@code query}, most similar first.
+     * Names and addresses are compared to the query by the Jaccard index of their trigrams, and an attraction matches
+     * if its name or address contains at least half of the trigrams of the query. Attractions that are equally similar
+     * are ordered by name.
+     */
+    public List<Name> findNamesSimilarTo(String query, int limit) {
+        requireNonNull(query);
+        checkArgument(limit >= 0, "The number of attractions should not be negative");
+        buildIndexesIfNeeded();
+        Map<Name, Double> similarities = new HashMap<>(
+                nameTrigramIndex.getSimilarities(query, MIN_TRIGRAM_CONTAINMENT));
+        addressTrigramIndex.getSimilarities(query, MIN_TRIGRAM_CONTAINMENT).forEach((name, similarity) ->
+                similarities.merge(name, similarity, Math::max));
+        return getHighestScoring(similarities, limit);
+    }
+
+    /**
+     * Returns the names of at most {@code limit} attractions whose activities or comments mention any term of
+     * {@code query}, most relevant first.
+     * Terms are case-folded and common English stopwords are ignored. Attractions are ranked by BM25, so terms that
+     * few attractions mention count for more, and attractions that are equally relevant are ordered by name.
+     */
+    public List<Name> findNamesMentioning(String query, int limit) {
+        requireNonNull(query);
+        checkArgument(limit >= 0, "The number of attractions should not be negative");
+        buildIndexesIfNeeded();
+        return getHighestScoring(fullTextIndex.getScores(query), limit);
+    }
+
+    /**
+     * Returns the {@code limit} names with the highest {@code scores}, highest first, breaking ties by name.
+     */
+    private static List<Name> getHighestScoring(Map<Name, Double> scores, int limit) {
+        Comparator<Map.Entry<Name, Double>> highestFirst = Map.Entry.<Name, Double>comparingByValue().reversed()
+                .thenComparing(entry -> entry.getKey().fullName);
+        // keeps the highest scoring entries seen so far, with the lowest scoring of them at the head
+        PriorityQueue<Map.Entry<Name, Double>> highestScoring = new PriorityQueue<>(highestFirst.reversed());
+        for (Map.Entry<Name, Double> entry : scores.entrySet()) {
+            highestScoring.add(entry);
+            if (highestScoring.size() > limit) {
+                highestScoring.poll();
+            }
+        }
+
+        List<Map.Entry<Name, Double>> ranked = new ArrayList<>(highestScoring);
+        ranked.sort(highestFirst);
+        List<Name> names = new ArrayList<>();
+        ranked.forEach(entry -> names.add(entry.getKey()));
+        return names;
+    }
+
+    private void buildIndexesIfNeeded() {
+        if (areIndexesBuilt) {
+            return;
+        }
+        internalList.forEach(this::addToIndexes);
+        areIndexesBuilt = true;
+    }
+
+    private void addToIndexes(Attraction attraction) {
+        nameTokenIndex.add(attraction.getName());
+        tagBitmapIndex.add(attraction);
+        openingHoursIndex.add(attraction);
+        priceIndex.add(attraction);
+        nameTrigramIndex.add(attraction.getName(), attraction.getName().fullName);
+        addressTrigramIndex.add(attraction.getName(), attraction.getAddress().value);
+        fullTextIndex.add(attraction);
+    }
+
+    private void clearIndexes() {
+        nameTokenIndex.clear();
+        tagBitmapIndex.clear();
+        openingHoursIndex.clear();
+        priceIndex.clear();
+        nameTrigramIndex.clear();
+        addressTrigramIndex.clear();
+        fullTextIndex.clear();
+    }
+
     /**
      * Returns the cumulative price of all attractions in the list.
      */
     public double getCumulativeAttractionPrice() {
-        return internalList.stream()
-                .mapToDouble(attraction -> Double.parseDouble(attraction.getPrice().value))
-                .sum();
+        return (double) cumulativePriceInMinorUnits / Price.MINOR_UNITS_PER_UNIT;
     }
 
     /**
      * Returns the cumulative priority of all attractions in the list.
      */
     public int getCumulativeAttractionPriority() {
-        return internalList.stream()
-                .mapToInt(attraction -> Integer.parseInt(attraction.getPriority().value))
-                .sum();
+        return cumulativePriority;
+    }
+
+    private void addToAggregates(Attraction attraction) {
+        cumulativePriceInMinorUnits += attraction.getPrice().getAmountInMinorUnits();
+        cumulativePriority += attraction.getPriority().getLevel();
+    }
+
+    private void removeFromAggregates(Attraction attraction) {
+        cumulativePriceInMinorUnits -= attraction.getPrice().getAmountInMinorUnits();
+        cumulativePriority -= attraction.getPriority().getLevel();
     }
 
     /**
@@ -126,7 +406,8 @@ public class UniqueAttractionList implements Iterable<Attraction> {
 
     @Override
     public Iterator<Attraction> iterator() {
-        return internalList.iterator();
+        // iterate over the unmodifiable view so that Iterator#remove cannot bypass the name index
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -153,18 +434,4 @@ public class UniqueAttractionList implements Iterable<Attraction> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code attractions} contains only unique attractions.
-     */
-    private boolean attractionsAreUnique(List<Attraction> attractions) {
-        for (int i = 0; i < attractions.size() - 1; i++) {
-            for (int j = i + 1; j < attractions.size(); j++) {
-                if (attractions.get(i).isSameAttraction(attractions.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
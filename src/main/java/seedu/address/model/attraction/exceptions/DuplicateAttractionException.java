@@ -1,5 +1,7 @@
 package seedu.address.model.attraction.exceptions;
 
+import java.util.Collection;
+
 /**
  * Signals that the operation will result in duplicate Attractions (Attractions are considered duplicates if they have
  * the same identity).
@@ -8,4 +10,11 @@ public class DuplicateAttractionException extends RuntimeException {
     public DuplicateAttractionException() {
         super("Operation would result in duplicate attractions");
     }
+
+    /**
+     * Constructs a {@code DuplicateAttractionException} that names every duplicated key in {@code duplicateKeys}.
+     */
+    public DuplicateAttractionException(Collection<?> duplicateKeys) {
+        super("Operation would result in duplicate attractions: " + duplicateKeys);
+    }
 }
@@ -62,14 +62,6 @@ public class Itinerary {
         return attractions.contains(attraction);
     }
 
-    public void addAttraction(Attraction attraction) {
-        attractions.add(attraction);
-    }
-
-    public void removeAttraction(Attraction attraction) {
-        attractions.remove(attraction);
-    }
-
     /**
      * Returns true if both itineraries have the same name.
      */
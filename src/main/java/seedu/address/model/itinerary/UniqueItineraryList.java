@@ -1,26 +1,37 @@
 package seedu.address.model.itinerary;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicateKeys;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.itinerary.exceptions.DuplicateItineraryException;
 import seedu.address.model.itinerary.exceptions.ItineraryNotFoundException;
+import seedu.address.model.util.BatchedObservableList;
 
 /**
  * A list of itineraries that enforces uniqueness between its elements and does
  * not allow nulls. An itinerary is considered unique by comparing using
  * {@link Itinerary#isSameItinerary(Itinerary)}. Duplicated logic from
  * UniqueAttractionList.
+ *
+ * Itineraries are additionally indexed by {@code ItineraryName}, so identity lookups do not need to scan the list.
  */
 public class UniqueItineraryList implements Iterable<Itinerary> {
 
-    private final ObservableList<Itinerary> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Itinerary> internalList = new BatchedObservableList<>();
     private final ObservableList<Itinerary> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // the position of each itinerary in the backing list, by name
+    private final Map<ItineraryName, Integer> indexesByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent itinerary as the given
@@ -28,7 +39,7 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
      */
     public boolean contains(Itinerary toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameItinerary);
+        return indexesByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -40,6 +51,7 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
         if (contains(toAdd)) {
             throw new DuplicateItineraryException();
         }
+        indexesByName.put(toAdd.getName(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -49,24 +61,61 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
     public void setItinerary(Itinerary target, Itinerary editedItinerary) {
         requireNonNull(target);
         requireNonNull(editedItinerary);
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new ItineraryNotFoundException();
-        }
+        int index = indexOf(target);
         if (!target.isSameItinerary(editedItinerary) && contains(editedItinerary)) {
             throw new DuplicateItineraryException();
         }
+        indexesByName.remove(target.getName());
+        indexesByName.put(editedItinerary.getName(), index);
         internalList.set(index, editedItinerary);
     }
 
+    /**
+     * Replaces every itinerary whose name is in {@code names} with the result of applying {@code updater} to it.
+     * {@code updater} must not change the name of an itinerary. All replacements are reported as a single change.
+     * The itineraries are looked up by name, so the rest of the list is not visited.
+     */
+    public void updateItineraries(Set<ItineraryName> names, UnaryOperator<Itinerary> updater) {
+        requireAllNonNull(names, updater);
+        internalList.batch(() -> {
+            for (ItineraryName name : names) {
+                Integer index = indexesByName.get(name);
+                if (index == null) {
+                    continue;
+                }
+                Itinerary itinerary = internalList.get(index);
+                Itinerary updatedItinerary = updater.apply(itinerary);
+                assert updatedItinerary.isSameItinerary(itinerary);
+                internalList.set(index, updatedItinerary);
+            }
+        });
+    }
+
     /**
      * Removes the equivalent itinerary from the list.
      */
     public void remove(Itinerary toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        // the itineraries after the removed one each move up by one
+        for (int i = index + 1; i < internalList.size(); i++) {
+            indexesByName.put(internalList.get(i).getName(), i - 1);
+        }
+        indexesByName.remove(toRemove.getName());
+        internalList.remove(index);
+    }
+
+    /**
+     * Returns the position of {@code itinerary} in the list.
+     *
+     * @throws ItineraryNotFoundException if the list does not contain {@code itinerary}.
+     */
+    private int indexOf(Itinerary itinerary) {
+        Integer index = indexesByName.get(itinerary.getName());
+        if (index == null || !internalList.get(index).equals(itinerary)) {
             throw new ItineraryNotFoundException();
         }
+        return index;
     }
 
     /**
@@ -74,6 +123,8 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
      */
     public void setItineraries(UniqueItineraryList replacement) {
         requireNonNull(replacement);
+        indexesByName.clear();
+        indexesByName.putAll(replacement.indexesByName);
         internalList.setAll(replacement.internalList);
     }
 
@@ -82,8 +133,13 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
      */
     public void setItineraries(List<Itinerary> itineraries) {
         requireNonNull(itineraries);
-        if (!itinerariesAreUnique(itineraries)) {
-            throw new DuplicateItineraryException();
+        Set<ItineraryName> duplicateNames = findDuplicateKeys(itineraries, Itinerary::getName);
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicateItineraryException(duplicateNames);
+        }
+        indexesByName.clear();
+        for (int i = 0; i < itineraries.size(); i++) {
+            indexesByName.put(itineraries.get(i).getName(), i);
         }
         internalList.setAll(itineraries);
     }
@@ -121,15 +177,4 @@ public class UniqueItineraryList implements Iterable<Itinerary> {
     public String toString() {
         return internalList.toString();
     }
-
-    private boolean itinerariesAreUnique(List<Itinerary> itineraries) {
-        for (int i = 0; i < itineraries.size() - 1; i++) {
-            for (int j = i + 1; j < itineraries.size(); j++) {
-                if (itineraries.get(i).isSameItinerary(itineraries.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
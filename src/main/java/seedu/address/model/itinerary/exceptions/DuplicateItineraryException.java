@@ -1,5 +1,7 @@
 package seedu.address.model.itinerary.exceptions;
 
+import java.util.Collection;
+
 /**
  * Signals that the operation will result in duplicate Itinerary objects.
  */
@@ -7,5 +9,12 @@ public class DuplicateItineraryException extends RuntimeException {
     public DuplicateItineraryException() {
         super("Operation would result in duplicate itineraries");
     }
+
+    /**
+     * Constructs a {@code DuplicateItineraryException} that names every duplicated key in {@code duplicateKeys}.
+     */
+    public DuplicateItineraryException(Collection<?> duplicateKeys) {
+        super("Operation would result in duplicate itineraries: " + duplicateKeys);
+    }
 }
 
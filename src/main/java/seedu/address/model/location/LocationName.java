@@ -2,6 +2,7 @@ package seedu.address.model.location;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumericWords;
 
 import java.util.Locale;
 
@@ -37,7 +38,7 @@ public class LocationName {
      * Returns true if a given string is a valid location name.
      */
     public static boolean isValidLocationName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isAlphanumericWords(test);
     }
 
     @Override
@@ -1,15 +1,21 @@
 package seedu.address.model.location;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicateKeys;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.location.exceptions.DuplicateLocationException;
 import seedu.address.model.location.exceptions.LocationNotFoundException;
+import seedu.address.model.util.BatchedObservableList;
 
 /**
  * A list of locations that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +24,26 @@ import seedu.address.model.location.exceptions.LocationNotFoundException;
  * added or updated is unique in terms of identity in the UniqueLocationList. However, the removal of a location uses
  * Location#equals(Object) so as to ensure that the location with exactly the same fields will be removed.
  *
+ * Locations are additionally indexed by {@code LocationName}, so identity lookups do not need to scan the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Location#isSameLocation(Location)
  */
 public class UniqueLocationList implements Iterable<Location> {
 
-    private final ObservableList<Location> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Location> internalList = new BatchedObservableList<>();
     private final ObservableList<Location> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // the position of each location in the backing list, by name
+    private final Map<LocationName, Integer> indexesByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent location as the given argument.
      */
     public boolean contains(Location toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameLocation);
+        return indexesByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -41,7 +51,7 @@ public class UniqueLocationList implements Iterable<Location> {
      */
     public boolean containsLocationName(LocationName locationName) {
         requireNonNull(locationName);
-        return internalList.stream().anyMatch(location -> location.getName().equals(locationName));
+        return indexesByName.containsKey(locationName);
     }
 
     /**
@@ -53,6 +63,7 @@ public class UniqueLocationList implements Iterable<Location> {
         if (contains(toAdd)) {
             throw new DuplicateLocationException();
         }
+        indexesByName.put(toAdd.getName(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -63,44 +74,85 @@ public class UniqueLocationList implements Iterable<Location> {
     public void setLocation(Location target, Location editedLocation) {
         requireAllNonNull(target, editedLocation);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new LocationNotFoundException();
-        }
-
+        int index = indexOf(target);
         if (!target.isSameLocation(editedLocation) && contains(editedLocation)) {
             throw new DuplicateLocationException();
         }
 
+        indexesByName.remove(target.getName());
+        indexesByName.put(editedLocation.getName(), index);
         internalList.set(index, editedLocation);
     }
 
+    /**
+     * Replaces every location whose name is in {@code names} with the result of applying {@code updater} to it.
+     * {@code updater} must not change the name of a location. All replacements are reported as a single change.
+     * The locations are looked up by name, so the rest of the list is not visited.
+     */
+    public void updateLocations(Set<LocationName> names, UnaryOperator<Location> updater) {
+        requireAllNonNull(names, updater);
+        internalList.batch(() -> {
+            for (LocationName name : names) {
+                Integer index = indexesByName.get(name);
+                if (index == null) {
+                    continue;
+                }
+                Location location = internalList.get(index);
+                Location updatedLocation = updater.apply(location);
+                assert updatedLocation.isSameLocation(location);
+                internalList.set(index, updatedLocation);
+            }
+        });
+    }
+
     /**
      * Removes the equivalent location from the list.
      * The location must exist in the list.
      */
     public void remove(Location toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new LocationNotFoundException();
-        }
+        removeAt(indexOf(toRemove));
     }
 
     /**
-     * Removes the location with the specified {@code locationName} from the list.
+     * Removes the location with the specified {@code locationName} from the list and returns it.
      * The location must exist in the list.
      */
-    public void remove(LocationName locationName) {
+    public Location remove(LocationName locationName) {
         requireNonNull(locationName);
-        Location locationToRemove = internalList.stream()
-                .filter(location -> location.getName().equals(locationName))
-                .findFirst()
-                .orElseThrow(LocationNotFoundException::new);
-        internalList.remove(locationToRemove);
+        Integer index = indexesByName.get(locationName);
+        if (index == null) {
+            throw new LocationNotFoundException();
+        }
+        return removeAt(index);
+    }
+
+    private Location removeAt(int index) {
+        // the locations after the removed one each move up by one
+        for (int i = index + 1; i < internalList.size(); i++) {
+            indexesByName.put(internalList.get(i).getName(), i - 1);
+        }
+        indexesByName.remove(internalList.get(index).getName());
+        return internalList.remove(index);
+    }
+
+    /**
+     * Returns the position of {@code location} in the list.
+     *
+     * @throws LocationNotFoundException if the list does not contain {@code location}.
+     */
+    private int indexOf(Location location) {
+        Integer index = indexesByName.get(location.getName());
+        if (index == null || !internalList.get(index).equals(location)) {
+            throw new LocationNotFoundException();
+        }
+        return index;
     }
 
     public void setLocations(UniqueLocationList replacement) {
         requireNonNull(replacement);
+        indexesByName.clear();
+        indexesByName.putAll(replacement.indexesByName);
         internalList.setAll(replacement.internalList);
     }
 
@@ -110,10 +162,15 @@ public class UniqueLocationList implements Iterable<Location> {
      */
     public void setLocations(List<Location> locations) {
         requireAllNonNull(locations);
-        if (!locationsAreUnique(locations)) {
-            throw new DuplicateLocationException();
+        Set<LocationName> duplicateNames = findDuplicateKeys(locations, Location::getName);
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicateLocationException(duplicateNames);
         }
 
+        indexesByName.clear();
+        for (int i = 0; i < locations.size(); i++) {
+            indexesByName.put(locations.get(i).getName(), i);
+        }
         internalList.setAll(locations);
     }
 
@@ -152,18 +209,4 @@ public class UniqueLocationList implements Iterable<Location> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code locations} contains only unique locations.
-     */
-    private boolean locationsAreUnique(List<Location> locations) {
-        for (int i = 0; i < locations.size() - 1; i++) {
-            for (int j = i + 1; j < locations.size(); j++) {
-                if (locations.get(i).isSameLocation(locations.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
@@ -1,5 +1,7 @@
 package seedu.address.model.location.exceptions;
 
+import java.util.Collection;
+
 /**
  * Signals that the operation will result in duplicate Locations (Locations are considered duplicates if they have the
  * same identity).
@@ -8,4 +10,11 @@ public class DuplicateLocationException extends RuntimeException {
     public DuplicateLocationException() {
         super("Operation would result in duplicate locations");
     }
+
+    /**
+     * Constructs a {@code DuplicateLocationException} that names every duplicated key in {@code duplicateKeys}.
+     */
+    public DuplicateLocationException(Collection<?> duplicateKeys) {
+        super("Operation would result in duplicate locations: " + duplicateKeys);
+    }
 }
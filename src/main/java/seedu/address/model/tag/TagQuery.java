@@ -0,0 +1,132 @@
+package seedu.address.model.tag;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A condition on the tags of an attraction, made up of clauses that must all hold.
+ * An inclusion clause holds if the attraction has any of the clause's tags, and an exclusion clause holds if the
+ * attraction has none of them. For example, the clauses {@code museum}, {@code free,cheap} and {@code -closed} describe
+ * attractions tagged {@code museum}, tagged {@code free} or {@code cheap}, and not tagged {@code closed}.
+ */
+public class TagQuery {
+
+    private final List<Set<Tag>> inclusions;
+    private final List<Set<Tag>> exclusions;
+
+    /**
+     * Constructs a {@code TagQuery} from the given inclusion and exclusion clauses. Each clause must not be empty.
+     */
+    public TagQuery(List<Set<Tag>> inclusions, List<Set<Tag>> exclusions) {
+        requireAllNonNull(inclusions, exclusions);
+        this.inclusions = copyClauses(inclusions);
+        this.exclusions = copyClauses(exclusions);
+    }
+
+    /**
+     * Returns a query that holds for attractions with all of the given tags.
+     */
+    public static TagQuery allOf(Tag... tags) {
+        List<Set<Tag>> inclusions = new ArrayList<>();
+        for (Tag tag : tags) {
+            inclusions.add(Set.of(tag));
+        }
+        return new TagQuery(inclusions, Collections.emptyList());
+    }
+
+    /**
+     * Returns a query that holds if both this query and {@code other} hold.
+     */
+    public TagQuery and(TagQuery other) {
+        List<Set<Tag>> combinedInclusions = new ArrayList<>(inclusions);
+        combinedInclusions.addAll(other.inclusions);
+        List<Set<Tag>> combinedExclusions = new ArrayList<>(exclusions);
+        combinedExclusions.addAll(other.exclusions);
+        return new TagQuery(combinedInclusions, combinedExclusions);
+    }
+
+    /**
+     * Returns the inclusion clauses. The attraction must have at least one tag from each of them.
+     */
+    public List<Set<Tag>> getInclusions() {
+        return inclusions;
+    }
+
+    /**
+     * Returns the exclusion clauses. The attraction must not have any tag from any of them.
+     */
+    public List<Set<Tag>> getExclusions() {
+        return exclusions;
+    }
+
+    /**
+     * Returns true if the query holds for an attraction with the given {@code tags}.
+     */
+    public boolean test(Set<Tag> tags) {
+        for (Set<Tag> clause : inclusions) {
+            if (Collections.disjoint(clause, tags)) {
+                return false;
+            }
+        }
+        for (Set<Tag> clause : exclusions) {
+            if (!Collections.disjoint(clause, tags)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Set<Tag>> copyClauses(List<Set<Tag>> clauses) {
+        List<Set<Tag>> copies = new ArrayList<>();
+        for (Set<Tag> clause : clauses) {
+            requireAllNonNull(clause);
+            if (clause.isEmpty()) {
+                throw new IllegalArgumentException("A tag clause should have at least one tag");
+            }
+            copies.add(Collections.unmodifiableSet(new LinkedHashSet<>(clause)));
+        }
+        return Collections.unmodifiableList(copies);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagQuery)) {
+            return false;
+        }
+
+        TagQuery otherTagQuery = (TagQuery) other;
+        return inclusions.equals(otherTagQuery.inclusions) && exclusions.equals(otherTagQuery.exclusions);
+    }
+
+    @Override
+    public int hashCode() {
+        return inclusions.hashCode() * 31 + exclusions.hashCode();
+    }
+
+    /**
+     * Formats the query as the conditions a user would type, e.g. {@code tag:museum tag:cheap,free -tag:closed}.
+     * The tags of each clause are listed in alphabetical order, so equal queries are formatted the same way.
+     */
+    @Override
+    public String toString() {
+        List<String> clauses = new ArrayList<>();
+        inclusions.forEach(clause -> clauses.add("tag:" + formatClause(clause)));
+        exclusions.forEach(clause -> clauses.add("-tag:" + formatClause(clause)));
+        return String.join(" ", clauses);
+    }
+
+    private static String formatClause(Set<Tag> clause) {
+        return clause.stream().map(tag -> tag.tagName).sorted().collect(Collectors.joining(","));
+    }
+}
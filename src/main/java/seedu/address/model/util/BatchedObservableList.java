@@ -0,0 +1,103 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An array-backed {@code ObservableList} that can group several modifications into a single list change.
+ * Outside of {@link #batch(Runnable)}, it behaves like {@code FXCollections.observableArrayList()}.
+ *
+ * Replacing or removing a range of elements modifies the backing list in one step, rather than removing one element
+ * at a time as {@code ModifiableObservableListBase} does, which would take quadratic time.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> backingList = new ArrayList<>();
+
+    /**
+     * Runs {@code changes}, which may modify this list any number of times, and reports all of the modifications to
+     * listeners as one change once {@code changes} returns.
+     */
+    public void batch(Runnable changes) {
+        requireNonNull(changes);
+        beginChange();
+        try {
+            changes.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return backingList.get(index);
+    }
+
+    @Override
+    public int size() {
+        return backingList.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        backingList.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return backingList.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return backingList.remove(index);
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> col) {
+        requireNonNull(col);
+        List<E> added = new ArrayList<>(col);
+        List<E> removed = new ArrayList<>(backingList);
+        if (added.isEmpty() && removed.isEmpty()) {
+            return true;
+        }
+        beginChange();
+        try {
+            backingList.clear();
+            backingList.addAll(added);
+            modCount++;
+            if (removed.isEmpty()) {
+                nextAdd(0, added.size());
+            } else if (added.isEmpty()) {
+                nextRemove(0, removed);
+            } else {
+                nextReplace(0, added.size(), removed);
+            }
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        List<E> range = backingList.subList(fromIndex, toIndex);
+        if (range.isEmpty()) {
+            return;
+        }
+        List<E> removed = new ArrayList<>(range);
+        beginChange();
+        try {
+            range.clear();
+            modCount++;
+            nextRemove(fromIndex, removed);
+        } finally {
+            endChange();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.address.model.util;
+
+import java.util.Comparator;
+
+/**
+ * A comparator that orders elements by a sort key computed from each element.
+ *
+ * Sorting by the keys lets a sorted view compute the key of each element once, when the element is added or the
+ * comparator changes, instead of extracting the same fields from the element in every comparison.
+ */
+public interface SortKeyComparator<E, K> extends Comparator<E> {
+
+    /**
+     * Returns the sort key of {@code element}.
+     */
+    K getSortKey(E element);
+
+    /**
+     * Compares the sort keys of two elements in the same way that the elements themselves are compared.
+     */
+    int compareSortKeys(K first, K second);
+
+    @Override
+    default int compare(E first, E second) {
+        return compareSortKeys(getSortKey(first), getSortKey(second));
+    }
+}
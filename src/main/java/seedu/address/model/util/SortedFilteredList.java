@@ -0,0 +1,822 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable view of the elements of a source {@code ObservableList} that match a predicate, in the order of a
+ * comparator. Elements that the comparator considers equal, or all elements if there is no comparator, are kept in
+ * their order in the source list. It behaves like a {@code FilteredList} over a {@code SortedList}, but keeps its
+ * order up to date incrementally.
+ *
+ * The view remembers whether each element of the source list matches the predicate. When a single element of the
+ * source list is added at its end, replaced or removed, only that element is tested against the predicate, and it is
+ * moved into or out of place by binary search rather than by sorting the whole list again. Changing the comparator
+ * reorders the elements without testing them again, and setting an equal predicate again changes nothing. If the
+ * comparator is a {@link SortKeyComparator}, the sort key of each element is computed once, when the element is added
+ * or the comparator is set, and the elements are sorted by their keys.
+ *
+ * The results of the last few predicates used are also cached, keyed by predicate equality. A cached result is
+ * forgotten only when its element is replaced or removed, so setting a predicate equal to a recent one tests only the
+ * elements added or replaced since it was last used. Predicates are therefore expected to depend on nothing but the
+ * element they test.
+ *
+ * If the view is given a key function, the caller can also show the elements with a known set of keys, such as the
+ * names found with an index, by {@link #setPredicate(Predicate, Collection)}. Only those elements are looked up and
+ * sorted, so the work done is proportional to the number of elements shown before and after, not to the size of the
+ * source list. {@link #showRanked(List)} shows the elements with a list of keys in the order of that list instead,
+ * without sorting or testing any element, until the predicate or comparator is next set. Similarly,
+ * {@link #setComparator(Comparator, List)} takes the keys of all the elements in the order of the new comparator, such
+ * as read from a sorted index, so that the elements are put in order without being sorted again.
+ *
+ * When every element has to be tested or sorted again, and the source list has at least as many elements as the
+ * parallel threshold, the work is split across the common fork/join pool. The predicate and comparator must then be
+ * safe to call from several threads at once. The view still changes only once the work is done, in a single change.
+ *
+ * A view given a rebuild executor also moves that work off the thread that uses the view. When the comparator is
+ * set, or the source list changes in more than a single element, the entries are rebuilt on the executor and replace
+ * the view's entries on the thread that uses the view, through a rebuild publisher, in a single change. Until then
+ * the view keeps showing its elements in the old order. Setting a predicate needs the elements shown at once, so it
+ * finishes a rebuild in progress on the calling thread first, and callers that need the elements in their new order,
+ * such as to look one up by its index, can do the same by {@link #finishPendingRebuild()}.
+ */
+public class SortedFilteredList<E> extends ObservableListBase<E> {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 20_000;
+    public static final int CACHED_PREDICATE_COUNT = 8;
+
+    private final ObservableList<E> source;
+    private final int parallelThreshold;
+    // the function that gives the key of an element, or null if the view has no keys
+    private final Function<? super E, ?> keyFunction;
+    // the executor that large rebuilds run on, or null if they run on the calling thread
+    private final Executor rebuildExecutor;
+    // runs the replacement of the entries by a rebuild on the thread that uses the view
+    private final Consumer<Runnable> rebuildPublisher;
+    private Predicate<? super E> predicate = null;
+    // the comparator last set, which the entries may not be in the order of yet
+    private Comparator<? super E> comparator = null;
+    // the order that the entries are in
+    private Order<E> order;
+
+    // an entry for each element of the source list, in the same order
+    private List<Entry<E>> entries = new ArrayList<>();
+    // the same entries in the order of the comparator
+    private List<Entry<E>> sortedEntries = new ArrayList<>();
+    // the entries of the elements that match the predicate, in the order they are shown in
+    private List<Entry<E>> matchingEntries = new ArrayList<>();
+    private long nextSequence = 0;
+    // the entries by the keys of their elements, if the view has a key function
+    private Map<Object, Entry<E>> entriesByKey = new HashMap<>();
+    // the rebuild running on the rebuild executor, or null if there is none
+    private Rebuild<E> pendingRebuild = null;
+
+    // the cached results of recently used predicates, from the least to the most recently used
+    private final Map<Predicate<? super E>, PredicateResults> cachedResults = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Predicate<? super E>, PredicateResults> eldest) {
+            return size() > CACHED_PREDICATE_COUNT;
+        }
+    };
+    // the cached results of the current predicate, or null if there is no predicate
+    private PredicateResults currentResults = null;
+    // each entry has a slot in the cached results, and the slots of removed entries are reused
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int slotCount = 0;
+
+    /**
+     * Creates a view of all the elements of {@code source} in their order in {@code source}.
+     */
+    public SortedFilteredList(ObservableList<E> source) {
+        this(source, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates a view of all the elements of {@code source} in their order in {@code source}, which tests and sorts
+     * all the elements in parallel once {@code source} has at least {@code parallelThreshold} elements.
+     */
+    public SortedFilteredList(ObservableList<E> source, int parallelThreshold) {
+        this(source, parallelThreshold, null, null, null);
+    }
+
+    /**
+     * Creates a view of all the elements of {@code source} in their order in {@code source}, whose elements can also
+     * be shown by their keys, as given by {@code keyFunction}. No two elements of {@code source} may have equal keys.
+     */
+    public SortedFilteredList(ObservableList<E> source, Function<? super E, ?> keyFunction) {
+        this(source, DEFAULT_PARALLEL_THRESHOLD, requireNonNull(keyFunction), null, null);
+    }
+
+    /**
+     * Creates a view of all the elements of {@code source} with keys, as {@link #SortedFilteredList(ObservableList,
+     * Function)} does, which rebuilds its entries on {@code rebuildExecutor} once {@code source} has at least
+     * {@link #DEFAULT_PARALLEL_THRESHOLD} elements. {@code rebuildPublisher} must run the replacement of the entries
+     * it is given on the thread that uses the view, such as {@code Platform::runLater} for a view shown by JavaFX.
+     */
+    public SortedFilteredList(ObservableList<E> source, Function<? super E, ?> keyFunction,
+                              Executor rebuildExecutor, Consumer<Runnable> rebuildPublisher) {
+        this(source, DEFAULT_PARALLEL_THRESHOLD, requireNonNull(keyFunction), requireNonNull(rebuildExecutor),
+                requireNonNull(rebuildPublisher));
+    }
+
+    /**
+     * Creates a view that rebuilds its entries on {@code rebuildExecutor}, if it is not null, and replaces its entries
+     * with those of a rebuild by passing the replacement to {@code rebuildPublisher}.
+     */
+    SortedFilteredList(ObservableList<E> source, int parallelThreshold, Function<? super E, ?> keyFunction,
+                       Executor rebuildExecutor, Consumer<Runnable> rebuildPublisher) {
+        requireNonNull(source);
+        checkArgument(parallelThreshold > 0, "The parallel threshold should be positive");
+        this.source = source;
+        this.parallelThreshold = parallelThreshold;
+        this.keyFunction = keyFunction;
+        this.rebuildExecutor = rebuildExecutor;
+        this.rebuildPublisher = rebuildPublisher;
+        order = new Order<>(null, keyFunction, null);
+        // the view is not in use yet, so it is built on the calling thread
+        Rebuild<E> rebuild = Rebuild.fromSource(new ArrayList<>(source), predicate, order, isParallel(source.size()));
+        rebuild.run();
+        applyRebuild(rebuild);
+        source.addListener((ListChangeListener<E>) this::sourceChanged);
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows only the elements of the source list that match {@code predicate}, or all of them if {@code predicate} is
+     * null. Only the elements without a cached result for a predicate equal to {@code predicate} are tested, and
+     * nothing changes if {@code predicate} is equal to the predicate already in use.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        setPredicate(predicate, predicate);
+    }
+
+    /**
+     * Shows only the elements of the source list that match {@code predicate}, as {@link #setPredicate(Predicate)}
+     * does, but tests the elements without a cached result with {@code equivalentPredicate} instead.
+     * {@code equivalentPredicate} must give the same result as {@code predicate} for every element now in the source
+     * list, but may be faster, such as a lookup of results computed in advance. Elements added later are tested with
+     * {@code predicate}.
+     */
+    public void setPredicate(Predicate<? super E> predicate, Predicate<? super E> equivalentPredicate) {
+        if (Objects.equals(predicate, this.predicate)) {
+            return;
+        }
+        finishPendingRebuild();
+        this.predicate = predicate;
+        order = order.withRanks(null);
+        List<E> removed = new ArrayList<>(this);
+        if (predicate == null) {
+            currentResults = null;
+            forEachEntry(entry -> entry.isMatching = true);
+        } else {
+            requireNonNull(equivalentPredicate);
+            PredicateResults results = cachedResults.computeIfAbsent(predicate, unused -> new PredicateResults());
+            currentResults = results;
+            forEachEntry(entry -> entry.isMatching = results.isTested(entry.slot)
+                    ? results.matches(entry.slot)
+                    : equivalentPredicate.test(entry.element));
+            for (Entry<E> entry : entries) {
+                results.record(entry.slot, entry.isMatching);
+            }
+        }
+        collectMatchingEntries();
+        fireReplaceAll(removed);
+    }
+
+    /**
+     * Shows only the elements of the source list whose keys are in {@code matchingKeys}, which must be exactly the
+     * elements now in the source list that match {@code predicate}. Elements added later are tested with
+     * {@code predicate}. No element is tested, and nothing changes if {@code predicate} is equal to the predicate
+     * already in use. Keys without an element are ignored.
+     *
+     * @throws IllegalStateException if the view was created without a key function.
+     */
+    public void setPredicate(Predicate<? super E> predicate, Collection<?> matchingKeys) {
+        requireAllNonNull(predicate, matchingKeys);
+        requireKeyFunction();
+        if (predicate.equals(this.predicate)) {
+            return;
+        }
+        finishPendingRebuild();
+        this.predicate = predicate;
+        order = order.withRanks(null);
+        List<E> removed = new ArrayList<>(this);
+        showEntriesWithKeys(matchingKeys);
+        matchingEntries.sort(order::compare);
+        currentResults = PredicateResults.ofMatchingEntries(slotCount, matchingEntries);
+        cachedResults.put(predicate, currentResults);
+        fireReplaceAll(removed);
+    }
+
+    /**
+     * Shows only the elements of the source list whose keys are in {@code rankedKeys}, in the order of their keys in
+     * {@code rankedKeys} rather than the order of the comparator. No element is tested or sorted. An element that
+     * replaces a shown element with the same key takes its place, and other elements added later are not shown.
+     * The view stays ranked until the predicate or comparator is next set. Keys without an element are ignored.
+     *
+     * @throws IllegalStateException if the view was created without a key function.
+     */
+    public void showRanked(List<?> rankedKeys) {
+        requireNonNull(rankedKeys);
+        requireKeyFunction();
+        finishPendingRebuild();
+        Map<Object, Integer> keyRanks = new HashMap<>();
+        for (Object key : rankedKeys) {
+            keyRanks.putIfAbsent(key, keyRanks.size());
+        }
+        order = order.withRanks(keyRanks);
+        predicate = element -> keyRanks.containsKey(keyFunction.apply(element));
+        // the results of a ranking are not worth caching, as an equal ranking would have an unequal predicate
+        currentResults = null;
+        List<E> removed = new ArrayList<>(this);
+        showEntriesWithKeys(rankedKeys);
+        fireReplaceAll(removed);
+    }
+
+    /**
+     * Shows only the entries with {@code keys}, in the order of {@code keys}. Only the entries shown before are
+     * marked as not matching, so that the work done does not depend on the size of the source list.
+     */
+    private void showEntriesWithKeys(Collection<?> keys) {
+        for (Entry<E> entry : matchingEntries) {
+            entry.isMatching = false;
+        }
+        matchingEntries.clear();
+        for (Object key : keys) {
+            Entry<E> entry = entriesByKey.get(key);
+            if (entry != null && !entry.isMatching) {
+                entry.isMatching = true;
+                matchingEntries.add(entry);
+            }
+        }
+    }
+
+    private void requireKeyFunction() {
+        if (keyFunction == null) {
+            throw new IllegalStateException("The view has no key function");
+        }
+    }
+
+    public Comparator<? super E> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Orders the elements by {@code comparator}, or in their order in the source list if {@code comparator} is null.
+     */
+    public void setComparator(Comparator<? super E> comparator) {
+        reorder(comparator, null);
+    }
+
+    /**
+     * Orders the elements by {@code comparator}, as {@link #setComparator(Comparator)} does, given the keys of the
+     * elements of the source list in the order of {@code comparator}, such as read from a sorted index. The entries
+     * are put in the order of {@code orderedKeys} and then sorted, which only checks their order if
+     * {@code orderedKeys} is in the order of {@code comparator}, with the keys of equal elements in their order in the
+     * source list. Otherwise the sort moves the entries that are out of order into place.
+     *
+     * @throws IllegalStateException if the view was created without a key function.
+     */
+    public void setComparator(Comparator<? super E> comparator, List<?> orderedKeys) {
+        requireNonNull(orderedKeys);
+        requireKeyFunction();
+        reorder(comparator, orderedKeys);
+    }
+
+    private void reorder(Comparator<? super E> comparator, List<?> orderedKeys) {
+        this.comparator = comparator;
+        Order<E> newOrder = new Order<>(comparator, keyFunction, null);
+        if (pendingRebuild != null && pendingRebuild.isFromSource()) {
+            startRebuildFromSource(newOrder);
+            return;
+        }
+        // the entries are still in the last order applied, so they can be reordered even if a rebuild is running
+        BitSet matchingIndexes = new BitSet(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            matchingIndexes.set(i, entries.get(i).isMatching);
+        }
+        startRebuild(Rebuild.reorder(new ArrayList<>(entries), matchingIndexes, orderedKeys, newOrder,
+                isParallel(entries.size())));
+    }
+
+    @Override
+    public E get(int index) {
+        return matchingEntries.get(index).element;
+    }
+
+    @Override
+    public int size() {
+        return matchingEntries.size();
+    }
+
+    private void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        if (pendingRebuild == null && change.next() && isSingleElementChange(change) && !change.next()) {
+            change.reset();
+            change.next();
+            applySingleElementChange(change);
+        } else {
+            // a rebuild in progress does not have the change, so it is started again
+            startRebuildFromSource(pendingRebuild == null ? order : pendingRebuild.order);
+        }
+    }
+
+    /**
+     * Returns true if {@code change} replaces or removes a single element of the source list, or adds one at its end.
+     * Other changes are rare enough that the view is rebuilt for them instead.
+     */
+    private boolean isSingleElementChange(ListChangeListener.Change<? extends E> change) {
+        if (change.wasPermutated() || change.wasUpdated()
+                || change.getRemovedSize() > 1 || change.getAddedSize() > 1) {
+            return false;
+        }
+        if (change.wasReplaced()) {
+            return change.getRemovedSize() == 1;
+        }
+        if (change.wasAdded()) {
+            return change.getFrom() == entries.size();
+        }
+        return change.wasRemoved();
+    }
+
+    private void applySingleElementChange(ListChangeListener.Change<? extends E> change) {
+        int index = change.getFrom();
+        beginChange();
+        try {
+            if (change.wasReplaced()) {
+                Entry<E> oldEntry = entries.get(index);
+                // the new element takes the place of the old one among elements the comparator considers equal
+                Entry<E> newEntry = new Entry<>(change.getAddedSubList().get(0), oldEntry.sequence,
+                        allocateSlot());
+                entries.set(index, newEntry);
+                unmapKey(oldEntry);
+                mapKey(newEntry);
+                removeEntry(oldEntry);
+                insertEntry(newEntry);
+            } else if (change.wasRemoved()) {
+                Entry<E> oldEntry = entries.remove(index);
+                unmapKey(oldEntry);
+                removeEntry(oldEntry);
+            } else {
+                Entry<E> newEntry = new Entry<>(change.getAddedSubList().get(0), nextSequence++, allocateSlot());
+                entries.add(newEntry);
+                mapKey(newEntry);
+                insertEntry(newEntry);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    private void insertEntry(Entry<E> entry) {
+        entry.isMatching = predicate == null || predicate.test(entry.element);
+        if (currentResults != null) {
+            currentResults.record(entry.slot, entry.isMatching);
+        }
+        entry.sortKey = order.getSortKey(entry.element);
+        sortedEntries.add(-Collections.binarySearch(sortedEntries, entry, order::compare) - 1, entry);
+        if (entry.isMatching) {
+            int index = -Collections.binarySearch(matchingEntries, entry, order::compareShown) - 1;
+            matchingEntries.add(index, entry);
+            nextAdd(index, index + 1);
+        }
+    }
+
+    private void removeEntry(Entry<E> entry) {
+        freeSlots.push(entry.slot);
+        sortedEntries.remove(Collections.binarySearch(sortedEntries, entry, order::compare));
+        if (entry.isMatching) {
+            int index = Collections.binarySearch(matchingEntries, entry, order::compareShown);
+            matchingEntries.remove(index);
+            nextRemove(index, entry.element);
+        }
+    }
+
+    private void startRebuildFromSource(Order<E> newOrder) {
+        startRebuild(Rebuild.fromSource(new ArrayList<>(source), predicate, newOrder, isParallel(source.size())));
+    }
+
+    /**
+     * Runs {@code rebuild} and replaces the entries with its entries. A large rebuild runs on the rebuild executor,
+     * and replaces the entries only if no other rebuild has been started or finished since.
+     */
+    private void startRebuild(Rebuild<E> rebuild) {
+        if (rebuildExecutor == null || rebuild.size() < parallelThreshold) {
+            pendingRebuild = null;
+            rebuild.run();
+            applyRebuild(rebuild);
+            return;
+        }
+        pendingRebuild = rebuild;
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuild.run();
+            } finally {
+                // a rebuild that failed is run again on the thread that uses the view, which then sees the failure
+                rebuildPublisher.accept(() -> {
+                    if (pendingRebuild == rebuild) {
+                        finishPendingRebuild();
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Replaces the entries with those of the rebuild running on the rebuild executor, if there is one, and finishes
+     * the rebuild on the calling thread if it has not finished yet. The elements are then in the order last set.
+     */
+    public void finishPendingRebuild() {
+        if (pendingRebuild == null) {
+            return;
+        }
+        Rebuild<E> rebuild = pendingRebuild.isDone() ? pendingRebuild : pendingRebuild.restart();
+        pendingRebuild = null;
+        if (!rebuild.isDone()) {
+            rebuild.run();
+        }
+        applyRebuild(rebuild);
+    }
+
+    /**
+     * Replaces the entries with those of {@code rebuild}, which has run. If it rebuilt the entries from the source
+     * list, all cached results are forgotten.
+     */
+    private void applyRebuild(Rebuild<E> rebuild) {
+        List<E> removed = new ArrayList<>(this);
+        order = rebuild.order;
+        entries = rebuild.entries;
+        sortedEntries = rebuild.sortedEntries;
+        matchingEntries = rebuild.matchingEntries;
+        entriesByKey = rebuild.entriesByKey;
+        if (rebuild.isFromSource()) {
+            nextSequence = entries.size();
+            slotCount = entries.size();
+            freeSlots.clear();
+            cachedResults.clear();
+            currentResults = rebuild.results;
+            if (predicate != null) {
+                cachedResults.put(predicate, currentResults);
+            }
+        }
+        fireReplaceAll(removed);
+    }
+
+    private void mapKey(Entry<E> entry) {
+        if (keyFunction != null) {
+            entriesByKey.put(keyFunction.apply(entry.element), entry);
+        }
+    }
+
+    private void unmapKey(Entry<E> entry) {
+        if (keyFunction != null) {
+            entriesByKey.remove(keyFunction.apply(entry.element), entry);
+        }
+    }
+
+    /**
+     * Returns a slot for a new entry, with no cached results.
+     */
+    private int allocateSlot() {
+        int slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.pop();
+        for (PredicateResults results : cachedResults.values()) {
+            results.forget(slot);
+        }
+        return slot;
+    }
+
+    private boolean isParallel(int size) {
+        return size >= parallelThreshold;
+    }
+
+    /**
+     * Performs {@code action} on every entry, in parallel if the source list is large. {@code action} may only modify
+     * the entry it is given.
+     */
+    private void forEachEntry(Consumer<Entry<E>> action) {
+        if (isParallel(entries.size())) {
+            entries.parallelStream().forEach(action);
+        } else {
+            entries.forEach(action);
+        }
+    }
+
+    /**
+     * Recreates {@code matchingEntries} from the entries marked as matching in {@code sortedEntries}.
+     */
+    private void collectMatchingEntries() {
+        boolean isParallel = isParallel(sortedEntries.size());
+        Stream<Entry<E>> sortedStream = isParallel ? sortedEntries.parallelStream() : sortedEntries.stream();
+        matchingEntries = sortedStream.filter(entry -> entry.isMatching)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private void fireReplaceAll(List<E> removed) {
+        if (removed.isEmpty() && isEmpty()) {
+            return;
+        }
+        beginChange();
+        nextReplace(0, size(), removed);
+        endChange();
+    }
+
+    private static class Entry<E> {
+        private final E element;
+        // increases with the position of the element in the source list, and is never shared by two entries
+        private final long sequence;
+        // the position of the results for the element in each PredicateResults
+        private final int slot;
+        private boolean isMatching;
+        // the sort key of the element if the comparator compares sort keys, or null otherwise
+        private Object sortKey;
+
+        private Entry(E element, long sequence, int slot) {
+            this.element = element;
+            this.sequence = sequence;
+            this.slot = slot;
+        }
+    }
+
+    /**
+     * An order of entries: by a comparator, and then by the order of their elements in the source list. The entries
+     * shown by a ranked view are ordered by the ranks of their keys instead.
+     */
+    private static class Order<E> {
+        private final Comparator<? super E> comparator;
+        // the comparator if it compares sort keys, or null otherwise
+        private final SortKeyComparator<? super E, Object> sortKeyComparator;
+        private final Function<? super E, ?> keyFunction;
+        // the positions of the keys of the elements shown by a ranked view, or null if the view is not ranked
+        private final Map<Object, Integer> ranks;
+
+        @SuppressWarnings("unchecked")
+        private Order(Comparator<? super E> comparator, Function<? super E, ?> keyFunction,
+                      Map<Object, Integer> ranks) {
+            this.comparator = comparator;
+            this.sortKeyComparator = comparator instanceof SortKeyComparator
+                    ? (SortKeyComparator<? super E, Object>) comparator
+                    : null;
+            this.keyFunction = keyFunction;
+            this.ranks = ranks;
+        }
+
+        private Order<E> withRanks(Map<Object, Integer> ranks) {
+            return ranks == this.ranks ? this : new Order<>(comparator, keyFunction, ranks);
+        }
+
+        private boolean isRanked() {
+            return ranks != null;
+        }
+
+        private Object getSortKey(E element) {
+            return sortKeyComparator == null ? null : sortKeyComparator.getSortKey(element);
+        }
+
+        /**
+         * Orders entries by the comparator, and then by the order of their elements in the source list.
+         */
+        private int compare(Entry<E> first, Entry<E> second) {
+            int result;
+            if (sortKeyComparator != null) {
+                result = sortKeyComparator.compareSortKeys(first.sortKey, second.sortKey);
+            } else {
+                result = comparator == null ? 0 : comparator.compare(first.element, second.element);
+            }
+            return result != 0 ? result : Long.compare(first.sequence, second.sequence);
+        }
+
+        /**
+         * Orders entries in the order they are shown in: by the rank of their keys if the view is ranked, and by
+         * {@link #compare(Entry, Entry)} otherwise.
+         */
+        private int compareShown(Entry<E> first, Entry<E> second) {
+            if (ranks == null) {
+                return compare(first, second);
+            }
+            int result = Integer.compare(getRank(first), getRank(second));
+            return result != 0 ? result : compare(first, second);
+        }
+
+        private int getRank(Entry<E> entry) {
+            return ranks.getOrDefault(keyFunction.apply(entry.element), Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Builds a new set of entries in an order, either from the elements of the source list or from the entries in
+     * use. It works only on copies of what it is given, so it can run on another thread while the view is in use.
+     */
+    private static class Rebuild<E> {
+        // the elements of the source list to create entries for, or null if existing entries are reordered
+        private final List<E> sourceElements;
+        // the existing entries to reorder, or null if entries are created from the source list
+        private final List<Entry<E>> oldEntries;
+        // the positions in oldEntries of the entries that match the predicate
+        private final BitSet oldMatchingIndexes;
+        // the keys of the entries in the new order, or null if the entries are sorted without them
+        private final List<?> orderedKeys;
+        private final Predicate<? super E> predicate;
+        private final Order<E> order;
+        private final boolean isParallel;
+
+        private List<Entry<E>> entries;
+        private List<Entry<E>> sortedEntries;
+        private List<Entry<E>> matchingEntries;
+        private Map<Object, Entry<E>> entriesByKey;
+        // the results of testing the new entries against the predicate, if they were tested
+        private PredicateResults results;
+        private boolean isDone = false;
+
+        private Rebuild(List<E> sourceElements, List<Entry<E>> oldEntries, BitSet oldMatchingIndexes,
+                        List<?> orderedKeys, Predicate<? super E> predicate, Order<E> order, boolean isParallel) {
+            this.sourceElements = sourceElements;
+            this.oldEntries = oldEntries;
+            this.oldMatchingIndexes = oldMatchingIndexes;
+            this.orderedKeys = orderedKeys;
+            this.predicate = predicate;
+            this.order = order;
+            this.isParallel = isParallel;
+        }
+
+        /**
+         * Returns a rebuild that creates entries for {@code sourceElements} and tests them against {@code predicate}.
+         */
+        private static <E> Rebuild<E> fromSource(List<E> sourceElements, Predicate<? super E> predicate,
+                                                 Order<E> order, boolean isParallel) {
+            return new Rebuild<>(sourceElements, null, null, null, predicate, order, isParallel);
+        }
+
+        /**
+         * Returns a rebuild that puts copies of {@code oldEntries} in {@code order}, without testing them again. The
+         * entries at {@code matchingIndexes} match the predicate. If {@code orderedKeys} is not null, the entries are
+         * put in the order of their keys in it before they are sorted.
+         */
+        private static <E> Rebuild<E> reorder(List<Entry<E>> oldEntries, BitSet matchingIndexes, List<?> orderedKeys,
+                                              Order<E> order, boolean isParallel) {
+            return new Rebuild<>(null, oldEntries, matchingIndexes, orderedKeys, null, order, isParallel);
+        }
+
+        /**
+         * Returns a rebuild of the same entries that has not run.
+         */
+        private Rebuild<E> restart() {
+            return new Rebuild<>(sourceElements, oldEntries, oldMatchingIndexes, orderedKeys, predicate, order,
+                    isParallel);
+        }
+
+        private boolean isFromSource() {
+            return sourceElements != null;
+        }
+
+        private boolean isDone() {
+            return isDone;
+        }
+
+        private int size() {
+            return isFromSource() ? sourceElements.size() : oldEntries.size();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void run() {
+            List<Entry<E>> newEntries = new ArrayList<>(size());
+            for (int i = 0; i < size(); i++) {
+                newEntries.add(isFromSource()
+                        ? new Entry<>(sourceElements.get(i), i, i)
+                        : new Entry<>(oldEntries.get(i).element, oldEntries.get(i).sequence, oldEntries.get(i).slot));
+            }
+            IntStream indexes = isParallel ? IntStream.range(0, size()).parallel() : IntStream.range(0, size());
+            indexes.forEach(i -> {
+                Entry<E> entry = newEntries.get(i);
+                entry.isMatching = isFromSource()
+                        ? predicate == null || predicate.test(entry.element)
+                        : oldMatchingIndexes.get(i);
+                entry.sortKey = order.getSortKey(entry.element);
+            });
+
+            entriesByKey = new HashMap<>();
+            if (order.keyFunction != null) {
+                for (Entry<E> entry : newEntries) {
+                    entriesByKey.put(order.keyFunction.apply(entry.element), entry);
+                }
+            }
+
+            Entry<E>[] sortedArray;
+            if (orderedKeys != null) {
+                // the sort finds entries already in order as a single run, and only merges those that are not
+                sortedArray = toKeyOrder(newEntries);
+                Arrays.sort(sortedArray, order::compare);
+            } else if (isParallel) {
+                sortedArray = newEntries.toArray(new Entry[0]);
+                Arrays.parallelSort(sortedArray, order::compare);
+            } else {
+                sortedArray = newEntries.toArray(new Entry[0]);
+                Arrays.sort(sortedArray, order::compare);
+            }
+            sortedEntries = new ArrayList<>(Arrays.asList(sortedArray));
+            Stream<Entry<E>> sortedStream = isParallel ? sortedEntries.parallelStream() : sortedEntries.stream();
+            matchingEntries = sortedStream.filter(entry -> entry.isMatching)
+                .collect(Collectors.toCollection(ArrayList::new));
+            if (order.isRanked()) {
+                matchingEntries.sort(order::compareShown);
+            }
+
+            if (isFromSource() && predicate != null) {
+                results = new PredicateResults();
+                for (Entry<E> entry : newEntries) {
+                    results.record(entry.slot, entry.isMatching);
+                }
+            }
+            entries = newEntries;
+            isDone = true;
+        }
+
+        /**
+         * Returns {@code newEntries} in the order of their keys in {@code orderedKeys}, followed by the entries whose
+         * keys are not in it.
+         */
+        @SuppressWarnings("unchecked")
+        private Entry<E>[] toKeyOrder(List<Entry<E>> newEntries) {
+            List<Entry<E>> orderedEntries = new ArrayList<>(newEntries.size());
+            BitSet orderedSlots = new BitSet();
+            for (Object key : orderedKeys) {
+                Entry<E> entry = entriesByKey.get(key);
+                if (entry != null && !orderedSlots.get(entry.slot)) {
+                    orderedSlots.set(entry.slot);
+                    orderedEntries.add(entry);
+                }
+            }
+            for (Entry<E> entry : newEntries) {
+                if (!orderedSlots.get(entry.slot)) {
+                    orderedEntries.add(entry);
+                }
+            }
+            return orderedEntries.toArray(new Entry[0]);
+        }
+    }
+
+    /**
+     * The results of testing elements against one predicate, by the slots of their entries.
+     */
+    private static class PredicateResults {
+        private final BitSet tested = new BitSet();
+        private final BitSet matching = new BitSet();
+
+        /**
+         * Returns the results for a predicate that only {@code matchingEntries} match, out of the entries with slots
+         * below {@code slotCount}.
+         */
+        private static <E> PredicateResults ofMatchingEntries(int slotCount, List<Entry<E>> matchingEntries) {
+            PredicateResults results = new PredicateResults();
+            results.tested.set(0, slotCount);
+            for (Entry<E> entry : matchingEntries) {
+                results.matching.set(entry.slot);
+            }
+            return results;
+        }
+
+        private boolean isTested(int slot) {
+            return tested.get(slot);
+        }
+
+        private boolean matches(int slot) {
+            return matching.get(slot);
+        }
+
+        private void record(int slot, boolean isMatching) {
+            tested.set(slot);
+            matching.set(slot, isMatching);
+        }
+
+        private void forget(int slot) {
+            tested.clear(slot);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * Selects the first few elements of a collection in the order of a comparator, without sorting the whole collection.
+ */
+public class TopSelector {
+
+    /**
+     * Returns up to {@code count} of the elements of {@code elements} that match {@code predicate} and come first in
+     * the order of {@code comparator}, in that order. Elements that {@code comparator} considers equal are kept in
+     * their order in {@code elements}.
+     *
+     * The elements are read once, and only the best {@code count} elements found so far are kept, in a heap with the
+     * worst of them at its root. An element that does not beat the root is discarded after a single comparison, so
+     * the selection takes O(n log count) time and O(count) space. If {@code comparator} is a
+     * {@link SortKeyComparator}, the sort key of each matching element is computed once.
+     *
+     * @throws IllegalArgumentException if {@code count} is negative.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> List<E> selectFirst(Iterable<? extends E> elements, Predicate<? super E> predicate,
+                                          Comparator<? super E> comparator, int count) {
+        requireAllNonNull(elements, predicate, comparator);
+        checkArgument(count >= 0, "The number of elements to select should not be negative");
+        if (comparator instanceof SortKeyComparator) {
+            return selectFirstByKey(elements, predicate, (SortKeyComparator<? super E, Object>) comparator, count);
+        }
+        return selectFirstByKey(elements, predicate, new SortKeyComparator<E, E>() {
+            @Override
+            public E getSortKey(E element) {
+                return element;
+            }
+
+            @Override
+            public int compareSortKeys(E first, E second) {
+                return comparator.compare(first, second);
+            }
+        }, count);
+    }
+
+    private static <E, K> List<E> selectFirstByKey(Iterable<? extends E> elements, Predicate<? super E> predicate,
+                                                   SortKeyComparator<? super E, K> comparator, int count) {
+        List<E> selected = new ArrayList<>();
+        if (count == 0) {
+            return selected;
+        }
+        Comparator<Candidate<E, K>> candidateOrder = (first, second) -> {
+            int result = comparator.compareSortKeys(first.sortKey, second.sortKey);
+            return result != 0 ? result : Integer.compare(first.position, second.position);
+        };
+        PriorityQueue<Candidate<E, K>> worstFirst = new PriorityQueue<>(candidateOrder.reversed());
+
+        int position = 0;
+        for (E element : elements) {
+            if (predicate.test(element)) {
+                K sortKey = comparator.getSortKey(element);
+                if (worstFirst.size() < count) {
+                    worstFirst.add(new Candidate<>(element, sortKey, position));
+                } else if (comparator.compareSortKeys(sortKey, worstFirst.peek().sortKey) < 0) {
+                    // an element equal to the worst candidate comes after it, and so is no better
+                    worstFirst.poll();
+                    worstFirst.add(new Candidate<>(element, sortKey, position));
+                }
+            }
+            position++;
+        }
+
+        while (!worstFirst.isEmpty()) {
+            selected.add(worstFirst.poll().element);
+        }
+        Collections.reverse(selected);
+        return selected;
+    }
+
+    private static class Candidate<E, K> {
+        private final E element;
+        private final K sortKey;
+        private final int position;
+
+        private Candidate(E element, K sortKey, int position) {
+            this.element = element;
+            this.sortKey = sortKey;
+            this.position = position;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.itinerary.Itinerary;
+import seedu.address.model.location.Location;
+
+/**
+ * Jackson-friendly version of one change to a list of a Maplet, as recorded in the journal of a
+ * {@link JsonMapletStorage}.
+ *
+ * A change removes {@code removedCount} elements starting at {@code from}, then inserts the added elements at
+ * {@code from}. Only the added elements of the list that was changed are present.
+ */
+class JsonAdaptedMutation {
+
+    public static final String ATTRACTIONS = "attractions";
+    public static final String ITINERARIES = "itineraries";
+    public static final String LOCATIONS = "locations";
+
+    public static final String MESSAGE_INVALID_LIST = "Journal entry %d changes an unknown list '%s'.";
+    public static final String MESSAGE_INVALID_RANGE = "Journal entry %d changes elements outside the %s list.";
+
+    private final long sequence;
+    private final String list;
+    private final int from;
+    private final int removedCount;
+    private final List<JsonAdaptedAttraction> attractions = new ArrayList<>();
+    private final List<JsonAdaptedItinerary> itineraries = new ArrayList<>();
+    private final List<JsonAdaptedLocation> locations = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedMutation} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedMutation(@JsonProperty("sequence") long sequence, @JsonProperty("list") String list,
+                               @JsonProperty("from") int from, @JsonProperty("removedCount") int removedCount,
+                               @JsonProperty("attractions") List<JsonAdaptedAttraction> attractions,
+                               @JsonProperty("itineraries") List<JsonAdaptedItinerary> itineraries,
+                               @JsonProperty("locations") List<JsonAdaptedLocation> locations) {
+        this.sequence = sequence;
+        this.list = list;
+        this.from = from;
+        this.removedCount = removedCount;
+        if (attractions != null) {
+            this.attractions.addAll(attractions);
+        }
+        if (itineraries != null) {
+            this.itineraries.addAll(itineraries);
+        }
+        if (locations != null) {
+            this.locations.addAll(locations);
+        }
+    }
+
+    /**
+     * Returns a change to the attraction list that replaces {@code removedCount} attractions from {@code from} with
+     * {@code added}.
+     */
+    public static JsonAdaptedMutation ofAttractions(long sequence, int from, int removedCount,
+                                                    List<? extends Attraction> added) {
+        return new JsonAdaptedMutation(sequence, ATTRACTIONS, from, removedCount,
+                adapt(added, JsonAdaptedAttraction::new), null, null);
+    }
+
+    /**
+     * Returns a change to the itinerary list that replaces {@code removedCount} itineraries from {@code from} with
+     * {@code added}.
+     */
+    public static JsonAdaptedMutation ofItineraries(long sequence, int from, int removedCount,
+                                                    List<? extends Itinerary> added) {
+        return new JsonAdaptedMutation(sequence, ITINERARIES, from, removedCount,
+                null, adapt(added, JsonAdaptedItinerary::new), null);
+    }
+
+    /**
+     * Returns a change to the location list that replaces {@code removedCount} locations from {@code from} with
+     * {@code added}.
+     */
+    public static JsonAdaptedMutation ofLocations(long sequence, int from, int removedCount,
+                                                  List<? extends Location> added) {
+        return new JsonAdaptedMutation(sequence, LOCATIONS, from, removedCount,
+                null, null, adapt(added, JsonAdaptedLocation::new));
+    }
+
+    private static <T, R> List<R> adapt(List<? extends T> elements, Function<T, R> adapter) {
+        return elements.stream().map(adapter).collect(Collectors.toList());
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Applies this change to whichever of {@code attractionList}, {@code itineraryList} and {@code locationList} it
+     * was recorded against. Added attractions are converted to the model's {@code Attraction} objects.
+     *
+     * @throws IllegalValueException if the change names an unknown list, does not fit within its list, or adds an
+     *     attraction that violates the data constraints.
+     */
+    public void applyTo(List<Attraction> attractionList, List<JsonAdaptedItinerary> itineraryList,
+                        List<JsonAdaptedLocation> locationList) throws IllegalValueException {
+        if (list == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_LIST, sequence, list));
+        }
+        switch (list) {
+        case ATTRACTIONS:
+            List<Attraction> addedAttractions = new ArrayList<>();
+            for (JsonAdaptedAttraction attraction : attractions) {
+                addedAttractions.add(attraction.toModelType());
+            }
+            replaceRange(attractionList, addedAttractions);
+            break;
+        case ITINERARIES:
+            replaceRange(itineraryList, itineraries);
+            break;
+        case LOCATIONS:
+            replaceRange(locationList, locations);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_LIST, sequence, list));
+        }
+    }
+
+    private <T> void replaceRange(List<T> target, List<T> added) throws IllegalValueException {
+        if (from < 0 || removedCount < 0 || from > target.size() - removedCount) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RANGE, sequence, list));
+        }
+        List<T> range = target.subList(from, from + removedCount);
+        range.clear();
+        range.addAll(added);
+    }
+}
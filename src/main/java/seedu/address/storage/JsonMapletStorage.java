@@ -1,36 +1,116 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyMaplet;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.itinerary.Itinerary;
+import seedu.address.model.location.Location;
 
 /**
  * A class to access Maplet data stored as a json file on the hard disk.
+ *
+ * The first time a Maplet is saved, unless this storage has just read the data file, the whole of it is written to
+ * the data file. From then on, each list of a saved Maplet is compared with the same list as last saved or read, and
+ * each run of elements that differs is appended to a journal next to the data file, one line per run. The model
+ * replaces the attractions, itineraries and locations it changes rather than modifying them in place, so the lists are
+ * compared by reference, and saving writes in proportion to what changed rather than to the size of the Maplet or
+ * the distance between the changes. A caller that records the changes to the lists as they are made can save them
+ * with {@link #saveMapletChanges(List)} instead, and then no list is compared at all. Reading the
+ * data file replays the journal on top of it. Once the journal holds {@code compactionThreshold} changes, it is
+ * compacted: a fresh copy of the Maplet is written to the data file in the background, and the changes it includes
+ * are discarded.
+ *
+ * Every change has a sequence number, and the data file records the last one it includes, so a journal that is
+ * replayed after its changes were compacted, say after a crash, does not apply them twice.
+ *
+ * Before the data file is replaced, a copy of it is kept as a backup if it is known to be good, that is if this
+ * storage has read or written it. The last {@code backupCount} backups are kept, the newest as {@code maplet.json.1}.
+ * Reading the data file deletes the temporary files that writes cut short by a crash left next to it.
  */
 public class JsonMapletStorage implements MapletStorage {
 
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final int DEFAULT_BACKUP_COUNT = 3;
+
+    public static final String MESSAGE_MISSING_JOURNAL_ENTRIES = "Journal is missing the entries after entry %d.";
+
     private static final Logger logger = LogsCenter.getLogger(JsonMapletStorage.class);
 
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTING_JOURNAL_SUFFIX = ".journal.compacting";
+
+    // compaction only ever writes files, so it can be abandoned when the application exits
+    private static final ExecutorService COMPACTION_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "maplet-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private Path filePath;
+    private final int compactionThreshold;
+    private final int backupCount;
+
+    // the lists that the data file and its journal hold, or null if the next save must write the whole Maplet
+    private SavedLists savedLists = null;
+    private long lastSequence = 0;
+    private int journalledMutationCount = 0;
+    private CompletableFuture<Void> compaction = CompletableFuture.completedFuture(null);
+    // whether the data file holds data that was read or written successfully, and can be backed up
+    private volatile boolean isDataFileGood = false;
 
     public JsonMapletStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Creates a {@code JsonMapletStorage} that compacts its journal once it holds {@code compactionThreshold}
+     * changes, and keeps {@code backupCount} backups of the data file.
+     */
+    public JsonMapletStorage(Path filePath, int compactionThreshold, int backupCount) {
+        checkArgument(compactionThreshold > 0, "The compaction threshold should be positive");
+        checkArgument(backupCount >= 0, "The number of backups should not be negative");
         this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.backupCount = backupCount;
     }
 
     public Path getMapletFilePath() {
         return filePath;
     }
 
+    @Override
+    public List<Path> getMapletBackupFilePaths() {
+        List<Path> backupFilePaths = new ArrayList<>();
+        for (int generation = 1; generation <= backupCount; generation++) {
+            backupFilePaths.add(getBackupPath(generation));
+        }
+        return backupFilePaths;
+    }
+
     @Override
     public Optional<ReadOnlyMaplet> readMaplet() throws DataLoadingException {
         return readMaplet(filePath);
@@ -42,30 +122,245 @@ public class JsonMapletStorage implements MapletStorage {
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
-    public Optional<ReadOnlyMaplet> readMaplet(Path filePath) throws DataLoadingException {
+    public synchronized Optional<ReadOnlyMaplet> readMaplet(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
+        awaitCompaction();
+        deleteTemporaryFiles(filePath);
 
-        Optional<JsonSerializableMaplet> jsonMaplet = JsonUtil.readJsonFile(
-                filePath, JsonSerializableMaplet.class);
-        if (!jsonMaplet.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonMaplet.get().toModelType());
+            JsonSerializableMaplet jsonMaplet = readDataFile(filePath);
+            long replayedSequence = replayJournal(jsonMaplet, filePath);
+            ReadOnlyMaplet maplet = jsonMaplet.toModelType();
+            if (filePath.equals(this.filePath)) {
+                lastSequence = Math.max(lastSequence, replayedSequence);
+                savedLists = new SavedLists(maplet);
+                isDataFileGood = true;
+            }
+            return Optional.of(maplet);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Deletes the temporary files left next to {@code filePath} by writes that were cut short, such as by a crash.
+     */
+    private static void deleteTemporaryFiles(Path filePath) {
+        try {
+            FileUtil.deleteTemporaryFiles(filePath);
+        } catch (IOException e) {
+            logger.warning("Error deleting temporary files of " + filePath + ": " + e);
+        }
+    }
+
+    private static JsonSerializableMaplet readDataFile(Path filePath)
+            throws DataLoadingException, IllegalValueException {
+        logger.info("JSON file " + filePath + " found.");
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return JsonSerializableMaplet.read(parser);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Applies the changes in the journals of {@code filePath} that {@code maplet} does not include yet, and returns
+     * the sequence number of the last change that it then includes.
+     */
+    private long replayJournal(JsonSerializableMaplet maplet, Path filePath)
+            throws DataLoadingException, IllegalValueException {
+        long appliedSequence = maplet.getJournalSequence();
+        for (JsonAdaptedMutation mutation : readJournal(filePath)) {
+            if (mutation.getSequence() <= appliedSequence) {
+                continue;
+            }
+            if (mutation.getSequence() != appliedSequence + 1) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_JOURNAL_ENTRIES, appliedSequence));
+            }
+            maplet.applyMutation(mutation);
+            appliedSequence = mutation.getSequence();
+        }
+        return appliedSequence;
+    }
+
+    /**
+     * Returns the changes in the journals of {@code filePath}, oldest first.
+     */
+    private static List<JsonAdaptedMutation> readJournal(Path filePath) throws DataLoadingException {
+        List<JsonAdaptedMutation> mutations = new ArrayList<>();
+        for (Path journalPath : List.of(getCompactingJournalPath(filePath), getJournalPath(filePath))) {
+            if (!Files.exists(journalPath)) {
+                continue;
+            }
+            try {
+                List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+                for (int i = 0; i < lines.size(); i++) {
+                    if (lines.get(i).isBlank()) {
+                        continue;
+                    }
+                    try {
+                        mutations.add(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedMutation.class));
+                    } catch (IOException e) {
+                        if (i < lines.size() - 1) {
+                            throw e;
+                        }
+                        // only the last line can have been cut short by a crash while it was being written
+                        logger.warning("Ignoring incomplete last entry of journal " + journalPath);
+                    }
+                }
+            } catch (IOException e) {
+                logger.warning("Error reading from journal " + journalPath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+        }
+        return mutations;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The lists of {@code maplet} are read before this returns, so {@code maplet} can be a {@code MapletSnapshot} of
+     * a Maplet that another thread is changing.
+     */
     @Override
-    public void saveMaplet(ReadOnlyMaplet maplet) throws IOException {
-        saveMaplet(maplet, filePath);
+    public synchronized void saveMaplet(ReadOnlyMaplet maplet) throws IOException {
+        requireNonNull(maplet);
+        MapletSnapshot snapshot = maplet instanceof MapletSnapshot
+                ? (MapletSnapshot) maplet
+                : new MapletSnapshot(maplet);
+
+        if (savedLists == null) {
+            saveWholeMaplet(snapshot);
+            return;
+        }
+
+        List<JsonAdaptedMutation> mutations = new ArrayList<>();
+        this.<Attraction>addMutations(mutations, savedLists.attractions, snapshot.getAttractionList(),
+                JsonAdaptedMutation::ofAttractions);
+        this.<Itinerary>addMutations(mutations, savedLists.itineraries, snapshot.getItineraryList(),
+                JsonAdaptedMutation::ofItineraries);
+        this.<Location>addMutations(mutations, savedLists.locations, snapshot.getLocationList(),
+                JsonAdaptedMutation::ofLocations);
+        if (mutations.isEmpty()) {
+            return;
+        }
+        appendToJournal(mutations);
+        savedLists = new SavedLists(snapshot);
+        compactIfDue();
+    }
+
+    /**
+     * Saves {@code changes}, which were made in order to the Maplet last saved to or read from the data file, by
+     * appending them to the journal. Unlike {@link #saveMaplet(ReadOnlyMaplet)}, no list is compared, so this writes
+     * in proportion to the changes whatever the size of the Maplet.
+     *
+     * @throws IllegalStateException if no Maplet was read from or saved to the data file since this storage was
+     *     created or a save last failed.
+     */
+    @Override
+    public synchronized void saveMapletChanges(List<MapletChange> changes) throws IOException {
+        requireNonNull(changes);
+        if (savedLists == null) {
+            throw new IllegalStateException("The changes are to a Maplet that was not saved");
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        List<JsonAdaptedMutation> mutations = new ArrayList<>();
+        for (MapletChange change : changes) {
+            mutations.add(change.toJournalEntry(++lastSequence));
+        }
+        appendToJournal(mutations);
+        for (MapletChange change : changes) {
+            change.applyTo(savedLists.attractions, savedLists.itineraries, savedLists.locations);
+        }
+        compactIfDue();
+    }
+
+    /**
+     * Appends {@code mutations} to the journal, one line each.
+     */
+    private void appendToJournal(List<JsonAdaptedMutation> mutations) throws IOException {
+        StringBuilder entries = new StringBuilder();
+        for (JsonAdaptedMutation mutation : mutations) {
+            entries.append(JsonUtil.toCompactJsonString(mutation)).append(System.lineSeparator());
+        }
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            FileUtil.appendToFile(getJournalPath(filePath), entries.toString());
+        } catch (IOException e) {
+            // the journal may now hold only some of the changes, so it can no longer be added to
+            savedLists = null;
+            throw e;
+        }
+        journalledMutationCount += mutations.size();
+    }
+
+    private void compactIfDue() {
+        if (journalledMutationCount >= compactionThreshold && compaction.isDone()) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * Adds to {@code mutations} the changes that turn {@code savedList} into {@code list}, one for each run of
+     * elements that differs. Elements are matched by reference, and each list holds an element at most once.
+     */
+    private <T> void addMutations(List<JsonAdaptedMutation> mutations, List<T> savedList, List<T> list,
+                                  MutationFactory<T> factory) {
+        int commonPrefixLength = 0;
+        int maxCommonLength = Math.min(savedList.size(), list.size());
+        while (commonPrefixLength < maxCommonLength
+                && savedList.get(commonPrefixLength) == list.get(commonPrefixLength)) {
+            commonPrefixLength++;
+        }
+        if (commonPrefixLength == savedList.size() && commonPrefixLength == list.size()) {
+            return;
+        }
+        int commonSuffixLength = 0;
+        while (commonSuffixLength < maxCommonLength - commonPrefixLength
+                && savedList.get(savedList.size() - 1 - commonSuffixLength)
+                        == list.get(list.size() - 1 - commonSuffixLength)) {
+            commonSuffixLength++;
+        }
+        int savedEnd = savedList.size() - commonSuffixLength;
+        int end = list.size() - commonSuffixLength;
+
+        // only the elements between the common prefix and suffix can have moved
+        Map<T, Integer> indexes = new IdentityHashMap<>();
+        for (int i = commonPrefixLength; i < end; i++) {
+            indexes.put(list.get(i), i);
+        }
+        int savedIndex = commonPrefixLength;
+        int index = commonPrefixLength;
+        while (savedIndex < savedEnd || index < end) {
+            if (savedIndex < savedEnd && index < end && savedList.get(savedIndex) == list.get(index)) {
+                savedIndex++;
+                index++;
+                continue;
+            }
+            // the run ends at the next saved element that is still ahead in the list
+            int runSavedEnd = savedIndex;
+            while (runSavedEnd < savedEnd && indexes.getOrDefault(savedList.get(runSavedEnd), -1) < index) {
+                runSavedEnd++;
+            }
+            int runEnd = runSavedEnd < savedEnd ? indexes.get(savedList.get(runSavedEnd)) : end;
+            mutations.add(factory.create(++lastSequence, index, runSavedEnd - savedIndex,
+                    list.subList(index, runEnd)));
+            savedIndex = runSavedEnd;
+            index = runEnd;
+        }
     }
 
     /**
      * Similar to {@link #saveMaplet(ReadOnlyMaplet)}.
+     * Saving to a file other than the data file of this storage always writes the whole Maplet.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +368,152 @@ public class JsonMapletStorage implements MapletStorage {
         requireNonNull(maplet);
         requireNonNull(filePath);
 
+        if (filePath.equals(this.filePath)) {
+            saveMaplet(maplet);
+            return;
+        }
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableMaplet(maplet), filePath);
+        JsonUtil.writeJsonFile(filePath, generator -> JsonSerializableMaplet.write(generator, maplet, 0));
+    }
+
+    /**
+     * Writes the whole of {@code maplet} to the data file and discards the journal.
+     */
+    private void saveWholeMaplet(MapletSnapshot maplet) throws IOException {
+        awaitCompaction();
+
+        // the data file must claim every change still in the journals, which are only discarded after it is written
+        lastSequence = Math.max(lastSequence, readLastJournalSequence());
+        writeDataFile(maplet, lastSequence);
+        Files.deleteIfExists(getCompactingJournalPath(filePath));
+        Files.deleteIfExists(getJournalPath(filePath));
+        journalledMutationCount = 0;
+        savedLists = new SavedLists(maplet);
+    }
+
+    private long readLastJournalSequence() {
+        try {
+            List<JsonAdaptedMutation> mutations = readJournal(filePath);
+            return mutations.isEmpty() ? 0 : mutations.get(mutations.size() - 1).getSequence();
+        } catch (DataLoadingException e) {
+            logger.warning("Journal of " + filePath + " could not be read, and will be discarded.");
+            return 0;
+        }
+    }
+
+    /**
+     * Moves the journal aside and writes the last saved Maplet to the data file in the background. Changes saved from
+     * now on go to a new journal, and the old one is discarded once the data file includes its changes.
+     */
+    private void startCompaction() {
+        MapletSnapshot snapshot = savedLists.toSnapshot();
+        long snapshotSequence = lastSequence;
+        try {
+            rotateJournal();
+        } catch (IOException e) {
+            logger.warning("Could not compact journal of " + filePath + ": " + e);
+            return;
+        }
+        journalledMutationCount = 0;
+
+        compaction = CompletableFuture.runAsync(() -> {
+            try {
+                writeDataFile(snapshot, snapshotSequence);
+                Files.deleteIfExists(getCompactingJournalPath(filePath));
+            } catch (IOException e) {
+                // the moved journal is kept, and the next compaction includes it
+                logger.warning("Could not compact journal of " + filePath + ": " + e);
+            }
+        }, COMPACTION_EXECUTOR);
+    }
+
+    private void rotateJournal() throws IOException {
+        Path journalPath = getJournalPath(filePath);
+        Path compactingJournalPath = getCompactingJournalPath(filePath);
+        if (Files.exists(compactingJournalPath)) {
+            // left behind by a compaction that failed, and older than every change in the journal
+            FileUtil.appendToFile(compactingJournalPath, FileUtil.readFromFile(journalPath));
+            Files.delete(journalPath);
+        } else {
+            Files.move(journalPath, compactingJournalPath);
+        }
+    }
+
+    /**
+     * Waits for the compaction in progress, if any, to finish.
+     */
+    public void awaitCompaction() {
+        try {
+            compaction.join();
+        } catch (CompletionException e) {
+            logger.warning("Compaction of " + filePath + " failed: " + e.getCause());
+        }
+    }
+
+    /**
+     * Writes {@code maplet} to the data file, as including the journal entries up to {@code journalSequence}, after
+     * backing up the data file if it is good.
+     */
+    private void writeDataFile(MapletSnapshot maplet, long journalSequence) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        if (isDataFileGood && backupCount > 0 && Files.exists(filePath)) {
+            backUpDataFile();
+        }
+        JsonUtil.writeJsonFile(filePath, generator -> JsonSerializableMaplet.write(generator, maplet, journalSequence));
+        isDataFileGood = true;
+    }
+
+    /**
+     * Copies the data file to the newest backup, after shifting each backup to the next older one and discarding
+     * the oldest.
+     */
+    private void backUpDataFile() throws IOException {
+        Files.deleteIfExists(getBackupPath(backupCount));
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            if (Files.exists(getBackupPath(generation))) {
+                Files.move(getBackupPath(generation), getBackupPath(generation + 1));
+            }
+        }
+        Files.copy(filePath, getBackupPath(1));
+    }
+
+    private Path getBackupPath(int generation) {
+        return filePath.resolveSibling(filePath.getFileName() + "." + generation);
+    }
+
+    private static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    private static Path getCompactingJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_SUFFIX);
+    }
+
+    /**
+     * The lists that the data file and its journal hold, which saved changes are applied to.
+     */
+    private static class SavedLists {
+        private final List<Attraction> attractions;
+        private final List<Itinerary> itineraries;
+        private final List<Location> locations;
+
+        SavedLists(ReadOnlyMaplet maplet) {
+            attractions = new ArrayList<>(maplet.getAttractionList());
+            itineraries = new ArrayList<>(maplet.getItineraryList());
+            locations = new ArrayList<>(maplet.getLocationList());
+        }
+
+        MapletSnapshot toSnapshot() {
+            return new MapletSnapshot(attractions, itineraries, locations, 0);
+        }
+    }
+
+    /**
+     * Creates the journal entry for a change to a list of a Maplet.
+     */
+    @FunctionalInterface
+    private interface MutationFactory<T> {
+        JsonAdaptedMutation create(long sequence, int from, int removedCount, List<? extends T> added);
     }
 
 }
@@ -1,12 +1,14 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.Maplet;
@@ -16,53 +18,124 @@ import seedu.address.model.itinerary.Itinerary;
 import seedu.address.model.location.Location;
 
 /**
- * An Immutable Maplet that is serializable to JSON format.
+ * A Maplet that is serializable to JSON format.
+ *
+ * The JSON is read and written a value at a time with Jackson's streaming API, so neither the JSON nor a
+ * Jackson-friendly copy of every attraction is held in memory whole. Attractions are converted to the model as they
+ * are read. Itineraries and locations refer to attractions by name, so they are only converted by
+ * {@link #toModelType()}, once the attraction list is final.
  */
-@JsonRootName(value = "maplet")
 class JsonSerializableMaplet {
 
     public static final String MESSAGE_DUPLICATE_ATTRACTION = "Attractions list contains duplicate attraction(s).";
     public static final String MESSAGE_DUPLICATE_ITINERARY = "Itinerary list contains duplicate itinerary(ies).";
     public static final String MESSAGE_DUPLICATE_LOCATION = "Locations list contains duplicate location(s).";
 
-    private final List<JsonAdaptedAttraction> attractions = new ArrayList<>();
+    private static final String ATTRACTIONS = "attractions";
+    private static final String ITINERARIES = "itineraries";
+    private static final String LOCATIONS = "locations";
+    private static final String JOURNAL_SEQUENCE = "journalSequence";
+
+    private final List<Attraction> attractions = new ArrayList<>();
     private final List<JsonAdaptedItinerary> itineraries = new ArrayList<>();
     private final List<JsonAdaptedLocation> locations = new ArrayList<>();
+    // the sequence number of the last journal entry that this data already includes
+    private long journalSequence = 0;
+
+    private JsonSerializableMaplet() {}
 
     /**
-     * Constructs a {@code JsonSerializableMaplet} with the given attractions.
+     * Reads a Maplet from the JSON object that {@code parser} is at the start of.
+     * Unknown fields are ignored, and missing lists are left empty.
+     *
+     * @throws IOException if the JSON is malformed or does not have the structure of a Maplet.
+     * @throws IllegalValueException if an attraction violates the data constraints.
      */
-    @JsonCreator
-    public JsonSerializableMaplet(
-            @JsonProperty("attractions") List<JsonAdaptedAttraction> attractions,
-            @JsonProperty("itineraries") List<JsonAdaptedItinerary> itineraries,
-            @JsonProperty("locations") List<JsonAdaptedLocation> locations
-    ) {
-        if (attractions != null) {
-            this.attractions.addAll(attractions);
+    public static JsonSerializableMaplet read(JsonParser parser) throws IOException, IllegalValueException {
+        JsonSerializableMaplet maplet = new JsonSerializableMaplet();
+        expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case ATTRACTIONS:
+                readArray(parser, JsonAdaptedAttraction.class,
+                        attraction -> maplet.attractions.add(attraction.toModelType()));
+                break;
+            case ITINERARIES:
+                readArray(parser, JsonAdaptedItinerary.class, maplet.itineraries::add);
+                break;
+            case LOCATIONS:
+                readArray(parser, JsonAdaptedLocation.class, maplet.locations::add);
+                break;
+            case JOURNAL_SEQUENCE:
+                maplet.journalSequence = parser.getValueAsLong();
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        return maplet;
+    }
+
+    private static <T> void readArray(JsonParser parser, Class<T> elementClass, ElementHandler<T> handler)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expectToken(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            T element = parser.readValueAs(elementClass);
+            if (element == null) {
+                throw new JsonParseException(parser, "Unexpected null in list of " + elementClass.getSimpleName());
+            }
+            handler.handle(element);
         }
-        if (itineraries != null) {
-            this.itineraries.addAll(itineraries);
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken token, JsonToken expected) throws IOException {
+        if (token != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + token);
         }
-        if (locations != null) {
-            this.locations.addAll(locations);
+    }
+
+    /**
+     * Writes {@code source} as a JSON object to {@code generator}, converting one element of its lists at a time.
+     *
+     * @param journalSequence the sequence number of the last journal entry
+     *     whose change {@code source} already includes.
+     */
+    public static void write(JsonGenerator generator, ReadOnlyMaplet source, long journalSequence)
+            throws IOException {
+        generator.writeStartObject();
+        writeArray(generator, ATTRACTIONS, source.getAttractionList(), JsonAdaptedAttraction::new);
+        writeArray(generator, ITINERARIES, source.getItineraryList(), JsonAdaptedItinerary::new);
+        writeArray(generator, LOCATIONS, source.getLocationList(), JsonAdaptedLocation::new);
+        generator.writeNumberField(JOURNAL_SEQUENCE, journalSequence);
+        generator.writeEndObject();
+    }
+
+    private static <T> void writeArray(JsonGenerator generator, String fieldName, List<T> elements,
+                                       Function<T, ?> adapter) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (T element : elements) {
+            generator.writeObject(adapter.apply(element));
         }
+        generator.writeEndArray();
     }
 
+    public long getJournalSequence() {
+        return journalSequence;
+    }
 
     /**
-     * Converts a given {@code ReadOnlyMaplet} into this class for Jackson use.
+     * Applies a change recorded in the journal to this Maplet.
      *
-     * @param source future changes to this will not affect the created
-     *     {@code JsonSerializableMaplet}.
+     * @throws IllegalValueException if the change does not fit this Maplet.
      */
-    public JsonSerializableMaplet(ReadOnlyMaplet source) {
-        attractions.addAll(source.getAttractionList().stream().map(JsonAdaptedAttraction::new)
-                .collect(Collectors.toList()));
-        itineraries.addAll(source.getItineraryList().stream().map(JsonAdaptedItinerary::new)
-                .collect(Collectors.toList()));
-        locations.addAll(source.getLocationList().stream().map(JsonAdaptedLocation::new)
-                .collect(Collectors.toList()));
+    public void applyMutation(JsonAdaptedMutation mutation) throws IllegalValueException {
+        mutation.applyTo(attractions, itineraries, locations);
     }
 
     /**
@@ -73,8 +146,7 @@ class JsonSerializableMaplet {
      */
     public Maplet toModelType() throws IllegalValueException {
         Maplet maplet = new Maplet();
-        for (JsonAdaptedAttraction jsonAdaptedAttraction : attractions) {
-            Attraction attraction = jsonAdaptedAttraction.toModelType();
+        for (Attraction attraction : attractions) {
             if (maplet.hasAttraction(attraction)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_ATTRACTION);
             }
@@ -99,4 +171,12 @@ class JsonSerializableMaplet {
         return maplet;
     }
 
+    /**
+     * Handles an element of a list as soon as it is read.
+     */
+    @FunctionalInterface
+    private interface ElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
+    }
+
 }
@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.itinerary.Itinerary;
+import seedu.address.model.location.Location;
+
+/**
+ * One change to a list of a Maplet, as reported to the listeners of the list.
+ *
+ * A change removes {@code removedCount} elements starting at {@code from}, then inserts the added elements at
+ * {@code from}. Only the added elements of the list that was changed are present.
+ * Guarantees: immutable.
+ */
+public class MapletChange {
+
+    private final String list;
+    private final int from;
+    private final int removedCount;
+    private final List<Attraction> attractions;
+    private final List<Itinerary> itineraries;
+    private final List<Location> locations;
+
+    private MapletChange(String list, int from, int removedCount, List<Attraction> attractions,
+                         List<Itinerary> itineraries, List<Location> locations) {
+        this.list = list;
+        this.from = from;
+        this.removedCount = removedCount;
+        this.attractions = attractions;
+        this.itineraries = itineraries;
+        this.locations = locations;
+    }
+
+    /**
+     * Returns a change to the attraction list that replaces {@code removedCount} attractions from {@code from} with
+     * {@code added}.
+     */
+    public static MapletChange ofAttractions(int from, int removedCount, List<? extends Attraction> added) {
+        requireNonNull(added);
+        return new MapletChange(JsonAdaptedMutation.ATTRACTIONS, from, removedCount, new ArrayList<>(added),
+                List.of(), List.of());
+    }
+
+    /**
+     * Returns a change to the itinerary list that replaces {@code removedCount} itineraries from {@code from} with
+     * {@code added}.
+     */
+    public static MapletChange ofItineraries(int from, int removedCount, List<? extends Itinerary> added) {
+        requireNonNull(added);
+        return new MapletChange(JsonAdaptedMutation.ITINERARIES, from, removedCount, List.of(),
+                new ArrayList<>(added), List.of());
+    }
+
+    /**
+     * Returns a change to the location list that replaces {@code removedCount} locations from {@code from} with
+     * {@code added}.
+     */
+    public static MapletChange ofLocations(int from, int removedCount, List<? extends Location> added) {
+        requireNonNull(added);
+        return new MapletChange(JsonAdaptedMutation.LOCATIONS, from, removedCount, List.of(), List.of(),
+                new ArrayList<>(added));
+    }
+
+    /**
+     * Returns the journal entry that records this change, with the given sequence number.
+     */
+    JsonAdaptedMutation toJournalEntry(long sequence) {
+        switch (list) {
+        case JsonAdaptedMutation.ATTRACTIONS:
+            return JsonAdaptedMutation.ofAttractions(sequence, from, removedCount, attractions);
+        case JsonAdaptedMutation.ITINERARIES:
+            return JsonAdaptedMutation.ofItineraries(sequence, from, removedCount, itineraries);
+        default:
+            return JsonAdaptedMutation.ofLocations(sequence, from, removedCount, locations);
+        }
+    }
+
+    /**
+     * Applies this change to whichever of {@code attractionList}, {@code itineraryList} and {@code locationList} it
+     * was made to.
+     */
+    void applyTo(List<Attraction> attractionList, List<Itinerary> itineraryList, List<Location> locationList) {
+        switch (list) {
+        case JsonAdaptedMutation.ATTRACTIONS:
+            replaceRange(attractionList, attractions);
+            break;
+        case JsonAdaptedMutation.ITINERARIES:
+            replaceRange(itineraryList, itineraries);
+            break;
+        default:
+            replaceRange(locationList, locations);
+        }
+    }
+
+    private <T> void replaceRange(List<T> target, List<T> added) {
+        List<T> range = target.subList(from, from + removedCount);
+        range.clear();
+        range.addAll(added);
+    }
+}
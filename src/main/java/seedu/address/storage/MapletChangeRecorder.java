@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.ReadOnlyMaplet;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.itinerary.Itinerary;
+import seedu.address.model.location.Location;
+
+/**
+ * Records the changes made to the lists of a Maplet, as its list listeners report them.
+ *
+ * Only the added elements of each change are copied, so recording takes time in proportion to the change rather than
+ * to the size of the Maplet. The listeners run on the thread that changes the Maplet, which must also be the thread
+ * that takes the changes.
+ */
+class MapletChangeRecorder {
+
+    private final ReadOnlyMaplet maplet;
+    private final ListChangeListener<Attraction> attractionListener =
+            change -> this.<Attraction>record(change, MapletChange::ofAttractions);
+    private final ListChangeListener<Itinerary> itineraryListener =
+            change -> this.<Itinerary>record(change, MapletChange::ofItineraries);
+    private final ListChangeListener<Location> locationListener =
+            change -> this.<Location>record(change, MapletChange::ofLocations);
+    private List<MapletChange> changes = new ArrayList<>();
+
+    /**
+     * Creates a {@code MapletChangeRecorder} that records the changes made to {@code maplet} from now on.
+     */
+    MapletChangeRecorder(ReadOnlyMaplet maplet) {
+        requireNonNull(maplet);
+        this.maplet = maplet;
+        maplet.getAttractionList().addListener(attractionListener);
+        maplet.getItineraryList().addListener(itineraryListener);
+        maplet.getLocationList().addListener(locationListener);
+    }
+
+    /**
+     * Returns the changes recorded since the last call, in the order they were made.
+     */
+    List<MapletChange> takeChanges() {
+        List<MapletChange> recordedChanges = changes;
+        changes = new ArrayList<>();
+        return recordedChanges;
+    }
+
+    /**
+     * Stops recording the changes made to the Maplet.
+     */
+    void stop() {
+        maplet.getAttractionList().removeListener(attractionListener);
+        maplet.getItineraryList().removeListener(itineraryListener);
+        maplet.getLocationList().removeListener(locationListener);
+    }
+
+    private <T> void record(ListChangeListener.Change<? extends T> change, ChangeFactory<T> factory) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // the elements in the range are the same, so they are written again where they now are
+                int from = change.getFrom();
+                int to = change.getTo();
+                changes.add(factory.create(from, to - from, change.getList().subList(from, to)));
+            } else {
+                changes.add(factory.create(change.getFrom(), change.getRemovedSize(), change.getAddedSubList()));
+            }
+        }
+    }
+
+    /**
+     * Creates the change to a list of a Maplet.
+     */
+    @FunctionalInterface
+    private interface ChangeFactory<T> {
+        MapletChange create(int from, int removedCount, List<? extends T> added);
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyMaplet;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.itinerary.Itinerary;
+import seedu.address.model.location.Location;
+
+/**
+ * A copy of the lists of a Maplet at one point in time, which later changes to the Maplet do not affect.
+ *
+ * Only the lists are copied, not the attractions, itineraries and locations they hold, which the model never modifies
+ * in place. A snapshot is therefore cheap to take, and can be read on another thread while the Maplet changes.
+ */
+class MapletSnapshot implements ReadOnlyMaplet {
+
+    private final ObservableList<Attraction> attractions;
+    private final ObservableList<Itinerary> itineraries;
+    private final ObservableList<Location> locations;
+    private final long version;
+
+    /**
+     * Creates a snapshot of the current lists of {@code source}.
+     */
+    MapletSnapshot(ReadOnlyMaplet source) {
+        this(source.getAttractionList(), source.getItineraryList(), source.getLocationList(), source.getVersion());
+    }
+
+    /**
+     * Creates a snapshot of the current contents of the given lists, as the data of a Maplet at {@code version}.
+     */
+    MapletSnapshot(List<Attraction> attractions, List<Itinerary> itineraries, List<Location> locations,
+                   long version) {
+        requireNonNull(attractions);
+        requireNonNull(itineraries);
+        requireNonNull(locations);
+        this.attractions = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(attractions));
+        this.itineraries = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(itineraries));
+        this.locations = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(locations));
+        this.version = version;
+    }
+
+    @Override
+    public ObservableList<Attraction> getAttractionList() {
+        return attractions;
+    }
+
+    @Override
+    public ObservableList<Itinerary> getItineraryList() {
+        return itineraries;
+    }
+
+    @Override
+    public ObservableList<Location> getLocationList() {
+        return locations;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+}
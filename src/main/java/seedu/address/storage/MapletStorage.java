@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -17,6 +18,12 @@ public interface MapletStorage {
      */
     Path getMapletFilePath();
 
+    /**
+     * Returns the file paths of the backups of earlier versions of the data file, newest first.
+     * The backups may not exist.
+     */
+    List<Path> getMapletBackupFilePaths();
+
     /**
      * Returns Maplet data as a {@link ReadOnlyMaplet}.
      * Returns {@code Optional.empty()} if storage file is not found.
@@ -42,4 +49,12 @@ public interface MapletStorage {
      */
     void saveMaplet(ReadOnlyMaplet maplet, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code changes}, which were made in order to the lists of the {@link ReadOnlyMaplet} last saved to or read
+     * from the storage.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveMapletChanges(List<MapletChange> changes) throws IOException;
+
 }
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Counts of the requests to save Maplet data that were written to storage and that were skipped because the data had
+ * not changed since it was last saved.
+ * Guarantees: immutable.
+ */
+public class SaveMetrics {
+
+    private final long savedCount;
+    private final long skippedCount;
+
+    /**
+     * Constructs a {@code SaveMetrics} with the given counts, which must not be negative.
+     */
+    public SaveMetrics(long savedCount, long skippedCount) {
+        checkArgument(savedCount >= 0 && skippedCount >= 0, "Save counts should not be negative");
+        this.savedCount = savedCount;
+        this.skippedCount = skippedCount;
+    }
+
+    public long getSavedCount() {
+        return savedCount;
+    }
+
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SaveMetrics)) {
+            return false;
+        }
+
+        SaveMetrics otherSaveMetrics = (SaveMetrics) other;
+        return savedCount == otherSaveMetrics.savedCount
+                && skippedCount == otherSaveMetrics.skippedCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(savedCount, skippedCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("savedCount", savedCount)
+                .add("skippedCount", skippedCount)
+                .toString();
+    }
+}
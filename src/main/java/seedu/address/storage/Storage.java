@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyMaplet;
@@ -26,7 +27,32 @@ public interface Storage extends MapletStorage, UserPrefsStorage {
     @Override
     Optional<ReadOnlyMaplet> readMaplet() throws DataLoadingException;
 
+    /**
+     * Saves the given {@link ReadOnlyMaplet} to the storage, unless the storage already holds it as it is now.
+     * The write may finish after this returns, in which case its failure is given to the save failure handler.
+     * @param maplet cannot be null.
+     * @throws IOException if the write finished before this returned, and there was any problem writing to the file.
+     */
     @Override
     void saveMaplet(ReadOnlyMaplet maplet) throws IOException;
 
+    /**
+     * Sets the handler that is given the failure of each write that finishes after its save returned.
+     * The handler is called on the thread that wrote.
+     * @param saveFailureHandler cannot be null.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
+    /**
+     * Waits for the writes of every {@link ReadOnlyMaplet} saved so far to finish.
+     * @throws IOException if the last write failed, so the storage does not hold the Maplet as last saved.
+     */
+    void flushMaplet() throws IOException;
+
+    /**
+     * Returns the number of calls to {@link #saveMaplet(ReadOnlyMaplet)} that wrote to the storage and that were
+     * skipped, so far.
+     */
+    SaveMetrics getSaveMetrics();
+
 }
@@ -1,8 +1,15 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -13,19 +20,73 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of Maplet data in local storage.
+ *
+ * The first time a Maplet is saved, a {@link MapletSnapshot} of it is taken, and from then on the changes to its
+ * lists are recorded as they are made. Each later save of the same Maplet passes only the changes recorded since the
+ * last save to the save executor, which appends them to the data file's journal, so saving takes time in proportion
+ * to the changes rather than to the size of the Maplet, and the caller does not wait for the write if the executor
+ * runs it on another thread. Changes saved while an earlier write is in progress are written together once it is
+ * done, so a burst of saves results in a single write. A write that fails after its save returned is given to the save
+ * failure handler rather than to a later save, which has nothing to do with it, and the next save writes the whole
+ * Maplet again even if it has not changed.
+ *
+ * Saving is skipped if the same Maplet was last saved at its current version, since the data file already holds it.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private MapletStorage mapletStorage;
     private UserPrefsStorage userPrefsStorage;
+    // null if each save writes the Maplet data before it returns
+    private final Executor saveExecutor;
+    private volatile Consumer<IOException> saveFailureHandler = failure -> { };
+
+    // the fields below are shared with the save executor, and guarded by this
+    // the Maplet last saved and its version then, or null if the next save must write the whole Maplet
+    private ReadOnlyMaplet lastSavedMaplet = null;
+    private long lastSavedVersion;
+    // records the changes to the Maplet last saved, on the thread that changes and saves it
+    private MapletChangeRecorder changeRecorder = null;
+    // the snapshot to write first, if any, and the changes to write after it
+    private MapletSnapshot pendingSnapshot = null;
+    private List<MapletChange> pendingChanges = new ArrayList<>();
+    private boolean isWriteScheduled = false;
+    // the failure of the last write, or null if it succeeded
+    private IOException lastWriteFailure = null;
+    private long savedCount = 0;
+    private long skippedCount = 0;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code MapletStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code MapletStorage} and {@code UserPrefStorage}, which
+     * writes Maplet data before each save returns.
      */
     public StorageManager(MapletStorage mapletStorage, UserPrefsStorage userPrefsStorage) {
         this.mapletStorage = mapletStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveExecutor = null;
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code MapletStorage} and {@code UserPrefStorage}, which
+     * writes Maplet data with {@code saveExecutor}. Writes that fail are given to the save failure handler.
+     */
+    public StorageManager(MapletStorage mapletStorage, UserPrefsStorage userPrefsStorage, Executor saveExecutor) {
+        requireNonNull(saveExecutor);
+        this.mapletStorage = mapletStorage;
+        this.userPrefsStorage = userPrefsStorage;
+        this.saveExecutor = saveExecutor;
+    }
+
+    /**
+     * Returns an executor that writes Maplet data on a background thread.
+     * The thread does not keep the application running, so pending writes should be flushed before it exits.
+     */
+    public static Executor createBackgroundSaveExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "maplet-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     // ================ UserPrefs methods ==============================
@@ -53,6 +114,11 @@ public class StorageManager implements Storage {
         return mapletStorage.getMapletFilePath();
     }
 
+    @Override
+    public List<Path> getMapletBackupFilePaths() {
+        return mapletStorage.getMapletBackupFilePaths();
+    }
+
     @Override
     public Optional<ReadOnlyMaplet> readMaplet() throws DataLoadingException {
         return readMaplet(mapletStorage.getMapletFilePath());
@@ -60,19 +126,166 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyMaplet> readMaplet(Path filePath) throws DataLoadingException {
+        awaitWrites();
         logger.fine("Attempting to read data from file: " + filePath);
         return mapletStorage.readMaplet(filePath);
     }
 
+    /**
+     * {@inheritDoc}
+     * The write may still be in progress when this returns, unless this {@code StorageManager} was created without a
+     * save executor.
+     *
+     * @throws IOException if this {@code StorageManager} was created without a save executor, and the write failed.
+     */
     @Override
     public void saveMaplet(ReadOnlyMaplet maplet) throws IOException {
-        saveMaplet(maplet, mapletStorage.getMapletFilePath());
+        requireNonNull(maplet);
+        long version = maplet.getVersion();
+        boolean shouldScheduleWrite = false;
+        synchronized (this) {
+            if (maplet == lastSavedMaplet && version == lastSavedVersion) {
+                logger.fine("Skipping write to data file as the data has not changed");
+                skippedCount++;
+            } else {
+                if (pendingSnapshot != null || !pendingChanges.isEmpty()) {
+                    // the save waiting to be written is written together with this one
+                    skippedCount++;
+                }
+                if (maplet == lastSavedMaplet) {
+                    pendingChanges.addAll(changeRecorder.takeChanges());
+                } else {
+                    recordChangesOf(maplet);
+                }
+                lastSavedMaplet = maplet;
+                lastSavedVersion = version;
+                shouldScheduleWrite = !isWriteScheduled;
+                isWriteScheduled = true;
+            }
+        }
+
+        if (!shouldScheduleWrite) {
+            return;
+        }
+        if (saveExecutor != null) {
+            saveExecutor.execute(() -> writePendingSaves(failure -> saveFailureHandler.accept(failure)));
+            return;
+        }
+        List<IOException> failures = new ArrayList<>();
+        writePendingSaves(failures::add);
+        if (!failures.isEmpty()) {
+            throw failures.get(0);
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Takes a snapshot of the whole of {@code maplet} to be written, and records the changes made to it from now on.
+     */
+    private void recordChangesOf(ReadOnlyMaplet maplet) {
+        assert Thread.holdsLock(this);
+        if (changeRecorder != null) {
+            changeRecorder.stop();
+        }
+        changeRecorder = new MapletChangeRecorder(maplet);
+        pendingSnapshot = new MapletSnapshot(maplet);
+        pendingChanges.clear();
     }
 
     @Override
     public void saveMaplet(ReadOnlyMaplet maplet, Path filePath) throws IOException {
+        awaitWrites();
         logger.fine("Attempting to write to data file: " + filePath);
         mapletStorage.saveMaplet(maplet, filePath);
     }
 
+    @Override
+    public void saveMapletChanges(List<MapletChange> changes) throws IOException {
+        awaitWrites();
+        mapletStorage.saveMapletChanges(changes);
+    }
+
+    /**
+     * Writes the pending snapshot and changes until there are none left, and gives the failure of each write that
+     * fails to {@code failureHandler}.
+     */
+    private void writePendingSaves(Consumer<IOException> failureHandler) {
+        while (true) {
+            MapletSnapshot snapshot;
+            List<MapletChange> changes;
+            synchronized (this) {
+                snapshot = pendingSnapshot;
+                changes = pendingChanges;
+                pendingSnapshot = null;
+                pendingChanges = new ArrayList<>();
+                if (snapshot == null && changes.isEmpty()) {
+                    isWriteScheduled = false;
+                    notifyAll();
+                    return;
+                }
+            }
+
+            Path filePath = mapletStorage.getMapletFilePath();
+            logger.fine("Attempting to write to data file: " + filePath);
+            try {
+                if (snapshot != null) {
+                    mapletStorage.saveMaplet(snapshot, filePath);
+                }
+                if (!changes.isEmpty()) {
+                    mapletStorage.saveMapletChanges(changes);
+                }
+                synchronized (this) {
+                    savedCount++;
+                    lastWriteFailure = null;
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to write to data file " + filePath + ": " + e);
+                IOException failure = e instanceof IOException ? (IOException) e : new IOException(e);
+                synchronized (this) {
+                    lastWriteFailure = failure;
+                    lastSavedMaplet = null;
+                    if (pendingSnapshot == null) {
+                        // the changes are to data that was not written, so the next save writes the whole Maplet
+                        pendingChanges.clear();
+                    }
+                }
+                failureHandler.accept(failure);
+            }
+        }
+    }
+
+    @Override
+    public void flushMaplet() throws IOException {
+        awaitWrites();
+        synchronized (this) {
+            if (lastWriteFailure != null) {
+                throw lastWriteFailure;
+            }
+        }
+    }
+
+    private synchronized void awaitWrites() {
+        boolean isInterrupted = false;
+        while (isWriteScheduled) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public synchronized SaveMetrics getSaveMetrics() {
+        return new SaveMetrics(savedCount, skippedCount);
+    }
+
 }
@@ -1,8 +1,15 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,18 +24,72 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CompletionSupplier completionSupplier;
+    private final ContextMenu completionMenu = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CompletionSupplier}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CompletionSupplier completionSupplier) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.completionSupplier = completionSupplier;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                handleCompletionRequested();
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Handles the Tab button pressed event by completing the name being typed. If several names match, the text is
+     * completed as far as they agree, and the names are listed below the command box to choose from.
+     */
+    private void handleCompletionRequested() {
+        completionMenu.hide();
+        List<String> completions = completionSupplier.getCompletions(commandTextField.getText());
+        if (completions.isEmpty()) {
+            return;
+        }
+
+        setCommandText(getLongestCommonPrefix(completions));
+        if (completions.size() == 1) {
+            return;
+        }
+        completionMenu.getItems().clear();
+        for (String completion : completions) {
+            MenuItem item = new MenuItem(completion);
+            item.setOnAction(unused -> setCommandText(completion));
+            completionMenu.getItems().add(item);
+        }
+        completionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+    }
+
+    private void setCommandText(String commandText) {
+        // the completions may differ from the typed text in case, so the typed text is only replaced if it is longer
+        if (commandText.length() >= commandTextField.getText().length()) {
+            commandTextField.setText(commandText);
+            commandTextField.positionCaret(commandText.length());
+        }
+    }
+
+    private static String getLongestCommonPrefix(List<String> strings) {
+        String prefix = strings.get(0);
+        for (String string : strings) {
+            int length = 0;
+            while (length < prefix.length() && length < string.length()
+                    && prefix.charAt(length) == string.charAt(length)) {
+                length++;
+            }
+            prefix = prefix.substring(0, length);
+        }
+        return prefix;
     }
 
     /**
@@ -82,4 +143,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can complete the name being typed in a command.
+     */
+    @FunctionalInterface
+    public interface CompletionSupplier {
+        /**
+         * Returns the completions of the command text.
+         *
+         * @see seedu.address.logic.Logic#getCompletions(String)
+         */
+        List<String> getCompletions(String commandText);
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
@@ -42,6 +43,7 @@ public class MainWindow extends UiPart<Stage> {
     private ItineraryListPanel itineraryListPanel;
     private LocationListPanel locationListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
     private EditWindow editWindow;
 
@@ -149,10 +151,12 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getMapletFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getMapletFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        // saves fail on the thread that writes the data, after the command that saved has returned
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> statusBarFooter.showSaveFailure(message)));
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -262,6 +266,8 @@ public class MainWindow extends UiPart<Stage> {
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
+            // the save of this command has not failed yet, and one that fails later is shown again
+            statusBarFooter.showSaveLocation();
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             if (commandResult.isShowHelp()) {
@@ -14,6 +14,8 @@ public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
 
+    private final String saveLocationText;
+
     @FXML
     private Label saveLocationStatus;
 
@@ -22,7 +24,22 @@ public class StatusBarFooter extends UiPart<Region> {
      */
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
-        saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        saveLocationText = Paths.get(".").resolve(saveLocation).toString();
+        showSaveLocation();
+    }
+
+    /**
+     * Shows where the data is saved, in place of the message of a failed save.
+     */
+    public void showSaveLocation() {
+        saveLocationStatus.setText(saveLocationText);
+    }
+
+    /**
+     * Shows {@code message}, which tells the user that saving the data failed, in place of where it is saved.
+     */
+    public void showSaveFailure(String message) {
+        saveLocationStatus.setText(message);
     }
 
 }
@@ -1,14 +1,18 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.util.CollectionUtil.findDuplicateKeys;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +86,48 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void findDuplicateKeys_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> findDuplicateKeys(null, Function.identity()));
+        assertThrows(NullPointerException.class, () -> findDuplicateKeys(Collections.emptyList(), null));
+    }
+
+    @Test
+    public void findDuplicateKeys_noDuplicates_returnsEmptySet() {
+        assertTrue(findDuplicateKeys(Collections.emptyList(), Function.identity()).isEmpty());
+        assertTrue(findDuplicateKeys(Arrays.asList("a", "b", "c"), Function.identity()).isEmpty());
+    }
+
+    @Test
+    public void findDuplicateKeys_duplicates_returnsEveryDuplicateKeyInEncounterOrder() {
+        List<String> words = Arrays.asList("pear", "Apple", "plum", "apple", "peach", "pear", "pear");
+
+        // every key is reported once, even if it repeats more than twice
+        assertEquals(Arrays.asList("pear"), List.copyOf(findDuplicateKeys(words, Function.identity())));
+
+        // keys are compared using the extracted key rather than the items themselves
+        assertEquals(Arrays.asList("apple", "pear"),
+                List.copyOf(findDuplicateKeys(words, String::toLowerCase)));
+        assertEquals(Arrays.asList('p', 'a'),
+                List.copyOf(findDuplicateKeys(words, word -> word.toLowerCase().charAt(0))));
+    }
+
+    @Test
+    public void findDuplicateKeys_manyItems_eachKeyComparedAFewTimes() {
+        int[] comparisonCount = {0};
+        List<CountingKey> keys = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            keys.add(new CountingKey(i, comparisonCount));
+        }
+        keys.add(new CountingKey(42, comparisonCount));
+
+        assertEquals(List.of(keys.get(42)), List.copyOf(findDuplicateKeys(keys, Function.identity())));
+
+        // comparing every pair of keys would take 50 million comparisons
+        assertTrue(comparisonCount[0] <= 2 * keys.size(),
+                "Expected few comparisons, but made " + comparisonCount[0]);
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -105,4 +151,29 @@ public class CollectionUtilTest {
     private void assertNullPointerExceptionNotThrown(Collection<?> collection) {
         requireAllNonNull(collection);
     }
+
+    /**
+     * A key that counts the times it is hashed or compared for equality.
+     */
+    private static class CountingKey {
+        private final int value;
+        private final int[] comparisonCount;
+
+        CountingKey(int value, int[] comparisonCount) {
+            this.value = value;
+            this.comparisonCount = comparisonCount;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            comparisonCount[0]++;
+            return other instanceof CountingKey && value == ((CountingKey) other).value;
+        }
+
+        @Override
+        public int hashCode() {
+            comparisonCount[0]++;
+            return value;
+        }
+    }
 }
@@ -1,13 +1,32 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +39,149 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacesContents() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old contents");
+        FileUtil.writeToFile(file, "new");
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(Set.of(file), listFiles());
+    }
+
+    @Test
+    public void writeToFile_failsAtRandomOffsets_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        Random random = new Random(42);
+        String contents = randomContents(random);
+        FileUtil.writeToFile(file, contents);
+
+        for (int i = 0; i < 50; i++) {
+            String newContents = randomContents(random);
+            long crashOffset = random.nextInt(newContents.length());
+            FileUtil.ContentWriter contentWriter = out -> out.write(newContents.getBytes(StandardCharsets.UTF_8));
+
+            // an I/O error removes the temporary file
+            Set<Path> filesBefore = listFiles();
+            assertThrows(IOException.class, () -> FileUtil.writeToFile(file, contentWriter,
+                    channel -> new CrashingChannel(channel, crashOffset, new IOException("disk full"))));
+            assertEquals(contents, FileUtil.readFromFile(file));
+            assertEquals(filesBefore, listFiles());
+
+            // the process being killed leaves the temporary file behind, but never a partly written file
+            assertThrows(SimulatedCrash.class, () -> FileUtil.writeToFile(file, contentWriter,
+                    channel -> new CrashingChannel(channel, crashOffset, new SimulatedCrash())));
+            assertEquals(contents, FileUtil.readFromFile(file));
+
+            // a later write succeeds
+            contents = newContents;
+            FileUtil.writeToFile(file, contents);
+            assertEquals(contents, FileUtil.readFromFile(file));
+        }
+
+        FileUtil.deleteTemporaryFiles(file);
+        assertEquals(Set.of(file), listFiles());
+    }
+
+    @Test
+    public void writeToFile_existingFile_keepsPermissions() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old contents");
+        if (Files.getFileAttributeView(file, PosixFileAttributeView.class) == null) {
+            // only POSIX file systems have permissions to keep
+            return;
+        }
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-rw-r--");
+        Files.setPosixFilePermissions(file, permissions);
+
+        FileUtil.writeToFile(file, "new");
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void deleteTemporaryFiles_onlyTemporaryFilesOfFileDeleted() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        Set<Path> keptFiles = Set.of(file, testFolder.resolve("data.json.1"), testFolder.resolve("data.json.journal"),
+                testFolder.resolve("other.json.123.tmp"));
+        for (Path keptFile : keptFiles) {
+            Files.createFile(keptFile);
+        }
+        Files.createFile(testFolder.resolve("data.json.0d5e.tmp"));
+        Files.createFile(testFolder.resolve("data.json8412395.tmp"));
+
+        FileUtil.deleteTemporaryFiles(file);
+        assertEquals(keptFiles, listFiles());
+
+        // a missing directory has no temporary files
+        FileUtil.deleteTemporaryFiles(testFolder.resolve("missing").resolve("data.json"));
+    }
+
+    @Test
+    public void appendToFile_existingFile_appendsContents() throws Exception {
+        Path file = testFolder.resolve("journal");
+        FileUtil.appendToFile(file, "first\n");
+        FileUtil.appendToFile(file, "second\n");
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
+    private Set<Path> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.collect(Collectors.toSet());
+        }
+    }
+
+    private static String randomContents(Random random) {
+        StringBuilder contents = new StringBuilder();
+        int length = 1 + random.nextInt(20_000);
+        for (int i = 0; i < length; i++) {
+            contents.append((char) ('a' + random.nextInt(26)));
+        }
+        return contents.toString();
+    }
+
+    /**
+     * Stands in for the process being killed, which {@code FileUtil} cannot clean up after.
+     */
+    private static class SimulatedCrash extends Error {
+    }
+
+    /**
+     * A channel that writes the first {@code bytesBeforeCrash} bytes it is given, then throws {@code crash}.
+     */
+    private static class CrashingChannel implements WritableByteChannel {
+        private final WritableByteChannel channel;
+        private final Throwable crash;
+        private long bytesBeforeCrash;
+
+        CrashingChannel(WritableByteChannel channel, long bytesBeforeCrash, Throwable crash) {
+            this.channel = channel;
+            this.bytesBeforeCrash = bytesBeforeCrash;
+            this.crash = crash;
+        }
+
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            if (bytesBeforeCrash == 0) {
+                if (crash instanceof IOException) {
+                    throw (IOException) crash;
+                }
+                throw (Error) crash;
+            }
+            ByteBuffer part = source.duplicate();
+            part.limit(part.position() + (int) Math.min(source.remaining(), bytesBeforeCrash));
+            int written = channel.write(part);
+            source.position(source.position() + written);
+            bytesBeforeCrash -= written;
+            return written;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
 }
@@ -0,0 +1,141 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    // every string of up to 3 characters over this alphabet is checked against the equivalent regex
+    private static final String ALPHABET = "aZ09 _-\t\u00e9";
+
+    //---------------- Tests for isAlphanumeric --------------------------------------
+
+    @Test
+    public void isAlphanumeric() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumeric(null));
+
+        assertFalse(ValidationUtil.isAlphanumeric("")); // empty string
+        assertFalse(ValidationUtil.isAlphanumeric("a b")); // space
+        assertFalse(ValidationUtil.isAlphanumeric("caf\u00e9")); // non-ASCII letter
+
+        assertTrue(ValidationUtil.isAlphanumeric("a"));
+        assertTrue(ValidationUtil.isAlphanumeric("Museum2"));
+    }
+
+    @Test
+    public void isAlphanumeric_matchesRegex() {
+        assertEquivalentToRegex("\\p{Alnum}+", ValidationUtil::isAlphanumeric);
+    }
+
+    //---------------- Tests for isAlphanumericWords --------------------------------------
+
+    @Test
+    public void isAlphanumericWords() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericWords(null));
+
+        assertFalse(ValidationUtil.isAlphanumericWords("")); // empty string
+        assertFalse(ValidationUtil.isAlphanumericWords(" Zoo")); // leading space
+        assertFalse(ValidationUtil.isAlphanumericWords("Zoo\tPark")); // whitespace other than space
+
+        assertTrue(ValidationUtil.isAlphanumericWords("Zoo"));
+        assertTrue(ValidationUtil.isAlphanumericWords("Night Safari 2 "));
+    }
+
+    @Test
+    public void isAlphanumericWords_matchesRegex() {
+        assertEquivalentToRegex("[\\p{Alnum}][\\p{Alnum} ]*", ValidationUtil::isAlphanumericWords);
+    }
+
+    //---------------- Tests for isIntegerInRange --------------------------------------
+
+    @Test
+    public void isIntegerInRange() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isIntegerInRange(null, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> ValidationUtil.isIntegerInRange("1", -1, 10));
+        assertThrows(IllegalArgumentException.class, () -> ValidationUtil.isIntegerInRange("1", 10, 1));
+
+        assertFalse(ValidationUtil.isIntegerInRange("", 1, 10)); // empty string
+        assertFalse(ValidationUtil.isIntegerInRange("0", 1, 10)); // below range
+        assertFalse(ValidationUtil.isIntegerInRange("11", 1, 10)); // above range
+        assertFalse(ValidationUtil.isIntegerInRange("01", 1, 10)); // leading zero
+        assertFalse(ValidationUtil.isIntegerInRange("+1", 1, 10)); // sign
+        assertFalse(ValidationUtil.isIntegerInRange(" 1", 1, 10)); // whitespace
+        assertFalse(ValidationUtil.isIntegerInRange("99999999999", 0, Integer.MAX_VALUE)); // too many digits
+
+        assertTrue(ValidationUtil.isIntegerInRange("1", 1, 10)); // lower bound
+        assertTrue(ValidationUtil.isIntegerInRange("10", 1, 10)); // upper bound
+        assertTrue(ValidationUtil.isIntegerInRange("0", 0, 0));
+        assertTrue(ValidationUtil.isIntegerInRange("2147483647", 0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void isIntegerInRange_matchesRegex() {
+        assertEquivalentToRegex("[1-9]|10", s -> ValidationUtil.isIntegerInRange(s, 1, 10));
+        for (int i = -5; i < 1000; i++) {
+            String s = String.valueOf(i);
+            assertEquals(s.matches("[1-9]|10"), ValidationUtil.isIntegerInRange(s, 1, 10), s);
+        }
+    }
+
+    //---------------- Tests for isTwentyFourHourTime --------------------------------------
+
+    @Test
+    public void isTwentyFourHourTime() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isTwentyFourHourTime(null));
+
+        assertFalse(ValidationUtil.isTwentyFourHourTime("")); // empty string
+        assertFalse(ValidationUtil.isTwentyFourHourTime("900")); // too short
+        assertFalse(ValidationUtil.isTwentyFourHourTime("2400")); // hours out of range
+        assertFalse(ValidationUtil.isTwentyFourHourTime("1260")); // minutes out of range
+        assertFalse(ValidationUtil.isTwentyFourHourTime("12:30")); // separator
+
+        assertTrue(ValidationUtil.isTwentyFourHourTime("0000"));
+        assertTrue(ValidationUtil.isTwentyFourHourTime("2359"));
+    }
+
+    @Test
+    public void isTwentyFourHourTime_matchesRegex() {
+        Pattern pattern = Pattern.compile("([0-1][0-9]|2[0-3])[0-5][0-9]");
+        for (int i = 0; i < 10000; i++) {
+            String s = String.format("%04d", i);
+            assertEquals(pattern.matcher(s).matches(), ValidationUtil.isTwentyFourHourTime(s), s);
+        }
+        assertEquivalentToRegex(pattern.pattern(), ValidationUtil::isTwentyFourHourTime);
+    }
+
+    /**
+     * Asserts that {@code validator} accepts exactly the strings over {@code ALPHABET}, of up to 3 characters, that
+     * match {@code regex}.
+     */
+    private void assertEquivalentToRegex(String regex, Predicate<String> validator) {
+        Pattern pattern = Pattern.compile(regex);
+        for (String s : allStringsUpToLength(3)) {
+            assertEquals(pattern.matcher(s).matches(), validator.test(s), "\"" + s + "\"");
+        }
+    }
+
+    private List<String> allStringsUpToLength(int maxLength) {
+        List<String> strings = new ArrayList<>();
+        strings.add("");
+        int start = 0;
+        for (int length = 1; length <= maxLength; length++) {
+            int end = strings.size();
+            for (int i = start; i < end; i++) {
+                for (char c : ALPHABET.toCharArray()) {
+                    strings.add(strings.get(i) + c);
+                }
+            }
+            start = end;
+        }
+        return strings;
+    }
+}
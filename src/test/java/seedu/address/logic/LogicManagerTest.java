@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_ATTRACTION_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ACTIVITIES_DESC_AMY;
@@ -16,6 +17,8 @@ import static seedu.address.testutil.TypicalAttractions.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -85,6 +88,29 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_backgroundSaveFails_failureMessageGivenToHandler() throws Exception {
+        JsonMapletStorage mapletStorage = new JsonMapletStorage(temporaryFolder.resolve("ExceptionMaplet.json")) {
+            @Override
+            public void saveMaplet(ReadOnlyMaplet maplet, Path filePath) throws IOException {
+                throw DUMMY_AD_EXCEPTION;
+            }
+        };
+        List<Runnable> writes = new ArrayList<>();
+        StorageManager storage = new StorageManager(mapletStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json")), writes::add);
+        logic = new LogicManager(model, storage);
+        List<String> failureMessages = new ArrayList<>();
+        logic.setSaveFailureHandler(failureMessages::add);
+
+        // the command succeeds, and the failure of its save is reported once the write fails
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertTrue(failureMessages.isEmpty());
+        writes.remove(0).run();
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT,
+                DUMMY_AD_EXCEPTION.getMessage())), failureMessages);
+    }
+
     @Test
     public void getFilteredAttractionList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredAttractionList().remove(0));
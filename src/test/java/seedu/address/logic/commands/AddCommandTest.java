@@ -7,26 +7,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAttractions.ALICE;
 
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
-import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
-import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Maplet;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyMaplet;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.attraction.Attraction;
-import seedu.address.model.location.Location;
-import seedu.address.model.location.LocationName;
 import seedu.address.testutil.AttractionBuilder;
+import seedu.address.testutil.ModelStub;
 
 public class AddCommandTest {
 
@@ -88,162 +81,6 @@ public class AddCommandTest {
         assertEquals(expected, addCommand.toString());
     }
 
-    /**
-     * A default model stub that have all of the methods failing.
-     */
-    private class ModelStub implements Model {
-        @Override
-        public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyUserPrefs getUserPrefs() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public GuiSettings getGuiSettings() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setGuiSettings(GuiSettings guiSettings) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Path getMapletFilePath() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setMapletFilePath(Path mapletFilePath) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addAttraction(Attraction attraction) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addLocation(Location location) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setLocation(Location target, Location editedLocation) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setMaplet(ReadOnlyMaplet newData) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyMaplet getMaplet() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasAttraction(Attraction attraction) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasLocation(Location location) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasLocationName(LocationName locationName) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean isAttractionInAnyItinerary(Attraction attraction) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean isAttractionInAnyLocation(Attraction attraction) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deleteAttraction(Attraction target) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deleteLocation(LocationName locationName) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setAttraction(Attraction target, Attraction editedAttraction) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Attraction> getFilteredAttractionList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Location> getLocationList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredAttractionList(Predicate<Attraction> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateSortedAttractionList(Comparator<Attraction> comparator) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasItinerary(seedu.address.model.itinerary.Itinerary itinerary) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deleteItinerary(seedu.address.model.itinerary.Itinerary itinerary) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addItinerary(seedu.address.model.itinerary.Itinerary itinerary) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setItinerary(seedu.address.model.itinerary.Itinerary target,
-                seedu.address.model.itinerary.Itinerary editedItinerary) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<seedu.address.model.itinerary.Itinerary> getFilteredItineraryList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredItineraryList(Predicate<seedu.address.model.itinerary.Itinerary> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateSortedItineraryList(Comparator<seedu.address.model.itinerary.Itinerary> comparator) {
-            throw new AssertionError("This method should not be called.");
-        }
-    }
-
     /**
      * A Model stub that contains a single attraction.
      */
@@ -9,32 +9,25 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAttractions.ALICE;
 import static seedu.address.testutil.TypicalAttractions.BENSON;
 
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
-import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.location.AddLocationCommand;
-import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyMaplet;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.attraction.Attraction;
-import seedu.address.model.itinerary.Itinerary;
 import seedu.address.model.location.Location;
 import seedu.address.model.location.LocationName;
 import seedu.address.testutil.LocationBuilder;
+import seedu.address.testutil.ModelStub;
 
 public class AddLocationCommandTest {
 
@@ -114,158 +107,6 @@ public class AddLocationCommandTest {
         assertFalse(addSingaporeCommand.equals(1));
     }
 
-    private static class ModelStub implements Model {
-        @Override
-        public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyUserPrefs getUserPrefs() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public GuiSettings getGuiSettings() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setGuiSettings(GuiSettings guiSettings) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Path getMapletFilePath() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setMapletFilePath(Path mapletFilePath) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setMaplet(ReadOnlyMaplet maplet) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyMaplet getMaplet() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasAttraction(Attraction attraction) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasLocation(Location location) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasLocationName(LocationName locationName) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean isAttractionInAnyItinerary(Attraction attraction) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deleteAttraction(Attraction target) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addAttraction(Attraction attraction) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addLocation(Location location) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setLocation(Location target, Location editedLocation) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean isAttractionInAnyLocation(Attraction attraction) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setAttraction(Attraction target, Attraction editedAttraction) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deleteLocation(LocationName locationName) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Attraction> getFilteredAttractionList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Location> getLocationList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredAttractionList(Predicate<Attraction> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateSortedAttractionList(Comparator<Attraction> comparator) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasItinerary(Itinerary itinerary) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deleteItinerary(Itinerary itinerary) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addItinerary(Itinerary itinerary) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setItinerary(Itinerary target, Itinerary editedItinerary) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Itinerary> getFilteredItineraryList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredItineraryList(Predicate<Itinerary> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateSortedItineraryList(Comparator<Itinerary> comparator) {
-            throw new AssertionError("This method should not be called.");
-        }
-    }
-
     private static class ModelStubAcceptingLocationAdded extends ModelStub {
         protected final ObservableList<Location> locations = FXCollections.observableArrayList();
         private final ObservableList<Attraction> filteredAttractions = FXCollections.observableArrayList();
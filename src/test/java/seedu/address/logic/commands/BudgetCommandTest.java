@@ -0,0 +1,127 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_ATTRACTIONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAttractions.ALICE;
+import static seedu.address.testutil.TypicalAttractions.getTypicalMaplet;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Maplet;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.attraction.Price;
+import seedu.address.model.attraction.PriceRangePredicate;
+import seedu.address.testutil.AttractionBuilder;
+import seedu.address.testutil.MapletBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code BudgetCommand}.
+ */
+public class BudgetCommandTest {
+    private static final Attraction FREE = new AttractionBuilder().withName("Free").withPrice("0").build();
+    private static final Attraction PRICY_SGD = new AttractionBuilder().withName("Pricy").withPrice("SGD 50")
+            .build();
+
+    private Model model = new ModelManager(getTypicalMaplet(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalMaplet(), new UserPrefs());
+
+    @Test
+    public void constructor_invalidPercent_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BudgetCommand(0));
+        assertThrows(IllegalArgumentException.class, () -> new BudgetCommand(101));
+    }
+
+    @Test
+    public void equals() {
+        PriceRangePredicate firstPredicate = PriceRangePredicate.atMost(new Price("10"));
+        PriceRangePredicate secondPredicate = PriceRangePredicate.atMost(new Price("20"));
+
+        BudgetCommand budgetFirstCommand = new BudgetCommand(firstPredicate);
+
+        // same object -> returns true
+        assertTrue(budgetFirstCommand.equals(budgetFirstCommand));
+
+        // same values -> returns true
+        assertTrue(budgetFirstCommand.equals(new BudgetCommand(PriceRangePredicate.atMost(new Price("10")))));
+        assertTrue(new BudgetCommand(25).equals(new BudgetCommand(25)));
+        assertTrue(new BudgetCommand(25).equals(new BudgetCommand(25, "")));
+        assertTrue(new BudgetCommand(25, "SGD").equals(new BudgetCommand(25, "SGD")));
+
+        // different types -> returns false
+        assertFalse(budgetFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(budgetFirstCommand.equals(null));
+
+        // different budget -> returns false
+        assertFalse(budgetFirstCommand.equals(new BudgetCommand(secondPredicate)));
+        assertFalse(budgetFirstCommand.equals(new BudgetCommand(25)));
+        assertFalse(new BudgetCommand(25).equals(new BudgetCommand(50)));
+        assertFalse(new BudgetCommand(25).equals(new BudgetCommand(25, "SGD")));
+        assertFalse(new BudgetCommand(25, "SGD").equals(new BudgetCommand(25, "USD")));
+    }
+
+    @Test
+    public void execute_priceTooLow_noAttractionFound() {
+        String expectedMessage = String.format(MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, 0);
+        PriceRangePredicate predicate = PriceRangePredicate.atMost(new Price("14.999"));
+        expectedModel.updateFilteredAttractionList(predicate);
+        assertCommandSuccess(new BudgetCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredAttractionList());
+    }
+
+    @Test
+    public void execute_rangeAndPercent_attractionsFound() {
+        Maplet maplet = new MapletBuilder().withAttraction(ALICE).withAttraction(FREE).withAttraction(PRICY_SGD)
+                .build();
+        model = new ModelManager(maplet, new UserPrefs());
+        expectedModel = new ModelManager(maplet, new UserPrefs());
+
+        PriceRangePredicate predicate = new PriceRangePredicate(new Price("15"), new Price("60"));
+        expectedModel.updateFilteredAttractionList(predicate);
+        assertCommandSuccess(new BudgetCommand(predicate), model,
+                String.format(MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, 2), expectedModel);
+        assertEquals(Arrays.asList(ALICE, PRICY_SGD), model.getFilteredAttractionList());
+
+        expectedModel.updateFilteredAttractionList(PriceRangePredicate.atMost(new Price("15")));
+        assertCommandSuccess(new BudgetCommand(66), model,
+                String.format(MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, 2), expectedModel);
+        assertEquals(Arrays.asList(ALICE, FREE), model.getFilteredAttractionList());
+    }
+
+    @Test
+    public void execute_percentInCurrency_onlyAttractionsInCurrencyFound() {
+        Attraction cheapSgd = new AttractionBuilder().withName("Cheap").withPrice("SGD 5").build();
+        Maplet maplet = new MapletBuilder().withAttraction(ALICE).withAttraction(FREE).withAttraction(PRICY_SGD)
+                .withAttraction(cheapSgd).build();
+        model = new ModelManager(maplet, new UserPrefs());
+        expectedModel = new ModelManager(maplet, new UserPrefs());
+
+        expectedModel.findAttractionsInCheapestPercent("SGD", 50);
+        assertCommandSuccess(new BudgetCommand(50, "SGD"), model,
+                String.format(MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(Arrays.asList(cheapSgd), model.getFilteredAttractionList());
+
+        // without a currency, the amounts are compared alone
+        new BudgetCommand(50).execute(model);
+        assertEquals(Arrays.asList(FREE, cheapSgd), model.getFilteredAttractionList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        PriceRangePredicate predicate = PriceRangePredicate.atMost(new Price("10"));
+        String expected = BudgetCommand.class.getCanonicalName() + "{predicate=" + predicate
+                + ", percent=null, currencyCode=null}";
+        assertEquals(expected, new BudgetCommand(predicate).toString());
+    }
+}
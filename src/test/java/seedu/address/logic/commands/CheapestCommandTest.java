@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_ATTRACTIONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAttractions.ALICE;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Maplet;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.testutil.AttractionBuilder;
+import seedu.address.testutil.MapletBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code CheapestCommand}.
+ */
+public class CheapestCommandTest {
+    private static final Attraction FREE = new AttractionBuilder().withName("Free").withPrice("0").build();
+    private static final Attraction PRICY_SGD = new AttractionBuilder().withName("Pricy").withPrice("SGD 50")
+            .build();
+    private static final Attraction CHEAP_SGD = new AttractionBuilder().withName("Cheap").withPrice("SGD 5")
+            .build();
+
+    private final Maplet maplet = new MapletBuilder().withAttraction(PRICY_SGD).withAttraction(ALICE)
+            .withAttraction(FREE).withAttraction(CHEAP_SGD).build();
+    private Model model = new ModelManager(maplet, new UserPrefs());
+    private Model expectedModel = new ModelManager(maplet, new UserPrefs());
+
+    @Test
+    public void constructor_nonPositiveCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CheapestCommand(0, ""));
+    }
+
+    @Test
+    public void constructor_nullCurrencyCode_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CheapestCommand(3, null));
+    }
+
+    @Test
+    public void equals() {
+        CheapestCommand cheapestThreeCommand = new CheapestCommand(3, "");
+
+        // same object -> returns true
+        assertTrue(cheapestThreeCommand.equals(cheapestThreeCommand));
+
+        // same values -> returns true
+        assertTrue(cheapestThreeCommand.equals(new CheapestCommand(3, "")));
+
+        // different types -> returns false
+        assertFalse(cheapestThreeCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(cheapestThreeCommand.equals(null));
+
+        // different count -> returns false
+        assertFalse(cheapestThreeCommand.equals(new CheapestCommand(4, "")));
+
+        // different currency -> returns false
+        assertFalse(cheapestThreeCommand.equals(new CheapestCommand(3, "SGD")));
+    }
+
+    @Test
+    public void execute_anyCurrency_cheapestAttractionsListedFirst() {
+        String expectedMessage = String.format(MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, 3);
+        expectedModel.findCheapestAttractions("", 3);
+        assertCommandSuccess(new CheapestCommand(3, ""), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(FREE, CHEAP_SGD, ALICE), model.getFilteredAttractionList());
+    }
+
+    @Test
+    public void execute_currency_onlyAttractionsInCurrencyListed() {
+        String expectedMessage = String.format(MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, 2);
+        expectedModel.findCheapestAttractions("SGD", 10);
+        assertCommandSuccess(new CheapestCommand(10, "SGD"), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CHEAP_SGD, PRICY_SGD), model.getFilteredAttractionList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        CheapestCommand cheapestCommand = new CheapestCommand(3, "SGD");
+        String expected = CheapestCommand.class.getCanonicalName() + "{count=3, currencyCode=SGD}";
+        assertEquals(expected, cheapestCommand.toString());
+    }
+}
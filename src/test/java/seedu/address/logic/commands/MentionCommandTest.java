@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_ATTRACTIONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAttractions.BENSON;
+import static seedu.address.testutil.TypicalAttractions.getTypicalMaplet;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code MentionCommand}.
+ */
+public class MentionCommandTest {
+    private Model model = new ModelManager(getTypicalMaplet(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalMaplet(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        MentionCommand mentionFirstCommand = new MentionCommand("first");
+        MentionCommand mentionSecondCommand = new MentionCommand("second");
+
+        // same object -> returns true
+        assertTrue(mentionFirstCommand.equals(mentionFirstCommand));
+
+        // same values -> returns true
+        assertTrue(mentionFirstCommand.equals(new MentionCommand("first")));
+
+        // different types -> returns false
+        assertFalse(mentionFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(mentionFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(mentionFirstCommand.equals(mentionSecondCommand));
+    }
+
+    @Test
+    public void execute_unmentionedKeyword_noAttractionFound() {
+        String expectedMessage = String.format(MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredAttractionList(unused -> false);
+        assertCommandSuccess(new MentionCommand("snorkelling"), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredAttractionList());
+    }
+
+    @Test
+    public void execute_mentionedKeyword_attractionFound() {
+        String expectedMessage = String.format(MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, 1);
+        expectedModel.findAttractionsMentioning("a war", MentionCommand.MAX_RESULTS);
+        assertCommandSuccess(new MentionCommand("a war"), model, expectedMessage, expectedModel);
+        assertEquals(List.of(BENSON), model.getFilteredAttractionList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        MentionCommand mentionCommand = new MentionCommand("sunset views");
+        String expected = MentionCommand.class.getCanonicalName() + "{query=sunset views}";
+        assertEquals(expected, mentionCommand.toString());
+    }
+}
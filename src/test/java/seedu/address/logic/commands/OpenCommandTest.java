@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_ATTRACTIONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAttractions.ALICE;
+import static seedu.address.testutil.TypicalAttractions.BENSON;
+import static seedu.address.testutil.TypicalAttractions.getTypicalMaplet;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Maplet;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.attraction.OpenDuringPredicate;
+import seedu.address.model.attraction.OpeningHours;
+import seedu.address.testutil.AttractionBuilder;
+import seedu.address.testutil.MapletBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code OpenCommand}.
+ */
+public class OpenCommandTest {
+    private static final Attraction NIGHT_SAFARI = new AttractionBuilder().withName("Night Safari")
+            .withOpeningHours("1915 - 0015").build();
+    private static final Attraction CHANGI_AIRPORT = new AttractionBuilder().withName("Changi Airport")
+            .withOpeningHours("24-Hour").build();
+
+    private Model model = new ModelManager(getTypicalMaplet(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalMaplet(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        OpenDuringPredicate firstPredicate = OpenDuringPredicate.at("1200");
+        OpenDuringPredicate secondPredicate = new OpenDuringPredicate(new OpeningHours("1200 - 1300"));
+
+        OpenCommand openFirstCommand = new OpenCommand(firstPredicate);
+        OpenCommand openSecondCommand = new OpenCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(openFirstCommand.equals(openFirstCommand));
+
+        // same values -> returns true
+        assertTrue(openFirstCommand.equals(new OpenCommand(OpenDuringPredicate.at("1200"))));
+
+        // different types -> returns false
+        assertFalse(openFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(openFirstCommand.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(openFirstCommand.equals(openSecondCommand));
+    }
+
+    @Test
+    public void execute_closedTime_noAttractionFound() {
+        String expectedMessage = String.format(MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, 0);
+        OpenDuringPredicate predicate = OpenDuringPredicate.at("1500");
+        expectedModel.updateFilteredAttractionList(predicate);
+        assertCommandSuccess(new OpenCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredAttractionList());
+    }
+
+    @Test
+    public void execute_openTimeAndSpan_attractionsFound() {
+        Maplet maplet = new MapletBuilder().withAttraction(ALICE).withAttraction(NIGHT_SAFARI)
+                .withAttraction(CHANGI_AIRPORT).withAttraction(BENSON).build();
+        model = new ModelManager(maplet, new UserPrefs());
+        expectedModel = new ModelManager(maplet, new UserPrefs());
+
+        assertOpenCommandSuccess(OpenDuringPredicate.at("1459"), Arrays.asList(ALICE, CHANGI_AIRPORT, BENSON));
+        assertOpenCommandSuccess(OpenDuringPredicate.at("0000"), Arrays.asList(NIGHT_SAFARI, CHANGI_AIRPORT));
+        assertOpenCommandSuccess(new OpenDuringPredicate(new OpeningHours("2300 - 0015")),
+                Arrays.asList(NIGHT_SAFARI, CHANGI_AIRPORT));
+        assertOpenCommandSuccess(new OpenDuringPredicate(new OpeningHours("2300 - 0016")),
+                Arrays.asList(CHANGI_AIRPORT));
+    }
+
+    @Test
+    public void toStringMethod() {
+        OpenDuringPredicate predicate = OpenDuringPredicate.at("1930");
+        OpenCommand openCommand = new OpenCommand(predicate);
+        String expected = OpenCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, openCommand.toString());
+    }
+
+    private void assertOpenCommandSuccess(OpenDuringPredicate predicate, List<Attraction> expectedAttractions) {
+        String expectedMessage = String.format(MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, expectedAttractions.size());
+        expectedModel.updateFilteredAttractionList(predicate);
+        assertCommandSuccess(new OpenCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(expectedAttractions, model.getFilteredAttractionList());
+    }
+}
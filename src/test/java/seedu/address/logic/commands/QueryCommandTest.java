@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_ATTRACTIONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAttractions.ALICE;
+import static seedu.address.testutil.TypicalAttractions.BENSON;
+import static seedu.address.testutil.TypicalAttractions.DANIEL;
+import static seedu.address.testutil.TypicalAttractions.GEORGE;
+import static seedu.address.testutil.TypicalAttractions.getTypicalMaplet;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attraction.AttractionQuery;
+import seedu.address.model.attraction.Priority;
+import seedu.address.model.attraction.QueryTerm;
+import seedu.address.model.attraction.QueryTerm.Comparison;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private Model model = new ModelManager(getTypicalMaplet(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalMaplet(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        AttractionQuery firstQuery = new AttractionQuery(
+                Collections.singletonList(QueryTerm.matchesTags(TagQuery.allOf(new Tag("first")))));
+        AttractionQuery secondQuery = new AttractionQuery(
+                Collections.singletonList(QueryTerm.matchesTags(TagQuery.allOf(new Tag("second")))));
+
+        QueryCommand queryFirstCommand = new QueryCommand(firstQuery);
+        QueryCommand querySecondCommand = new QueryCommand(secondQuery);
+
+        // same object -> returns true
+        assertTrue(queryFirstCommand.equals(queryFirstCommand));
+
+        // same values -> returns true
+        assertTrue(queryFirstCommand.equals(new QueryCommand(new AttractionQuery(
+                Collections.singletonList(QueryTerm.matchesTags(TagQuery.allOf(new Tag("first"))))))));
+
+        // different types -> returns false
+        assertFalse(queryFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(queryFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(queryFirstCommand.equals(querySecondCommand));
+    }
+
+    @Test
+    public void execute_tagAndPriority_matchingAttractionsFound() {
+        String expectedMessage = String.format(MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, 2);
+        AttractionQuery query = new AttractionQuery(Arrays.asList(
+                QueryTerm.matchesTags(TagQuery.allOf(new Tag("friends"))),
+                QueryTerm.comparePriority(Comparison.AT_LEAST, new Priority("8"))));
+        expectedModel.updateFilteredAttractionList(query);
+        assertCommandSuccess(new QueryCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredAttractionList());
+    }
+
+    @Test
+    public void execute_addressAndPriority_matchingAttractionsFound() {
+        String expectedMessage = String.format(MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, 2);
+        AttractionQuery query = new AttractionQuery(Arrays.asList(QueryTerm.addressContains("STREET"),
+                QueryTerm.comparePriority(Comparison.LESS_THAN, new Priority("7"))));
+        expectedModel.updateFilteredAttractionList(query);
+        assertCommandSuccess(new QueryCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(DANIEL, GEORGE), model.getFilteredAttractionList());
+    }
+
+    @Test
+    public void execute_noMatches_noAttractionFound() {
+        String expectedMessage = String.format(MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, 0);
+        AttractionQuery query = new AttractionQuery(List.of(QueryTerm.isOpenAt("2300")));
+        expectedModel.updateFilteredAttractionList(query);
+        assertCommandSuccess(new QueryCommand(query), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredAttractionList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        AttractionQuery query = new AttractionQuery(List.of(QueryTerm.matchesTags(TagQuery.allOf(new Tag("museum")))));
+        QueryCommand queryCommand = new QueryCommand(query);
+        String expected = QueryCommand.class.getCanonicalName() + "{query=" + query + "}";
+        assertEquals(expected, queryCommand.toString());
+    }
+}
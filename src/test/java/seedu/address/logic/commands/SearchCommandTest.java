@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_ATTRACTIONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAttractions.BENSON;
+import static seedu.address.testutil.TypicalAttractions.DANIEL;
+import static seedu.address.testutil.TypicalAttractions.getTypicalMaplet;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalMaplet(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalMaplet(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand searchFirstCommand = new SearchCommand("first");
+        SearchCommand searchSecondCommand = new SearchCommand("second");
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchCommand("first")));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_noSimilarAttraction_noAttractionFound() {
+        String expectedMessage = String.format(MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredAttractionList(unused -> false);
+        assertCommandSuccess(new SearchCommand("chinatown"), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredAttractionList());
+    }
+
+    @Test
+    public void execute_typo_mostSimilarAttractionsFirst() {
+        String expectedMessage = String.format(MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, 2);
+        expectedModel.findAttractionsSimilarTo("danel meier", SearchCommand.MAX_RESULTS);
+        assertCommandSuccess(new SearchCommand("danel meier"), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(DANIEL, BENSON), model.getFilteredAttractionList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        SearchCommand searchCommand = new SearchCommand("marina bay");
+        String expected = SearchCommand.class.getCanonicalName() + "{query=marina bay}";
+        assertEquals(expected, searchCommand.toString());
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_ATTRACTIONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAttractions.ALICE;
+import static seedu.address.testutil.TypicalAttractions.BENSON;
+import static seedu.address.testutil.TypicalAttractions.CARL;
+import static seedu.address.testutil.TypicalAttractions.DANIEL;
+import static seedu.address.testutil.TypicalAttractions.FIONA;
+import static seedu.address.testutil.TypicalAttractions.GEORGE;
+import static seedu.address.testutil.TypicalAttractions.getTypicalMaplet;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.SortCriterion;
+import seedu.address.model.SortCriterion.Field;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attraction.AttractionComparator;
+import seedu.address.model.attraction.NameContainsKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code TopCommand}.
+ */
+public class TopCommandTest {
+    private static final AttractionComparator BY_PRIORITY =
+            new AttractionComparator(List.of(new SortCriterion(Field.PRIORITY)));
+    private static final AttractionComparator BY_PRIORITY_ASCENDING =
+            new AttractionComparator(List.of(new SortCriterion(Field.PRIORITY, true)));
+
+    private Model model = new ModelManager(getTypicalMaplet(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalMaplet(), new UserPrefs());
+
+    @Test
+    public void constructor_nonPositiveCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TopCommand(0, BY_PRIORITY));
+    }
+
+    @Test
+    public void equals() {
+        TopCommand topThreeCommand = new TopCommand(3, BY_PRIORITY);
+
+        // same object -> returns true
+        assertTrue(topThreeCommand.equals(topThreeCommand));
+
+        // same values -> returns true
+        assertTrue(topThreeCommand.equals(new TopCommand(3,
+                new AttractionComparator(List.of(new SortCriterion(Field.PRIORITY))))));
+
+        // different types -> returns false
+        assertFalse(topThreeCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(topThreeCommand.equals(null));
+
+        // different count -> returns false
+        assertFalse(topThreeCommand.equals(new TopCommand(4, BY_PRIORITY)));
+
+        // different comparator -> returns false
+        assertFalse(topThreeCommand.equals(new TopCommand(3, BY_PRIORITY_ASCENDING)));
+    }
+
+    @Test
+    public void execute_allAttractionsListed_firstAttractionsListed() {
+        String expectedMessage = String.format(MESSAGE_ATTRACTIONS_LISTED_OVERVIEW, 3);
+        expectedModel.findFirstAttractions(BY_PRIORITY, 3);
+        assertCommandSuccess(new TopCommand(3, BY_PRIORITY), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), model.getFilteredAttractionList());
+
+        // the listed attractions are ranked again
+        new TopCommand(2, BY_PRIORITY_ASCENDING).execute(model);
+        assertEquals(Arrays.asList(CARL, BENSON), model.getFilteredAttractionList());
+    }
+
+    @Test
+    public void execute_afterFind_firstFoundAttractionsListed() {
+        model.findAttractionsByName(new NameContainsKeywordsPredicate(Arrays.asList("Meier", "Best", "Kunz")));
+        new TopCommand(2, BY_PRIORITY).execute(model);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredAttractionList());
+
+        model.findAttractionsByName(new NameContainsKeywordsPredicate(Arrays.asList("Meier", "Best", "Kunz")));
+        new TopCommand(10, BY_PRIORITY_ASCENDING).execute(model);
+        assertEquals(Arrays.asList(GEORGE, FIONA, DANIEL, BENSON), model.getFilteredAttractionList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        TopCommand topCommand = new TopCommand(3, BY_PRIORITY);
+        String expected = TopCommand.class.getCanonicalName() + "{count=3, comparator=" + BY_PRIORITY + "}";
+        assertEquals(expected, topCommand.toString());
+    }
+}
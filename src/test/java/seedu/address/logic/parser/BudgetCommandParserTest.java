@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BudgetCommand;
+import seedu.address.model.attraction.Price;
+import seedu.address.model.attraction.PriceRangePredicate;
+
+public class BudgetCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, BudgetCommand.MESSAGE_USAGE);
+
+    private BudgetCommandParser parser = new BudgetCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_maxPrice_returnsBudgetCommand() {
+        assertParseSuccess(parser, " SGD 20 ", new BudgetCommand(PriceRangePredicate.atMost(new Price("SGD 20"))));
+    }
+
+    @Test
+    public void parse_priceRange_returnsBudgetCommand() {
+        BudgetCommand expectedBudgetCommand =
+                new BudgetCommand(new PriceRangePredicate(new Price("10"), new Price("20 SGD")));
+        assertParseSuccess(parser, "10 - 20 SGD", expectedBudgetCommand);
+        assertParseSuccess(parser, "10-20 SGD", expectedBudgetCommand);
+    }
+
+    @Test
+    public void parse_percent_returnsBudgetCommand() {
+        assertParseSuccess(parser, "25%", new BudgetCommand(25));
+        assertParseSuccess(parser, " 100 % ", new BudgetCommand(100));
+        assertParseSuccess(parser, "25% SGD", new BudgetCommand(25, "SGD"));
+        assertParseSuccess(parser, " 25 %SGD ", new BudgetCommand(25, "SGD"));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "twenty", Price.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "10 - ", Price.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "12345678901234567890", Price.MESSAGE_TOO_LARGE);
+        assertParseFailure(parser, "10 - 20 - 30", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "20 - 10", PriceRangePredicate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "SGD 10 - USD 20", PriceRangePredicate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "0%", BudgetCommand.MESSAGE_INVALID_PERCENT);
+        assertParseFailure(parser, "101%", BudgetCommand.MESSAGE_INVALID_PERCENT);
+        assertParseFailure(parser, "12.5%", BudgetCommand.MESSAGE_INVALID_PERCENT);
+        assertParseFailure(parser, "25% S1", Price.MESSAGE_CURRENCY_CONSTRAINTS);
+        assertParseFailure(parser, "25% SGD USD", Price.MESSAGE_CURRENCY_CONSTRAINTS);
+    }
+}
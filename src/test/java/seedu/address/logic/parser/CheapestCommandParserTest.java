@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CheapestCommand;
+import seedu.address.model.attraction.Price;
+
+public class CheapestCommandParserTest {
+
+    private CheapestCommandParser parser = new CheapestCommandParser();
+
+    @Test
+    public void parse_missingCount_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, CheapestCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        assertParseFailure(parser, " 0", CheapestCommand.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " -3 SGD", CheapestCommand.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " ten", CheapestCommand.MESSAGE_INVALID_COUNT);
+    }
+
+    @Test
+    public void parse_invalidCurrency_throwsParseException() {
+        assertParseFailure(parser, " 5 S1", Price.MESSAGE_CURRENCY_CONSTRAINTS);
+        assertParseFailure(parser, " 5 SGD USD", Price.MESSAGE_CURRENCY_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsCheapestCommand() {
+        assertParseSuccess(parser, " 5", new CheapestCommand(5, ""));
+        assertParseSuccess(parser, " 10   SGD ", new CheapestCommand(10, "SGD"));
+        assertParseSuccess(parser, " 10 US$", new CheapestCommand(10, "US$"));
+    }
+}
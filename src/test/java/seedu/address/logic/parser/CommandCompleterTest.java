@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalAttractions.getTypicalMaplet;
+import static seedu.address.testutil.TypicalLocations.CBD;
+import static seedu.address.testutil.TypicalLocations.SINGAPORE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Maplet;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.ItineraryBuilder;
+import seedu.address.testutil.MapletBuilder;
+
+public class CommandCompleterTest {
+
+    private final CommandCompleter completer;
+
+    public CommandCompleterTest() {
+        Maplet maplet = new MapletBuilder(getTypicalMaplet()).withLocation(SINGAPORE).withLocation(CBD).build();
+        maplet.addItinerary(new ItineraryBuilder().withName("Japan Trip").build());
+        completer = new CommandCompleter(new ModelManager(maplet, new UserPrefs()));
+    }
+
+    @Test
+    public void getCompletions_prefixedNames_completesNameOfPrefix() {
+        assertEquals(List.of("deletelocation ln/Singapore"), completer.getCompletions("deletelocation ln/sin"));
+        assertEquals(List.of("editlocation ln/ Central Business District"),
+                completer.getCompletions("editlocation ln/ c"));
+        assertEquals(List.of("edit 1 t/owesMoney"), completer.getCompletions("edit 1 t/ow"));
+        assertEquals(List.of("edit 1 p/5 n/Elle Meyer"), completer.getCompletions("edit 1 p/5 n/el"));
+        assertEquals(List.of("additinerary n/Japan Trip"), completer.getCompletions("additinerary n/ja"));
+        assertEquals(List.of("  add n/Alice Pauline"), completer.getCompletions("  add n/al"));
+    }
+
+    @Test
+    public void getCompletions_findAndSearch_completesAttractionName() {
+        assertEquals(List.of("find   Daniel Meier"), completer.getCompletions("find   dan"));
+        assertEquals(List.of("search Benson Meier"), completer.getCompletions("search BEN"));
+        assertEquals(7, completer.getCompletions("find ").size());
+    }
+
+    @Test
+    public void getCompletions_nothingToComplete_returnsEmptyList() {
+        assertEquals(List.of(), completer.getCompletions(""));
+        assertEquals(List.of(), completer.getCompletions("find"));
+        assertEquals(List.of(), completer.getCompletions("find xyz"));
+        assertEquals(List.of(), completer.getCompletions("delete 1"));
+        assertEquals(List.of(), completer.getCompletions("edit 1 n/Alice Pauline p/"));
+    }
+}
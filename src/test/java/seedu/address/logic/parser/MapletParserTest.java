@@ -15,6 +15,8 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BudgetCommand;
+import seedu.address.logic.commands.CheapestCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -22,14 +24,26 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MentionCommand;
+import seedu.address.logic.commands.OpenCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.TopCommand;
 import seedu.address.logic.commands.location.AddLocationCommand;
 import seedu.address.logic.commands.location.DeleteLocationCommand;
 import seedu.address.logic.commands.location.EditLocationCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.SortCriterion;
 import seedu.address.model.attraction.Attraction;
+import seedu.address.model.attraction.AttractionComparator;
+import seedu.address.model.attraction.AttractionQuery;
 import seedu.address.model.attraction.NameContainsKeywordsPredicate;
+import seedu.address.model.attraction.OpenDuringPredicate;
+import seedu.address.model.attraction.QueryTerm;
 import seedu.address.model.location.LocationName;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
 import seedu.address.testutil.AttractionBuilder;
 import seedu.address.testutil.AttractionUtil;
 import seedu.address.testutil.EditAttractionDescriptorBuilder;
@@ -107,6 +121,50 @@ public class MapletParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_budget() throws Exception {
+        BudgetCommand command = (BudgetCommand) parser.parseCommand(BudgetCommand.COMMAND_WORD + " 25%");
+        assertEquals(new BudgetCommand(25), command);
+    }
+
+    @Test
+    public void parseCommand_cheapest() throws Exception {
+        CheapestCommand command = (CheapestCommand) parser.parseCommand(CheapestCommand.COMMAND_WORD + " 5 SGD");
+        assertEquals(new CheapestCommand(5, "SGD"), command);
+    }
+
+    @Test
+    public void parseCommand_search() throws Exception {
+        SearchCommand command = (SearchCommand) parser.parseCommand(SearchCommand.COMMAND_WORD + " marnia bay");
+        assertEquals(new SearchCommand("marnia bay"), command);
+    }
+
+    @Test
+    public void parseCommand_mention() throws Exception {
+        MentionCommand command = (MentionCommand) parser.parseCommand(MentionCommand.COMMAND_WORD + " sunset views");
+        assertEquals(new MentionCommand("sunset views"), command);
+    }
+
+    @Test
+    public void parseCommand_top() throws Exception {
+        TopCommand command = (TopCommand) parser.parseCommand(TopCommand.COMMAND_WORD + " 20 p/");
+        assertEquals(new TopCommand(20, new AttractionComparator(
+                List.of(new SortCriterion(SortCriterion.Field.PRIORITY)))), command);
+    }
+
+    @Test
+    public void parseCommand_open() throws Exception {
+        OpenCommand command = (OpenCommand) parser.parseCommand(OpenCommand.COMMAND_WORD + " 1930");
+        assertEquals(new OpenCommand(OpenDuringPredicate.at("1930")), command);
+    }
+
+    @Test
+    public void parseCommand_query() throws Exception {
+        QueryCommand command = (QueryCommand) parser.parseCommand(QueryCommand.COMMAND_WORD + " tag:museum");
+        assertEquals(new QueryCommand(new AttractionQuery(
+                List.of(QueryTerm.matchesTags(TagQuery.allOf(new Tag("museum")))))), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
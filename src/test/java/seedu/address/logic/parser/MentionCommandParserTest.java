@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MentionCommand;
+
+public class MentionCommandParserTest {
+
+    private MentionCommandParser parser = new MentionCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, MentionCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsMentionCommand() {
+        MentionCommand expectedMentionCommand = new MentionCommand("sunset views");
+        assertParseSuccess(parser, "sunset views", expectedMentionCommand);
+
+        // multiple whitespaces between words
+        assertParseSuccess(parser, " \n sunset \n \t views  \t", expectedMentionCommand);
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.OpenCommand;
+import seedu.address.model.attraction.OpenDuringPredicate;
+import seedu.address.model.attraction.OpeningHours;
+
+public class OpenCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, OpenCommand.MESSAGE_USAGE);
+
+    private OpenCommandParser parser = new OpenCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_time_returnsOpenCommand() {
+        OpenCommand expectedOpenCommand = new OpenCommand(OpenDuringPredicate.at("1930"));
+        assertParseSuccess(parser, "1930", expectedOpenCommand);
+        assertParseSuccess(parser, " \n 1930 \t", expectedOpenCommand);
+    }
+
+    @Test
+    public void parse_span_returnsOpenCommand() {
+        assertParseSuccess(parser, "1400 - 1700",
+                new OpenCommand(new OpenDuringPredicate(new OpeningHours("1400 - 1700"))));
+        assertParseSuccess(parser, " 2200-0200 ",
+                new OpenCommand(new OpenDuringPredicate(new OpeningHours("2200 - 0200"))));
+        assertParseSuccess(parser, OpeningHours.FULL_DAY_OPENING_HOURS,
+                new OpenCommand(new OpenDuringPredicate(OpeningHours.NON_SPECIFIED_HOURS)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "2400", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "730pm", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1400 - 2500", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1400 1700", MESSAGE_INVALID_FORMAT);
+    }
+}
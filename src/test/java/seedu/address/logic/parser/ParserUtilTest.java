@@ -28,6 +28,7 @@ public class ParserUtilTest {
     private static final String INVALID_CONTACT = "example.com";
     private static final String INVALID_TAG = "#friend";
     private static final String INVALID_COMMENT = " ";
+    private static final String INVALID_TIME = "2400";
 
     private static final String VALID_NAME = "Rachel Walker";
     private static final String VALID_PRIORITY = "5";
@@ -36,6 +37,7 @@ public class ParserUtilTest {
     private static final String VALID_TAG_1 = "friend";
     private static final String VALID_TAG_2 = "neighbour";
     private static final String VALID_COMMENT = "This place is very expensive!!";
+    private static final String VALID_TIME = "1930";
 
     private static final String WHITESPACE = " \t\r\n";
 
@@ -151,6 +153,21 @@ public class ParserUtilTest {
         assertEquals(expectedContact, ParserUtil.parseContact(contactWithWhitespace));
     }
 
+    @Test
+    public void parseTime_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseTime(null));
+    }
+
+    @Test
+    public void parseTime_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseTime(INVALID_TIME));
+    }
+
+    @Test
+    public void parseTime_validValueWithWhitespace_returnsTrimmedTime() throws Exception {
+        assertEquals(VALID_TIME, ParserUtil.parseTime(WHITESPACE + VALID_TIME + WHITESPACE));
+    }
+
     @Test
     public void parseTag_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseTag(null));
@@ -0,0 +1,112 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.attraction.AttractionQuery;
+import seedu.address.model.attraction.OpeningHours;
+import seedu.address.model.attraction.Price;
+import seedu.address.model.attraction.Priority;
+import seedu.address.model.attraction.QueryTerm;
+import seedu.address.model.attraction.QueryTerm.Comparison;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
+
+public class QueryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgs_returnsQueryCommand() {
+        QueryCommand expectedQueryCommand = new QueryCommand(new AttractionQuery(Arrays.asList(
+                QueryTerm.matchesTags(TagQuery.allOf(new Tag("museum"))),
+                QueryTerm.comparePrice(Comparison.LESS_THAN, new Price("20")),
+                QueryTerm.comparePriority(Comparison.AT_LEAST, new Priority("7")),
+                QueryTerm.isOpenAt("1900"),
+                QueryTerm.addressContains("Marina Bay"),
+                QueryTerm.commentContains("queue"))));
+
+        assertParseSuccess(parser, "tag:museum price<20 priority>=7 open:1900 address:\"Marina Bay\" comment:queue",
+                expectedQueryCommand);
+
+        // multiple whitespaces between conditions, and quotes around part of a value
+        assertParseSuccess(parser, " \n tag:museum \t price<20  priority>=7 open:1900 address:Marina\" \"Bay "
+                + "comment:\"queue\"", expectedQueryCommand);
+    }
+
+    @Test
+    public void parse_tagAlternativesAndExclusions_returnsQueryCommand() {
+        QueryCommand expectedQueryCommand = new QueryCommand(new AttractionQuery(Arrays.asList(
+                QueryTerm.matchesTags(new TagQuery(List.of(Set.of(new Tag("museum"), new Tag("gallery"))),
+                        Collections.emptyList())),
+                QueryTerm.matchesTags(new TagQuery(Collections.emptyList(),
+                        List.of(Set.of(new Tag("closed"), new Tag("crowded"))))))));
+        assertParseSuccess(parser, "tag:museum,gallery -tag:closed,crowded", expectedQueryCommand);
+    }
+
+    @Test
+    public void parse_allComparisons_returnsQueryCommand() {
+        Priority priority = new Priority("5");
+        QueryCommand expectedQueryCommand = new QueryCommand(new AttractionQuery(Arrays.asList(
+                QueryTerm.comparePriority(Comparison.LESS_THAN, priority),
+                QueryTerm.comparePriority(Comparison.AT_MOST, priority),
+                QueryTerm.comparePriority(Comparison.EQUAL_TO, priority),
+                QueryTerm.comparePriority(Comparison.AT_LEAST, priority),
+                QueryTerm.comparePriority(Comparison.GREATER_THAN, priority))));
+        assertParseSuccess(parser, "priority<5 priority<=5 priority=5 priority>=5 priority>5", expectedQueryCommand);
+    }
+
+    @Test
+    public void parse_invalidCondition_throwsParseException() {
+        // unknown field
+        assertParseFailure(parser, "name:Zoo", MESSAGE_INVALID_FORMAT);
+
+        // missing operator
+        assertParseFailure(parser, "museum", MESSAGE_INVALID_FORMAT);
+
+        // missing value
+        assertParseFailure(parser, "tag:", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "address:\"\"", MESSAGE_INVALID_FORMAT);
+
+        // comparison on a field that only supports matching
+        assertParseFailure(parser, "tag<museum", MESSAGE_INVALID_FORMAT);
+
+        // matching on a field that only supports comparison
+        assertParseFailure(parser, "price:20", MESSAGE_INVALID_FORMAT);
+
+        // negation of a field other than tag
+        assertParseFailure(parser, "-address:Bay", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertParseFailure(parser, "tag:museum!", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "tag:museum,", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "-tag:,closed", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "price<twenty", Price.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "priority>=11", Priority.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "open:2400", OpeningHours.TIME_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_unclosedQuote_throwsParseException() {
+        assertParseFailure(parser, "address:\"Marina Bay", QueryCommandParser.MESSAGE_UNCLOSED_QUOTE);
+    }
+}
@@ -1,13 +1,27 @@
 package seedu.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.model.Model.COMPARATOR_SORT_BY_CUMULATIVE_ITINERARY_PRICE_ASCENDING;
+import static seedu.address.model.Model.COMPARATOR_SORT_BY_CUMULATIVE_ITINERARY_PRIORITY_DESCENDING;
+import static seedu.address.model.Model.COMPARATOR_SORT_BY_PRICE_ASCENDING;
+import static seedu.address.model.Model.COMPARATOR_SORT_BY_PRIORITY_DESCENDING;
+
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.SortCommand;
-
-
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.testutil.AttractionBuilder;
+import seedu.address.testutil.MapletBuilder;
 
 public class SortCommandParserTest {
 
@@ -19,8 +33,42 @@ public class SortCommandParserTest {
     }
 
     @Test
-    public void parse_multiplePrefixes_throwsParseException() {
-        assertParseFailure(parser, " n/ p/", String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+    public void parse_duplicatePrefixes_throwsParseException() {
+        assertParseFailure(parser, " n/ p/ n/desc", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_NAME));
+    }
+
+    @Test
+    public void parse_invalidDirection_throwsParseException() {
+        assertParseFailure(parser, " n/up", String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_preamble_throwsParseException() {
+        assertParseFailure(parser, " name n/",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_singlePrefix_returnsSortCommand() {
+        assertParseSuccess(parser, " p/", new SortCommand(COMPARATOR_SORT_BY_PRIORITY_DESCENDING,
+                COMPARATOR_SORT_BY_CUMULATIVE_ITINERARY_PRIORITY_DESCENDING));
+        assertParseSuccess(parser, " pr/ASC ", new SortCommand(COMPARATOR_SORT_BY_PRICE_ASCENDING,
+                COMPARATOR_SORT_BY_CUMULATIVE_ITINERARY_PRICE_ASCENDING));
+    }
+
+    @Test
+    public void parse_multiplePrefixes_sortsByEachInOrder() throws Exception {
+        Attraction cheapLow = new AttractionBuilder().withName("Cheap Low").withPrice("5").withPriority("2").build();
+        Attraction cheapHigh = new AttractionBuilder().withName("Cheap High").withPrice("5").withPriority("9").build();
+        Attraction dearHigh = new AttractionBuilder().withName("Dear High").withPrice("30").withPriority("9").build();
+        Model model = new ModelManager(new MapletBuilder().withAttraction(cheapLow).withAttraction(dearHigh)
+                .withAttraction(cheapHigh).build(), new UserPrefs());
+
+        parser.parse(" p/ pr/desc n/").execute(model);
+        assertEquals(Arrays.asList(dearHigh, cheapHigh, cheapLow), model.getFilteredAttractionList());
+
+        parser.parse(" pr/ p/asc").execute(model);
+        assertEquals(Arrays.asList(cheapLow, cheapHigh, dearHigh), model.getFilteredAttractionList());
     }
 
     @Test
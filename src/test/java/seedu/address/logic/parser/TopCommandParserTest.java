@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.model.SortCriterion;
+import seedu.address.model.SortCriterion.Field;
+import seedu.address.model.attraction.AttractionComparator;
+
+public class TopCommandParserTest {
+
+    private TopCommandParser parser = new TopCommandParser();
+
+    @Test
+    public void parse_missingCount_throwsParseException() {
+        assertParseFailure(parser, " p/", String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        assertParseFailure(parser, " 0 p/", TopCommand.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " -3 p/", TopCommand.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " ten p/", TopCommand.MESSAGE_INVALID_COUNT);
+    }
+
+    @Test
+    public void parse_missingSortField_throwsParseException() {
+        assertParseFailure(parser, " 10", String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidSortFields_throwsParseException() {
+        assertParseFailure(parser, " 10 p/high",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " 10 pr/ pr/desc", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_PRICE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsTopCommand() {
+        assertParseSuccess(parser, " 20 p/", new TopCommand(20,
+                new AttractionComparator(List.of(new SortCriterion(Field.PRIORITY)))));
+        assertParseSuccess(parser, " 10 pr/ n/desc", new TopCommand(10,
+                new AttractionComparator(List.of(new SortCriterion(Field.PRICE), new SortCriterion(Field.NAME,
+                        false)))));
+    }
+}
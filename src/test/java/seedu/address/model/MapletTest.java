@@ -4,22 +4,28 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAttractions.ALICE;
+import static seedu.address.testutil.TypicalAttractions.BENSON;
+import static seedu.address.testutil.TypicalAttractions.CARL;
 import static seedu.address.testutil.TypicalAttractions.getTypicalMaplet;
 import static seedu.address.testutil.TypicalItineraries.EUROPE_TOUR;
 import static seedu.address.testutil.TypicalItineraries.JAPAN_TRIP;
+import static seedu.address.testutil.TypicalLocations.CBD;
 import static seedu.address.testutil.TypicalLocations.SINGAPORE;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.attraction.Attraction;
 import seedu.address.model.attraction.exceptions.DuplicateAttractionException;
@@ -29,6 +35,7 @@ import seedu.address.model.location.Location;
 import seedu.address.model.location.exceptions.DuplicateLocationException;
 import seedu.address.testutil.AttractionBuilder;
 import seedu.address.testutil.ItineraryBuilder;
+import seedu.address.testutil.LocationBuilder;
 
 public class MapletTest {
 
@@ -128,6 +135,94 @@ public class MapletTest {
         assertFalse(maplet.hasLocation(SINGAPORE));
     }
 
+    @Test
+    public void isAttractionInAnyItinerary_itineraryAddedThenRemoved_tracksReferences() {
+        maplet.addItinerary(JAPAN_TRIP);
+        assertTrue(maplet.isAttractionInAnyItinerary(ALICE));
+        assertFalse(maplet.isAttractionInAnyItinerary(CARL));
+
+        maplet.removeItinerary(JAPAN_TRIP);
+        assertFalse(maplet.isAttractionInAnyItinerary(ALICE));
+    }
+
+    @Test
+    public void isAttractionInAnyItinerary_itineraryReplaced_tracksReferences() {
+        maplet.addItinerary(JAPAN_TRIP);
+        Itinerary editedJapanTrip = new ItineraryBuilder(JAPAN_TRIP).withAttractions(CARL).build();
+        maplet.setItinerary(JAPAN_TRIP, editedJapanTrip);
+        assertFalse(maplet.isAttractionInAnyItinerary(ALICE));
+        assertTrue(maplet.isAttractionInAnyItinerary(CARL));
+    }
+
+    @Test
+    public void isAttractionInAnyLocation_locationsChanged_tracksReferences() {
+        maplet.addLocation(SINGAPORE);
+        assertTrue(maplet.isAttractionInAnyLocation(ALICE));
+
+        Location editedSingapore = new LocationBuilder(SINGAPORE)
+                .withAttractionNames(CARL.getName().fullName).build();
+        maplet.setLocation(SINGAPORE, editedSingapore);
+        assertFalse(maplet.isAttractionInAnyLocation(ALICE));
+        assertTrue(maplet.isAttractionInAnyLocation(CARL));
+
+        maplet.removeLocation(SINGAPORE.getName());
+        assertFalse(maplet.isAttractionInAnyLocation(CARL));
+    }
+
+    @Test
+    public void getReferencing_afterResetData_returnsReferencingNames() {
+        maplet.resetData(new MapletStubWithItineraries(Arrays.asList(ALICE, BENSON, CARL),
+                Arrays.asList(JAPAN_TRIP, EUROPE_TOUR), Arrays.asList(SINGAPORE, CBD)));
+        assertEquals(Set.of(JAPAN_TRIP.getName()), maplet.getItinerariesReferencing(BENSON.getName()));
+        assertEquals(Set.of(SINGAPORE.getName(), CBD.getName()), maplet.getLocationsReferencing(BENSON.getName()));
+        assertEquals(Set.of(), maplet.getItinerariesReferencing(new AttractionBuilder().build().getName()));
+    }
+
+    @Test
+    public void setAttraction_renamedAttraction_updatesReferringItinerariesAndLocations() {
+        maplet.resetData(new MapletStubWithItineraries(Arrays.asList(ALICE, BENSON, CARL),
+                Arrays.asList(JAPAN_TRIP, EUROPE_TOUR), Arrays.asList(SINGAPORE, CBD)));
+        int[] itineraryChanges = {0};
+        int[] locationChanges = {0};
+        maplet.getItineraryList().addListener((ListChangeListener<Itinerary>) change -> itineraryChanges[0]++);
+        maplet.getLocationList().addListener((ListChangeListener<Location>) change -> locationChanges[0]++);
+
+        Attraction renamedBenson = new AttractionBuilder(BENSON).withName(VALID_NAME_BOB).build();
+        maplet.setAttraction(BENSON, renamedBenson);
+
+        // each list is updated in a single change
+        assertEquals(1, itineraryChanges[0]);
+        assertEquals(1, locationChanges[0]);
+
+        Itinerary expectedJapanTrip = new ItineraryBuilder(JAPAN_TRIP).withAttractions(ALICE, renamedBenson).build();
+        assertEquals(Arrays.asList(expectedJapanTrip, EUROPE_TOUR), maplet.getItineraryList());
+        for (Location location : maplet.getLocationList()) {
+            assertTrue(location.getAttractionNames().contains(renamedBenson.getName()));
+            assertFalse(location.getAttractionNames().contains(BENSON.getName()));
+        }
+
+        assertFalse(maplet.isAttractionInAnyItinerary(BENSON));
+        assertFalse(maplet.isAttractionInAnyLocation(BENSON));
+        assertEquals(Set.of(JAPAN_TRIP.getName()), maplet.getItinerariesReferencing(renamedBenson.getName()));
+        assertEquals(Set.of(SINGAPORE.getName(), CBD.getName()),
+                maplet.getLocationsReferencing(renamedBenson.getName()));
+    }
+
+    @Test
+    public void setAttraction_unreferencedAttraction_leavesItinerariesAndLocationsUntouched() {
+        maplet.resetData(new MapletStubWithItineraries(Arrays.asList(ALICE, BENSON, CARL),
+                Arrays.asList(JAPAN_TRIP), Arrays.asList(SINGAPORE)));
+        int[] changes = {0};
+        maplet.getItineraryList().addListener((ListChangeListener<Itinerary>) change -> changes[0]++);
+        maplet.getLocationList().addListener((ListChangeListener<Location>) change -> changes[0]++);
+
+        maplet.setAttraction(CARL, new AttractionBuilder(CARL).withName(VALID_NAME_BOB).build());
+
+        assertEquals(0, changes[0]);
+        assertEquals(Arrays.asList(JAPAN_TRIP), maplet.getItineraryList());
+        assertEquals(Arrays.asList(SINGAPORE), maplet.getLocationList());
+    }
+
     @Test
     public void getLocationList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> maplet.getLocationList().remove(0));
@@ -221,6 +316,33 @@ public class MapletTest {
         assertTrue(maplet1.equals(maplet2));
     }
 
+    @Test
+    public void getVersion_listsChanged_versionChanges() {
+        Maplet maplet = getTypicalMaplet();
+        long version = maplet.getVersion();
+
+        // queries -> version unchanged
+        maplet.hasAttraction(ALICE);
+        maplet.isAttractionInAnyItinerary(ALICE);
+        assertEquals(version, maplet.getVersion());
+
+        maplet.removeAttraction(CARL);
+        assertTrue(maplet.getVersion() != version);
+
+        version = maplet.getVersion();
+        maplet.setAttraction(BENSON, new AttractionBuilder(BENSON).withPriority("1").build());
+        assertTrue(maplet.getVersion() != version);
+
+        version = maplet.getVersion();
+        maplet.addItinerary(new ItineraryBuilder().withName("Weekend").withAttractions(ALICE).build());
+        assertTrue(maplet.getVersion() != version);
+
+        version = maplet.getVersion();
+        maplet.addLocation(new LocationBuilder().withLocationName("Orchard")
+                .withAttractionNames(ALICE.getName().fullName).build());
+        assertTrue(maplet.getVersion() != version);
+    }
+
     /**
      * A stub ReadOnlyMaplet whose attractions list can violate interface
      * constraints.
@@ -253,6 +375,11 @@ public class MapletTest {
         public ObservableList<Itinerary> getItineraryList() {
             return FXCollections.observableArrayList();
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
     /**
@@ -286,6 +413,11 @@ public class MapletTest {
         public ObservableList<Itinerary> getItineraryList() {
             return itineraries;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
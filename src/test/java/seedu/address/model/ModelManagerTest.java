@@ -7,16 +7,40 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ATTRACTIONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAttractions.ALICE;
 import static seedu.address.testutil.TypicalAttractions.BENSON;
+import static seedu.address.testutil.TypicalAttractions.DANIEL;
 import static seedu.address.testutil.TypicalLocations.SINGAPORE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.SortCriterion.Field;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.attraction.AttractionComparator;
+import seedu.address.model.attraction.AttractionQuery;
 import seedu.address.model.attraction.NameContainsKeywordsPredicate;
+import seedu.address.model.attraction.OpenDuringPredicate;
+import seedu.address.model.attraction.OpeningHours;
+import seedu.address.model.attraction.Price;
+import seedu.address.model.attraction.PriceRangePredicate;
+import seedu.address.model.attraction.Priority;
+import seedu.address.model.attraction.QueryTerm;
+import seedu.address.model.attraction.QueryTerm.Comparison;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
+import seedu.address.testutil.AttractionBuilder;
+import seedu.address.testutil.ItineraryBuilder;
 import seedu.address.testutil.MapletBuilder;
 
 public class ModelManagerTest {
@@ -111,6 +135,255 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasLocationName(SINGAPORE.getName()));
     }
 
+    @Test
+    public void findAttractionsByName_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findAttractionsByName(null));
+    }
+
+    @Test
+    public void findAttractionsByName_matchesPredicate() {
+        Maplet maplet = new MapletBuilder().withAttraction(ALICE).withAttraction(BENSON).withAttraction(DANIEL).build();
+        ModelManager expectedModel = new ModelManager(maplet, new UserPrefs());
+        modelManager = new ModelManager(maplet, new UserPrefs());
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("meier", "Carl"));
+
+        modelManager.findAttractionsByName(predicate);
+        expectedModel.updateFilteredAttractionList(predicate);
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredAttractionList());
+        assertEquals(expectedModel.getFilteredAttractionList(), modelManager.getFilteredAttractionList());
+    }
+
+    @Test
+    public void queryAttractions_nullQuery_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.queryAttractions(null));
+    }
+
+    @Test
+    public void queryAttractions_matchesQuery() {
+        Maplet maplet = new MapletBuilder().withAttraction(ALICE).withAttraction(BENSON).withAttraction(DANIEL).build();
+        modelManager = new ModelManager(maplet, new UserPrefs());
+        AttractionQuery query = new AttractionQuery(List.of(
+                QueryTerm.comparePriority(Comparison.AT_MOST, new Priority("8")),
+                QueryTerm.matchesTags(TagQuery.allOf(new Tag("friends"))),
+                QueryTerm.matchesTags(new TagQuery(Collections.emptyList(), List.of(Set.of(new Tag("owesMoney")))))));
+
+        modelManager.queryAttractions(query);
+        assertEquals(List.of(DANIEL), modelManager.getFilteredAttractionList());
+    }
+
+    @Test
+    public void findAttractionsOpen_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findAttractionsOpen(null));
+    }
+
+    @Test
+    public void findAttractionsOpen_matchesPredicate() {
+        Attraction lateNight = new AttractionBuilder().withName("Late Night").withOpeningHours("2000 - 0200").build();
+        Maplet maplet = new MapletBuilder().withAttraction(ALICE).withAttraction(lateNight).build();
+        modelManager = new ModelManager(maplet, new UserPrefs());
+
+        modelManager.findAttractionsOpen(OpenDuringPredicate.at("0130"));
+        assertEquals(List.of(lateNight), modelManager.getFilteredAttractionList());
+    }
+
+    @Test
+    public void findAttractionsPricedWithin_matchesPredicate() {
+        Attraction free = new AttractionBuilder().withName("Free").withPrice("0").build();
+        Maplet maplet = new MapletBuilder().withAttraction(ALICE).withAttraction(free).build();
+        modelManager = new ModelManager(maplet, new UserPrefs());
+
+        modelManager.findAttractionsPricedWithin(PriceRangePredicate.atMost(new Price("10")));
+        assertEquals(List.of(free), modelManager.getFilteredAttractionList());
+    }
+
+    @Test
+    public void findAttractionsInCheapestPercent_showsCheapestAttractions() {
+        Attraction free = new AttractionBuilder().withName("Free").withPrice("0").build();
+        Maplet maplet = new MapletBuilder().withAttraction(ALICE).withAttraction(free).build();
+        modelManager = new ModelManager(maplet, new UserPrefs());
+
+        modelManager.findAttractionsInCheapestPercent("", 50);
+        assertEquals(List.of(free), modelManager.getFilteredAttractionList());
+        modelManager.findAttractionsInCheapestPercent("", 100);
+        assertEquals(List.of(ALICE, free), modelManager.getFilteredAttractionList());
+    }
+
+    @Test
+    public void findCheapestAttractions_showsCheapestAttractionsFirst() {
+        Attraction free = new AttractionBuilder().withName("Free").withPrice("0").build();
+        Attraction pricy = new AttractionBuilder().withName("Pricy").withPrice("SGD 40").build();
+        Maplet maplet = new MapletBuilder().withAttraction(pricy).withAttraction(ALICE).withAttraction(free).build();
+        modelManager = new ModelManager(maplet, new UserPrefs());
+
+        modelManager.findCheapestAttractions("", 2);
+        assertEquals(List.of(free, ALICE), modelManager.getFilteredAttractionList());
+        modelManager.findCheapestAttractions("SGD", 2);
+        assertEquals(List.of(pricy), modelManager.getFilteredAttractionList());
+    }
+
+    @Test
+    public void updateSortedAttractionList_sortByPrice_sortsByPrice() {
+        Attraction free = new AttractionBuilder().withName("Free").withPrice("0").build();
+        Attraction alsoFree = new AttractionBuilder().withName("Also Free").withPrice("0").build();
+        Attraction pricy = new AttractionBuilder().withName("Pricy").withPrice("40").build();
+        Maplet maplet = new MapletBuilder().withAttraction(free).withAttraction(pricy).withAttraction(ALICE)
+                .withAttraction(alsoFree).build();
+        modelManager = new ModelManager(maplet, new UserPrefs());
+
+        modelManager.updateSortedAttractionList(new AttractionComparator(List.of(new SortCriterion(Field.PRICE))));
+        assertEquals(List.of(free, alsoFree, ALICE, pricy), modelManager.getFilteredAttractionList());
+        modelManager.updateSortedAttractionList(
+                new AttractionComparator(List.of(new SortCriterion(Field.PRICE, false))));
+        assertEquals(List.of(pricy, ALICE, free, alsoFree), modelManager.getFilteredAttractionList());
+    }
+
+    @Test
+    public void findAttractionsSimilarTo_ranksAttractionsUntilFilterChanges() {
+        Attraction marinaBay = new AttractionBuilder().withName("Marina Bay").build();
+        Attraction marinaBaySands = new AttractionBuilder().withName("Marina Bay Sands").build();
+        Maplet maplet = new MapletBuilder().withAttraction(marinaBaySands).withAttraction(ALICE)
+                .withAttraction(marinaBay).build();
+        modelManager = new ModelManager(maplet, new UserPrefs());
+        modelManager.updateSortedAttractionList(Comparator.comparing((Attraction attraction) ->
+                attraction.getName().fullName).reversed());
+
+        modelManager.findAttractionsSimilarTo("marnia bay", 5);
+        assertEquals(List.of(marinaBay, marinaBaySands), modelManager.getFilteredAttractionList());
+        modelManager.findAttractionsSimilarTo("marnia bay", 1);
+        assertEquals(List.of(marinaBay), modelManager.getFilteredAttractionList());
+
+        // the order chosen by the user is restored
+        modelManager.updateFilteredAttractionList(PREDICATE_SHOW_ALL_ATTRACTIONS);
+        assertEquals(List.of(marinaBaySands, marinaBay, ALICE), modelManager.getFilteredAttractionList());
+    }
+
+    @Test
+    public void findAttractionsSimilarTo_filterChangedAfterwards_attractionsNotSortedAgain() {
+        Maplet maplet = new MapletBuilder().withAttraction(ALICE).withAttraction(BENSON).withAttraction(DANIEL)
+                .build();
+        modelManager = new ModelManager(maplet, new UserPrefs());
+        AtomicInteger compareCount = new AtomicInteger();
+        modelManager.updateSortedAttractionList((first, second) -> {
+            compareCount.incrementAndGet();
+            return second.getName().fullName.compareTo(first.getName().fullName);
+        });
+        compareCount.set(0);
+
+        modelManager.findAttractionsSimilarTo("benson meier", 1);
+        assertEquals(List.of(BENSON), modelManager.getFilteredAttractionList());
+        modelManager.updateFilteredAttractionList(PREDICATE_SHOW_ALL_ATTRACTIONS);
+
+        assertEquals(List.of(DANIEL, BENSON, ALICE), modelManager.getFilteredAttractionList());
+        assertEquals(0, compareCount.get());
+    }
+
+    @Test
+    public void findAttractionsByName_repeatedAfterEdit_reflectsEdit() {
+        Maplet maplet = new MapletBuilder().withAttraction(ALICE).withAttraction(BENSON).withAttraction(DANIEL)
+                .build();
+        modelManager = new ModelManager(maplet, new UserPrefs());
+        modelManager.findAttractionsByName(new NameContainsKeywordsPredicate(List.of("Meier")));
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredAttractionList());
+
+        Attraction renamedDaniel = new AttractionBuilder(DANIEL).withName("Daniel Smith").build();
+        Attraction renamedAlice = new AttractionBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setAttraction(DANIEL, renamedDaniel);
+        modelManager.updateFilteredAttractionList(PREDICATE_SHOW_ALL_ATTRACTIONS);
+        modelManager.setAttraction(ALICE, renamedAlice);
+
+        modelManager.findAttractionsByName(new NameContainsKeywordsPredicate(List.of("Meier")));
+        assertEquals(List.of(renamedAlice, BENSON), modelManager.getFilteredAttractionList());
+    }
+
+    @Test
+    public void updateFilteredAttractionList_equalPredicateRepeated_attractionsNotTestedAgain() {
+        Maplet maplet = new MapletBuilder().withAttraction(ALICE).withAttraction(BENSON).withAttraction(DANIEL)
+                .build();
+        modelManager = new ModelManager(maplet, new UserPrefs());
+        AtomicInteger testCount = new AtomicInteger();
+        List<Supplier<Predicate<Attraction>>> predicates = List.of(
+            () -> new NameContainsKeywordsPredicate(List.of("Meier")) {
+                @Override
+                public boolean test(Attraction attraction) {
+                    testCount.incrementAndGet();
+                    return super.test(attraction);
+                }
+            }, () -> new OpenDuringPredicate(new OpeningHours("0900 - 1000")) {
+                @Override
+                public boolean test(Attraction attraction) {
+                    testCount.incrementAndGet();
+                    return super.test(attraction);
+                }
+            }, () -> new PriceRangePredicate(new Price("0"), new Price("10")) {
+                @Override
+                public boolean test(Attraction attraction) {
+                    testCount.incrementAndGet();
+                    return super.test(attraction);
+                }
+            });
+
+        for (Supplier<Predicate<Attraction>> predicate : predicates) {
+            modelManager.updateFilteredAttractionList(predicate.get());
+            List<Attraction> shownAttractions = new ArrayList<>(modelManager.getFilteredAttractionList());
+            modelManager.updateFilteredAttractionList(PREDICATE_SHOW_ALL_ATTRACTIONS);
+            testCount.set(0);
+
+            // an equal predicate finds the results cached for the first one
+            modelManager.updateFilteredAttractionList(predicate.get());
+            assertEquals(0, testCount.get());
+            assertEquals(shownAttractions, modelManager.getFilteredAttractionList());
+        }
+    }
+
+    @Test
+    public void findAttractionsOpen_largeMaplet_noAttractionTested() {
+        MapletBuilder mapletBuilder = new MapletBuilder();
+        for (int i = 0; i < 1_000; i++) {
+            mapletBuilder.withAttraction(new AttractionBuilder().withName("Attraction " + i)
+                    .withOpeningHours(i == 42 ? "2000 - 0200" : "0900 - 1700").build());
+        }
+        modelManager = new ModelManager(mapletBuilder.build(), new UserPrefs());
+        AtomicInteger testCount = new AtomicInteger();
+
+        modelManager.findAttractionsOpen(new OpenDuringPredicate(new OpeningHours("0100 - 0130")) {
+            @Override
+            public boolean test(Attraction attraction) {
+                testCount.incrementAndGet();
+                return super.test(attraction);
+            }
+        });
+
+        assertEquals(1, modelManager.getFilteredAttractionList().size());
+        assertEquals("Attraction 42", modelManager.getFilteredAttractionList().get(0).getName().fullName);
+        assertEquals(0, testCount.get());
+    }
+
+    @Test
+    public void getNameCompletions_modelModified_reflectsChanges() {
+        Maplet maplet = new MapletBuilder().withAttraction(ALICE).withAttraction(BENSON).withLocation(SINGAPORE)
+                .build();
+        modelManager = new ModelManager(maplet, new UserPrefs());
+
+        assertEquals(List.of("Alice Pauline"), modelManager.getNameCompletions(NameCategory.ATTRACTION_NAME, "al", 10));
+        assertEquals(List.of("friends", "owesMoney"), modelManager.getNameCompletions(NameCategory.TAG, "", 10));
+        assertEquals(List.of("Singapore"), modelManager.getNameCompletions(NameCategory.LOCATION_NAME, "SIN", 10));
+        assertEquals(List.of(), modelManager.getNameCompletions(NameCategory.ITINERARY_NAME, "", 10));
+
+        modelManager.addAttraction(DANIEL);
+        modelManager.deleteAttraction(ALICE);
+        modelManager.setAttraction(BENSON, new AttractionBuilder(BENSON).withTags().build());
+        modelManager.addItinerary(new ItineraryBuilder().withName("Singapore Sling").build());
+        assertEquals(List.of(), modelManager.getNameCompletions(NameCategory.ATTRACTION_NAME, "al", 10));
+        assertEquals(List.of("Benson Meier", "Daniel Meier"),
+                modelManager.getNameCompletions(NameCategory.ATTRACTION_NAME, "", 10));
+        assertEquals(List.of("friends"), modelManager.getNameCompletions(NameCategory.TAG, "", 10));
+        assertEquals(List.of("Singapore Sling"),
+                modelManager.getNameCompletions(NameCategory.ITINERARY_NAME, "singapore", 10));
+
+        modelManager.setMaplet(new Maplet());
+        assertEquals(List.of(), modelManager.getNameCompletions(NameCategory.LOCATION_NAME, "", 10));
+    }
+
     @Test
     public void getFilteredAttractionList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredAttractionList().remove(0));
@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @Test
+    public void getCompletions_emptyTrie_returnsEmptyList() {
+        assertEquals(List.of(), trie.getCompletions("", 10));
+        assertEquals(List.of(), trie.getCompletions("a", 10));
+    }
+
+    @Test
+    public void getCompletions_prefixes_returnsMatchesInAlphabeticalOrder() {
+        trie.add("Sentosa");
+        trie.add("Singapore Zoo");
+        trie.add("Singapore");
+        trie.add("Sing");
+        trie.add("Marina Bay");
+
+        assertEquals(List.of("Sing", "Singapore", "Singapore Zoo"), trie.getCompletions("sing", 10));
+        assertEquals(List.of("Sentosa", "Sing", "Singapore", "Singapore Zoo"), trie.getCompletions("S", 10));
+        assertEquals(List.of("Singapore", "Singapore Zoo"), trie.getCompletions("SINGA", 10));
+        assertEquals(List.of("Singapore Zoo"), trie.getCompletions("singapore ", 10));
+        assertEquals(List.of("Marina Bay", "Sentosa"), trie.getCompletions("", 2));
+
+        // prefix diverges within an edge or runs past every string
+        assertEquals(List.of(), trie.getCompletions("singx", 10));
+        assertEquals(List.of(), trie.getCompletions("singapore zoos", 10));
+        assertEquals(List.of(), trie.getCompletions("sing", 0));
+        assertThrows(IllegalArgumentException.class, () -> trie.getCompletions("sing", -1));
+    }
+
+    @Test
+    public void remove_entries_updatesCompletions() {
+        trie.add("Sing");
+        trie.add("Singapore");
+        trie.add("Singapore Zoo");
+        trie.add("Singapore");
+
+        // added twice, so removed twice
+        trie.remove("Singapore");
+        assertEquals(List.of("Sing", "Singapore", "Singapore Zoo"), trie.getCompletions("sing", 10));
+        trie.remove("Singapore");
+        assertEquals(List.of("Sing", "Singapore Zoo"), trie.getCompletions("sing", 10));
+
+        // strings that are not in the trie are ignored
+        trie.remove("singapore zoo");
+        trie.remove("Singa");
+        trie.remove("Sentosa");
+        assertEquals(List.of("Sing", "Singapore Zoo"), trie.getCompletions("sing", 10));
+
+        trie.remove("Sing");
+        assertEquals(List.of("Singapore Zoo"), trie.getCompletions("s", 10));
+        trie.add("Sing");
+        trie.remove("Singapore Zoo");
+        assertEquals(List.of("Sing"), trie.getCompletions("s", 10));
+        trie.remove("Sing");
+        assertEquals(List.of(), trie.getCompletions("", 10));
+    }
+
+    @Test
+    public void add_sameNameInDifferentCase_keepsBoth() {
+        trie.add("museum");
+        trie.add("Museum");
+        assertEquals(List.of("Museum", "museum"), trie.getCompletions("MUS", 10));
+        trie.remove("Museum");
+        assertEquals(List.of("museum"), trie.getCompletions("mus", 10));
+    }
+
+    @Test
+    public void clear_removesAllEntries() {
+        trie.add("");
+        trie.add("Sentosa");
+        trie.clear();
+        assertEquals(List.of(), trie.getCompletions("", 10));
+    }
+
+    @Test
+    public void getCompletions_manyMatchingNames_visitsOnlyNodesOfCompletions() {
+        for (int i = 0; i < 10_000; i++) {
+            trie.add("Attraction " + i);
+        }
+
+        assertEquals(List.of("Attraction 0", "Attraction 1", "Attraction 10", "Attraction 100", "Attraction 1000",
+                "Attraction 1001", "Attraction 1002", "Attraction 1003", "Attraction 1004", "Attraction 1005"),
+                trie.getCompletions("a", 10));
+
+        // every completion is at most five nodes below the prefix, however many names match
+        assertTrue(trie.getLastVisitedNodeCount() <= 10 * 5,
+                "Expected few nodes to be visited, but visited " + trie.getLastVisitedNodeCount());
+    }
+}
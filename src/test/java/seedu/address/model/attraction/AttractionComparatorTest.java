@@ -0,0 +1,93 @@
+package seedu.address.model.attraction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.SortCriterion;
+import seedu.address.model.SortCriterion.Field;
+import seedu.address.testutil.AttractionBuilder;
+
+public class AttractionComparatorTest {
+
+    private static final Attraction CHEAP_LOW_APPLE = new AttractionBuilder().withName("apple")
+            .withPrice("5").withPriority("2").build();
+    private static final Attraction CHEAP_HIGH_BANANA = new AttractionBuilder().withName("Banana")
+            .withPrice("5").withPriority("9").build();
+    private static final Attraction DEAR_HIGH_CHERRY = new AttractionBuilder().withName("cherry")
+            .withPrice("30").withPriority("9").build();
+    private static final Attraction CHEAP_HIGH_DATE = new AttractionBuilder().withName("Date")
+            .withPrice("5").withPriority("9").build();
+
+    @Test
+    public void constructor_noCriteria_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AttractionComparator(List.of()));
+    }
+
+    @Test
+    public void compare_singleCriterion_sortsInDefaultDirection() {
+        assertEquals(Arrays.asList(CHEAP_LOW_APPLE, CHEAP_HIGH_BANANA, DEAR_HIGH_CHERRY, CHEAP_HIGH_DATE),
+                sort(new SortCriterion(Field.NAME)));
+        // attractions with the same priority keep their order
+        assertEquals(Arrays.asList(CHEAP_HIGH_DATE, DEAR_HIGH_CHERRY, CHEAP_HIGH_BANANA, CHEAP_LOW_APPLE),
+                sort(new SortCriterion(Field.PRIORITY)));
+    }
+
+    @Test
+    public void compare_severalCriteria_laterCriteriaBreakTies() {
+        assertEquals(Arrays.asList(CHEAP_HIGH_BANANA, CHEAP_HIGH_DATE, CHEAP_LOW_APPLE, DEAR_HIGH_CHERRY),
+                sort(new SortCriterion(Field.PRICE), new SortCriterion(Field.PRIORITY),
+                        new SortCriterion(Field.NAME)));
+        assertEquals(Arrays.asList(DEAR_HIGH_CHERRY, CHEAP_HIGH_DATE, CHEAP_HIGH_BANANA, CHEAP_LOW_APPLE),
+                sort(new SortCriterion(Field.PRICE, false), new SortCriterion(Field.NAME, false)));
+    }
+
+    @Test
+    public void compareSortKeys_sameOrderAsCompare() {
+        AttractionComparator comparator = new AttractionComparator(List.of(new SortCriterion(Field.PRIORITY),
+                new SortCriterion(Field.NAME, false)));
+        List<Attraction> attractions = Arrays.asList(CHEAP_LOW_APPLE, CHEAP_HIGH_BANANA, DEAR_HIGH_CHERRY,
+                CHEAP_HIGH_DATE);
+        for (Attraction first : attractions) {
+            for (Attraction second : attractions) {
+                assertEquals(Integer.signum(comparator.compare(first, second)), Integer.signum(
+                        comparator.compareSortKeys(comparator.getSortKey(first), comparator.getSortKey(second))));
+            }
+        }
+    }
+
+    @Test
+    public void equals() {
+        AttractionComparator byName = new AttractionComparator(List.of(new SortCriterion(Field.NAME)));
+
+        // same values -> returns true
+        assertTrue(byName.equals(new AttractionComparator(List.of(new SortCriterion(Field.NAME, true)))));
+
+        // same object -> returns true
+        assertTrue(byName.equals(byName));
+
+        // null -> returns false
+        assertFalse(byName.equals(null));
+
+        // different direction -> returns false
+        assertFalse(byName.equals(new AttractionComparator(List.of(new SortCriterion(Field.NAME, false)))));
+
+        // different criteria -> returns false
+        assertFalse(byName.equals(new AttractionComparator(List.of(new SortCriterion(Field.NAME),
+                new SortCriterion(Field.PRICE)))));
+    }
+
+    private static List<Attraction> sort(SortCriterion... criteria) {
+        List<Attraction> attractions = new ArrayList<>(Arrays.asList(CHEAP_HIGH_DATE, DEAR_HIGH_CHERRY,
+                CHEAP_HIGH_BANANA, CHEAP_LOW_APPLE));
+        attractions.sort(new AttractionComparator(Arrays.asList(criteria)));
+        return attractions;
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.address.model.attraction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAttractions.ALICE;
+import static seedu.address.testutil.TypicalAttractions.BENSON;
+import static seedu.address.testutil.TypicalAttractions.CARL;
+import static seedu.address.testutil.TypicalAttractions.getTypicalAttractions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.attraction.QueryTerm.Comparison;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
+import seedu.address.testutil.AttractionBuilder;
+
+public class AttractionQueryTest {
+
+    private static final QueryTerm TAG_FRIENDS = QueryTerm.matchesTags(TagQuery.allOf(new Tag("friends")));
+    private static final QueryTerm PRIORITY_AT_LEAST_NINE = QueryTerm.comparePriority(Comparison.AT_LEAST,
+            new Priority("9"));
+    private static final QueryTerm PRICE_AT_MOST_FIFTEEN = QueryTerm.comparePrice(Comparison.AT_MOST,
+            new Price("15"));
+
+    @Test
+    public void constructor_noTerms_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AttractionQuery(Collections.emptyList()));
+    }
+
+    @Test
+    public void test_matchesAllTerms_returnsTrue() {
+        AttractionQuery query = new AttractionQuery(List.of(TAG_FRIENDS, PRIORITY_AT_LEAST_NINE));
+        assertTrue(query.test(ALICE));
+    }
+
+    @Test
+    public void test_failsAnyTerm_returnsFalse() {
+        AttractionQuery query = new AttractionQuery(List.of(TAG_FRIENDS, PRIORITY_AT_LEAST_NINE));
+        assertFalse(query.test(BENSON)); // priority too low
+        assertFalse(query.test(CARL)); // no tag, priority too low
+    }
+
+    @Test
+    public void test_priceWithCurrency_onlyMatchesSameCurrency() {
+        QueryTerm term = QueryTerm.comparePrice(Comparison.LESS_THAN, new Price("SGD 20"));
+        assertTrue(term.test(new AttractionBuilder().withPrice("19.999 SGD").build()));
+        assertFalse(term.test(new AttractionBuilder().withPrice("SGD 20").build()));
+        assertFalse(term.test(new AttractionBuilder().withPrice("USD 10").build()));
+
+        // without a currency, prices in any currency are compared by amount
+        QueryTerm anyCurrencyTerm = QueryTerm.comparePrice(Comparison.LESS_THAN, new Price("20"));
+        assertTrue(anyCurrencyTerm.test(new AttractionBuilder().withPrice("USD 10").build()));
+    }
+
+    @Test
+    public void test_textTerms_matchIgnoringCase() {
+        Attraction attraction = new AttractionBuilder().withAddress("10 Bayfront Avenue")
+                .withComments("Long Queues at night").build();
+        assertTrue(QueryTerm.addressContains("bayFRONT").test(attraction));
+        assertFalse(QueryTerm.addressContains("Marina").test(attraction));
+        assertTrue(QueryTerm.commentContains("queues AT").test(attraction));
+        assertFalse(QueryTerm.commentContains("morning").test(attraction));
+    }
+
+    @Test
+    public void withTagTermsResolved_tagTerms_combinedIntoLookupFirst() {
+        QueryTerm notOwesMoney = QueryTerm.matchesTags(new TagQuery(Collections.emptyList(),
+                List.of(Set.of(new Tag("owesMoney")))));
+        AttractionQuery query = new AttractionQuery(List.of(PRICE_AT_MOST_FIFTEEN, TAG_FRIENDS, notOwesMoney));
+        List<TagQuery> lookedUp = new ArrayList<>();
+        AttractionQuery resolvedQuery = query.withTagTermsResolved(tagQuery -> {
+            lookedUp.add(tagQuery);
+            return Set.of(ALICE.getName());
+        });
+
+        TagQuery expectedTagQuery = TagQuery.allOf(new Tag("friends")).and(new TagQuery(Collections.emptyList(),
+                List.of(Set.of(new Tag("owesMoney")))));
+        assertEquals(List.of(expectedTagQuery), lookedUp);
+        assertEquals(2, resolvedQuery.getTerms().size());
+        assertEquals("tag:friends -tag:owesMoney", resolvedQuery.getTerms().get(0).toString());
+        assertEquals(PRICE_AT_MOST_FIFTEEN, resolvedQuery.getTerms().get(1));
+
+        // only the attractions returned by the lookup match the combined tag term
+        assertTrue(resolvedQuery.test(ALICE));
+        assertFalse(resolvedQuery.test(BENSON));
+    }
+
+    @Test
+    public void withTagTermsResolved_noTagTerms_returnsSameQuery() {
+        AttractionQuery query = new AttractionQuery(List.of(PRICE_AT_MOST_FIFTEEN, PRIORITY_AT_LEAST_NINE));
+        assertSame(query, query.withTagTermsResolved(tagQuery -> {
+            throw new AssertionError("The tag index should not be used.");
+        }));
+    }
+
+    @Test
+    public void orderedBySelectivity_mostSelectiveTermFirst() {
+        AttractionQuery query = new AttractionQuery(List.of(PRICE_AT_MOST_FIFTEEN, TAG_FRIENDS,
+                PRIORITY_AT_LEAST_NINE));
+        AttractionQuery orderedQuery = query.orderedBySelectivity(getTypicalAttractions());
+
+        // of the typical attractions, 1 has priority 9 or more, 3 are tagged friends and all cost at most 15
+        assertEquals(List.of(PRIORITY_AT_LEAST_NINE, TAG_FRIENDS, PRICE_AT_MOST_FIFTEEN), orderedQuery.getTerms());
+        for (Attraction attraction : getTypicalAttractions()) {
+            assertEquals(query.test(attraction), orderedQuery.test(attraction));
+        }
+    }
+
+    @Test
+    public void orderedBySelectivity_largeList_estimatesFromSample() {
+        List<Attraction> attractions = new ArrayList<>();
+        for (int i = 0; i < AttractionQuery.SAMPLE_SIZE * 10; i++) {
+            attractions.add(new AttractionBuilder().withName("Attraction " + i)
+                    .withPriority(i % 3 == 0 ? "1" : "9").withTags(i % 7 == 0 ? "friends" : "other").build());
+        }
+        AttractionQuery query = new AttractionQuery(List.of(PRIORITY_AT_LEAST_NINE, TAG_FRIENDS));
+        assertEquals(List.of(TAG_FRIENDS, PRIORITY_AT_LEAST_NINE),
+                query.orderedBySelectivity(attractions).getTerms());
+    }
+
+    @Test
+    public void orderedBySelectivity_singleTermOrNoAttractions_returnsSameQuery() {
+        AttractionQuery singleTermQuery = new AttractionQuery(List.of(TAG_FRIENDS));
+        assertSame(singleTermQuery, singleTermQuery.orderedBySelectivity(getTypicalAttractions()));
+
+        AttractionQuery query = new AttractionQuery(List.of(TAG_FRIENDS, PRIORITY_AT_LEAST_NINE));
+        assertSame(query, query.orderedBySelectivity(Collections.emptyList()));
+    }
+
+    @Test
+    public void equals() {
+        AttractionQuery query = new AttractionQuery(List.of(TAG_FRIENDS, PRIORITY_AT_LEAST_NINE));
+
+        // same values -> returns true
+        assertTrue(query.equals(new AttractionQuery(List.of(
+                QueryTerm.matchesTags(TagQuery.allOf(new Tag("friends"))),
+                QueryTerm.comparePriority(Comparison.AT_LEAST, new Priority("9"))))));
+
+        // same object -> returns true
+        assertTrue(query.equals(query));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+
+        // different types -> returns false
+        assertFalse(query.equals(5));
+
+        // different terms -> returns false
+        assertFalse(query.equals(new AttractionQuery(List.of(TAG_FRIENDS))));
+        assertFalse(query.equals(new AttractionQuery(List.of(TAG_FRIENDS,
+                QueryTerm.comparePriority(Comparison.GREATER_THAN, new Priority("9"))))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        AttractionQuery query = new AttractionQuery(List.of(TAG_FRIENDS, QueryTerm.addressContains("Marina Bay")));
+        String expected = AttractionQuery.class.getCanonicalName() + "{terms=[tag:friends, address:\"Marina Bay\"]}";
+        assertEquals(expected, query.toString());
+    }
+}
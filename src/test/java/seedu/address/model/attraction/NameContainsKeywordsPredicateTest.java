@@ -39,6 +39,12 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void hashCode_sameValues_sameHashCode() {
+        assertEquals(new NameContainsKeywordsPredicate(Arrays.asList("first", "second")).hashCode(),
+                new NameContainsKeywordsPredicate(Arrays.asList("first", "second")).hashCode());
+    }
+
     @Test
     public void test_nameContainsKeywords_returnsTrue() {
         // One keyword
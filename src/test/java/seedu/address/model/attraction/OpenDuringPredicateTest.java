@@ -0,0 +1,72 @@
+package seedu.address.model.attraction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.AttractionBuilder;
+
+public class OpenDuringPredicateTest {
+
+    @Test
+    public void equals() {
+        OpenDuringPredicate firstPredicate = new OpenDuringPredicate(new OpeningHours("1400 - 1700"));
+        OpenDuringPredicate secondPredicate = OpenDuringPredicate.at("1400");
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new OpenDuringPredicate(new OpeningHours("1400 - 1700"))));
+        assertTrue(secondPredicate.equals(new OpenDuringPredicate(new OpeningHours("1400 - 1400"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different span -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void hashCode_sameValues_sameHashCode() {
+        assertEquals(OpenDuringPredicate.at("1400").hashCode(),
+                new OpenDuringPredicate(new OpeningHours("1400 - 1400")).hashCode());
+    }
+
+    @Test
+    public void test_openThroughoutSpan_returnsTrue() {
+        OpenDuringPredicate predicate = new OpenDuringPredicate(new OpeningHours("1400 - 1700"));
+        assertTrue(predicate.test(new AttractionBuilder().withOpeningHours("1400 - 1700").build()));
+        assertTrue(predicate.test(new AttractionBuilder().withOpeningHours("0900 - 0100").build()));
+        assertTrue(predicate.test(new AttractionBuilder().withOpeningHours("24-Hour").build()));
+
+        // single time
+        assertTrue(OpenDuringPredicate.at("1659").test(new AttractionBuilder().withOpeningHours("1400 - 1700")
+                .build()));
+    }
+
+    @Test
+    public void test_notOpenThroughoutSpan_returnsFalse() {
+        OpenDuringPredicate predicate = new OpenDuringPredicate(new OpeningHours("1400 - 1700"));
+        assertFalse(predicate.test(new AttractionBuilder().withOpeningHours("1401 - 1700").build()));
+        assertFalse(predicate.test(new AttractionBuilder().withOpeningHours("1400 - 1659").build()));
+        assertFalse(predicate.test(new AttractionBuilder().withOpeningHours("1800 - 1300").build()));
+
+        // single time
+        assertFalse(OpenDuringPredicate.at("1700").test(new AttractionBuilder().withOpeningHours("1400 - 1700")
+                .build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        OpeningHours span = new OpeningHours("1400 - 1700");
+        OpenDuringPredicate predicate = new OpenDuringPredicate(span);
+        String expected = OpenDuringPredicate.class.getCanonicalName() + "{span=" + span + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.attraction;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -70,6 +71,67 @@ public class OpeningHoursTest {
         assertTrue(nullOpeningHours.isOpen("1200"));
     }
 
+    @Test
+    public void toMinuteOfDay() {
+        assertThrows(IllegalArgumentException.class, () -> OpeningHours.toMinuteOfDay("2400"));
+        assertEquals(0, OpeningHours.toMinuteOfDay("0000"));
+        assertEquals(90, OpeningHours.toMinuteOfDay("0130"));
+        assertEquals(OpeningHours.MINUTES_PER_DAY - 1, OpeningHours.toMinuteOfDay("2359"));
+    }
+
+    @Test
+    public void isOpen_boundaries() {
+        OpeningHours normalHours = new OpeningHours("1200 - 1800");
+        assertTrue(normalHours.isOpen("1200"));
+        assertTrue(normalHours.isOpen("1759"));
+        assertFalse(normalHours.isOpen("1800"));
+
+        OpeningHours pastMidnight = new OpeningHours("2200 - 0600");
+        assertTrue(pastMidnight.isOpen("2200"));
+        assertTrue(pastMidnight.isOpen("0000"));
+        assertFalse(pastMidnight.isOpen("0600"));
+        assertFalse(pastMidnight.isOpen("2159"));
+
+        // opening and closing at the same time -> only open at that minute
+        OpeningHours sameTime = new OpeningHours("1200 - 1200");
+        assertTrue(sameTime.isOpen("1200"));
+        assertFalse(sameTime.isOpen("1201"));
+        assertFalse(sameTime.isOpen("1159"));
+    }
+
+    @Test
+    public void getOpenMinutesFrom() {
+        OpeningHours pastMidnight = new OpeningHours("2200 - 0600");
+        assertEquals(8 * 60, pastMidnight.getOpenMinutesFrom(OpeningHours.toMinuteOfDay("2200")));
+        assertEquals(60, pastMidnight.getOpenMinutesFrom(OpeningHours.toMinuteOfDay("0500")));
+        assertEquals(0, pastMidnight.getOpenMinutesFrom(OpeningHours.toMinuteOfDay("0600")));
+        assertEquals(OpeningHours.MINUTES_PER_DAY,
+                OpeningHours.NON_SPECIFIED_HOURS.getOpenMinutesFrom(OpeningHours.toMinuteOfDay("1234")));
+        assertThrows(IllegalArgumentException.class, () -> pastMidnight.getOpenMinutesFrom(-1));
+        assertThrows(IllegalArgumentException.class, () ->
+                pastMidnight.getOpenMinutesFrom(OpeningHours.MINUTES_PER_DAY));
+    }
+
+    @Test
+    public void isOpenThroughout() {
+        OpeningHours pastMidnight = new OpeningHours("2200 - 0600");
+        assertTrue(pastMidnight.isOpenThroughout(new OpeningHours("2200 - 0600")));
+        assertTrue(pastMidnight.isOpenThroughout(new OpeningHours("2300 - 0100")));
+        assertTrue(pastMidnight.isOpenThroughout(new OpeningHours("0100 - 0100")));
+        assertFalse(pastMidnight.isOpenThroughout(new OpeningHours("2159 - 0100")));
+        assertFalse(pastMidnight.isOpenThroughout(new OpeningHours("2300 - 0601")));
+        assertFalse(pastMidnight.isOpenThroughout(OpeningHours.NON_SPECIFIED_HOURS));
+
+        OpeningHours nullOpeningHours = OpeningHours.NON_SPECIFIED_HOURS;
+        assertTrue(nullOpeningHours.isOpenThroughout(new OpeningHours("0600 - 0559")));
+        assertTrue(nullOpeningHours.isOpenThroughout(OpeningHours.NON_SPECIFIED_HOURS));
+    }
+
+    @Test
+    public void hashCode_equalOpeningHours_sameHashCode() {
+        assertEquals(new OpeningHours("1200 - 1300").hashCode(), new OpeningHours("1200  -  1300").hashCode());
+    }
+
     @Test
     public void equals() {
         OpeningHours openingHours = new OpeningHours("1200 - 1300");
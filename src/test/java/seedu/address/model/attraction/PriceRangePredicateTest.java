@@ -0,0 +1,84 @@
+package seedu.address.model.attraction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.AttractionBuilder;
+
+public class PriceRangePredicateTest {
+
+    @Test
+    public void constructor_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PriceRangePredicate(new Price("20"), new Price("10")));
+        assertThrows(IllegalArgumentException.class, () ->
+                new PriceRangePredicate(new Price("SGD 10"), new Price("USD 20")));
+    }
+
+    @Test
+    public void isValidRange() {
+        assertTrue(PriceRangePredicate.isValidRange(new Price("10"), new Price("10")));
+        assertTrue(PriceRangePredicate.isValidRange(new Price("10"), new Price("SGD 20")));
+        assertTrue(PriceRangePredicate.isValidRange(new Price("SGD 10"), new Price("20 SGD")));
+        assertFalse(PriceRangePredicate.isValidRange(new Price("10.001"), new Price("10")));
+        assertFalse(PriceRangePredicate.isValidRange(new Price("SGD 10"), new Price("USD 20")));
+    }
+
+    @Test
+    public void test() {
+        PriceRangePredicate anyCurrency = new PriceRangePredicate(new Price("10"), new Price("20"));
+        assertTrue(anyCurrency.test(new AttractionBuilder().withPrice("10").build()));
+        assertTrue(anyCurrency.test(new AttractionBuilder().withPrice("USD 20").build()));
+        assertFalse(anyCurrency.test(new AttractionBuilder().withPrice("9.999").build()));
+        assertFalse(anyCurrency.test(new AttractionBuilder().withPrice("20.001").build()));
+
+        // the currency of either end applies to the whole range
+        PriceRangePredicate sgdOnly = new PriceRangePredicate(new Price("10"), new Price("SGD 20"));
+        assertEquals("SGD", sgdOnly.getCurrencyCode());
+        assertTrue(sgdOnly.test(new AttractionBuilder().withPrice("15 SGD").build()));
+        assertFalse(sgdOnly.test(new AttractionBuilder().withPrice("15").build()));
+        assertFalse(sgdOnly.test(new AttractionBuilder().withPrice("USD 15").build()));
+
+        assertTrue(PriceRangePredicate.atMost(new Price("5")).test(new AttractionBuilder().withPrice("0").build()));
+    }
+
+    @Test
+    public void equals() {
+        PriceRangePredicate predicate = new PriceRangePredicate(new Price("10"), new Price("20"));
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new PriceRangePredicate(new Price("10.0"), new Price("20"))));
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different types -> returns false
+        assertFalse(predicate.equals(5));
+
+        // different range -> returns false
+        assertFalse(predicate.equals(new PriceRangePredicate(new Price("10"), new Price("21"))));
+        assertFalse(predicate.equals(new PriceRangePredicate(new Price("10"), new Price("SGD 20"))));
+    }
+
+    @Test
+    public void hashCode_sameValues_sameHashCode() {
+        assertEquals(new PriceRangePredicate(new Price("10"), new Price("20")).hashCode(),
+                new PriceRangePredicate(new Price("10.0"), new Price("20")).hashCode());
+    }
+
+    @Test
+    public void toStringMethod() {
+        Price lowest = new Price("10");
+        Price highest = new Price("SGD 20");
+        PriceRangePredicate predicate = new PriceRangePredicate(lowest, highest);
+        String expected = PriceRangePredicate.class.getCanonicalName() + "{lowest=" + lowest + ", highest=" + highest
+                + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
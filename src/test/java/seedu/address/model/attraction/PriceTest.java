@@ -1,6 +1,8 @@
 package seedu.address.model.attraction;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -36,10 +38,79 @@ public class PriceTest {
         assertTrue(Price.isValidPrice("5$")); // Units at the end
         assertTrue(Price.isValidPrice("US$ 5")); // 3-letter iso code with D replaced by $
         assertTrue(Price.isValidPrice("5")); // No units
+        assertTrue(Price.isValidPrice("12345678901234567890 USD")); // oversized
         assertTrue(Price.isValidPrice("5           US$")); // A lot of spaces
         assertTrue(Price.isValidPrice("5")); // A lot of spaces
     }
 
+    @Test
+    public void isValidCurrencyCode() {
+        // null currency
+        assertThrows(NullPointerException.class, () -> Price.isValidCurrencyCode(null));
+
+        // invalid currencies
+        assertFalse(Price.isValidCurrencyCode("")); // empty string
+        assertFalse(Price.isValidCurrencyCode("SG")); // insufficient alphabets
+        assertFalse(Price.isValidCurrencyCode("S1")); // digits
+        assertFalse(Price.isValidCurrencyCode("SGD 5")); // amount included
+
+        // valid currencies
+        assertTrue(Price.isValidCurrencyCode("SGD")); // 3-letter iso code
+        assertTrue(Price.isValidCurrencyCode("$")); // symbol
+        assertTrue(Price.isValidCurrencyCode("US$")); // 2 letters and a symbol
+    }
+
+    @Test
+    public void getAmountInMinorUnits() {
+        assertEquals(15000, new Price("15 USD").getAmountInMinorUnits());
+        assertEquals(12200, new Price("USD 12.2").getAmountInMinorUnits());
+        assertEquals(12205, new Price("USD 12.205").getAmountInMinorUnits());
+        assertEquals(50, new Price("0.05").getAmountInMinorUnits());
+        assertEquals(999_999_999_999L, new Price("999999999.999").getAmountInMinorUnits());
+        assertEquals(1000, new Price("0000000001").getAmountInMinorUnits());
+
+        // oversized prices all have the same amount, which is larger than that of any other price
+        assertEquals(Price.OVERSIZED_AMOUNT_IN_MINOR_UNITS, new Price("1000000000").getAmountInMinorUnits());
+        assertEquals(Price.OVERSIZED_AMOUNT_IN_MINOR_UNITS,
+                new Price("12345678901234567890 USD").getAmountInMinorUnits());
+    }
+
+    @Test
+    public void isOversized() {
+        assertFalse(new Price("999999999.999").isOversized());
+        assertFalse(new Price("0000000001").isOversized()); // leading zeros are not counted
+        assertTrue(new Price("1000000000").isOversized());
+        assertTrue(new Price("12345678901234567890 USD").isOversized());
+    }
+
+    @Test
+    public void getPriceValue() {
+        assertEquals(12.205, new Price("USD 12.205").getPriceValue());
+        assertEquals(5.0, new Price("5$").getPriceValue());
+        assertEquals(1.2345678901234567E19, new Price("12345678901234567890").getPriceValue());
+    }
+
+    @Test
+    public void getCurrencyCode() {
+        assertEquals("USD", new Price("USD 15").getCurrencyCode());
+        assertEquals("USD", new Price("15 USD").getCurrencyCode());
+        assertEquals("", new Price("15").getCurrencyCode());
+
+        // different units before and after the amount are in alphabetical order
+        assertEquals("SGD USD", new Price("USD 15 SGD").getCurrencyCode());
+        assertEquals("SGD USD", new Price("SGD 15 USD").getCurrencyCode());
+
+        // currency codes are interned
+        assertSame(new Price("SGD 1").getCurrencyCode(), new Price("2 SGD").getCurrencyCode());
+    }
+
+    @Test
+    public void hashCode_equalPrices_sameHashCode() {
+        assertEquals(new Price("15 USD").hashCode(), new Price("USD 15.00").hashCode());
+        assertEquals(new Price("10").hashCode(), new Price("10.0").hashCode());
+        assertEquals(new Price("SGD 10 USD").hashCode(), new Price("USD 10 SGD").hashCode());
+    }
+
     @Test
     public void equals() {
         Price price = new Price("15 USD");
@@ -48,6 +119,8 @@ public class PriceTest {
         assertTrue(price.equals(new Price("15 USD")));
         assertTrue(price.equals(new Price("USD 15")));
         assertTrue(price.equals(new Price("USD 15.00")));
+        assertTrue(new Price("SGD 10 USD").equals(new Price("USD 10 SGD")));
+        assertTrue(new Price("12345678901234567890").equals(new Price("12345678901234567890.000")));
 
         // same object -> returns true
         assertTrue(price.equals(price));
@@ -62,5 +135,7 @@ public class PriceTest {
         assertFalse(price.equals(new Price("12 USD")));
         assertFalse(price.equals(new Price("15 SGD")));
         assertFalse(price.equals(new Price("$15")));
+        assertFalse(new Price("12345678901234567890").equals(new Price("12345678901234567891")));
+        assertFalse(new Price("1000000000").equals(new Price("12345678901234567890")));
     }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.attraction;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -40,6 +41,12 @@ public class PriorityTest {
         assertTrue(Priority.isValidPriority("10")); // upper bound
     }
 
+    @Test
+    public void getLevel() {
+        assertEquals(1, new Priority("1").getLevel());
+        assertEquals(10, new Priority("10").getLevel());
+    }
+
     @Test
     public void equals() {
         Priority priority = new Priority("5");
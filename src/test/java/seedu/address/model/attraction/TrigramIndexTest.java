@@ -0,0 +1,43 @@
+package seedu.address.model.attraction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    public void toTrigrams_paddedWords() {
+        assertEquals(Set.of("  b", " ba", "bay", "ay "), TrigramIndex.toTrigrams("Bay"));
+        assertEquals(Set.of(), TrigramIndex.toTrigrams("   "));
+    }
+
+    @Test
+    public void getSimilarities_typo_matchesWithJaccardIndex() {
+        Name marinaBay = new Name("Marina Bay");
+        index.add(marinaBay, "Marina Bay");
+        index.add(new Name("Chinatown"), "Chinatown");
+
+        // "marnia bay" shares 7 of its 11 trigrams with the 11 trigrams of "marina bay"
+        assertEquals(Map.of(marinaBay, 7.0 / 15), index.getSimilarities("marnia bay", 0.5));
+        assertEquals(Map.of(), index.getSimilarities("", 0.5));
+    }
+
+    @Test
+    public void getCandidates_manyTextsShareCommonTrigrams_onlyTextsWithRarestTrigramsCompared() {
+        for (int i = 0; i < 10_000; i++) {
+            index.add(new Name("Attraction " + i), "Bay Attraction " + i);
+        }
+        Name marinaBay = new Name("Marina Bay");
+        index.add(marinaBay, "Marina Bay");
+
+        // every text contains the trigrams of "bay", but only one contains any of the rarest trigrams of the query
+        assertEquals(Set.of(marinaBay), index.getCandidates("marnia bay", 0.5));
+        assertEquals(Map.of(marinaBay, 7.0 / 15), index.getSimilarities("marnia bay", 0.5));
+    }
+}
@@ -7,16 +7,22 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAttractions.ALICE;
+import static seedu.address.testutil.TypicalAttractions.BENSON;
 import static seedu.address.testutil.TypicalAttractions.BOB;
+import static seedu.address.testutil.TypicalAttractions.DANIEL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.attraction.exceptions.AttractionNotFoundException;
 import seedu.address.model.attraction.exceptions.DuplicateAttractionException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
 import seedu.address.testutil.AttractionBuilder;
 
 public class UniqueAttractionListTest {
@@ -102,6 +108,16 @@ public class UniqueAttractionListTest {
         assertEquals(expectedUniqueAttractionList, uniqueAttractionList);
     }
 
+    @Test
+    public void setAttraction_editedAttractionHasDifferentIdentity_updatesIdentityLookup() {
+        uniqueAttractionList.add(ALICE);
+        uniqueAttractionList.setAttraction(ALICE, BOB);
+        assertFalse(uniqueAttractionList.contains(ALICE));
+        assertTrue(uniqueAttractionList.contains(BOB));
+        uniqueAttractionList.add(ALICE);
+        assertTrue(uniqueAttractionList.contains(ALICE));
+    }
+
     @Test
     public void setAttraction_editedAttractionHasNonUniqueIdentity_throwsDuplicateAttractionException() {
         uniqueAttractionList.add(ALICE);
@@ -119,6 +135,14 @@ public class UniqueAttractionListTest {
         assertThrows(AttractionNotFoundException.class, () -> uniqueAttractionList.remove(ALICE));
     }
 
+    @Test
+    public void remove_attractionWithSameIdentityButDifferentFields_throwsAttractionNotFoundException() {
+        uniqueAttractionList.add(ALICE);
+        Attraction editedAlice = new AttractionBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(AttractionNotFoundException.class, () -> uniqueAttractionList.remove(editedAlice));
+        assertTrue(uniqueAttractionList.contains(ALICE));
+    }
+
     @Test
     public void remove_existingAttraction_removesAttraction() {
         uniqueAttractionList.add(ALICE);
@@ -127,6 +151,18 @@ public class UniqueAttractionListTest {
         assertEquals(expectedUniqueAttractionList, uniqueAttractionList);
     }
 
+    @Test
+    public void remove_earlierAttraction_laterAttractionsStillFound() {
+        uniqueAttractionList.setAttractions(Arrays.asList(ALICE, BENSON, DANIEL));
+        uniqueAttractionList.remove(ALICE);
+
+        Attraction editedBenson = new AttractionBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueAttractionList.setAttraction(BENSON, editedBenson);
+        uniqueAttractionList.remove(DANIEL);
+        assertEquals(List.of(editedBenson), uniqueAttractionList.asUnmodifiableObservableList());
+        assertThrows(AttractionNotFoundException.class, () -> uniqueAttractionList.remove(BENSON));
+    }
+
     @Test
     public void setAttractions_nullUniqueAttractionList_throwsNullPointerException() {
         assertThrows(
@@ -157,6 +193,14 @@ public class UniqueAttractionListTest {
         assertEquals(expectedUniqueAttractionList, uniqueAttractionList);
     }
 
+    @Test
+    public void setAttractions_list_replacesIdentityLookup() {
+        uniqueAttractionList.add(ALICE);
+        uniqueAttractionList.setAttractions(Collections.singletonList(BOB));
+        assertFalse(uniqueAttractionList.contains(ALICE));
+        assertTrue(uniqueAttractionList.contains(BOB));
+    }
+
     @Test
     public void setAttractions_listWithDuplicateAttractions_throwsDuplicateAttractionException() {
         List<Attraction> listWithDuplicateAttractions = Arrays.asList(ALICE, ALICE);
@@ -165,6 +209,380 @@ public class UniqueAttractionListTest {
                         .setAttractions(listWithDuplicateAttractions));
     }
 
+    @Test
+    public void setAttractions_listWithSeveralDuplicates_reportsEveryDuplicateName() {
+        List<Attraction> attractions = Arrays.asList(ALICE, BOB, ALICE, BOB, ALICE);
+        String expectedMessage = "Operation would result in duplicate attractions: "
+                + Arrays.asList(ALICE.getName(), BOB.getName());
+        assertThrows(DuplicateAttractionException.class, expectedMessage, ()
+            -> uniqueAttractionList.setAttractions(attractions));
+    }
+
+    @Test
+    public void getCumulativeAggregates_emptyList_returnsZero() {
+        assertEquals(0.0, uniqueAttractionList.getCumulativeAttractionPrice());
+        assertEquals(0, uniqueAttractionList.getCumulativeAttractionPriority());
+    }
+
+    @Test
+    public void getCumulativeAggregates_listModified_tracksRunningTotals() {
+        Attraction cheap = new AttractionBuilder().withName("Cheap").withPrice("SGD 0.1").withPriority("2").build();
+        Attraction pricey = new AttractionBuilder().withName("Pricey").withPrice("20.25").withPriority("9").build();
+
+        uniqueAttractionList.add(cheap);
+        uniqueAttractionList.add(pricey);
+        assertEquals(20.35, uniqueAttractionList.getCumulativeAttractionPrice());
+        assertEquals(11, uniqueAttractionList.getCumulativeAttractionPriority());
+
+        Attraction editedPricey = new AttractionBuilder(pricey).withPrice("5.2").withPriority("10").build();
+        uniqueAttractionList.setAttraction(pricey, editedPricey);
+        assertEquals(5.3, uniqueAttractionList.getCumulativeAttractionPrice());
+        assertEquals(12, uniqueAttractionList.getCumulativeAttractionPriority());
+
+        uniqueAttractionList.remove(cheap);
+        assertEquals(5.2, uniqueAttractionList.getCumulativeAttractionPrice());
+        assertEquals(10, uniqueAttractionList.getCumulativeAttractionPriority());
+
+        uniqueAttractionList.setAttractions(Arrays.asList(cheap, pricey));
+        assertEquals(20.35, uniqueAttractionList.getCumulativeAttractionPrice());
+        assertEquals(11, uniqueAttractionList.getCumulativeAttractionPriority());
+    }
+
+    @Test
+    public void findNamesContainingAnyWord_nullWords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueAttractionList.findNamesContainingAnyWord(null));
+    }
+
+    @Test
+    public void findNamesContainingAnyWord_matchingWords_returnsUnionIgnoringCase() {
+        uniqueAttractionList.setAttractions(Arrays.asList(ALICE, BENSON, DANIEL));
+
+        // whole words only
+        assertEquals(Set.of(), uniqueAttractionList.findNamesContainingAnyWord(List.of("Mei", "Alice Pauline")));
+
+        // case insensitive, union of the matches of every word
+        assertEquals(Set.of(BENSON.getName(), DANIEL.getName()),
+                uniqueAttractionList.findNamesContainingAnyWord(List.of("mEIER")));
+        assertEquals(Set.of(ALICE.getName(), DANIEL.getName()),
+                uniqueAttractionList.findNamesContainingAnyWord(List.of("daniel", "PAULINE", "unknown")));
+    }
+
+    @Test
+    public void findNamesContainingAnyWord_listModified_reflectsChanges() {
+        uniqueAttractionList.add(ALICE);
+        uniqueAttractionList.add(BENSON);
+        Attraction renamedBenson = new AttractionBuilder(BENSON).withName("Benson Pauline").build();
+        uniqueAttractionList.setAttraction(BENSON, renamedBenson);
+        assertEquals(Set.of(ALICE.getName(), renamedBenson.getName()),
+                uniqueAttractionList.findNamesContainingAnyWord(List.of("Pauline")));
+        assertEquals(Set.of(), uniqueAttractionList.findNamesContainingAnyWord(List.of("Meier")));
+
+        uniqueAttractionList.remove(ALICE);
+        assertEquals(Set.of(renamedBenson.getName()),
+                uniqueAttractionList.findNamesContainingAnyWord(List.of("Pauline")));
+
+        UniqueAttractionList replacement = new UniqueAttractionList();
+        replacement.add(DANIEL);
+        uniqueAttractionList.setAttractions(replacement);
+        assertEquals(Set.of(), uniqueAttractionList.findNamesContainingAnyWord(List.of("Pauline")));
+        assertEquals(Set.of(DANIEL.getName()), uniqueAttractionList.findNamesContainingAnyWord(List.of("Meier")));
+
+        // the replacement's index is copied rather than shared
+        replacement.remove(DANIEL);
+        assertEquals(Set.of(DANIEL.getName()), uniqueAttractionList.findNamesContainingAnyWord(List.of("Meier")));
+    }
+
+    @Test
+    public void findNamesMatchingTags_inclusionsAndExclusions_returnsMatchingNames() {
+        uniqueAttractionList.setAttractions(Arrays.asList(ALICE, BENSON, DANIEL));
+        Tag friends = new Tag("friends");
+        Tag owesMoney = new Tag("owesMoney");
+        Tag unknown = new Tag("unknown");
+
+        // all of the tags
+        assertEquals(Set.of(BENSON.getName()), uniqueAttractionList.findNamesMatchingTags(
+                TagQuery.allOf(friends, owesMoney)));
+
+        // any of the tags
+        assertEquals(Set.of(ALICE.getName(), BENSON.getName(), DANIEL.getName()),
+                uniqueAttractionList.findNamesMatchingTags(new TagQuery(List.of(Set.of(owesMoney, unknown, friends)),
+                        Collections.emptyList())));
+
+        // none of the tags
+        assertEquals(Set.of(ALICE.getName(), DANIEL.getName()), uniqueAttractionList.findNamesMatchingTags(
+                new TagQuery(Collections.emptyList(), List.of(Set.of(owesMoney, unknown)))));
+        assertEquals(Set.of(), uniqueAttractionList.findNamesMatchingTags(
+                TagQuery.allOf(friends).and(new TagQuery(Collections.emptyList(), List.of(Set.of(friends))))));
+
+        // a tag that no attraction has
+        assertEquals(Set.of(), uniqueAttractionList.findNamesMatchingTags(TagQuery.allOf(unknown)));
+    }
+
+    @Test
+    public void findNamesMatchingTags_listModified_reflectsChanges() {
+        TagQuery husband = TagQuery.allOf(new Tag(VALID_TAG_HUSBAND));
+        uniqueAttractionList.add(ALICE);
+        uniqueAttractionList.add(BENSON);
+        Attraction editedBenson = new AttractionBuilder(BENSON).withName("Benson Pauline")
+                .withTags(VALID_TAG_HUSBAND).build();
+        uniqueAttractionList.setAttraction(BENSON, editedBenson);
+        assertEquals(Set.of(editedBenson.getName()), uniqueAttractionList.findNamesMatchingTags(husband));
+        assertEquals(Set.of(ALICE.getName()),
+                uniqueAttractionList.findNamesMatchingTags(TagQuery.allOf(new Tag("friends"))));
+
+        // the ordinal of a removed attraction is reused without keeping its tags
+        uniqueAttractionList.remove(ALICE);
+        uniqueAttractionList.add(DANIEL);
+        Attraction untaggedCarl = new AttractionBuilder().withName("Carl Kurz").withTags().build();
+        uniqueAttractionList.add(untaggedCarl);
+        assertEquals(Set.of(DANIEL.getName()),
+                uniqueAttractionList.findNamesMatchingTags(TagQuery.allOf(new Tag("friends"))));
+        assertEquals(Set.of(editedBenson.getName(), DANIEL.getName(), untaggedCarl.getName()),
+                uniqueAttractionList.findNamesMatchingTags(new TagQuery(Collections.emptyList(),
+                        List.of(Set.of(new Tag("owesMoney"))))));
+
+        UniqueAttractionList replacement = new UniqueAttractionList();
+        replacement.add(ALICE);
+        uniqueAttractionList.setAttractions(replacement);
+        assertEquals(Set.of(), uniqueAttractionList.findNamesMatchingTags(husband));
+
+        // the replacement's index is copied rather than shared
+        replacement.remove(ALICE);
+        assertEquals(Set.of(ALICE.getName()),
+                uniqueAttractionList.findNamesMatchingTags(TagQuery.allOf(new Tag("friends"))));
+    }
+
+    @Test
+    public void findNamesOpenThroughout_openingHoursAcrossMidnight_returnsMatchingNames() {
+        Attraction lateNight = new AttractionBuilder().withName("Late Night").withOpeningHours("2000 - 0200").build();
+        Attraction allDay = new AttractionBuilder().withName("All Day").withOpeningHours("24-Hour").build();
+        Attraction noon = new AttractionBuilder().withName("Noon").withOpeningHours("1200 - 1200").build();
+        uniqueAttractionList.setAttractions(Arrays.asList(ALICE, BENSON, lateNight, allDay, noon));
+
+        assertEquals(Set.of(ALICE.getName(), BENSON.getName(), allDay.getName(), noon.getName()),
+                uniqueAttractionList.findNamesOpenThroughout(new OpeningHours("1200 - 1200")));
+        assertEquals(Set.of(ALICE.getName(), BENSON.getName(), allDay.getName()),
+                uniqueAttractionList.findNamesOpenThroughout(new OpeningHours("1200 - 1500")));
+        assertEquals(Set.of(allDay.getName()),
+                uniqueAttractionList.findNamesOpenThroughout(new OpeningHours("1200 - 1501")));
+        assertEquals(Set.of(lateNight.getName(), allDay.getName()),
+                uniqueAttractionList.findNamesOpenThroughout(new OpeningHours("0100 - 0100")));
+        assertEquals(Set.of(lateNight.getName(), allDay.getName()),
+                uniqueAttractionList.findNamesOpenThroughout(new OpeningHours("2300 - 0200")));
+        assertEquals(Set.of(allDay.getName()),
+                uniqueAttractionList.findNamesOpenThroughout(OpeningHours.NON_SPECIFIED_HOURS));
+        assertEquals(Set.of(allDay.getName()),
+                uniqueAttractionList.findNamesOpenThroughout(new OpeningHours("0300 - 0300")));
+    }
+
+    @Test
+    public void findNamesOpenThroughout_listModified_reflectsChanges() {
+        OpeningHours evening = new OpeningHours("1900 - 1900");
+        uniqueAttractionList.add(ALICE);
+        uniqueAttractionList.add(BENSON);
+        Attraction eveningBenson = new AttractionBuilder(BENSON).withOpeningHours("1800 - 2200").build();
+        uniqueAttractionList.setAttraction(BENSON, eveningBenson);
+        assertEquals(Set.of(eveningBenson.getName()), uniqueAttractionList.findNamesOpenThroughout(evening));
+        assertEquals(Set.of(ALICE.getName()),
+                uniqueAttractionList.findNamesOpenThroughout(new OpeningHours("1300 - 1300")));
+
+        uniqueAttractionList.remove(eveningBenson);
+        assertEquals(Set.of(), uniqueAttractionList.findNamesOpenThroughout(evening));
+
+        UniqueAttractionList replacement = new UniqueAttractionList();
+        replacement.add(eveningBenson);
+        uniqueAttractionList.setAttractions(replacement);
+        assertEquals(Set.of(), uniqueAttractionList.findNamesOpenThroughout(new OpeningHours("1300 - 1300")));
+
+        // the replacement's index is copied rather than shared
+        replacement.remove(eveningBenson);
+        assertEquals(Set.of(eveningBenson.getName()), uniqueAttractionList.findNamesOpenThroughout(evening));
+    }
+
+    @Test
+    public void findNamesPricedWithin_currencies_returnsNamesInRange() {
+        Attraction cheapSgd = new AttractionBuilder().withName("Cheap").withPrice("SGD 5").build();
+        Attraction pricySgd = new AttractionBuilder().withName("Pricy").withPrice("50 SGD").build();
+        Attraction cheapUsd = new AttractionBuilder().withName("Cheap Usd").withPrice("USD 5.5").build();
+        uniqueAttractionList.setAttractions(Arrays.asList(ALICE, cheapSgd, pricySgd, cheapUsd));
+
+        // any currency
+        assertEquals(Set.of(cheapSgd.getName(), cheapUsd.getName()), uniqueAttractionList.findNamesPricedWithin(
+                new PriceRangePredicate(new Price("5"), new Price("14.999"))));
+        assertEquals(Set.of(ALICE.getName(), cheapSgd.getName(), cheapUsd.getName()),
+                uniqueAttractionList.findNamesPricedWithin(PriceRangePredicate.atMost(new Price("15"))));
+
+        // single currency, inclusive of both ends
+        assertEquals(Set.of(cheapSgd.getName(), pricySgd.getName()), uniqueAttractionList.findNamesPricedWithin(
+                new PriceRangePredicate(new Price("5"), new Price("SGD 50"))));
+        assertEquals(Set.of(), uniqueAttractionList.findNamesPricedWithin(PriceRangePredicate.atMost(
+                new Price("EUR 100"))));
+    }
+
+    @Test
+    public void findNamesInCheapestPercent_returnsNamesAtOrBelowPercentile() {
+        assertEquals(Set.of(), uniqueAttractionList.findNamesInCheapestPercent("", 50));
+
+        List<Attraction> attractions = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            attractions.add(new AttractionBuilder().withName("Attraction " + i).withPrice(String.valueOf(i)).build());
+        }
+        uniqueAttractionList.setAttractions(attractions);
+
+        assertEquals(Set.of(attractions.get(0).getName()), uniqueAttractionList.findNamesInCheapestPercent("", 1));
+        assertEquals(Set.of(attractions.get(0).getName(), attractions.get(1).getName(),
+                attractions.get(2).getName()), uniqueAttractionList.findNamesInCheapestPercent("", 21));
+        assertEquals(10, uniqueAttractionList.findNamesInCheapestPercent("", 100).size());
+
+        // the percentile reflects changes to the list
+        uniqueAttractionList.remove(attractions.get(0));
+        uniqueAttractionList.remove(attractions.get(1));
+        assertEquals(Set.of(attractions.get(2).getName(), attractions.get(3).getName()),
+                uniqueAttractionList.findNamesInCheapestPercent("", 25));
+
+        assertThrows(IllegalArgumentException.class, () -> uniqueAttractionList.findNamesInCheapestPercent("", 0));
+        assertThrows(IllegalArgumentException.class, () -> uniqueAttractionList.findNamesInCheapestPercent("", 101));
+    }
+
+    @Test
+    public void findNamesInCheapestPercent_currency_comparesOnlyPricesInCurrency() {
+        Attraction cheapSgd = new AttractionBuilder().withName("Cheap").withPrice("SGD 5").build();
+        Attraction pricySgd = new AttractionBuilder().withName("Pricy").withPrice("50 SGD").build();
+        Attraction cheapJpy = new AttractionBuilder().withName("Cheap Jpy").withPrice("JPY 500").build();
+        uniqueAttractionList.setAttractions(Arrays.asList(ALICE, cheapSgd, pricySgd, cheapJpy));
+
+        assertEquals(Set.of(cheapSgd.getName()), uniqueAttractionList.findNamesInCheapestPercent("SGD", 50));
+        assertEquals(Set.of(cheapJpy.getName()), uniqueAttractionList.findNamesInCheapestPercent("JPY", 1));
+        assertEquals(Set.of(), uniqueAttractionList.findNamesInCheapestPercent("EUR", 100));
+
+        // without a currency, the yen price is the most expensive by amount
+        assertEquals(Set.of(cheapSgd.getName(), ALICE.getName(), pricySgd.getName()),
+                uniqueAttractionList.findNamesInCheapestPercent("", 75));
+    }
+
+    @Test
+    public void findCheapestNames_returnsCheapestFirst() {
+        Attraction free = new AttractionBuilder().withName("Free").withPrice("0").build();
+        Attraction pricy = new AttractionBuilder().withName("Pricy").withPrice("50").build();
+        Attraction pricySgd = new AttractionBuilder().withName("Pricy Sgd").withPrice("SGD 40").build();
+        uniqueAttractionList.setAttractions(Arrays.asList(pricy, ALICE, free, pricySgd));
+
+        assertEquals(List.of(), uniqueAttractionList.findCheapestNames("", 0));
+        assertEquals(List.of(free.getName(), ALICE.getName()), uniqueAttractionList.findCheapestNames("", 2));
+        assertEquals(List.of(free.getName(), ALICE.getName(), pricySgd.getName(), pricy.getName()),
+                uniqueAttractionList.findCheapestNames("", 5));
+        assertEquals(List.of(pricySgd.getName()), uniqueAttractionList.findCheapestNames("SGD", 5));
+        assertThrows(IllegalArgumentException.class, () -> uniqueAttractionList.findCheapestNames("", -1));
+    }
+
+    @Test
+    public void findNamesInPriceOrder_returnsAllNamesByAmount() {
+        Attraction free = new AttractionBuilder().withName("Free").withPrice("0").build();
+        Attraction pricySgd = new AttractionBuilder().withName("Pricy Sgd").withPrice("SGD 40").build();
+        uniqueAttractionList.setAttractions(Arrays.asList(pricySgd, ALICE, free));
+
+        assertEquals(List.of(free.getName(), ALICE.getName(), pricySgd.getName()),
+                uniqueAttractionList.findNamesInPriceOrder(true));
+        assertEquals(List.of(pricySgd.getName(), ALICE.getName(), free.getName()),
+                uniqueAttractionList.findNamesInPriceOrder(false));
+    }
+
+    @Test
+    public void findNamesSimilarTo_typo_ranksClosestMatchesFirst() {
+        Attraction marinaBay = new AttractionBuilder().withName("Marina Bay").build();
+        Attraction marinaBaySands = new AttractionBuilder().withName("Marina Bay Sands").build();
+        Attraction gardens = new AttractionBuilder().withName("Gardens by the Bay")
+                .withAddress("18 Marina Gardens Drive").build();
+        uniqueAttractionList.setAttractions(Arrays.asList(ALICE, marinaBaySands, gardens, marinaBay));
+
+        assertEquals(List.of(marinaBay.getName(), marinaBaySands.getName()),
+                uniqueAttractionList.findNamesSimilarTo("marnia bay", 5));
+        assertEquals(List.of(marinaBay.getName()), uniqueAttractionList.findNamesSimilarTo("Marnia  Bay", 1));
+
+        // addresses are searched too
+        assertEquals(List.of(gardens.getName()), uniqueAttractionList.findNamesSimilarTo("marina gardens drv", 5));
+
+        // too few trigrams in common
+        assertEquals(List.of(), uniqueAttractionList.findNamesSimilarTo("chinatown", 5));
+        assertEquals(List.of(), uniqueAttractionList.findNamesSimilarTo(" ", 5));
+
+        assertEquals(List.of(), uniqueAttractionList.findNamesSimilarTo("bay", 0));
+        assertThrows(IllegalArgumentException.class, () -> uniqueAttractionList.findNamesSimilarTo("bay", -1));
+    }
+
+    @Test
+    public void findNamesSimilarTo_listModified_reflectsChanges() {
+        Attraction marinaBay = new AttractionBuilder().withName("Marina Bay").build();
+        uniqueAttractionList.setAttractions(Arrays.asList(ALICE, marinaBay));
+        assertEquals(List.of(marinaBay.getName()), uniqueAttractionList.findNamesSimilarTo("marnia bay", 5));
+
+        Attraction renamed = new AttractionBuilder(marinaBay).withName("Sentosa")
+                .withAddress("Marina Bay Waterfront").build();
+        uniqueAttractionList.setAttraction(marinaBay, renamed);
+        assertEquals(List.of(), uniqueAttractionList.findNamesSimilarTo("sentsoa island", 5));
+        assertEquals(List.of(renamed.getName()), uniqueAttractionList.findNamesSimilarTo("sentosa", 5));
+        assertEquals(List.of(renamed.getName()), uniqueAttractionList.findNamesSimilarTo("marnia bay", 5));
+
+        uniqueAttractionList.remove(renamed);
+        assertEquals(List.of(), uniqueAttractionList.findNamesSimilarTo("marnia bay", 5));
+    }
+
+    @Test
+    public void findNamesMentioning_keywords_ranksByRelevance() {
+        Attraction sunsetTwice = new AttractionBuilder().withName("Sunset Twice").withActivities("Sunset")
+                .withComments("sunset!").build();
+        Attraction sunsetCruise = new AttractionBuilder().withName("Sunset Cruise").withActivities("Sunset cruise")
+                .build();
+        Attraction mall = new AttractionBuilder().withName("Mall").withActivities("Shopping").build();
+        uniqueAttractionList.setAttractions(Arrays.asList(sunsetCruise, mall, sunsetTwice));
+
+        // more mentions rank higher, and stopwords are ignored
+        assertEquals(List.of(sunsetTwice.getName(), sunsetCruise.getName()),
+                uniqueAttractionList.findNamesMentioning("the SUNSET", 5));
+
+        // terms mentioned by fewer attractions count for more
+        assertEquals(List.of(mall.getName(), sunsetTwice.getName(), sunsetCruise.getName()),
+                uniqueAttractionList.findNamesMentioning("sunset shopping", 5));
+        assertEquals(List.of(mall.getName()), uniqueAttractionList.findNamesMentioning("sunset shopping", 1));
+
+        assertEquals(List.of(), uniqueAttractionList.findNamesMentioning("the", 5));
+        assertEquals(List.of(), uniqueAttractionList.findNamesMentioning("sun", 5));
+        assertThrows(IllegalArgumentException.class, () -> uniqueAttractionList.findNamesMentioning("sunset", -1));
+    }
+
+    @Test
+    public void findNamesMentioning_listModified_reflectsChanges() {
+        Attraction mall = new AttractionBuilder().withName("Mall").withActivities("Shopping").build();
+        uniqueAttractionList.setAttractions(Arrays.asList(ALICE, mall));
+        assertEquals(List.of(), uniqueAttractionList.findNamesMentioning("food", 5));
+
+        Attraction commentedMall = new AttractionBuilder(mall).withComments("Great food court").build();
+        uniqueAttractionList.setAttraction(mall, commentedMall);
+        assertEquals(List.of(commentedMall.getName()), uniqueAttractionList.findNamesMentioning("food", 5));
+
+        Attraction editedMall = new AttractionBuilder(commentedMall).withActivities("Dining").build();
+        uniqueAttractionList.setAttraction(commentedMall, editedMall);
+        assertEquals(List.of(), uniqueAttractionList.findNamesMentioning("shopping", 5));
+        assertEquals(List.of(editedMall.getName()), uniqueAttractionList.findNamesMentioning("dining", 5));
+
+        uniqueAttractionList.remove(editedMall);
+        assertEquals(List.of(), uniqueAttractionList.findNamesMentioning("food dining", 5));
+    }
+
+    @Test
+    public void findNames_modifiedBeforeFirstSearch_reflectsChanges() {
+        uniqueAttractionList.setAttractions(Arrays.asList(ALICE, BENSON));
+        Attraction editedBenson = new AttractionBuilder(BENSON).withPrice("SGD 1").build();
+        uniqueAttractionList.setAttraction(BENSON, editedBenson);
+        uniqueAttractionList.remove(ALICE);
+        uniqueAttractionList.add(DANIEL);
+
+        assertEquals(Set.of(editedBenson.getName(), DANIEL.getName()),
+                uniqueAttractionList.findNamesContainingAnyWord(List.of("Meier")));
+        assertEquals(Set.of(editedBenson.getName()),
+                uniqueAttractionList.findNamesPricedWithin(PriceRangePredicate.atMost(new Price("SGD 10"))));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -4,7 +4,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalAttractions.ALICE;
-import static seedu.address.testutil.TypicalAttractions.BENSON;
 import static seedu.address.testutil.TypicalAttractions.CARL;
 import static seedu.address.testutil.TypicalItineraries.EUROPE_TOUR;
 import static seedu.address.testutil.TypicalItineraries.JAPAN_TRIP;
@@ -84,21 +83,6 @@ public class ItineraryTest {
         assertFalse(JAPAN_TRIP.hasAttraction(CARL));
     }
 
-    @Test
-    public void addAttraction_success() {
-        Itinerary itinerary = new ItineraryBuilder().withAttractions().build();
-        itinerary.addAttraction(ALICE);
-        assertTrue(itinerary.hasAttraction(ALICE));
-    }
-
-    @Test
-    public void removeAttraction_success() {
-        Itinerary itinerary = new ItineraryBuilder().withAttractions(ALICE, BENSON).build();
-        itinerary.removeAttraction(ALICE);
-        assertFalse(itinerary.hasAttraction(ALICE));
-        assertTrue(itinerary.hasAttraction(BENSON));
-    }
-
     @Test
     public void getAttractions_returnsUnmodifiableList() {
         Itinerary itinerary = new ItineraryBuilder().withAttractions(ALICE).build();
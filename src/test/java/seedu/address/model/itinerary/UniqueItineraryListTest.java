@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -223,4 +224,27 @@ public class UniqueItineraryListTest {
         otherList.add(EUROPE_TOUR);
         assertFalse(uniqueItineraryList.equals(otherList));
     }
+
+    @Test
+    public void remove_earlierItinerary_laterItinerariesStillFound() {
+        Itinerary weekend = new ItineraryBuilder().withName("Weekend").build();
+        uniqueItineraryList.setItineraries(Arrays.asList(JAPAN_TRIP, EUROPE_TOUR, weekend));
+        uniqueItineraryList.remove(JAPAN_TRIP);
+
+        Itinerary editedEuropeTour = new ItineraryBuilder(EUROPE_TOUR).withCreatedAt(LocalDateTime.of(2020, 1, 1, 0, 0))
+                .build();
+        uniqueItineraryList.setItinerary(EUROPE_TOUR, editedEuropeTour);
+        uniqueItineraryList.remove(weekend);
+        assertEquals(List.of(editedEuropeTour), uniqueItineraryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void updateItineraries_namedItineraries_replacesOnlyThoseItineraries() {
+        uniqueItineraryList.setItineraries(Arrays.asList(JAPAN_TRIP, EUROPE_TOUR));
+        Itinerary editedEuropeTour = new ItineraryBuilder(EUROPE_TOUR).withCreatedAt(LocalDateTime.of(2020, 1, 1, 0, 0))
+                .build();
+        uniqueItineraryList.updateItineraries(Set.of(EUROPE_TOUR.getName(), new ItineraryName("Nowhere")),
+                itinerary -> editedEuropeTour);
+        assertEquals(List.of(JAPAN_TRIP, editedEuropeTour), uniqueItineraryList.asUnmodifiableObservableList());
+    }
 }
@@ -11,6 +11,7 @@ import static seedu.address.testutil.TypicalLocations.SINGAPORE;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -151,4 +152,28 @@ public class UniqueLocationListTest {
         assertThrows(UnsupportedOperationException.class, () ->
                 uniqueLocationList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void remove_earlierLocation_laterLocationsStillFound() {
+        Location marinaBay = new LocationBuilder().withLocationName("Marina Bay")
+                .withAttractionNames(BENSON.getName().fullName).build();
+        uniqueLocationList.setLocations(Arrays.asList(SINGAPORE, CBD, marinaBay));
+        uniqueLocationList.remove(SINGAPORE);
+
+        Location editedCbd = new LocationBuilder().withLocationName(CBD.getName().value)
+                .withAttractionNames(BENSON.getName().fullName).build();
+        uniqueLocationList.setLocation(CBD, editedCbd);
+        assertEquals(marinaBay, uniqueLocationList.remove(marinaBay.getName()));
+        assertEquals(List.of(editedCbd), uniqueLocationList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void updateLocations_namedLocations_replacesOnlyThoseLocations() {
+        uniqueLocationList.setLocations(Arrays.asList(SINGAPORE, CBD));
+        Location editedCbd = new LocationBuilder().withLocationName(CBD.getName().value)
+                .withAttractionNames(BENSON.getName().fullName).build();
+        uniqueLocationList.updateLocations(Set.of(CBD.getName(), new LocationName("Nowhere")),
+                location -> editedCbd);
+        assertEquals(List.of(SINGAPORE, editedCbd), uniqueLocationList.asUnmodifiableObservableList());
+    }
 }
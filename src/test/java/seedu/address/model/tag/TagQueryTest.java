@@ -0,0 +1,78 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagQueryTest {
+
+    private static final Tag MUSEUM = new Tag("museum");
+    private static final Tag FREE = new Tag("free");
+    private static final Tag CHEAP = new Tag("cheap");
+    private static final Tag CLOSED = new Tag("closed");
+
+    @Test
+    public void constructor_emptyClause_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TagQuery(List.of(Set.of()), Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> new TagQuery(Collections.emptyList(), List.of(Set.of())));
+    }
+
+    @Test
+    public void test() {
+        TagQuery query = new TagQuery(List.of(Set.of(MUSEUM), Set.of(FREE, CHEAP)), List.of(Set.of(CLOSED)));
+
+        // every inclusion clause holds, and no excluded tag
+        assertTrue(query.test(Set.of(MUSEUM, FREE)));
+        assertTrue(query.test(Set.of(MUSEUM, CHEAP, new Tag("other"))));
+
+        // an inclusion clause does not hold
+        assertFalse(query.test(Set.of(MUSEUM)));
+        assertFalse(query.test(Set.of(FREE, CHEAP)));
+
+        // has an excluded tag
+        assertFalse(query.test(Set.of(MUSEUM, FREE, CLOSED)));
+
+        // no clauses -> holds for any tags
+        assertTrue(new TagQuery(Collections.emptyList(), Collections.emptyList()).test(Collections.emptySet()));
+    }
+
+    @Test
+    public void and_combinesClauses() {
+        TagQuery combined = TagQuery.allOf(MUSEUM).and(new TagQuery(List.of(Set.of(FREE, CHEAP)),
+                List.of(Set.of(CLOSED))));
+        assertEquals(new TagQuery(List.of(Set.of(MUSEUM), Set.of(FREE, CHEAP)), List.of(Set.of(CLOSED))), combined);
+    }
+
+    @Test
+    public void equals() {
+        TagQuery query = new TagQuery(List.of(Set.of(MUSEUM)), List.of(Set.of(CLOSED)));
+
+        // same values -> returns true
+        assertTrue(query.equals(new TagQuery(List.of(Set.of(MUSEUM)), List.of(Set.of(CLOSED)))));
+
+        // same object -> returns true
+        assertTrue(query.equals(query));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+
+        // different types -> returns false
+        assertFalse(query.equals(5));
+
+        // tag moved from inclusions to exclusions -> returns false
+        assertFalse(query.equals(new TagQuery(List.of(Set.of(MUSEUM), Set.of(CLOSED)), Collections.emptyList())));
+    }
+
+    @Test
+    public void toStringMethod() {
+        TagQuery query = new TagQuery(List.of(Set.of(MUSEUM)), List.of(Set.of(CLOSED)));
+        assertEquals("tag:museum -tag:closed", query.toString());
+    }
+}
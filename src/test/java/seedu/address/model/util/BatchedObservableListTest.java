@@ -0,0 +1,83 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchedObservableListTest {
+
+    private final BatchedObservableList<String> list = new BatchedObservableList<>();
+
+    @Test
+    public void batch_nullChanges_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> list.batch(null));
+    }
+
+    @Test
+    public void batch_severalModifications_firesSingleChange() {
+        list.addAll(Arrays.asList("a", "b", "c", "d"));
+        int[] changeCount = {0};
+        list.addListener((ListChangeListener<String>) change -> changeCount[0]++);
+
+        list.batch(() -> {
+            list.set(0, "A");
+            list.set(2, "C");
+            list.add("e");
+        });
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList("A", "b", "C", "d", "e"), list);
+    }
+
+    @Test
+    public void set_outsideBatch_firesChangePerModification() {
+        list.addAll(Arrays.asList("a", "b"));
+        int[] changeCount = {0};
+        list.addListener((ListChangeListener<String>) change -> changeCount[0]++);
+
+        list.set(0, "A");
+        list.set(1, "B");
+
+        assertEquals(2, changeCount[0]);
+    }
+
+    @Test
+    public void setAll_nonEmptyList_firesSingleReplacement() {
+        list.addAll(Arrays.asList("a", "b", "c"));
+        List<List<String>> removedLists = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                removedLists.add(new ArrayList<>(change.getRemoved()));
+            }
+        });
+
+        list.setAll(Arrays.asList("d", "e"));
+
+        assertEquals(List.of(List.of("a", "b", "c")), removedLists);
+        assertEquals(Arrays.asList("d", "e"), list);
+    }
+
+    @Test
+    public void remove_range_firesSingleRemoval() {
+        list.addAll(Arrays.asList("a", "b", "c", "d"));
+        List<List<String>> removedLists = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                removedLists.add(new ArrayList<>(change.getRemoved()));
+            }
+        });
+
+        list.remove(1, 3);
+        list.clear();
+
+        assertEquals(List.of(List.of("b", "c"), List.of("a", "d")), removedLists);
+        assertEquals(List.of(), list);
+    }
+}
@@ -0,0 +1,580 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class SortedFilteredListTest {
+
+    private static final Comparator<String> BY_LENGTH = Comparator.comparingInt(String::length);
+
+    private final ObservableList<String> source = FXCollections.observableArrayList(
+            Arrays.asList("pear", "fig", "banana", "kiwi", "apple"));
+    private final SortedFilteredList<String> view = new SortedFilteredList<>(source);
+
+    @Test
+    public void constructor_nullSource_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SortedFilteredList<String>(null));
+    }
+
+    @Test
+    public void constructor_nonPositiveParallelThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SortedFilteredList<>(source, 0));
+    }
+
+    @Test
+    public void constructor_showsAllElementsInSourceOrder() {
+        assertEquals(source, view);
+    }
+
+    @Test
+    public void setComparator_equalElements_keepSourceOrder() {
+        view.setComparator(BY_LENGTH);
+        assertEquals(Arrays.asList("fig", "pear", "kiwi", "apple", "banana"), view);
+
+        view.setComparator(null);
+        assertEquals(source, view);
+    }
+
+    @Test
+    public void setComparator_doesNotTestElementsAgain() {
+        CountingPredicate withoutB = new CountingPredicate(fruit -> !fruit.startsWith("b"));
+        view.setPredicate(withoutB);
+        int testCount = withoutB.count;
+
+        view.setComparator(Comparator.naturalOrder());
+
+        assertEquals(Arrays.asList("apple", "fig", "kiwi", "pear"), view);
+        assertEquals(testCount, withoutB.count);
+    }
+
+    @Test
+    public void setPredicate_samePredicate_doesNotTestElementsAgain() {
+        CountingPredicate withoutB = new CountingPredicate(fruit -> !fruit.startsWith("b"));
+        view.setPredicate(withoutB);
+        assertEquals(source.size(), withoutB.count);
+        int[] changeCount = {0};
+        view.addListener((ListChangeListener<String>) change -> changeCount[0]++);
+
+        view.setPredicate(withoutB);
+
+        assertEquals(source.size(), withoutB.count);
+        assertEquals(0, changeCount[0]);
+    }
+
+    @Test
+    public void setPredicate_equalToRecentPredicate_onlyChangedElementsTested() {
+        int[] testCount = {0};
+        view.setPredicate(new StartsWithPredicate("b", testCount));
+        view.setPredicate(null);
+        source.set(0, "blueberry");
+        source.remove("fig");
+        source.add("blackcurrant");
+        testCount[0] = 0;
+
+        view.setPredicate(new StartsWithPredicate("b", testCount));
+
+        assertEquals(Arrays.asList("blueberry", "banana", "blackcurrant"), view);
+        assertEquals(2, testCount[0]);
+    }
+
+    @Test
+    public void setPredicate_manyOtherPredicatesSince_allElementsTestedAgain() {
+        int[] testCount = {0};
+        view.setPredicate(new StartsWithPredicate("b", testCount));
+        for (int i = 0; i < SortedFilteredList.CACHED_PREDICATE_COUNT; i++) {
+            view.setPredicate(new StartsWithPredicate(Integer.toString(i), new int[1]));
+        }
+        testCount[0] = 0;
+
+        view.setPredicate(new StartsWithPredicate("b", testCount));
+
+        assertEquals(Arrays.asList("banana"), view);
+        assertEquals(source.size(), testCount[0]);
+    }
+
+    @Test
+    public void setPredicate_sourceRebuilt_cachedResultsForgotten() {
+        int[] testCount = {0};
+        view.setPredicate(new StartsWithPredicate("b", testCount));
+        view.setPredicate(null);
+        source.setAll("blueberry", "cherry");
+        testCount[0] = 0;
+
+        view.setPredicate(new StartsWithPredicate("b", testCount));
+
+        assertEquals(Arrays.asList("blueberry"), view);
+        assertEquals(2, testCount[0]);
+    }
+
+    @Test
+    public void setPredicate_equivalentPredicate_usedForUncachedElementsOnly() {
+        int[] testCount = {0};
+        int[] equivalentTestCount = {0};
+        Predicate<String> equivalent = fruit -> {
+            equivalentTestCount[0]++;
+            return fruit.charAt(0) == 'b';
+        };
+        view.setPredicate(new StartsWithPredicate("b", testCount), equivalent);
+        assertEquals(Arrays.asList("banana"), view);
+        assertEquals(0, testCount[0]);
+        assertEquals(source.size(), equivalentTestCount[0]);
+
+        // elements added later are tested with the predicate itself
+        source.add("blackberry");
+        view.setPredicate(null);
+        source.add("bilberry");
+        view.setPredicate(new StartsWithPredicate("b", testCount), equivalent);
+
+        assertEquals(Arrays.asList("banana", "blackberry", "bilberry"), view);
+        assertEquals(1, testCount[0]);
+        assertEquals(source.size() - 1, equivalentTestCount[0]);
+    }
+
+    @Test
+    public void setPredicate_null_showsAllElements() {
+        view.setPredicate(fruit -> fruit.length() > 4);
+        assertEquals(Arrays.asList("banana", "apple"), view);
+
+        view.setPredicate(null);
+        assertEquals(source, view);
+    }
+
+    @Test
+    public void setPredicate_matchingKeys_onlyNamedElementsShownAndNoneTested() {
+        SortedFilteredList<String> keyedView = new SortedFilteredList<>(source, fruit -> fruit);
+        keyedView.setComparator(BY_LENGTH);
+        int[] testCount = {0};
+
+        keyedView.setPredicate(new StartsWithPredicate("b", testCount), List.of("banana", "blueberry"));
+        assertEquals(Arrays.asList("banana"), keyedView);
+        assertEquals(0, testCount[0]);
+
+        // elements added later are tested with the predicate
+        source.add("bilberry");
+        source.set(0, "blackberry");
+        assertEquals(Arrays.asList("banana", "bilberry", "blackberry"), keyedView);
+        assertEquals(2, testCount[0]);
+
+        // the results are cached for an equal predicate
+        keyedView.setPredicate(null);
+        keyedView.setPredicate(new StartsWithPredicate("b", testCount));
+        assertEquals(Arrays.asList("banana", "bilberry", "blackberry"), keyedView);
+        assertEquals(2, testCount[0]);
+    }
+
+    @Test
+    public void setPredicate_matchingKeys_onlyMatchingElementsCompared() {
+        ObservableList<String> largeSource = FXCollections.observableArrayList();
+        for (int i = 0; i < 1_000; i++) {
+            largeSource.add("fruit" + i);
+        }
+        SortedFilteredList<String> keyedView = new SortedFilteredList<>(largeSource, fruit -> fruit);
+        Set<String> comparedElements = new HashSet<>();
+        keyedView.setComparator((first, second) -> {
+            comparedElements.add(first);
+            comparedElements.add(second);
+            return second.compareTo(first);
+        });
+        comparedElements.clear();
+
+        keyedView.setPredicate(fruit -> fruit.equals("fruit7") || fruit.equals("fruit17") || fruit.equals("fruit27"),
+                List.of("fruit7", "fruit17", "fruit27"));
+
+        assertEquals(Arrays.asList("fruit7", "fruit27", "fruit17"), keyedView);
+        assertEquals(Set.of("fruit7", "fruit17", "fruit27"), comparedElements);
+    }
+
+    @Test
+    public void setPredicate_matchingKeysWithoutKeyFunction_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> view.setPredicate(fruit -> true, List.of("fig")));
+    }
+
+    @Test
+    public void setComparator_orderedKeys_elementsCheckedInOneComparisonEach() {
+        SortedFilteredList<String> keyedView = new SortedFilteredList<>(source, fruit -> fruit);
+        int[] compareCount = {0};
+
+        keyedView.setComparator((first, second) -> {
+            compareCount[0]++;
+            return first.compareTo(second);
+        }, List.of("apple", "banana", "fig", "kiwi", "pear"));
+
+        assertEquals(Arrays.asList("apple", "banana", "fig", "kiwi", "pear"), keyedView);
+        assertEquals(source.size() - 1, compareCount[0]);
+    }
+
+    @Test
+    public void setComparator_orderedKeysOutOfOrderOrMissing_elementsStillSorted() {
+        SortedFilteredList<String> keyedView = new SortedFilteredList<>(source, fruit -> fruit);
+
+        keyedView.setComparator(Comparator.naturalOrder(), List.of("fig", "apple", "cherry", "pear"));
+        assertEquals(Arrays.asList("apple", "banana", "fig", "kiwi", "pear"), keyedView);
+
+        // the ordered keys are not kept for later changes
+        source.add("cherry");
+        assertEquals(Arrays.asList("apple", "banana", "cherry", "fig", "kiwi", "pear"), keyedView);
+    }
+
+    @Test
+    public void setComparator_orderedKeysWithoutKeyFunction_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> view.setComparator(BY_LENGTH, List.of("fig")));
+    }
+
+    @Test
+    public void showRanked_elementsInRankOrderWithoutSorting() {
+        SortedFilteredList<String> keyedView = new SortedFilteredList<>(source, fruit -> fruit);
+        int[] compareCount = {0};
+        keyedView.setComparator((first, second) -> {
+            compareCount[0]++;
+            return first.compareTo(second);
+        });
+        compareCount[0] = 0;
+
+        keyedView.showRanked(List.of("pear", "cherry", "apple", "pear"));
+        assertEquals(Arrays.asList("pear", "apple"), keyedView);
+
+        // the comparator order returns without sorting again
+        keyedView.setPredicate(null);
+        assertEquals(Arrays.asList("apple", "banana", "fig", "kiwi", "pear"), keyedView);
+        assertEquals(0, compareCount[0]);
+    }
+
+    @Test
+    public void showRanked_sourceChanged_rankKept() {
+        SortedFilteredList<String> keyedView = new SortedFilteredList<>(source, fruit -> fruit);
+        keyedView.setComparator(Comparator.naturalOrder());
+        keyedView.showRanked(List.of("pear", "fig", "apple"));
+
+        source.add("cherry");
+        source.remove("fig");
+        source.add("fig");
+        assertEquals(Arrays.asList("pear", "fig", "apple"), keyedView);
+
+        // a new comparator orders the ranked elements
+        keyedView.setComparator(BY_LENGTH);
+        assertEquals(Arrays.asList("fig", "pear", "apple"), keyedView);
+    }
+
+    @Test
+    public void setComparator_rebuildExecutor_viewReplacedOnceRebuildPublished() {
+        List<Runnable> rebuilds = new ArrayList<>();
+        List<Runnable> publications = new ArrayList<>();
+        SortedFilteredList<String> backgroundView = new SortedFilteredList<>(source, 1, fruit -> fruit,
+                rebuilds::add, publications::add);
+        int[] changeCount = {0};
+        backgroundView.addListener((ListChangeListener<String>) change -> changeCount[0]++);
+
+        backgroundView.setComparator(Comparator.naturalOrder());
+        assertEquals(source, backgroundView);
+        rebuilds.remove(0).run();
+        assertEquals(source, backgroundView);
+
+        publications.remove(0).run();
+        assertEquals(Arrays.asList("apple", "banana", "fig", "kiwi", "pear"), backgroundView);
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void sourceChanged_rebuildInProgress_onlyLatestRebuildPublished() {
+        List<Runnable> rebuilds = new ArrayList<>();
+        List<Runnable> publications = new ArrayList<>();
+        SortedFilteredList<String> backgroundView = new SortedFilteredList<>(source, 1, fruit -> fruit,
+                rebuilds::add, publications::add);
+        int[] changeCount = {0};
+        backgroundView.addListener((ListChangeListener<String>) change -> changeCount[0]++);
+
+        backgroundView.setComparator(Comparator.naturalOrder());
+        source.add("cherry");
+        assertEquals(2, rebuilds.size());
+        rebuilds.forEach(Runnable::run);
+        publications.forEach(Runnable::run);
+
+        assertEquals(Arrays.asList("apple", "banana", "cherry", "fig", "kiwi", "pear"), backgroundView);
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void finishPendingRebuild_rebuildNotPublished_viewInNewOrder() {
+        List<Runnable> rebuilds = new ArrayList<>();
+        List<Runnable> publications = new ArrayList<>();
+        SortedFilteredList<String> backgroundView = new SortedFilteredList<>(source, 1, fruit -> fruit,
+                rebuilds::add, publications::add);
+        backgroundView.setComparator(Comparator.naturalOrder());
+
+        // the rebuild has not run on the executor yet, so it is run on the calling thread
+        backgroundView.finishPendingRebuild();
+        assertEquals(Arrays.asList("apple", "banana", "fig", "kiwi", "pear"), backgroundView);
+
+        // the rebuild that was finished changes nothing once it is published
+        int[] changeCount = {0};
+        backgroundView.addListener((ListChangeListener<String>) change -> changeCount[0]++);
+        rebuilds.forEach(Runnable::run);
+        publications.forEach(Runnable::run);
+        backgroundView.finishPendingRebuild();
+        assertEquals(0, changeCount[0]);
+    }
+
+    @Test
+    public void setPredicate_rebuildInProgress_rebuildFinishedOnCallingThread() {
+        List<Runnable> rebuilds = new ArrayList<>();
+        List<Runnable> publications = new ArrayList<>();
+        SortedFilteredList<String> backgroundView = new SortedFilteredList<>(source, 1, fruit -> fruit,
+                rebuilds::add, publications::add);
+        backgroundView.setComparator(Comparator.naturalOrder());
+
+        backgroundView.setPredicate(fruit -> fruit.length() > 4);
+        assertEquals(Arrays.asList("apple", "banana"), backgroundView);
+
+        // the rebuild that was replaced changes nothing once it finishes
+        int[] changeCount = {0};
+        backgroundView.addListener((ListChangeListener<String>) change -> changeCount[0]++);
+        rebuilds.forEach(Runnable::run);
+        publications.forEach(Runnable::run);
+        assertEquals(Arrays.asList("apple", "banana"), backgroundView);
+        assertEquals(0, changeCount[0]);
+    }
+
+    @Test
+    public void sourceChanged_rebuildFailsOnExecutor_failureSeenOnPublishingThread() {
+        List<Runnable> rebuilds = new ArrayList<>();
+        List<Runnable> publications = new ArrayList<>();
+        SortedFilteredList<String> backgroundView = new SortedFilteredList<>(source, 1, fruit -> fruit,
+                rebuilds::add, publications::add);
+        backgroundView.setPredicate(fruit -> {
+            if (fruit.isEmpty()) {
+                throw new IllegalArgumentException();
+            }
+            return true;
+        });
+
+        source.setAll("", "fig");
+        assertThrows(IllegalArgumentException.class, () -> rebuilds.remove(0).run());
+        assertThrows(IllegalArgumentException.class, () -> publications.remove(0).run());
+    }
+
+    @Test
+    public void sourceChanged_elementAdded_insertedInOrderAndOnlyItTested() {
+        CountingPredicate withoutB = new CountingPredicate(fruit -> !fruit.startsWith("b"));
+        view.setPredicate(withoutB);
+        view.setComparator(BY_LENGTH);
+        List<Integer> addedAt = new ArrayList<>();
+        view.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                addedAt.add(change.getFrom());
+            }
+        });
+
+        source.add("plum");
+        source.add("blueberry");
+
+        assertEquals(Arrays.asList("fig", "pear", "kiwi", "plum", "apple"), view);
+        assertEquals(source.size(), withoutB.count);
+        assertEquals(Arrays.asList(3), addedAt);
+    }
+
+    @Test
+    public void sourceChanged_elementReplaced_movedToNewPlace() {
+        view.setComparator(BY_LENGTH);
+
+        source.set(1, "watermelon");
+        assertEquals(Arrays.asList("pear", "kiwi", "apple", "banana", "watermelon"), view);
+
+        // a replacement that compares equal to its neighbours keeps the place of the element it replaces
+        source.set(0, "lime");
+        assertEquals(Arrays.asList("lime", "kiwi", "apple", "banana", "watermelon"), view);
+    }
+
+    @Test
+    public void sourceChanged_elementReplacedByNonMatchingElement_removed() {
+        view.setPredicate(fruit -> !fruit.startsWith("b"));
+
+        source.set(0, "blackberry");
+        assertEquals(Arrays.asList("fig", "kiwi", "apple"), view);
+
+        source.set(2, "cherry");
+        assertEquals(Arrays.asList("fig", "cherry", "kiwi", "apple"), view);
+    }
+
+    @Test
+    public void sourceChanged_elementRemoved_removedFromView() {
+        view.setComparator(Comparator.reverseOrder());
+
+        source.remove("kiwi");
+        source.remove(0);
+
+        assertEquals(Arrays.asList("fig", "banana", "apple"), view);
+    }
+
+    @Test
+    public void sourceChanged_duplicateElements_keptApart() {
+        source.add("fig");
+        view.setComparator(BY_LENGTH);
+        assertEquals(Arrays.asList("fig", "fig", "pear", "kiwi", "apple", "banana"), view);
+
+        source.remove(1);
+        assertEquals(Arrays.asList("fig", "pear", "kiwi", "apple", "banana"), view);
+    }
+
+    @Test
+    public void sourceChanged_otherChanges_viewRebuilt() {
+        view.setPredicate(fruit -> !fruit.startsWith("b"));
+        view.setComparator(BY_LENGTH);
+
+        source.add(0, "date");
+        assertEquals(Arrays.asList("fig", "date", "pear", "kiwi", "apple"), view);
+
+        source.setAll("blackcurrant", "grape", "lemon", "cherry");
+        assertEquals(Arrays.asList("grape", "lemon", "cherry"), view);
+
+        source.add("lime");
+        assertEquals(Arrays.asList("lime", "grape", "lemon", "cherry"), view);
+
+        source.clear();
+        assertTrue(view.isEmpty());
+    }
+
+    @Test
+    public void setComparator_sortKeyComparator_computesEachKeyOnce() {
+        CountingLengthComparator byLength = new CountingLengthComparator();
+        view.setComparator(byLength);
+        assertEquals(source.size(), byLength.keyCount);
+
+        source.add("plum");
+        source.set(0, "cherry");
+
+        assertEquals(Arrays.asList("fig", "kiwi", "plum", "apple", "cherry", "banana"), view);
+        assertEquals(source.size() + 1, byLength.keyCount);
+    }
+
+    @Test
+    public void setComparatorAndPredicate_aboveParallelThreshold_sameAsSequential() {
+        List<String> fruits = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            fruits.add("fruit " + (i * 7919 % 50_000));
+        }
+        source.setAll(fruits);
+        SortedFilteredList<String> sequentialView = new SortedFilteredList<>(source, Integer.MAX_VALUE);
+        SortedFilteredList<String> parallelView = new SortedFilteredList<>(source, 1_000);
+        Predicate<String> evenLength = fruit -> fruit.length() % 2 == 0;
+        int[] changeCount = {0};
+        parallelView.addListener((ListChangeListener<String>) change -> changeCount[0]++);
+
+        parallelView.setComparator(Comparator.reverseOrder());
+        parallelView.setPredicate(evenLength);
+        sequentialView.setComparator(Comparator.reverseOrder());
+        sequentialView.setPredicate(evenLength);
+
+        assertEquals(sequentialView, parallelView);
+        assertEquals(2, changeCount[0]);
+
+        source.add("fruit 25000a");
+        parallelView.setComparator(BY_LENGTH);
+        sequentialView.setComparator(BY_LENGTH);
+        assertEquals(sequentialView, parallelView);
+    }
+
+    @Test
+    public void sourceChanged_largeSource_elementPlacedWithLogarithmicComparisons() {
+        List<String> fruits = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            fruits.add(String.format("fruit %06d", i));
+        }
+        source.setAll(fruits);
+        int[] comparisonCount = {0};
+        view.setComparator((first, second) -> {
+            comparisonCount[0]++;
+            return second.compareTo(first);
+        });
+
+        comparisonCount[0] = 0;
+        source.add("fruit 050000a");
+        source.set(source.indexOf("fruit 000001"), "fruit 099999a");
+
+        // each binary search over 100,000 elements takes at most 17 comparisons
+        assertTrue(comparisonCount[0] <= 6 * 17, "Expected few comparisons, but made " + comparisonCount[0]);
+        assertEquals("fruit 099999a", view.get(0));
+        assertEquals("fruit 050000a", view.get(50_000));
+        assertEquals(100_001, view.size());
+    }
+
+    /**
+     * A predicate that tests whether strings start with a prefix, equal to any other with the same prefix. It counts
+     * the strings it tests.
+     */
+    private static class StartsWithPredicate implements Predicate<String> {
+        private final String prefix;
+        private final int[] testCount;
+
+        StartsWithPredicate(String prefix, int[] testCount) {
+            this.prefix = prefix;
+            this.testCount = testCount;
+        }
+
+        @Override
+        public boolean test(String element) {
+            testCount[0]++;
+            return element.startsWith(prefix);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof StartsWithPredicate && prefix.equals(((StartsWithPredicate) other).prefix);
+        }
+
+        @Override
+        public int hashCode() {
+            return prefix.hashCode();
+        }
+    }
+
+    /**
+     * A comparator of string lengths that counts the sort keys it computes.
+     */
+    private static class CountingLengthComparator implements SortKeyComparator<String, Integer> {
+        private int keyCount = 0;
+
+        @Override
+        public Integer getSortKey(String element) {
+            keyCount++;
+            return element.length();
+        }
+
+        @Override
+        public int compareSortKeys(Integer first, Integer second) {
+            return Integer.compare(first, second);
+        }
+    }
+
+    /**
+     * A predicate that counts the elements it tests.
+     */
+    private static class CountingPredicate implements Predicate<String> {
+        private final Predicate<String> predicate;
+        private int count = 0;
+
+        CountingPredicate(Predicate<String> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(String element) {
+            count++;
+            return predicate.test(element);
+        }
+    }
+}
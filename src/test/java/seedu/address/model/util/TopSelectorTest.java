@@ -0,0 +1,67 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class TopSelectorTest {
+
+    private static final Comparator<String> BY_LENGTH = Comparator.comparingInt(String::length);
+    private static final List<String> FRUITS = Arrays.asList("pear", "fig", "banana", "kiwi", "apple", "plum");
+
+    @Test
+    public void selectFirst_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                TopSelector.selectFirst(FRUITS, unused -> true, BY_LENGTH, -1));
+    }
+
+    @Test
+    public void selectFirst_equalElements_keptInOrder() {
+        assertEquals(Arrays.asList("fig", "pear", "kiwi"),
+                TopSelector.selectFirst(FRUITS, unused -> true, BY_LENGTH, 3));
+        assertEquals(Arrays.asList("banana", "apple", "pear"),
+                TopSelector.selectFirst(FRUITS, unused -> true, BY_LENGTH.reversed(), 3));
+    }
+
+    @Test
+    public void selectFirst_predicate_onlyMatchingElementsSelected() {
+        assertEquals(Arrays.asList("pear", "plum"),
+                TopSelector.selectFirst(FRUITS, fruit -> fruit.startsWith("p"), Comparator.naturalOrder(), 5));
+    }
+
+    @Test
+    public void selectFirst_zeroCount_nothingSelected() {
+        assertTrue(TopSelector.selectFirst(FRUITS, unused -> true, BY_LENGTH, 0).isEmpty());
+    }
+
+    @Test
+    public void selectFirst_sortKeyComparator_sameAsSorting() {
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            numbers.add(Integer.toString(i * 7919 % 10_007));
+        }
+        SortKeyComparator<String, Integer> byValue = new SortKeyComparator<>() {
+            @Override
+            public Integer getSortKey(String element) {
+                return Integer.parseInt(element);
+            }
+
+            @Override
+            public int compareSortKeys(Integer first, Integer second) {
+                return Integer.compare(first, second);
+            }
+        };
+
+        List<String> expected = numbers.stream().filter(number -> number.endsWith("7")).sorted(byValue)
+                .limit(25).collect(Collectors.toList());
+        assertEquals(expected, TopSelector.selectFirst(numbers, number -> number.endsWith("7"), byValue, 25));
+    }
+}
@@ -16,6 +16,7 @@ import seedu.address.model.attraction.Address;
 import seedu.address.model.attraction.Contact;
 import seedu.address.model.attraction.Name;
 import seedu.address.model.attraction.OpeningHours;
+import seedu.address.model.attraction.Price;
 import seedu.address.model.attraction.Priority;
 
 public class JsonAdaptedAttractionTest {
@@ -48,6 +49,17 @@ public class JsonAdaptedAttractionTest {
         assertEquals(BENSON, attraction.toModelType());
     }
 
+    @Test
+    public void toModelType_oversizedPrice_returnsAttraction() throws Exception {
+        // data files written before prices were limited to 9 digits may hold longer prices
+        String oversizedPrice = "12345678901234567890 USD";
+        JsonAdaptedAttraction attraction =
+                new JsonAdaptedAttraction(
+                        VALID_NAME, VALID_PRIORITY, VALID_CONTACT, VALID_ADDRESS, VALID_ACTIVITIES,
+                        VALID_OPENING_HOURS, oversizedPrice, VALID_TAGS, VALID_COMMENTS);
+        assertEquals(new Price(oversizedPrice), attraction.toModelType().getPrice());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedAttraction attraction =
@@ -2,15 +2,19 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAttractions.ALICE;
+import static seedu.address.testutil.TypicalAttractions.BENSON;
 import static seedu.address.testutil.TypicalAttractions.HOON;
 import static seedu.address.testutil.TypicalAttractions.IDA;
 import static seedu.address.testutil.TypicalAttractions.getTypicalMaplet;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +22,8 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.Maplet;
 import seedu.address.model.ReadOnlyMaplet;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.testutil.AttractionBuilder;
 
 public class JsonMapletStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonMapletStorageTest");
@@ -107,4 +113,264 @@ public class JsonMapletStorageTest {
     public void saveMaplet_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveMaplet(new Maplet(), null));
     }
+
+    @Test
+    public void saveMaplet_savedMapletChanged_appendsChangesToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempMaplet.json");
+        Path journalPath = testFolder.resolve("TempMaplet.json.journal");
+        Maplet original = getTypicalMaplet();
+        JsonMapletStorage jsonMapletStorage = new JsonMapletStorage(filePath);
+        jsonMapletStorage.saveMaplet(original);
+        String savedData = Files.readString(filePath);
+
+        // unchanged Maplet -> nothing written
+        jsonMapletStorage.saveMaplet(original);
+        assertFalse(Files.exists(journalPath));
+
+        Attraction editedBenson = new AttractionBuilder(BENSON).withPriority("1").build();
+        original.addAttraction(HOON);
+        original.removeAttraction(ALICE);
+        original.setAttraction(BENSON, editedBenson);
+        jsonMapletStorage.saveMaplet(original);
+
+        // only the journal is written, one entry for each changed run of the attraction list
+        assertEquals(savedData, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        ReadOnlyMaplet readBack = new JsonMapletStorage(filePath).readMaplet().get();
+        assertEquals(original, new Maplet(readBack));
+    }
+
+    @Test
+    public void saveMaplet_changesFarApart_journalsOnlyChangedAttractions() throws Exception {
+        Path filePath = testFolder.resolve("TempMaplet.json");
+        Path journalPath = testFolder.resolve("TempMaplet.json.journal");
+        Maplet original = new Maplet();
+        for (int i = 0; i < 100; i++) {
+            original.addAttraction(new AttractionBuilder().withName("Attraction " + i).build());
+        }
+        JsonMapletStorage jsonMapletStorage = new JsonMapletStorage(filePath);
+        jsonMapletStorage.saveMaplet(original);
+
+        List<Attraction> attractions = original.getAttractionList();
+        Attraction tenth = attractions.get(10);
+        Attraction ninetieth = attractions.get(90);
+        original.setAttraction(tenth, new AttractionBuilder(tenth).withPriority("1").build());
+        original.setAttraction(ninetieth, new AttractionBuilder(ninetieth).withPriority("1").build());
+        original.removeAttraction(attractions.get(50));
+        jsonMapletStorage.saveMaplet(original);
+
+        // the attractions between the changes are not written again
+        List<String> entries = Files.readAllLines(journalPath);
+        assertEquals(3, entries.size());
+        assertTrue(entries.get(0).contains("Attraction 10\""));
+        assertFalse(entries.get(1).contains("Attraction"));
+        assertTrue(entries.get(2).contains("Attraction 90\""));
+        assertEquals(2, String.join("", entries).split("\"name\"").length - 1);
+        assertEquals(original, new Maplet(new JsonMapletStorage(filePath).readMaplet().get()));
+    }
+
+    @Test
+    public void saveMapletChanges_afterSave_appendsChangesToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempMaplet.json");
+        Path journalPath = testFolder.resolve("TempMaplet.json.journal");
+        Maplet original = getTypicalMaplet();
+        JsonMapletStorage jsonMapletStorage = new JsonMapletStorage(filePath);
+        jsonMapletStorage.saveMaplet(original);
+        String savedData = Files.readString(filePath);
+
+        Attraction editedBenson = new AttractionBuilder(BENSON).withPriority("1").build();
+        original.addAttraction(HOON);
+        original.setAttraction(BENSON, editedBenson);
+        jsonMapletStorage.saveMapletChanges(List.of(
+                MapletChange.ofAttractions(original.getAttractionList().size() - 1, 0, List.of(HOON)),
+                MapletChange.ofAttractions(1, 1, List.of(editedBenson))));
+
+        assertEquals(savedData, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(original, new Maplet(new JsonMapletStorage(filePath).readMaplet().get()));
+
+        // the changes are compared against when the whole Maplet is saved again
+        jsonMapletStorage.saveMaplet(original);
+        assertEquals(2, Files.readAllLines(journalPath).size());
+    }
+
+    @Test
+    public void saveMapletChanges_nothingSaved_throwsIllegalStateException() {
+        JsonMapletStorage jsonMapletStorage = new JsonMapletStorage(testFolder.resolve("TempMaplet.json"));
+        assertThrows(IllegalStateException.class, () -> jsonMapletStorage.saveMapletChanges(List.of()));
+    }
+
+    @Test
+    public void saveMaplet_newStorage_discardsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempMaplet.json");
+        Path journalPath = testFolder.resolve("TempMaplet.json.journal");
+        Maplet original = getTypicalMaplet();
+        JsonMapletStorage jsonMapletStorage = new JsonMapletStorage(filePath);
+        jsonMapletStorage.saveMaplet(original);
+        original.addAttraction(HOON);
+        jsonMapletStorage.saveMaplet(original);
+
+        // a storage that has not read the data file writes all of it, but still claims the journalled changes
+        Maplet copy = new Maplet(original);
+        copy.addAttraction(IDA);
+        JsonMapletStorage newJsonMapletStorage = new JsonMapletStorage(filePath);
+        newJsonMapletStorage.saveMaplet(copy);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(copy, new Maplet(newJsonMapletStorage.readMaplet().get()));
+
+        copy.removeAttraction(IDA);
+        newJsonMapletStorage.saveMaplet(copy);
+        assertEquals(copy, new Maplet(new JsonMapletStorage(filePath).readMaplet().get()));
+    }
+
+    @Test
+    public void saveMaplet_journalReachesThreshold_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempMaplet.json");
+        Path journalPath = testFolder.resolve("TempMaplet.json.journal");
+        Path compactingJournalPath = testFolder.resolve("TempMaplet.json.journal.compacting");
+        Maplet original = getTypicalMaplet();
+        JsonMapletStorage jsonMapletStorage = new JsonMapletStorage(filePath, 2, 0);
+        jsonMapletStorage.saveMaplet(original);
+
+        original.addAttraction(HOON);
+        jsonMapletStorage.saveMaplet(original);
+        assertTrue(Files.exists(journalPath));
+
+        original.addAttraction(IDA);
+        jsonMapletStorage.saveMaplet(original);
+        original.removeAttraction(ALICE);
+        jsonMapletStorage.saveMaplet(original);
+        jsonMapletStorage.awaitCompaction();
+
+        // the compacted changes are in the data file, and only the later change is left in the journal
+        assertFalse(Files.exists(compactingJournalPath));
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        Maplet compacted = new Maplet(new JsonMapletStorage(testFolder.resolve("TempMaplet.json"))
+                .readMaplet(filePath).get());
+        assertEquals(original, compacted);
+        assertTrue(Files.readString(filePath).contains(IDA.getName().fullName));
+    }
+
+    @Test
+    public void readMaplet_incompleteLastJournalEntry_ignoresEntry() throws Exception {
+        Path filePath = testFolder.resolve("TempMaplet.json");
+        Path journalPath = testFolder.resolve("TempMaplet.json.journal");
+        Maplet original = getTypicalMaplet();
+        JsonMapletStorage jsonMapletStorage = new JsonMapletStorage(filePath);
+        jsonMapletStorage.saveMaplet(original);
+        original.addAttraction(HOON);
+        jsonMapletStorage.saveMaplet(original);
+        Maplet expected = new Maplet(original);
+
+        original.addAttraction(IDA);
+        jsonMapletStorage.saveMaplet(original);
+        String journal = Files.readString(journalPath).stripTrailing();
+        Files.writeString(journalPath, journal.substring(0, journal.length() - 10));
+
+        assertEquals(expected, new Maplet(new JsonMapletStorage(filePath).readMaplet().get()));
+    }
+
+    @Test
+    public void readMaplet_invalidJournalEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempMaplet.json");
+        Path journalPath = testFolder.resolve("TempMaplet.json.journal");
+        new JsonMapletStorage(filePath).saveMaplet(new Maplet());
+
+        // an entry that is not the last one cannot have been cut short by a crash
+        Files.writeString(journalPath, "{\"sequence\": 1\n{}\n");
+        assertThrows(DataLoadingException.class, () -> new JsonMapletStorage(filePath).readMaplet());
+
+        // removes an attraction from an empty list
+        Files.writeString(journalPath, "{\"sequence\":1,\"list\":\"attractions\",\"from\":0,\"removedCount\":1}\n");
+        assertThrows(DataLoadingException.class, () -> new JsonMapletStorage(filePath).readMaplet());
+
+        // skips the entry after entry 0
+        Files.writeString(journalPath, "{\"sequence\":2,\"list\":\"attractions\",\"from\":0,\"removedCount\":0}\n");
+        assertThrows(DataLoadingException.class, () -> new JsonMapletStorage(filePath).readMaplet());
+    }
+
+    @Test
+    public void constructor_nonPositiveCompactionThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonMapletStorage(Paths.get("SomeFile.json"), 0, 0));
+    }
+
+    @Test
+    public void saveMaplet_afterReadingDataFile_appendsChangesToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempMaplet.json");
+        Path journalPath = testFolder.resolve("TempMaplet.json.journal");
+        new JsonMapletStorage(filePath).saveMaplet(getTypicalMaplet());
+        String savedData = Files.readString(filePath);
+
+        JsonMapletStorage jsonMapletStorage = new JsonMapletStorage(filePath);
+        Maplet readBack = new Maplet(jsonMapletStorage.readMaplet().get());
+        readBack.removeAttraction(BENSON);
+        jsonMapletStorage.saveMaplet(readBack);
+
+        assertEquals(savedData, Files.readString(filePath));
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(readBack, new Maplet(new JsonMapletStorage(filePath).readMaplet().get()));
+    }
+
+    @Test
+    public void saveMaplet_dataFileReplaced_keepsBackups() throws Exception {
+        Path filePath = testFolder.resolve("TempMaplet.json");
+        JsonMapletStorage jsonMapletStorage = new JsonMapletStorage(filePath, 1, 2);
+        assertEquals(List.of(testFolder.resolve("TempMaplet.json.1"), testFolder.resolve("TempMaplet.json.2")),
+                jsonMapletStorage.getMapletBackupFilePaths());
+
+        Maplet original = getTypicalMaplet();
+        jsonMapletStorage.saveMaplet(original);
+        assertFalse(Files.exists(testFolder.resolve("TempMaplet.json.1")));
+
+        // each change reaches the compaction threshold, so the data file is replaced
+        original.addAttraction(HOON);
+        jsonMapletStorage.saveMaplet(original);
+        jsonMapletStorage.awaitCompaction();
+        Maplet second = new Maplet(original);
+        original.addAttraction(IDA);
+        jsonMapletStorage.saveMaplet(original);
+        jsonMapletStorage.awaitCompaction();
+        Maplet third = new Maplet(original);
+        original.removeAttraction(ALICE);
+        jsonMapletStorage.saveMaplet(original);
+        jsonMapletStorage.awaitCompaction();
+
+        // the oldest backup has been discarded
+        List<Path> backupFilePaths = jsonMapletStorage.getMapletBackupFilePaths();
+        assertEquals(third, new Maplet(new JsonMapletStorage(filePath).readMaplet(backupFilePaths.get(0)).get()));
+        assertEquals(second, new Maplet(new JsonMapletStorage(filePath).readMaplet(backupFilePaths.get(1)).get()));
+        assertFalse(Files.exists(testFolder.resolve("TempMaplet.json.3")));
+        assertEquals(original, new Maplet(new JsonMapletStorage(filePath).readMaplet().get()));
+    }
+
+    @Test
+    public void saveMaplet_dataFileNotRead_noBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempMaplet.json");
+        Files.writeString(filePath, "not json");
+
+        // a data file that could not be read must not push good backups out
+        JsonMapletStorage jsonMapletStorage = new JsonMapletStorage(filePath, 1, 2);
+        assertThrows(DataLoadingException.class, () -> jsonMapletStorage.readMaplet());
+        jsonMapletStorage.saveMaplet(getTypicalMaplet());
+        assertFalse(Files.exists(testFolder.resolve("TempMaplet.json.1")));
+        assertEquals(getTypicalMaplet(), new Maplet(new JsonMapletStorage(filePath).readMaplet().get()));
+    }
+
+    @Test
+    public void readMaplet_temporaryFilesLeftByCrash_temporaryFilesDeleted() throws Exception {
+        Path filePath = testFolder.resolve("TempMaplet.json");
+        JsonMapletStorage jsonMapletStorage = new JsonMapletStorage(filePath);
+        jsonMapletStorage.saveMaplet(getTypicalMaplet());
+        Path temporaryFile = testFolder.resolve("TempMaplet.json.3f2a.tmp");
+        Files.writeString(temporaryFile, "half written");
+
+        assertEquals(getTypicalMaplet(), new Maplet(new JsonMapletStorage(filePath).readMaplet().get()));
+        assertFalse(Files.exists(temporaryFile));
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void constructor_negativeBackupCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonMapletStorage(Paths.get("SomeFile.json"), 1, -1));
+    }
 }
@@ -3,10 +3,15 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
@@ -23,10 +28,12 @@ public class JsonSerializableMapletTest {
     private static final Path DUPLICATE_ITINERARY_FILE = TEST_DATA_FOLDER.resolve("duplicateItineraryMaplet.json");
     private static final Path DUPLICATE_LOCATION_FILE = TEST_DATA_FOLDER.resolve("duplicateLocationMaplet.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalAttractionsFile_success() throws Exception {
-        JsonSerializableMaplet dataFromFile = JsonUtil.readJsonFile(TYPICAL_ATTRACTIONS_FILE,
-                JsonSerializableMaplet.class).get();
+        JsonSerializableMaplet dataFromFile = readJsonFile(TYPICAL_ATTRACTIONS_FILE);
         Maplet mapletFromFile = dataFromFile.toModelType();
         Maplet typicalAttractionsMaplet = TypicalAttractions.getTypicalMaplet();
         assertEquals(mapletFromFile, typicalAttractionsMaplet);
@@ -34,40 +41,67 @@ public class JsonSerializableMapletTest {
 
     @Test
     public void toModelType_invalidAttractionFile_throwsIllegalValueException() throws Exception {
-        JsonSerializableMaplet dataFromFile = JsonUtil.readJsonFile(INVALID_ATTRACTION_FILE,
-                JsonSerializableMaplet.class).get();
-        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+        // attractions are converted as they are read
+        assertThrows(IllegalValueException.class, () -> readJsonFile(INVALID_ATTRACTION_FILE));
     }
 
     @Test
     public void toModelType_duplicateAttractions_throwsIllegalValueException() throws Exception {
-        JsonSerializableMaplet dataFromFile = JsonUtil.readJsonFile(DUPLICATE_ATTRACTION_FILE,
-                JsonSerializableMaplet.class).get();
+        JsonSerializableMaplet dataFromFile = readJsonFile(DUPLICATE_ATTRACTION_FILE);
         assertThrows(IllegalValueException.class, JsonSerializableMaplet.MESSAGE_DUPLICATE_ATTRACTION,
                 dataFromFile::toModelType);
     }
 
     @Test
     public void toModelType_invalidItineraryFile_throwsIllegalValueException() throws Exception {
-        JsonSerializableMaplet dataFromFile = JsonUtil.readJsonFile(INVALID_ITINERARY_FILE,
-                JsonSerializableMaplet.class).get();
+        JsonSerializableMaplet dataFromFile = readJsonFile(INVALID_ITINERARY_FILE);
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
     @Test
     public void toModelType_duplicateItineraries_throwsIllegalValueException() throws Exception {
-        JsonSerializableMaplet dataFromFile = JsonUtil.readJsonFile(DUPLICATE_ITINERARY_FILE,
-                JsonSerializableMaplet.class).get();
+        JsonSerializableMaplet dataFromFile = readJsonFile(DUPLICATE_ITINERARY_FILE);
         assertThrows(IllegalValueException.class, JsonSerializableMaplet.MESSAGE_DUPLICATE_ITINERARY,
                 dataFromFile::toModelType);
     }
 
     @Test
     public void toModelType_duplicateLocations_throwsIllegalValueException() throws Exception {
-        JsonSerializableMaplet dataFromFile = JsonUtil.readJsonFile(DUPLICATE_LOCATION_FILE,
-                JsonSerializableMaplet.class).get();
+        JsonSerializableMaplet dataFromFile = readJsonFile(DUPLICATE_LOCATION_FILE);
         assertThrows(IllegalValueException.class, JsonSerializableMaplet.MESSAGE_DUPLICATE_LOCATION,
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void write_typicalMaplet_readsBackSameMaplet() throws Exception {
+        Path filePath = testFolder.resolve("TempMaplet.json");
+        JsonUtil.writeJsonFile(filePath,
+                generator -> JsonSerializableMaplet.write(generator, TypicalAttractions.getTypicalMaplet(), 5));
+        JsonSerializableMaplet dataFromFile = readJsonFile(filePath);
+        assertEquals(5, dataFromFile.getJournalSequence());
+        assertEquals(TypicalAttractions.getTypicalMaplet(), dataFromFile.toModelType());
+    }
+
+    @Test
+    public void read_notJsonObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("TempMaplet.json");
+        Files.writeString(filePath, "[]");
+        assertThrows(IOException.class, () -> readJsonFile(filePath));
+        Files.writeString(filePath, "{\"attractions\": {}}");
+        assertThrows(IOException.class, () -> readJsonFile(filePath));
+    }
+
+    @Test
+    public void read_missingAndUnknownFields_emptyMaplet() throws Exception {
+        Path filePath = testFolder.resolve("TempMaplet.json");
+        Files.writeString(filePath, "{\"attractions\": null, \"unknown\": {\"attractions\": [1]}}");
+        assertEquals(new Maplet(), readJsonFile(filePath).toModelType());
+    }
+
+    private static JsonSerializableMaplet readJsonFile(Path filePath) throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return JsonSerializableMaplet.read(parser);
+        }
+    }
+
 }
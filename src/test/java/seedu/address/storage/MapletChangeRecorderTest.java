@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAttractions.BENSON;
+import static seedu.address.testutil.TypicalAttractions.HOON;
+import static seedu.address.testutil.TypicalAttractions.IDA;
+import static seedu.address.testutil.TypicalAttractions.getTypicalMaplet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Maplet;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.itinerary.Itinerary;
+import seedu.address.model.location.Location;
+import seedu.address.testutil.AttractionBuilder;
+
+public class MapletChangeRecorderTest {
+
+    @Test
+    public void takeChanges_changesMade_changesReplayOntoCopy() {
+        Maplet maplet = getTypicalMaplet();
+        List<Attraction> attractions = new ArrayList<>(maplet.getAttractionList());
+        List<Itinerary> itineraries = new ArrayList<>(maplet.getItineraryList());
+        List<Location> locations = new ArrayList<>(maplet.getLocationList());
+        MapletChangeRecorder recorder = new MapletChangeRecorder(maplet);
+
+        maplet.addAttraction(HOON);
+        maplet.setAttraction(BENSON, new AttractionBuilder(BENSON).withPriority("1").build());
+        maplet.addAttraction(IDA);
+        maplet.removeAttraction(HOON);
+        List<MapletChange> changes = recorder.takeChanges();
+
+        for (MapletChange change : changes) {
+            change.applyTo(attractions, itineraries, locations);
+        }
+        assertEquals(maplet.getAttractionList(), attractions);
+        assertEquals(maplet.getItineraryList(), itineraries);
+        assertEquals(maplet.getLocationList(), locations);
+
+        // each change is taken once
+        assertTrue(recorder.takeChanges().isEmpty());
+    }
+
+    @Test
+    public void stop_changesMadeAfterwards_notRecorded() {
+        Maplet maplet = getTypicalMaplet();
+        MapletChangeRecorder recorder = new MapletChangeRecorder(maplet);
+        recorder.stop();
+
+        maplet.addAttraction(HOON);
+        assertTrue(recorder.takeChanges().isEmpty());
+    }
+}
@@ -1,10 +1,19 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAttractions.HOON;
+import static seedu.address.testutil.TypicalAttractions.IDA;
 import static seedu.address.testutil.TypicalAttractions.getTypicalMaplet;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +23,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.Maplet;
 import seedu.address.model.ReadOnlyMaplet;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.AttractionBuilder;
 
 public class StorageManagerTest {
 
@@ -60,6 +70,158 @@ public class StorageManagerTest {
         assertEquals(original, new Maplet(retrieved));
     }
 
+    @Test
+    public void saveMaplet_unchangedMaplet_skipsSave() throws Exception {
+        Maplet maplet = getTypicalMaplet();
+        storageManager.saveMaplet(maplet);
+        assertEquals(new SaveMetrics(1, 0), storageManager.getSaveMetrics());
+
+        // the data file is not touched again until the Maplet changes
+        Files.delete(getTempFilePath("maplet"));
+        storageManager.saveMaplet(maplet);
+        assertEquals(new SaveMetrics(1, 1), storageManager.getSaveMetrics());
+
+        maplet.addAttraction(HOON);
+        storageManager.saveMaplet(maplet);
+        assertEquals(new SaveMetrics(2, 1), storageManager.getSaveMetrics());
+
+        // an equal but different Maplet is saved
+        storageManager.saveMaplet(new Maplet(maplet));
+        assertEquals(new SaveMetrics(3, 1), storageManager.getSaveMetrics());
+    }
+
+    @Test
+    public void saveMaplet_savedMapletChanged_passesOnlyChanges() throws Exception {
+        List<ReadOnlyMaplet> wholeSaves = new ArrayList<>();
+        List<MapletChange> savedChanges = new ArrayList<>();
+        JsonMapletStorage recordingMapletStorage = new JsonMapletStorage(getTempFilePath("maplet")) {
+            @Override
+            public void saveMaplet(ReadOnlyMaplet maplet, Path filePath) throws IOException {
+                wholeSaves.add(maplet);
+                super.saveMaplet(maplet, filePath);
+            }
+
+            @Override
+            public void saveMapletChanges(List<MapletChange> changes) throws IOException {
+                savedChanges.addAll(changes);
+                super.saveMapletChanges(changes);
+            }
+        };
+        StorageManager storageManager = new StorageManager(recordingMapletStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        Maplet maplet = getTypicalMaplet();
+        storageManager.saveMaplet(maplet);
+        assertEquals(1, wholeSaves.size());
+
+        // the Maplet is not copied or compared again, only the recorded changes are passed on
+        maplet.addAttraction(HOON);
+        maplet.addAttraction(IDA);
+        storageManager.saveMaplet(maplet);
+        maplet.setAttraction(HOON, new AttractionBuilder(HOON).withPriority("1").build());
+        storageManager.saveMaplet(maplet);
+        assertEquals(1, wholeSaves.size());
+        assertEquals(3, savedChanges.size());
+        assertEquals(maplet, new Maplet(new JsonMapletStorage(getTempFilePath("maplet")).readMaplet().get()));
+
+        // a different Maplet is written whole
+        storageManager.saveMaplet(new Maplet(maplet));
+        assertEquals(2, wholeSaves.size());
+    }
+
+    @Test
+    public void saveMaplet_failedSave_retriedUnchangedMaplet() throws Exception {
+        JsonMapletStorage failingMapletStorage = new JsonMapletStorage(getTempFilePath("maplet")) {
+            private boolean hasFailed = false;
+
+            @Override
+            public void saveMaplet(ReadOnlyMaplet maplet, Path filePath) throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveMaplet(maplet, filePath);
+            }
+        };
+        StorageManager storageManager = new StorageManager(failingMapletStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        Maplet maplet = getTypicalMaplet();
+
+        assertThrows(IOException.class, () -> storageManager.saveMaplet(maplet));
+        storageManager.saveMaplet(maplet);
+        assertEquals(new SaveMetrics(1, 0), storageManager.getSaveMetrics());
+        assertEquals(maplet, new Maplet(storageManager.readMaplet().get()));
+    }
+
+    @Test
+    public void saveMaplet_burstOfSaves_writesLatestSnapshotOnce() throws Exception {
+        List<Runnable> writes = new ArrayList<>();
+        StorageManager storageManager = new StorageManager(new JsonMapletStorage(getTempFilePath("maplet")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), writes::add);
+        Maplet maplet = getTypicalMaplet();
+
+        storageManager.saveMaplet(maplet);
+        Maplet savedMaplet = new Maplet(maplet);
+        maplet.addAttraction(HOON);
+        storageManager.saveMaplet(maplet);
+        maplet.addAttraction(IDA);
+        storageManager.saveMaplet(maplet);
+        Maplet expectedMaplet = new Maplet(maplet);
+
+        // changes made after the last save are not written
+        maplet.removeAttraction(HOON);
+        assertEquals(1, writes.size());
+        writes.get(0).run();
+        assertEquals(new SaveMetrics(1, 2), storageManager.getSaveMetrics());
+        assertEquals(expectedMaplet, new Maplet(storageManager.readMaplet().get()));
+        assertFalse(expectedMaplet.equals(savedMaplet));
+    }
+
+    @Test
+    public void saveMaplet_backgroundWriteFailed_failureGivenToHandler() throws Exception {
+        List<Runnable> writes = new ArrayList<>();
+        JsonMapletStorage failingMapletStorage = new JsonMapletStorage(getTempFilePath("maplet")) {
+            @Override
+            public void saveMaplet(ReadOnlyMaplet maplet, Path filePath) throws IOException {
+                throw new IOException("dummy IO exception");
+            }
+        };
+        StorageManager storageManager = new StorageManager(failingMapletStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), writes::add);
+        List<IOException> failures = new ArrayList<>();
+        storageManager.setSaveFailureHandler(failures::add);
+        Maplet maplet = getTypicalMaplet();
+
+        storageManager.saveMaplet(maplet);
+        writes.remove(0).run();
+        assertEquals(1, failures.size());
+
+        // a later save does not report the failure, but writes the unchanged Maplet again
+        storageManager.saveMaplet(maplet);
+        assertEquals(1, writes.size());
+        writes.remove(0).run();
+        assertEquals(2, failures.size());
+
+        // the data is still not saved when flushed
+        assertThrows(IOException.class, storageManager::flushMaplet);
+    }
+
+    @Test
+    public void flushMaplet_backgroundExecutor_waitsForWrites() throws Exception {
+        StorageManager storageManager = new StorageManager(new JsonMapletStorage(getTempFilePath("maplet")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), StorageManager.createBackgroundSaveExecutor());
+        Maplet maplet = getTypicalMaplet();
+        for (int i = 0; i < 20; i++) {
+            maplet.addAttraction(new AttractionBuilder().withName("Attraction " + i).build());
+            storageManager.saveMaplet(maplet);
+        }
+        storageManager.flushMaplet();
+
+        assertTrue(Files.exists(getTempFilePath("maplet")));
+        assertEquals(maplet, new Maplet(new JsonMapletStorage(getTempFilePath("maplet")).readMaplet().get()));
+        SaveMetrics saveMetrics = storageManager.getSaveMetrics();
+        assertEquals(20, saveMetrics.getSavedCount() + saveMetrics.getSkippedCount());
+    }
+
     @Test
     public void getMapletFilePath() {
         assertNotNull(storageManager.getMapletFilePath());
@@ -104,7 +104,9 @@ public class AttractionBuilder {
      * Sets the {@code OpeningHours} of the {@code Attraction} that we are building.
      */
     public AttractionBuilder withOpeningHours(String openingHours) {
-        this.openingHours = new OpeningHours(openingHours);
+        this.openingHours = openingHours.equals(OpeningHours.FULL_DAY_OPENING_HOURS)
+                ? OpeningHours.NON_SPECIFIED_HOURS
+                : new OpeningHours(openingHours);
         return this;
     }
 
@@ -0,0 +1,226 @@
+package seedu.address.testutil;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.Model;
+import seedu.address.model.NameCategory;
+import seedu.address.model.ReadOnlyMaplet;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.attraction.Attraction;
+import seedu.address.model.attraction.AttractionQuery;
+import seedu.address.model.attraction.NameContainsKeywordsPredicate;
+import seedu.address.model.attraction.OpenDuringPredicate;
+import seedu.address.model.attraction.PriceRangePredicate;
+import seedu.address.model.itinerary.Itinerary;
+import seedu.address.model.location.Location;
+import seedu.address.model.location.LocationName;
+
+/**
+ * A default model stub that have all of the methods failing.
+ */
+public class ModelStub implements Model {
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Path getMapletFilePath() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setMapletFilePath(Path mapletFilePath) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addAttraction(Attraction attraction) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addLocation(Location location) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setLocation(Location target, Location editedLocation) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setMaplet(ReadOnlyMaplet newData) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyMaplet getMaplet() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasAttraction(Attraction attraction) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasLocation(Location location) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasLocationName(LocationName locationName) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isAttractionInAnyItinerary(Attraction attraction) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isAttractionInAnyLocation(Attraction attraction) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteAttraction(Attraction target) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteLocation(LocationName locationName) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setAttraction(Attraction target, Attraction editedAttraction) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Attraction> getFilteredAttractionList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Location> getLocationList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredAttractionList(Predicate<Attraction> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void findAttractionsByName(NameContainsKeywordsPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void queryAttractions(AttractionQuery query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void findAttractionsOpen(OpenDuringPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void findAttractionsPricedWithin(PriceRangePredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void findAttractionsInCheapestPercent(String currencyCode, int percent) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void findCheapestAttractions(String currencyCode, int count) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void findAttractionsSimilarTo(String query, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void findAttractionsMentioning(String query, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void findFirstAttractions(Comparator<Attraction> comparator, int count) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<String> getNameCompletions(NameCategory category, String prefix, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateSortedAttractionList(Comparator<Attraction> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasItinerary(Itinerary itinerary) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteItinerary(Itinerary itinerary) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addItinerary(Itinerary itinerary) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setItinerary(Itinerary target, Itinerary editedItinerary) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Itinerary> getFilteredItineraryList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredItineraryList(Predicate<Itinerary> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateSortedItineraryList(Comparator<Itinerary> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+}